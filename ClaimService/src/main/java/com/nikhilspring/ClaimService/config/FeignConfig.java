@@ -1,25 +1,19 @@
 package com.nikhilspring.ClaimService.config;
 
-import feign.Logger;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nikhilspring.ClaimService.external.decoder.CustomErrorDecoder;
+import com.nikhilspring.common.feign.ErrorBodyReader;
 import feign.RequestInterceptor;
 import feign.codec.ErrorDecoder;
-import feign.FeignException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.HttpStatus;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 
-import java.io.IOException;
-
 @Configuration
 public class FeignConfig {
 
-    @Bean
-    public Logger.Level feignLoggerLevel() {
-        return Logger.Level.FULL;
-    }
-
     @Bean
     public RequestInterceptor requestInterceptor() {
         return requestTemplate -> {
@@ -32,26 +26,13 @@ public class FeignConfig {
     }
 
     @Bean
-    public ErrorDecoder errorDecoder() {
-        return (methodKey, response) -> {
-            if (response.status() == 404) {
-                try {
-                    return new FeignException.NotFound(
-                        "Resource not found: " + methodKey,
-                        response.request(),
-                        response.body().asInputStream().readAllBytes(),
-                        null
-                    );
-                } catch (IOException e) {
-                    return new FeignException.NotFound(
-                        "Resource not found: " + methodKey,
-                        response.request(),
-                        new byte[0],
-                        null
-                    );
-                }
-            }
-            return FeignException.errorStatus(methodKey, response);
-        };
+    public ErrorBodyReader errorBodyReader(ObjectMapper objectMapper,
+                                           @Value("${feign.error-decoder.max-body-bytes:8192}") int maxBodyBytes) {
+        return new ErrorBodyReader(objectMapper, maxBodyBytes);
+    }
+
+    @Bean
+    public ErrorDecoder errorDecoder(ErrorBodyReader errorBodyReader) {
+        return new CustomErrorDecoder(errorBodyReader);
     }
 } 
\ No newline at end of file
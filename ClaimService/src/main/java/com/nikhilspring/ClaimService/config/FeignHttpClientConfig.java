@@ -0,0 +1,75 @@
+package com.nikhilspring.ClaimService.config;
+
+import com.nikhilspring.ClaimService.external.http.FeignTelemetry;
+import com.nikhilspring.ClaimService.external.http.InstrumentedConnectionManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.openfeign.clientconfig.HttpClient5FeignConfiguration;
+import org.springframework.cloud.openfeign.support.FeignHttpClientProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Apache HttpClient 5 connection pool shared by the Feign clients, so calls reuse kept-alive connections
+ * instead of opening one per request. Pool sizes and TTL come from {@code spring.cloud.openfeign.httpclient.*},
+ * connect and read timeouts per client from {@code spring.cloud.openfeign.client.config.<client>}.
+ * Every call is timed by {@link FeignTelemetry} in place of Feign's own request/response logging.
+ */
+@Configuration
+public class FeignHttpClientConfig {
+
+    @Value("${feign.pool.validate-after-inactivity:2s}")
+    private Duration validateAfterInactivity;
+
+    @Value("${feign.pool.evict-idle-after:30s}")
+    private Duration evictIdleAfter;
+
+    @Bean
+    public HttpClientConnectionManager hc5ConnectionManager(FeignHttpClientProperties properties,
+                                                            MeterRegistry meterRegistry) {
+        FeignHttpClientProperties.Hc5Properties hc5 = properties.getHc5();
+        PoolingHttpClientConnectionManager pool = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxConnections())
+                .setMaxConnPerRoute(properties.getMaxConnectionsPerRoute())
+                .setConnPoolPolicy(PoolReusePolicy.valueOf(hc5.getPoolReusePolicy().name()))
+                .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.valueOf(hc5.getPoolConcurrencyPolicy().name()))
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(properties.getConnectionTimeout()))
+                        .setTimeToLive(TimeValue.of(properties.getTimeToLive(), properties.getTimeToLiveUnit()))
+                        // Re-check a connection the server may have closed while it sat idle in the pool
+                        .setValidateAfterInactivity(TimeValue.ofMilliseconds(validateAfterInactivity.toMillis()))
+                        .build())
+                .setDefaultSocketConfig(SocketConfig.custom()
+                        .setSoTimeout(Timeout.of(hc5.getSocketTimeout(), hc5.getSocketTimeoutUnit()))
+                        .build())
+                .build();
+        return new InstrumentedConnectionManager(pool, meterRegistry);
+    }
+
+    /**
+     * Closes idle connections before the server's keep-alive timeout does
+     */
+    @Bean
+    public HttpClient5FeignConfiguration.HttpClientBuilderCustomizer idleConnectionEviction() {
+        return builder -> builder.evictIdleConnections(TimeValue.ofMilliseconds(evictIdleAfter.toMillis()));
+    }
+
+    @Bean
+    public FeignTelemetry feignTelemetry(MeterRegistry meterRegistry,
+                                         @Value("${feign.telemetry.slow-threshold:1s}") Duration slowThreshold,
+                                         @Value("${feign.telemetry.payload-sample-rate:0.1}") double payloadSampleRate,
+                                         @Value("${feign.telemetry.max-payload-bytes:2048}") int maxPayloadBytes) {
+        return new FeignTelemetry(meterRegistry, slowThreshold, payloadSampleRate, maxPayloadBytes);
+    }
+}
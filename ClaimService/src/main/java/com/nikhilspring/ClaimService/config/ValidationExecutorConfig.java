@@ -0,0 +1,21 @@
+package com.nikhilspring.ClaimService.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class ValidationExecutorConfig {
+
+    /**
+     * Virtual-thread executor for downstream lookups during claim validation.
+     * The security context is carried over so Feign calls still forward the caller's JWT.
+     */
+    @Bean(name = "claimValidationExecutor")
+    public ExecutorService claimValidationExecutor() {
+        return new DelegatingSecurityContextExecutorService(Executors.newVirtualThreadPerTaskExecutor());
+    }
+}
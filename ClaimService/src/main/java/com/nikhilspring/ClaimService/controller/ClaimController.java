@@ -1,12 +1,28 @@
 package com.nikhilspring.ClaimService.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.nikhilspring.ClaimService.exception.ClaimServiceCustomException;
 import com.nikhilspring.ClaimService.model.ClaimRequest;
 import com.nikhilspring.ClaimService.model.ClaimResponse;
 import com.nikhilspring.ClaimService.service.ClaimService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
 
 @RestController
 @RequestMapping("/claim")
@@ -15,6 +31,12 @@ public class ClaimController {
     @Autowired
     private ClaimService claimService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${claim.bulk.max-items:50000}")
+    private int bulkMaxItems;
+
     @PostMapping
     public ResponseEntity<Long> fileClaim(@RequestBody ClaimRequest claimRequest) {
         return new ResponseEntity<>(
@@ -23,6 +45,32 @@ public class ClaimController {
         );
     }
 
+    /**
+     * Files one claim per NDJSON line and streams back one result line per claim, in upload order. The upload is
+     * read in full first, so a malformed or oversized one is refused before any claim is filed
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> fileClaims(InputStream upload) throws IOException {
+        List<ClaimRequest> claimRequests = readClaims(upload);
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                // Lines are separated by the newline alone, not the generator's default space between root values
+                generator.setRootValueSeparator(null);
+                claimService.fileClaims(claimRequests, result -> {
+                    try {
+                        writer.writeValue(generator, result);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @GetMapping("/policy/{policyId}")
     public ResponseEntity<ClaimResponse> getClaimByPolicyId(@PathVariable long policyId) {
         return new ResponseEntity<>(
@@ -38,4 +86,27 @@ public class ClaimController {
                 HttpStatus.OK
         );
     }
-} 
\ No newline at end of file
+
+    private List<ClaimRequest> readClaims(InputStream upload) throws IOException {
+        List<ClaimRequest> claimRequests = new ArrayList<>();
+        try (MappingIterator<ClaimRequest> lines = objectMapper.readerFor(ClaimRequest.class).readValues(upload)) {
+            while (lines.hasNextValue()) {
+                if (claimRequests.size() == bulkMaxItems) {
+                    throw new ClaimServiceCustomException(
+                        "At most " + bulkMaxItems + " claims can be filed per upload",
+                        "BULK_LIMIT_EXCEEDED",
+                        400
+                    );
+                }
+                claimRequests.add(lines.nextValue());
+            }
+        } catch (JsonProcessingException e) {
+            throw new ClaimServiceCustomException(
+                "Claim " + (claimRequests.size() + 1) + " of the upload is not valid JSON: " + e.getOriginalMessage(),
+                "INVALID_BULK_UPLOAD",
+                400
+            );
+        }
+        return claimRequests;
+    }
+}
@@ -1,5 +1,6 @@
 package com.nikhilspring.ClaimService.entity;
 
+import com.nikhilspring.ClaimService.validation.ClaimValidationRules;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -17,12 +18,18 @@ import java.time.Instant;
 public class Claim {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "claim_id")
+    @TableGenerator(name = "claim_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "CLAIMS",
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private long id;
 
     @Column(name = "CLAIM_NUMBER")
     private String claimNumber;
 
+    @Column(name = "IDEMPOTENCY_KEY", unique = true, length = ClaimValidationRules.IDEMPOTENCY_KEY_MAX_LENGTH)
+    private String idempotencyKey;
+
     @Column(name = "POLICY_ID")
     private long policyId;
 
@@ -0,0 +1,38 @@
+package com.nikhilspring.ClaimService.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+/**
+ * Local copy of the premium payment for a policy, kept up to date from payment-events.
+ * AS_OF is when PaymentService last reported this state; older reports never overwrite newer ones.
+ */
+@Entity
+@Table(name = "PAYMENT_SNAPSHOT")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PaymentSnapshot {
+
+    @Id
+    @Column(name = "POLICY_ID")
+    private long policyId;
+
+    @Column(name = "PAYMENT_ID")
+    private long paymentId;
+
+    @Column(name = "PAYMENT_STATUS")
+    private String paymentStatus;
+
+    @Column(name = "CUSTOMER_ID")
+    private String customerId;
+
+    @Column(name = "AS_OF")
+    private Instant asOf;
+}
@@ -0,0 +1,41 @@
+package com.nikhilspring.ClaimService.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+/**
+ * Local copy of the policy fields claim validation needs, kept up to date from policy-events.
+ * AS_OF is when PolicyService last reported this state; older reports never overwrite newer ones.
+ */
+@Entity
+@Table(name = "POLICY_SNAPSHOT")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PolicySnapshot {
+
+    @Id
+    @Column(name = "POLICY_ID")
+    private long policyId;
+
+    @Column(name = "POLICY_STATUS")
+    private String policyStatus;
+
+    @Column(name = "COVERAGE_AMOUNT")
+    private Long coverageAmount;
+
+    @Column(name = "POLICY_START_DATE")
+    private Instant policyStartDate;
+
+    @Column(name = "POLICY_END_DATE")
+    private Instant policyEndDate;
+
+    @Column(name = "AS_OF")
+    private Instant asOf;
+}
@@ -1,73 +1,94 @@
 package com.nikhilspring.ClaimService.event;
 
+import com.nikhilspring.ClaimService.service.ClaimService;
 import com.nikhilspring.insurance.events.PaymentEvent;
 import com.nikhilspring.insurance.events.PaymentStatus;
 import com.nikhilspring.insurance.events.PaymentType;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Applies claim payment outcomes, one poll at a time. Exceptions propagate so the container redelivers
+ * the batch instead of committing its offsets.
+ */
 @Component
 public class PaymentEventConsumer {
 
     private static final Logger logger = LoggerFactory.getLogger(PaymentEventConsumer.class);
 
+    private final ClaimService claimService;
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary batchSizes;
+
+    public PaymentEventConsumer(ClaimService claimService, MeterRegistry meterRegistry) {
+        this.claimService = claimService;
+        this.meterRegistry = meterRegistry;
+        this.batchSizes = DistributionSummary.builder("payment.events.batch.size")
+                .description("Payment events received per poll")
+                .register(meterRegistry);
+    }
+
     @KafkaListener(topics = "payment-events", groupId = "claim-service")
-    public void handlePaymentEvent(@Payload PaymentEvent paymentEvent) {
+    public void handlePaymentEvents(@Payload List<PaymentEvent> paymentEvents) {
+        logger.info("Received {} payment events", paymentEvents.size());
+        batchSizes.record(paymentEvents.size());
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
         try {
-            logger.info("Received payment event: {} for payment ID: {}", 
-                       paymentEvent.getStatus(), paymentEvent.getPaymentId());
+            Map<Long, PaymentStatus> outcomes = latestOutcomes(paymentEvents);
+            List<Long> paidClaimIds = claimIds(outcomes, PaymentStatus.COMPLETED);
+            List<Long> failedClaimIds = claimIds(outcomes, PaymentStatus.FAILED);
 
-            // Only process claim payments
-            if (paymentEvent.getPaymentType() == PaymentType.CLAIM_PAYMENT && 
-                paymentEvent.getClaimId() != null) {
-                
-                if (paymentEvent.getStatus() == PaymentStatus.COMPLETED) {
-                    processClaimPaymentCompleted(paymentEvent);
-                } else if (paymentEvent.getStatus() == PaymentStatus.FAILED) {
-                    processClaimPaymentFailed(paymentEvent);
-                }
+            if (!paidClaimIds.isEmpty()) {
+                logger.info("Marking {} claims as paid", paidClaimIds.size());
+                claimService.markClaimsPaid(paidClaimIds);
+            }
+            if (!failedClaimIds.isEmpty()) {
+                logger.warn("Marking {} claim payments as failed", failedClaimIds.size());
+                claimService.markClaimPaymentsFailed(failedClaimIds);
             }
-            
-        } catch (Exception e) {
-            logger.error("Error processing payment event for payment ID: {}", 
-                        paymentEvent.getPaymentId(), e);
+            outcome = "success";
+        } catch (RuntimeException e) {
+            logger.error("Failed to update claims for a batch of {} payment events", paymentEvents.size(), e);
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("payment.events.batch")
+                    .description("Time to handle one poll of payment events")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
         }
     }
 
-    private void processClaimPaymentCompleted(PaymentEvent paymentEvent) {
-        try {
-            Long claimId = paymentEvent.getClaimId();
-            logger.info("Processing claim payment completion for claim ID: {}. Payment ID: {}, Amount: {}", 
-                       claimId, paymentEvent.getPaymentId(), paymentEvent.getAmount());
-            
-            // TODO: Add your claim completion logic here
-            // Example: claimService.markClaimAsPaid(claimId, paymentEvent.getPaymentId());
-            
-            logger.info("Claim ID: {} marked as paid successfully", claimId);
-            
-        } catch (Exception e) {
-            logger.error("Failed to process claim payment completion for claim ID: {} and payment ID: {}", 
-                        paymentEvent.getClaimId(), paymentEvent.getPaymentId(), e);
+    /**
+     * The outcome of each claim paid in this poll: its last completed or failed claim payment, in poll order, so a
+     * failure followed by a successful retry marks the claim paid and not the reverse
+     */
+    private static Map<Long, PaymentStatus> latestOutcomes(List<PaymentEvent> paymentEvents) {
+        Map<Long, PaymentStatus> outcomes = new LinkedHashMap<>();
+        for (PaymentEvent paymentEvent : paymentEvents) {
+            if (paymentEvent.getPaymentType() == PaymentType.CLAIM_PAYMENT &&
+                    paymentEvent.getClaimId() != null &&
+                    (paymentEvent.getStatus() == PaymentStatus.COMPLETED || paymentEvent.getStatus() == PaymentStatus.FAILED)) {
+                outcomes.put(paymentEvent.getClaimId(), paymentEvent.getStatus());
+            }
         }
+        return outcomes;
     }
 
-    private void processClaimPaymentFailed(PaymentEvent paymentEvent) {
-        try {
-            Long claimId = paymentEvent.getClaimId();
-            logger.warn("Processing claim payment failure for claim ID: {}. Payment ID: {}", 
-                       claimId, paymentEvent.getPaymentId());
-            
-            // TODO: Add your payment failure logic here
-            // Example: claimService.handlePaymentFailure(claimId, paymentEvent.getPaymentId());
-            
-            logger.info("Claim ID: {} payment failure handled", claimId);
-            
-        } catch (Exception e) {
-            logger.error("Failed to process claim payment failure for claim ID: {} and payment ID: {}", 
-                        paymentEvent.getClaimId(), paymentEvent.getPaymentId(), e);
-        }
+    private static List<Long> claimIds(Map<Long, PaymentStatus> outcomes, PaymentStatus status) {
+        return outcomes.entrySet().stream()
+                .filter(outcome -> outcome.getValue() == status)
+                .map(Map.Entry::getKey)
+                .toList();
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,69 @@
+package com.nikhilspring.ClaimService.event;
+
+import com.nikhilspring.ClaimService.service.ClaimReadModel;
+import com.nikhilspring.insurance.events.PaymentEvent;
+import com.nikhilspring.insurance.events.PolicyEvent;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Feeds {@link ClaimReadModel} from policy-events and payment-events under consumer groups of its own, so
+ * the claim status updates in {@link PaymentEventConsumer} keep their offsets.
+ *
+ * With {@code claim.read-model.replay-on-startup} every partition is read from the beginning once per start,
+ * rebuilding the snapshot tables from whatever the topics still retain. Older events never overwrite newer
+ * state, so a replay over a populated table is harmless.
+ */
+@Component
+public class ReadModelEventConsumer implements ConsumerSeekAware {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadModelEventConsumer.class);
+
+    private final ClaimReadModel claimReadModel;
+    private final boolean replayOnStartup;
+    private final Set<TopicPartition> replayed = ConcurrentHashMap.newKeySet();
+
+    public ReadModelEventConsumer(ClaimReadModel claimReadModel,
+                                  @Value("${claim.read-model.replay-on-startup:false}") boolean replayOnStartup) {
+        this.claimReadModel = claimReadModel;
+        this.replayOnStartup = replayOnStartup;
+    }
+
+    @KafkaListener(topics = "policy-events", groupId = "claim-service-policy-model")
+    public void handlePolicyEvents(@Payload List<PolicyEvent> policyEvents) {
+        logger.debug("Applying {} policy events to the read model", policyEvents.size());
+        claimReadModel.applyPolicyEvents(policyEvents);
+    }
+
+    @KafkaListener(topics = "payment-events", groupId = "claim-service-payment-model")
+    public void handlePaymentEvents(@Payload List<PaymentEvent> paymentEvents) {
+        logger.debug("Applying {} payment events to the read model", paymentEvents.size());
+        claimReadModel.applyPaymentEvents(paymentEvents);
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        if (!replayOnStartup) {
+            return;
+        }
+        // Only the first assignment of a partition replays; later rebalances resume from committed offsets
+        List<TopicPartition> partitions = assignments.keySet().stream()
+                .filter(replayed::add)
+                .toList();
+        if (!partitions.isEmpty()) {
+            logger.info("Replaying read model events from the beginning of {}", partitions);
+            callback.seekToBeginning(partitions);
+        }
+    }
+}
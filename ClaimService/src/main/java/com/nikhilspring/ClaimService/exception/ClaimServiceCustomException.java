@@ -2,6 +2,10 @@ package com.nikhilspring.ClaimService.exception;
 
 import lombok.Data;
 
+/**
+ * An expected business failure reported to the caller by its error code. No stack trace is captured: the
+ * code identifies the failure, and filling in the trace would dominate the cost of a rejected request.
+ */
 @Data
 public class ClaimServiceCustomException extends RuntimeException {
 
@@ -9,13 +13,13 @@ public class ClaimServiceCustomException extends RuntimeException {
     private final int status;
 
     public ClaimServiceCustomException(String message, String errorCode, int status) {
-        super(message);
+        super(message, null, false, false);
         this.errorCode = errorCode;
         this.status = status;
     }
 
     public ClaimServiceCustomException(String message, String errorCode) {
-        super(message);
+        super(message, null, false, false);
         this.errorCode = errorCode;
         this.status = 400;
     }
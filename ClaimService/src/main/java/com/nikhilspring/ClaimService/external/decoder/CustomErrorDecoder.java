@@ -0,0 +1,45 @@
+package com.nikhilspring.ClaimService.external.decoder;
+
+import com.nikhilspring.common.feign.ErrorBodyReader;
+import feign.FeignException;
+import feign.Response;
+import feign.codec.ErrorDecoder;
+
+import java.io.IOException;
+
+/**
+ * Maps PolicyService/PaymentService errors to FeignException, with the body cut to the reader's cap.
+ * A 404 becomes FeignException.NotFound carrying the remote errorMessage, which claim validation reports as a
+ * missing policy or payment.
+ */
+public class CustomErrorDecoder implements ErrorDecoder {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final ErrorBodyReader errorBodyReader;
+
+    public CustomErrorDecoder(ErrorBodyReader errorBodyReader) {
+        this.errorBodyReader = errorBodyReader;
+    }
+
+    @Override
+    public Exception decode(String methodKey, Response response) {
+        byte[] body;
+        try {
+            body = errorBodyReader.readBody(response);
+        } catch (IOException e) {
+            body = EMPTY;
+        }
+        if (response.status() == 404) {
+            String errorMessage = errorBodyReader.parse(body).errorMessage();
+            return new FeignException.NotFound(
+                errorMessage == null ? "Resource not found: " + methodKey
+                        : "Resource not found: " + methodKey + ": " + errorMessage,
+                response.request(),
+                body,
+                null
+            );
+        }
+        return FeignException.errorStatus(methodKey, response.toBuilder().body(body).build());
+    }
+}
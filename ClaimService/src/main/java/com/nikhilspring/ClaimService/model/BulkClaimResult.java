@@ -0,0 +1,37 @@
+package com.nikhilspring.ClaimService.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one claim in a bulk intake, by its line in the upload starting at 0
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkClaimResult {
+
+    private int index;
+    private Outcome outcome;
+    private String idempotencyKey;
+    private Long claimId;
+    private String claimNumber;
+    private String errorCode;
+    private String errorMessage;
+
+    public enum Outcome {
+        // Written as PENDING
+        FILED,
+        // Its idempotency key was filed before; claimId is the claim filed then
+        DUPLICATE,
+        // Failed validation; nothing written and resending it unchanged fails the same way
+        REJECTED,
+        // A downstream service or the database failed; nothing written and it may be resent
+        FAILED
+    }
+}
@@ -15,4 +15,6 @@ public class ClaimRequest {
     private String claimType;
     private long claimAmount;
     private String description;
+    // Optional for a single claim, required in a bulk intake; a repeat returns the claim already filed under it
+    private String idempotencyKey;
 } 
\ No newline at end of file
@@ -2,7 +2,34 @@ package com.nikhilspring.ClaimService.repository;
 
 import com.nikhilspring.ClaimService.entity.Claim;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 
 public interface ClaimRepository extends JpaRepository<Claim, Long> {
     Claim findFirstByPolicyIdOrderByClaimDateDesc(long policyId);
-} 
\ No newline at end of file
+
+    Claim findByIdempotencyKey(String idempotencyKey);
+
+    List<Claim> findByIdempotencyKeyIn(Collection<String> idempotencyKeys);
+
+    @Query("SELECT DISTINCT c.policyId FROM Claim c WHERE c.policyId IN :policyIds")
+    List<Long> findPolicyIdsWithClaims(@Param("policyIds") Collection<Long> policyIds);
+
+    @Query("SELECT DISTINCT c.policyId FROM Claim c WHERE c.id IN :claimIds")
+    List<Long> findPolicyIdsByClaimIds(@Param("claimIds") Collection<Long> claimIds);
+
+    // PAID is final: a failed or redelivered event arriving after the payment went through leaves the claim paid
+    @Transactional
+    @Modifying
+    @Query("UPDATE Claim c SET c.claimStatus = :status, c.processedDate = :now, c.updatedDate = :now " +
+           "WHERE c.id IN :claimIds AND c.claimStatus <> 'PAID'")
+    int updateClaimStatus(@Param("claimIds") Collection<Long> claimIds,
+                          @Param("status") String status,
+                          @Param("now") Instant now);
+}
@@ -0,0 +1,7 @@
+package com.nikhilspring.ClaimService.repository;
+
+import com.nikhilspring.ClaimService.entity.PaymentSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PaymentSnapshotRepository extends JpaRepository<PaymentSnapshot, Long> {
+}
@@ -0,0 +1,7 @@
+package com.nikhilspring.ClaimService.repository;
+
+import com.nikhilspring.ClaimService.entity.PolicySnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PolicySnapshotRepository extends JpaRepository<PolicySnapshot, Long> {
+}
@@ -0,0 +1,252 @@
+package com.nikhilspring.ClaimService.service;
+
+import com.nikhilspring.ClaimService.entity.PaymentSnapshot;
+import com.nikhilspring.ClaimService.entity.PolicySnapshot;
+import com.nikhilspring.ClaimService.external.response.PaymentResponse;
+import com.nikhilspring.ClaimService.external.response.PolicyResponse;
+import com.nikhilspring.ClaimService.repository.PaymentSnapshotRepository;
+import com.nikhilspring.ClaimService.repository.PolicySnapshotRepository;
+import com.nikhilspring.insurance.events.PaymentEvent;
+import com.nikhilspring.insurance.events.PaymentType;
+import com.nikhilspring.insurance.events.PolicyEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Local copies of the policy and premium payment state that claim validation checks, fed by policy-events
+ * and payment-events and topped up with every PolicyService/PaymentService response.
+ *
+ * Only answers that let a claim through are served locally. A copy that is missing, incomplete, older than
+ * {@code claim.read-model.max-age} or in any other state returns empty, so the caller asks the owning
+ * service and a rejection is always based on its current answer.
+ */
+@Service
+@Slf4j
+public class ClaimReadModel {
+
+    private final PolicySnapshotRepository policySnapshotRepository;
+    private final PaymentSnapshotRepository paymentSnapshotRepository;
+    private final MeterRegistry meterRegistry;
+    private final Duration maxAge;
+
+    public ClaimReadModel(PolicySnapshotRepository policySnapshotRepository,
+                          PaymentSnapshotRepository paymentSnapshotRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${claim.read-model.max-age:1h}") Duration maxAge) {
+        this.policySnapshotRepository = policySnapshotRepository;
+        this.paymentSnapshotRepository = paymentSnapshotRepository;
+        this.meterRegistry = meterRegistry;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * The policy when the local copy is complete, fresh and ACTIVE
+     */
+    public Optional<PolicyResponse> findActivePolicy(long policyId) {
+        Optional<PolicySnapshot> snapshot = policySnapshotRepository.findById(policyId);
+        String result = snapshot.map(policy -> classify(policy.getAsOf(),
+                        policy.getCoverageAmount() != null && policy.getPolicyStatus() != null,
+                        "ACTIVE".equalsIgnoreCase(policy.getPolicyStatus())))
+                .orElse("missing");
+        recordLookup("policy", result);
+        if (!"hit".equals(result)) {
+            return Optional.empty();
+        }
+        PolicySnapshot policy = snapshot.get();
+        return Optional.of(PolicyResponse.builder()
+                .policyId(policy.getPolicyId())
+                .policyStatus(policy.getPolicyStatus())
+                .coverageAmount(policy.getCoverageAmount())
+                .policyStartDate(policy.getPolicyStartDate())
+                .policyEndDate(policy.getPolicyEndDate())
+                .build());
+    }
+
+    /**
+     * The premium payment when the local copy is complete, fresh and SUCCESS
+     */
+    public Optional<PaymentResponse> findSuccessfulPayment(long policyId) {
+        Optional<PaymentSnapshot> snapshot = paymentSnapshotRepository.findById(policyId);
+        String result = snapshot.map(payment -> classify(payment.getAsOf(),
+                        payment.getCustomerId() != null && payment.getPaymentStatus() != null,
+                        "SUCCESS".equalsIgnoreCase(payment.getPaymentStatus())))
+                .orElse("missing");
+        recordLookup("payment", result);
+        if (!"hit".equals(result)) {
+            return Optional.empty();
+        }
+        PaymentSnapshot payment = snapshot.get();
+        return Optional.of(PaymentResponse.builder()
+                .paymentId(payment.getPaymentId())
+                .policyId(payment.getPolicyId())
+                .customerId(payment.getCustomerId())
+                .status(payment.getPaymentStatus())
+                .build());
+    }
+
+    /**
+     * Applies one poll of policy events; status-only events keep the coverage and dates already held
+     */
+    @Transactional
+    public void applyPolicyEvents(List<PolicyEvent> policyEvents) {
+        Map<Long, PolicySnapshot> snapshots = loadPolicySnapshots(policyEvents.stream().map(PolicyEvent::getPolicyId).toList());
+        for (PolicyEvent policyEvent : policyEvents) {
+            PolicySnapshot snapshot = snapshots.computeIfAbsent(policyEvent.getPolicyId(),
+                    policyId -> PolicySnapshot.builder().policyId(policyId).build());
+            Instant asOf = Instant.ofEpochMilli(policyEvent.getTimestamp());
+            if (isOlder(asOf, snapshot.getAsOf())) {
+                continue;
+            }
+            snapshot.setPolicyStatus(policyEvent.getPolicyStatus());
+            if (policyEvent.getCoverageAmount() != null) {
+                snapshot.setCoverageAmount(policyEvent.getCoverageAmount());
+            }
+            if (policyEvent.getPolicyStartDate() != null) {
+                snapshot.setPolicyStartDate(Instant.ofEpochMilli(policyEvent.getPolicyStartDate()));
+            }
+            if (policyEvent.getPolicyEndDate() != null) {
+                snapshot.setPolicyEndDate(Instant.ofEpochMilli(policyEvent.getPolicyEndDate()));
+            }
+            snapshot.setAsOf(asOf);
+        }
+        policySnapshotRepository.saveAll(snapshots.values());
+        meterRegistry.counter("claim.read-model.updates", "model", "policy").increment(policyEvents.size());
+    }
+
+    /**
+     * Applies one poll of payment events; only premium payments describe the policy, claim payouts are skipped
+     */
+    @Transactional
+    public void applyPaymentEvents(List<PaymentEvent> paymentEvents) {
+        List<PaymentEvent> premiumEvents = paymentEvents.stream()
+                .filter(paymentEvent -> paymentEvent.getPaymentType() == PaymentType.PREMIUM &&
+                        paymentEvent.getPolicyId() != null)
+                .toList();
+        if (premiumEvents.isEmpty()) {
+            return;
+        }
+        Map<Long, PaymentSnapshot> snapshots = loadPaymentSnapshots(premiumEvents.stream().map(PaymentEvent::getPolicyId).toList());
+        for (PaymentEvent paymentEvent : premiumEvents) {
+            PaymentSnapshot snapshot = snapshots.computeIfAbsent(paymentEvent.getPolicyId(),
+                    policyId -> PaymentSnapshot.builder().policyId(policyId).build());
+            Instant asOf = Instant.ofEpochMilli(paymentEvent.getTimestamp());
+            if (isOlder(asOf, snapshot.getAsOf())) {
+                continue;
+            }
+            snapshot.setPaymentId(paymentEvent.getPaymentId());
+            snapshot.setPaymentStatus(toPaymentStatus(paymentEvent));
+            if (paymentEvent.getCustomerId() != null) {
+                snapshot.setCustomerId(paymentEvent.getCustomerId());
+            }
+            snapshot.setAsOf(asOf);
+        }
+        paymentSnapshotRepository.saveAll(snapshots.values());
+        meterRegistry.counter("claim.read-model.updates", "model", "payment").increment(premiumEvents.size());
+    }
+
+    /**
+     * Stores a PolicyService answer fetched at {@code requestedAt}. Failures are logged only; the answer is
+     * already in the caller's hands and the copy is simply refreshed on a later lookup.
+     */
+    public void recordPolicy(PolicyResponse policy, Instant requestedAt) {
+        if (policy == null) {
+            return;
+        }
+        try {
+            PolicySnapshot snapshot = policySnapshotRepository.findById(policy.getPolicyId()).orElse(null);
+            if (snapshot != null && isOlder(requestedAt, snapshot.getAsOf())) {
+                return;
+            }
+            policySnapshotRepository.save(PolicySnapshot.builder()
+                    .policyId(policy.getPolicyId())
+                    .policyStatus(policy.getPolicyStatus())
+                    .coverageAmount(policy.getCoverageAmount())
+                    .policyStartDate(policy.getPolicyStartDate())
+                    .policyEndDate(policy.getPolicyEndDate())
+                    .asOf(requestedAt)
+                    .build());
+        } catch (Exception e) {
+            log.warn("Could not store policy snapshot for policy ID {}: {}", policy.getPolicyId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Stores a PaymentService answer fetched at {@code requestedAt}, with the same failure handling as policies
+     */
+    public void recordPayment(PaymentResponse payment, Instant requestedAt) {
+        if (payment == null) {
+            return;
+        }
+        try {
+            PaymentSnapshot snapshot = paymentSnapshotRepository.findById(payment.getPolicyId()).orElse(null);
+            if (snapshot != null && isOlder(requestedAt, snapshot.getAsOf())) {
+                return;
+            }
+            paymentSnapshotRepository.save(PaymentSnapshot.builder()
+                    .policyId(payment.getPolicyId())
+                    .paymentId(payment.getPaymentId())
+                    .paymentStatus(payment.getStatus())
+                    .customerId(payment.getCustomerId())
+                    .asOf(requestedAt)
+                    .build());
+        } catch (Exception e) {
+            log.warn("Could not store payment snapshot for policy ID {}: {}", payment.getPolicyId(), e.getMessage());
+        }
+    }
+
+    /**
+     * hit, or why the copy cannot be used: missing (absent or incomplete), stale, or unconfirmed (not in a passing state)
+     */
+    private String classify(Instant asOf, boolean complete, boolean passing) {
+        if (!complete) {
+            return "missing";
+        }
+        if (asOf == null || asOf.isBefore(Instant.now().minus(maxAge))) {
+            return "stale";
+        }
+        return passing ? "hit" : "unconfirmed";
+    }
+
+    private void recordLookup(String model, String result) {
+        meterRegistry.counter("claim.read-model.lookups", "model", model, "result", result).increment();
+    }
+
+    private Map<Long, PolicySnapshot> loadPolicySnapshots(Collection<Long> policyIds) {
+        return toMap(policySnapshotRepository.findAllById(policyIds), PolicySnapshot::getPolicyId);
+    }
+
+    private Map<Long, PaymentSnapshot> loadPaymentSnapshots(Collection<Long> policyIds) {
+        return toMap(paymentSnapshotRepository.findAllById(policyIds), PaymentSnapshot::getPolicyId);
+    }
+
+    private static <T> Map<Long, T> toMap(Iterable<T> snapshots, Function<T, Long> policyId) {
+        Map<Long, T> byPolicyId = new HashMap<>();
+        snapshots.forEach(snapshot -> byPolicyId.put(policyId.apply(snapshot), snapshot));
+        return byPolicyId;
+    }
+
+    private static boolean isOlder(Instant asOf, Instant current) {
+        return current != null && asOf.isBefore(current);
+    }
+
+    private static String toPaymentStatus(PaymentEvent paymentEvent) {
+        // PaymentService stores a completed payment as SUCCESS, which is what validation compares against
+        return switch (paymentEvent.getStatus()) {
+            case COMPLETED -> "SUCCESS";
+            case FAILED -> "FAILED";
+            case PENDING -> "PENDING";
+        };
+    }
+}
@@ -1,10 +1,23 @@
 package com.nikhilspring.ClaimService.service;
 
+import com.nikhilspring.ClaimService.model.BulkClaimResult;
 import com.nikhilspring.ClaimService.model.ClaimRequest;
 import com.nikhilspring.ClaimService.model.ClaimResponse;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
 public interface ClaimService {
     long fileClaim(ClaimRequest claimRequest);
+
+    /**
+     * Files every claim that passes the same checks as {@link #fileClaim}, handing each outcome to {@code results}
+     * in request order as its batch completes. A claim whose idempotency key was filed before is not filed again
+     */
+    void fileClaims(List<ClaimRequest> claimRequests, Consumer<BulkClaimResult> results);
     ClaimResponse getClaimByPolicyId(long policyId);
     ClaimResponse getClaimById(long claimId);
-} 
\ No newline at end of file
+    int markClaimsPaid(Collection<Long> claimIds);
+    int markClaimPaymentsFailed(Collection<Long> claimIds);
+}
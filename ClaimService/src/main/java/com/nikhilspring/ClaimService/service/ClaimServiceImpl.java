@@ -2,17 +2,35 @@ package com.nikhilspring.ClaimService.service;
 
 import com.nikhilspring.ClaimService.entity.Claim;
 import com.nikhilspring.ClaimService.exception.ClaimServiceCustomException;
+import com.nikhilspring.ClaimService.model.BulkClaimResult;
 import com.nikhilspring.ClaimService.model.ClaimRequest;
 import com.nikhilspring.ClaimService.model.ClaimResponse;
 import com.nikhilspring.ClaimService.repository.ClaimRepository;
-import com.nikhilspring.ClaimService.validation.ClaimValidationUtil;
+import com.nikhilspring.ClaimService.validation.ClaimValidationRules;
+import com.nikhilspring.common.id.BusinessNumberGenerator;
+import com.nikhilspring.common.validation.RequestValidator;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
 
 @Service
 @Log4j2
@@ -24,44 +42,41 @@ public class ClaimServiceImpl implements ClaimService {
     @Autowired
     private ClaimValidationService claimValidationService;
 
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private BusinessNumberGenerator businessNumberGenerator;
+
+    @Autowired
+    @Qualifier("claimValidationExecutor")
+    private Executor claimValidationExecutor;
+
+    @Value("${claim.bulk.batch-size:500}")
+    private int bulkBatchSize;
+
+    @Value("${claim.bulk.max-concurrent-lookups:32}")
+    private int bulkMaxConcurrentLookups;
+
     @Override
-    @CacheEvict(value = {"claims", "claim-status"}, allEntries = true)
     public long fileClaim(ClaimRequest claimRequest) {
         log.info("Filing claim: {}", claimRequest);
 
-        // Step 1: Basic validation using utility
-        ClaimValidationUtil.validateClaimRequest(claimRequest);
-
-        // Step 1.5: Basic policy existence check
-        if (claimRequest.getPolicyId() <= 0) {
-            log.error("Invalid policy ID provided: {}", claimRequest.getPolicyId());
-            throw new ClaimServiceCustomException(
-                "Invalid policy ID: " + claimRequest.getPolicyId(),
-                "INVALID_POLICY_ID",
-                400
-            );
-        }
-
-        // Step 1.6: Basic customer ID validation
-        if (claimRequest.getCustomerId() == null || claimRequest.getCustomerId().trim().isEmpty()) {
-            log.error("Invalid customer ID provided: null or empty");
-            throw new ClaimServiceCustomException(
-                "Customer ID cannot be null or empty",
-                "INVALID_CUSTOMER_ID",
-                400
-            );
-        }
+        // Step 1: Request shape, every violation reported at once
+        ClaimValidationRules.CLAIM_REQUEST.validate(claimRequest);
 
-        if (!claimRequest.getCustomerId().matches("^[A-Z0-9]+$")) {
-            log.error("Invalid customer ID format provided: {}", claimRequest.getCustomerId());
-            throw new ClaimServiceCustomException(
-                "Invalid customer ID format. Must contain only uppercase letters and numbers: " + claimRequest.getCustomerId(),
-                "INVALID_CUSTOMER_ID_FORMAT",
-                400
-            );
+        // Step 2: A resent claim gets the claim already filed under its idempotency key
+        if (claimRequest.getIdempotencyKey() != null) {
+            ClaimValidationRules.IDEMPOTENCY_KEY.validate(claimRequest.getIdempotencyKey());
+            Claim filedClaim = claimRepository.findByIdempotencyKey(claimRequest.getIdempotencyKey());
+            if (filedClaim != null) {
+                log.info("Claim {} was already filed under idempotency key {}", filedClaim.getId(),
+                    claimRequest.getIdempotencyKey());
+                return filedClaim.getId();
+            }
         }
 
-        // Step 2: Comprehensive validation (policy, customer, payment)
+        // Step 3: Comprehensive validation (policy, customer, payment)
         try {
             log.info("Starting comprehensive validation for policy ID: {} and customer ID: {}", 
                 claimRequest.getPolicyId(), claimRequest.getCustomerId());
@@ -82,7 +97,7 @@ public class ClaimServiceImpl implements ClaimService {
             );
         }
 
-        // Step 3: Check if claim already exists for this policy
+        // Step 4: Check if claim already exists for this policy
         Claim existingClaim = claimRepository.findFirstByPolicyIdOrderByClaimDateDesc(claimRequest.getPolicyId());
         if (existingClaim != null) {
             log.error("Claim already exists for policy ID: {}", claimRequest.getPolicyId());
@@ -93,27 +108,16 @@ public class ClaimServiceImpl implements ClaimService {
             );
         }
 
-        // Step 4: Create and save the claim
+        // Step 5: Create and save the claim
         log.info("Creating claim for validated policy ID: {} and customer ID: {}", 
             claimRequest.getPolicyId(), claimRequest.getCustomerId());
-        Claim claim = Claim.builder()
-                .claimNumber(generateClaimNumber())
-                .policyId(claimRequest.getPolicyId())
-                .customerId(claimRequest.getCustomerId())
-                .claimType(claimRequest.getClaimType())
-                .claimAmount(claimRequest.getClaimAmount())
-                .description(claimRequest.getDescription())
-                .claimStatus("PENDING")
-                .claimDate(Instant.now())
-                .createdDate(Instant.now())
-                .updatedDate(Instant.now())
-                .approvedAmount(0)
-                .build();
+        Claim claim = newClaim(claimRequest);
 
         try {
             claim = claimRepository.save(claim);
             log.info("Claim filed successfully with ID: {} for policy ID: {} and customer ID: {}", 
                 claim.getId(), claimRequest.getPolicyId(), claimRequest.getCustomerId());
+            cacheClaim(claim);
             return claim.getId();
         } catch (Exception e) {
             log.error("Error filing claim for policy ID {} and customer ID {}: {}", 
@@ -126,13 +130,52 @@ public class ClaimServiceImpl implements ClaimService {
         }
     }
 
+    /**
+     * Claims are taken in batches. A batch costs one query for idempotency keys filed before and one for policies
+     * that already have a claim; each policy left is looked up once for the whole upload, at most
+     * claim.bulk.max-concurrent-lookups at a time. The next batch's lookups start before the current batch is
+     * validated and written in one transaction.
+     */
+    @Override
+    public void fileClaims(List<ClaimRequest> claimRequests, Consumer<BulkClaimResult> results) {
+        log.info("Filing {} claims in bulk", claimRequests.size());
+
+        // Virtual threads are cheap, but each lookup holds a pooled connection to PolicyService or PaymentService
+        Semaphore lookupPermits = new Semaphore(bulkMaxConcurrentLookups);
+        Executor lookupExecutor = task -> claimValidationExecutor.execute(() -> {
+            lookupPermits.acquireUninterruptibly();
+            try {
+                task.run();
+            } finally {
+                lookupPermits.release();
+            }
+        });
+        Map<Long, CompletableFuture<ClaimValidationService.PolicyLookups>> lookups = new HashMap<>();
+        Set<String> idempotencyKeys = new HashSet<>();
+        Set<Long> claimedPolicyIds = new HashSet<>();
+
+        int filed = 0;
+        BulkBatch next = prepareBatch(claimRequests, 0, idempotencyKeys, lookups, lookupExecutor);
+        while (next != null) {
+            BulkBatch batch = next;
+            next = batch.to() < claimRequests.size()
+                    ? prepareBatch(claimRequests, batch.to(), idempotencyKeys, lookups, lookupExecutor)
+                    : null;
+            filed += fileBatch(claimRequests, batch, lookups, claimedPolicyIds);
+            for (BulkClaimResult result : batch.results()) {
+                results.accept(result);
+            }
+        }
+        log.info("Bulk intake finished: {} of {} claims filed", filed, claimRequests.size());
+    }
+
     @Override
-    @Cacheable(value = "claims", key = "'policy-' + #policyId")
+    @Cacheable(value = "claims", key = "'policy-' + #policyId", sync = true)
     public ClaimResponse getClaimByPolicyId(long policyId) {
         log.info("Getting claim for policy ID: {}", policyId);
 
-        // Validate policy ID using utility
-        ClaimValidationUtil.validatePolicyId(policyId);
+        // Validate policy ID
+        RequestValidator.checkPositiveId(policyId, "INVALID_POLICY_ID", "policy ID", ClaimValidationRules.EXCEPTIONS);
 
         Claim claim = claimRepository.findFirstByPolicyIdOrderByClaimDateDesc(policyId);
         if (claim == null) {
@@ -147,12 +190,12 @@ public class ClaimServiceImpl implements ClaimService {
     }
 
     @Override
-    @Cacheable(value = "claims", key = "'claim-' + #claimId")
+    @Cacheable(value = "claims", key = "'claim-' + #claimId", sync = true)
     public ClaimResponse getClaimById(long claimId) {
         log.info("Getting claim by ID: {}", claimId);
 
-        // Validate claim ID using utility
-        ClaimValidationUtil.validateClaimId(claimId);
+        // Validate claim ID
+        RequestValidator.checkPositiveId(claimId, "INVALID_CLAIM_ID", "claim ID", ClaimValidationRules.EXCEPTIONS);
 
         Claim claim = claimRepository.findById(claimId)
                 .orElseThrow(() -> new ClaimServiceCustomException(
@@ -164,6 +207,60 @@ public class ClaimServiceImpl implements ClaimService {
         return buildClaimResponse(claim);
     }
 
+    @Override
+    public int markClaimsPaid(Collection<Long> claimIds) {
+        return updateClaimStatus(claimIds, "PAID");
+    }
+
+    @Override
+    public int markClaimPaymentsFailed(Collection<Long> claimIds) {
+        return updateClaimStatus(claimIds, "PAYMENT_FAILED");
+    }
+
+    /**
+     * One UPDATE for the whole set of claims, then evicts their cached responses once it has committed
+     */
+    private int updateClaimStatus(Collection<Long> claimIds, String status) {
+        if (claimIds.isEmpty()) {
+            return 0;
+        }
+        List<Long> policyIds = claimRepository.findPolicyIdsByClaimIds(claimIds);
+        int updated = claimRepository.updateClaimStatus(claimIds, status, Instant.now());
+        log.info("Updated {} of {} claims to status {}", updated, claimIds.size(), status);
+
+        Cache claims = cacheManager.getCache("claims");
+        Cache claimStatus = cacheManager.getCache("claim-status");
+        for (Long claimId : claimIds) {
+            if (claims != null) {
+                claims.evict("claim-" + claimId);
+            }
+            if (claimStatus != null) {
+                claimStatus.evict("claim-" + claimId);
+            }
+        }
+        if (claims != null) {
+            policyIds.forEach(policyId -> claims.evict("policy-" + policyId));
+        }
+        return updated;
+    }
+
+    /**
+     * Write-through of a new claim under its claim key and, as the latest claim, under its policy key
+     */
+    private void cacheClaim(Claim claim) {
+        try {
+            Cache claims = cacheManager.getCache("claims");
+            if (claims != null) {
+                ClaimResponse claimResponse = buildClaimResponse(claim);
+                claims.put("claim-" + claim.getId(), claimResponse);
+                claims.put("policy-" + claim.getPolicyId(), claimResponse);
+            }
+        } catch (Exception e) {
+            // The claim is already saved; a missed cache write only costs one database read later
+            log.warn("Could not cache claim {}: {}", claim.getId(), e.getMessage());
+        }
+    }
+
     private ClaimResponse buildClaimResponse(Claim claim) {
         return ClaimResponse.builder()
                 .claimId(claim.getId())
@@ -180,7 +277,238 @@ public class ClaimServiceImpl implements ClaimService {
                 .build();
     }
 
+    /**
+     * One batch of a bulk intake; results are filled in as claims are rejected, found filed or written
+     */
+    private record BulkBatch(int from, int to, BulkClaimResult[] results) {
+    }
+
+    /**
+     * Settles what the database can answer in two queries and starts the remote lookups for the rest
+     */
+    private BulkBatch prepareBatch(List<ClaimRequest> claimRequests, int from, Set<String> idempotencyKeys,
+                                   Map<Long, CompletableFuture<ClaimValidationService.PolicyLookups>> lookups,
+                                   Executor lookupExecutor) {
+        int to = Math.min(from + bulkBatchSize, claimRequests.size());
+        BulkClaimResult[] batchResults = new BulkClaimResult[to - from];
+        Map<String, Integer> pending = new HashMap<>();
+
+        for (int index = from; index < to; index++) {
+            ClaimRequest claimRequest = claimRequests.get(index);
+            ClaimServiceCustomException rejection = requestRejection(claimRequest);
+            if (rejection == null && !idempotencyKeys.add(claimRequest.getIdempotencyKey())) {
+                rejection = new ClaimServiceCustomException(
+                    "Idempotency key is used more than once in this upload: " + claimRequest.getIdempotencyKey(),
+                    "DUPLICATE_IDEMPOTENCY_KEY",
+                    400
+                );
+            }
+            if (rejection != null) {
+                batchResults[index - from] = failure(index, claimRequest, rejection);
+            } else {
+                pending.put(claimRequest.getIdempotencyKey(), index);
+            }
+        }
+        if (pending.isEmpty()) {
+            return new BulkBatch(from, to, batchResults);
+        }
+
+        for (Claim filedClaim : claimRepository.findByIdempotencyKeyIn(pending.keySet())) {
+            // The database may match keys case-insensitively; those are caught as duplicates when written
+            Integer index = pending.remove(filedClaim.getIdempotencyKey());
+            if (index != null) {
+                batchResults[index - from] = result(index, BulkClaimResult.Outcome.DUPLICATE, filedClaim);
+            }
+        }
+        Set<Long> policyIds = new HashSet<>();
+        pending.values().forEach(index -> policyIds.add(claimRequests.get(index).getPolicyId()));
+        Set<Long> policyIdsWithClaims = policyIds.isEmpty() ? Set.of()
+                : new HashSet<>(claimRepository.findPolicyIdsWithClaims(policyIds));
+
+        for (int index : pending.values()) {
+            ClaimRequest claimRequest = claimRequests.get(index);
+            if (policyIdsWithClaims.contains(claimRequest.getPolicyId())) {
+                batchResults[index - from] = failure(index, claimRequest, claimAlreadyExists(claimRequest.getPolicyId()));
+            } else {
+                lookups.computeIfAbsent(claimRequest.getPolicyId(), policyId -> CompletableFuture.supplyAsync(
+                        () -> claimValidationService.lookUp(policyId, Runnable::run), lookupExecutor));
+            }
+        }
+        return new BulkBatch(from, to, batchResults);
+    }
+
+    /**
+     * Validates the claims still open in the batch, in order, and writes those that pass. Returns how many were filed
+     */
+    private int fileBatch(List<ClaimRequest> claimRequests, BulkBatch batch,
+                          Map<Long, CompletableFuture<ClaimValidationService.PolicyLookups>> lookups,
+                          Set<Long> claimedPolicyIds) {
+        BulkClaimResult[] batchResults = batch.results();
+        List<Claim> claims = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+
+        for (int index = batch.from(); index < batch.to(); index++) {
+            if (batchResults[index - batch.from()] != null) {
+                continue;
+            }
+            ClaimRequest claimRequest = claimRequests.get(index);
+            ClaimServiceCustomException rejection = validationRejection(claimRequest, lookups.get(claimRequest.getPolicyId()));
+            // One claim per policy, as for a single claim; a later line for the same policy loses
+            if (rejection == null && !claimedPolicyIds.add(claimRequest.getPolicyId())) {
+                rejection = claimAlreadyExists(claimRequest.getPolicyId());
+            }
+            if (rejection != null) {
+                batchResults[index - batch.from()] = failure(index, claimRequest, rejection);
+            } else {
+                claims.add(newClaim(claimRequest));
+                positions.add(index);
+            }
+        }
+        if (claims.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            List<Claim> saved = claimRepository.saveAll(claims);
+            for (int i = 0; i < saved.size(); i++) {
+                batchResults[positions.get(i) - batch.from()] = result(positions.get(i), BulkClaimResult.Outcome.FILED, saved.get(i));
+            }
+            return saved.size();
+        } catch (DataIntegrityViolationException e) {
+            // Another upload filed one of these idempotency keys after they were checked; write the claims one
+            // at a time so only the repeats are turned away
+            log.warn("Bulk claims {} to {} clashed with claims filed meanwhile, filing them one by one: {}",
+                batch.from(), batch.to() - 1, e.getMessage());
+            return fileOneByOne(claims, positions, batch, claimedPolicyIds);
+        } catch (RuntimeException e) {
+            log.error("Could not write bulk claims {} to {}: {}", batch.from(), batch.to() - 1, e.getMessage(), e);
+            for (int i = 0; i < claims.size(); i++) {
+                batchResults[positions.get(i) - batch.from()] = filingFailure(positions.get(i), claims.get(i), claimedPolicyIds);
+            }
+            return 0;
+        }
+    }
+
+    private int fileOneByOne(List<Claim> claims, List<Integer> positions, BulkBatch batch, Set<Long> claimedPolicyIds) {
+        int filed = 0;
+        for (int i = 0; i < claims.size(); i++) {
+            int index = positions.get(i);
+            Claim claim = claims.get(i);
+            // The rolled back batch left its generated IDs behind; a non-zero ID would be merged, not inserted
+            claim.setId(0);
+            BulkClaimResult result;
+            try {
+                result = result(index, BulkClaimResult.Outcome.FILED, claimRepository.save(claim));
+                filed++;
+            } catch (DataIntegrityViolationException e) {
+                Claim filedClaim = claimRepository.findByIdempotencyKey(claim.getIdempotencyKey());
+                result = filedClaim != null ? result(index, BulkClaimResult.Outcome.DUPLICATE, filedClaim)
+                        : filingFailure(index, claim, claimedPolicyIds);
+            } catch (RuntimeException e) {
+                log.error("Could not write bulk claim {}: {}", index, e.getMessage());
+                result = filingFailure(index, claim, claimedPolicyIds);
+            }
+            batch.results()[index - batch.from()] = result;
+        }
+        return filed;
+    }
+
+    /**
+     * The error a single claim would have thrown for the request's shape or idempotency key, or null when both are valid
+     */
+    private static ClaimServiceCustomException requestRejection(ClaimRequest claimRequest) {
+        try {
+            ClaimValidationRules.CLAIM_REQUEST.validate(claimRequest);
+            ClaimValidationRules.IDEMPOTENCY_KEY.validate(claimRequest.getIdempotencyKey());
+            return null;
+        } catch (ClaimServiceCustomException e) {
+            return e;
+        }
+    }
+
+    /**
+     * The error a single claim would have thrown validating against its policy and payment, or null when it passes
+     */
+    private ClaimServiceCustomException validationRejection(ClaimRequest claimRequest,
+                                                            CompletableFuture<ClaimValidationService.PolicyLookups> lookups) {
+        try {
+            claimValidationService.validateClaimRequest(claimRequest, lookups.join());
+            return null;
+        } catch (ClaimServiceCustomException e) {
+            return e;
+        } catch (RuntimeException e) {
+            log.error("Unexpected error during claim validation for policy ID {} and customer ID {}: {}",
+                claimRequest.getPolicyId(), claimRequest.getCustomerId(), e.getMessage());
+            return new ClaimServiceCustomException(
+                "Failed to validate claim: " + e.getMessage(),
+                "CLAIM_VALIDATION_FAILED",
+                500
+            );
+        }
+    }
+
+    private static ClaimServiceCustomException claimAlreadyExists(long policyId) {
+        return new ClaimServiceCustomException(
+            "Claim already exists for policy ID: " + policyId,
+            "CLAIM_ALREADY_EXISTS",
+            409
+        );
+    }
+
+    private static BulkClaimResult result(int index, BulkClaimResult.Outcome outcome, Claim claim) {
+        return BulkClaimResult.builder()
+                .index(index)
+                .outcome(outcome)
+                .idempotencyKey(claim.getIdempotencyKey())
+                .claimId(claim.getId())
+                .claimNumber(claim.getClaimNumber())
+                .build();
+    }
+
+    /**
+     * REJECTED for a claim that is wrong as sent, FAILED when a server error may clear on a resend
+     */
+    private static BulkClaimResult failure(int index, ClaimRequest claimRequest, ClaimServiceCustomException e) {
+        return BulkClaimResult.builder()
+                .index(index)
+                .outcome(e.getStatus() >= 500 ? BulkClaimResult.Outcome.FAILED : BulkClaimResult.Outcome.REJECTED)
+                .idempotencyKey(claimRequest == null ? null : claimRequest.getIdempotencyKey())
+                .errorCode(e.getErrorCode())
+                .errorMessage(e.getMessage())
+                .build();
+    }
+
+    private static BulkClaimResult filingFailure(int index, Claim claim, Set<Long> claimedPolicyIds) {
+        // Not written, so a later line for the same policy may still be filed
+        claimedPolicyIds.remove(claim.getPolicyId());
+        return BulkClaimResult.builder()
+                .index(index)
+                .outcome(BulkClaimResult.Outcome.FAILED)
+                .idempotencyKey(claim.getIdempotencyKey())
+                .errorCode("CLAIM_FILING_FAILED")
+                .errorMessage("Claim could not be saved")
+                .build();
+    }
+
+    private Claim newClaim(ClaimRequest claimRequest) {
+        Instant now = Instant.now();
+        return Claim.builder()
+                .claimNumber(generateClaimNumber())
+                .idempotencyKey(claimRequest.getIdempotencyKey())
+                .policyId(claimRequest.getPolicyId())
+                .customerId(claimRequest.getCustomerId())
+                .claimType(claimRequest.getClaimType())
+                .claimAmount(claimRequest.getClaimAmount())
+                .description(claimRequest.getDescription())
+                .claimStatus("PENDING")
+                .claimDate(now)
+                .createdDate(now)
+                .updatedDate(now)
+                .approvedAmount(0)
+                .build();
+    }
+
     private String generateClaimNumber() {
-        return "CLM-" + System.currentTimeMillis();
+        return businessNumberGenerator.next("CLM");
     }
 } 
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.nikhilspring.ClaimService.validation;
+
+import com.nikhilspring.ClaimService.exception.ClaimServiceCustomException;
+import com.nikhilspring.ClaimService.model.ClaimRequest;
+import com.nikhilspring.common.validation.CharClass;
+import com.nikhilspring.common.validation.RequestValidator;
+import com.nikhilspring.common.validation.ValidationExceptionFactory;
+
+import java.util.function.Function;
+
+public final class ClaimValidationRules {
+
+    /**
+     * Rejects an invalid request with a 400
+     */
+    public static final ValidationExceptionFactory EXCEPTIONS = (message, errorCode) ->
+            new ClaimServiceCustomException(message, errorCode, 400);
+
+    public static final RequestValidator<ClaimRequest> CLAIM_REQUEST = RequestValidator
+            .<ClaimRequest>builder(EXCEPTIONS, "INVALID_REQUEST", "Claim request cannot be null")
+            .positive(ClaimRequest::getPolicyId, "INVALID_POLICY_ID",
+                    claimRequest -> "Invalid policy ID: " + claimRequest.getPolicyId())
+            .positive(ClaimRequest::getClaimAmount, "INVALID_CLAIM_AMOUNT", "Claim amount must be greater than 0")
+            .notBlank(ClaimRequest::getCustomerId, "INVALID_CUSTOMER_ID", "Customer ID cannot be null or empty")
+            .chars(ClaimRequest::getCustomerId, CharClass.UPPER_ALPHANUMERIC, "INVALID_CUSTOMER_ID_FORMAT",
+                    claimRequest -> customerIdFormatMessage(claimRequest.getCustomerId()))
+            .notBlank(ClaimRequest::getClaimType, "INVALID_CLAIM_TYPE", "Claim type cannot be null or empty")
+            .notBlank(ClaimRequest::getDescription, "INVALID_DESCRIPTION", "Claim description cannot be null or empty")
+            .build();
+
+    public static final RequestValidator<String> CUSTOMER_ID = RequestValidator
+            .<String>builder(EXCEPTIONS, "INVALID_CUSTOMER_ID", "Customer ID cannot be null or empty")
+            .notBlank(Function.identity(), "INVALID_CUSTOMER_ID", "Customer ID cannot be null or empty")
+            .chars(Function.identity(), CharClass.UPPER_ALPHANUMERIC, "INVALID_CUSTOMER_ID_FORMAT",
+                    ClaimValidationRules::customerIdFormatMessage)
+            .build();
+
+    public static final int IDEMPOTENCY_KEY_MAX_LENGTH = 64;
+
+    public static final RequestValidator<String> IDEMPOTENCY_KEY = RequestValidator
+            .<String>builder(EXCEPTIONS, "MISSING_IDEMPOTENCY_KEY", "Idempotency key cannot be null or empty")
+            .notBlank(Function.identity(), "MISSING_IDEMPOTENCY_KEY", "Idempotency key cannot be null or empty")
+            .require(key -> key == null || key.length() <= IDEMPOTENCY_KEY_MAX_LENGTH, "INVALID_IDEMPOTENCY_KEY",
+                    key -> "Idempotency key must be at most " + IDEMPOTENCY_KEY_MAX_LENGTH + " characters: " + key)
+            .build();
+
+    private ClaimValidationRules() {
+    }
+
+    private static String customerIdFormatMessage(String customerId) {
+        return "Invalid customer ID format. Must contain only uppercase letters and numbers: " + customerId;
+    }
+}
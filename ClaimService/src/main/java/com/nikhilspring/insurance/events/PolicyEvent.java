@@ -0,0 +1,808 @@
+/**
+ * Autogenerated by Avro
+ *
+ * DO NOT EDIT DIRECTLY
+ */
+package com.nikhilspring.insurance.events;
+
+import org.apache.avro.generic.GenericArray;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.util.Utf8;
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.apache.avro.message.BinaryMessageDecoder;
+import org.apache.avro.message.SchemaStore;
+
+/** Policy state change, used by other services to keep a local copy of the policy */
+@org.apache.avro.specific.AvroGenerated
+public class PolicyEvent extends org.apache.avro.specific.SpecificRecordBase implements org.apache.avro.specific.SpecificRecord {
+  private static final long serialVersionUID = -3582175392798275931L;
+
+
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"PolicyEvent\",\"namespace\":\"com.nikhilspring.insurance.events\",\"doc\":\"Policy state change, used by other services to keep a local copy of the policy\",\"fields\":[{\"name\":\"policyId\",\"type\":\"long\",\"doc\":\"Unique policy identifier\"},{\"name\":\"policyStatus\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Policy status after the change\"},{\"name\":\"coverageAmount\",\"type\":[\"null\",\"long\"],\"doc\":\"Coverage amount; null when only the status changed\",\"default\":null},{\"name\":\"policyStartDate\",\"type\":[\"null\",\"long\"],\"doc\":\"Policy start date in milliseconds; null when only the status changed\",\"default\":null},{\"name\":\"policyEndDate\",\"type\":[\"null\",\"long\"],\"doc\":\"Policy end date in milliseconds; null when only the status changed\",\"default\":null},{\"name\":\"timestamp\",\"type\":\"long\",\"doc\":\"Change timestamp in milliseconds\"}]}");
+  public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
+
+  private static final SpecificData MODEL$ = new SpecificData();
+
+  private static final BinaryMessageEncoder<PolicyEvent> ENCODER =
+      new BinaryMessageEncoder<>(MODEL$, SCHEMA$);
+
+  private static final BinaryMessageDecoder<PolicyEvent> DECODER =
+      new BinaryMessageDecoder<>(MODEL$, SCHEMA$);
+
+  /**
+   * Return the BinaryMessageEncoder instance used by this class.
+   * @return the message encoder used by this class
+   */
+  public static BinaryMessageEncoder<PolicyEvent> getEncoder() {
+    return ENCODER;
+  }
+
+  /**
+   * Return the BinaryMessageDecoder instance used by this class.
+   * @return the message decoder used by this class
+   */
+  public static BinaryMessageDecoder<PolicyEvent> getDecoder() {
+    return DECODER;
+  }
+
+  /**
+   * Create a new BinaryMessageDecoder instance for this class that uses the specified {@link SchemaStore}.
+   * @param resolver a {@link SchemaStore} used to find schemas by fingerprint
+   * @return a BinaryMessageDecoder instance for this class backed by the given SchemaStore
+   */
+  public static BinaryMessageDecoder<PolicyEvent> createDecoder(SchemaStore resolver) {
+    return new BinaryMessageDecoder<>(MODEL$, SCHEMA$, resolver);
+  }
+
+  /**
+   * Serializes this PolicyEvent to a ByteBuffer.
+   * @return a buffer holding the serialized data for this instance
+   * @throws java.io.IOException if this instance could not be serialized
+   */
+  public java.nio.ByteBuffer toByteBuffer() throws java.io.IOException {
+    return ENCODER.encode(this);
+  }
+
+  /**
+   * Deserializes a PolicyEvent from a ByteBuffer.
+   * @param b a byte buffer holding serialized data for an instance of this class
+   * @return a PolicyEvent instance decoded from the given buffer
+   * @throws java.io.IOException if the given bytes could not be deserialized into an instance of this class
+   */
+  public static PolicyEvent fromByteBuffer(
+      java.nio.ByteBuffer b) throws java.io.IOException {
+    return DECODER.decode(b);
+  }
+
+  /** Unique policy identifier */
+  private long policyId;
+  /** Policy status after the change */
+  private java.lang.String policyStatus;
+  /** Coverage amount; null when only the status changed */
+  private java.lang.Long coverageAmount;
+  /** Policy start date in milliseconds; null when only the status changed */
+  private java.lang.Long policyStartDate;
+  /** Policy end date in milliseconds; null when only the status changed */
+  private java.lang.Long policyEndDate;
+  /** Change timestamp in milliseconds */
+  private long timestamp;
+
+  /**
+   * Default constructor.  Note that this does not initialize fields
+   * to their default values from the schema.  If that is desired then
+   * one should use <code>newBuilder()</code>.
+   */
+  public PolicyEvent() {}
+
+  /**
+   * All-args constructor.
+   * @param policyId Unique policy identifier
+   * @param policyStatus Policy status after the change
+   * @param coverageAmount Coverage amount; null when only the status changed
+   * @param policyStartDate Policy start date in milliseconds; null when only the status changed
+   * @param policyEndDate Policy end date in milliseconds; null when only the status changed
+   * @param timestamp Change timestamp in milliseconds
+   */
+  public PolicyEvent(java.lang.Long policyId, java.lang.String policyStatus, java.lang.Long coverageAmount, java.lang.Long policyStartDate, java.lang.Long policyEndDate, java.lang.Long timestamp) {
+    this.policyId = policyId;
+    this.policyStatus = policyStatus;
+    this.coverageAmount = coverageAmount;
+    this.policyStartDate = policyStartDate;
+    this.policyEndDate = policyEndDate;
+    this.timestamp = timestamp;
+  }
+
+  @Override
+  public org.apache.avro.specific.SpecificData getSpecificData() { return MODEL$; }
+
+  @Override
+  public org.apache.avro.Schema getSchema() { return SCHEMA$; }
+
+  // Used by DatumWriter.  Applications should not call.
+  @Override
+  public java.lang.Object get(int field$) {
+    switch (field$) {
+    case 0: return policyId;
+    case 1: return policyStatus;
+    case 2: return coverageAmount;
+    case 3: return policyStartDate;
+    case 4: return policyEndDate;
+    case 5: return timestamp;
+    default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
+    }
+  }
+
+  // Used by DatumReader.  Applications should not call.
+  @Override
+  @SuppressWarnings(value="unchecked")
+  public void put(int field$, java.lang.Object value$) {
+    switch (field$) {
+    case 0: policyId = (java.lang.Long)value$; break;
+    case 1: policyStatus = value$ != null ? value$.toString() : null; break;
+    case 2: coverageAmount = (java.lang.Long)value$; break;
+    case 3: policyStartDate = (java.lang.Long)value$; break;
+    case 4: policyEndDate = (java.lang.Long)value$; break;
+    case 5: timestamp = (java.lang.Long)value$; break;
+    default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
+    }
+  }
+
+  /**
+   * Gets the value of the 'policyId' field.
+   * @return Unique policy identifier
+   */
+  public long getPolicyId() {
+    return policyId;
+  }
+
+
+  /**
+   * Sets the value of the 'policyId' field.
+   * Unique policy identifier
+   * @param value the value to set.
+   */
+  public void setPolicyId(long value) {
+    this.policyId = value;
+  }
+
+  /**
+   * Gets the value of the 'policyStatus' field.
+   * @return Policy status after the change
+   */
+  public java.lang.String getPolicyStatus() {
+    return policyStatus;
+  }
+
+
+  /**
+   * Sets the value of the 'policyStatus' field.
+   * Policy status after the change
+   * @param value the value to set.
+   */
+  public void setPolicyStatus(java.lang.String value) {
+    this.policyStatus = value;
+  }
+
+  /**
+   * Gets the value of the 'coverageAmount' field.
+   * @return Coverage amount; null when only the status changed
+   */
+  public java.lang.Long getCoverageAmount() {
+    return coverageAmount;
+  }
+
+
+  /**
+   * Sets the value of the 'coverageAmount' field.
+   * Coverage amount; null when only the status changed
+   * @param value the value to set.
+   */
+  public void setCoverageAmount(java.lang.Long value) {
+    this.coverageAmount = value;
+  }
+
+  /**
+   * Gets the value of the 'policyStartDate' field.
+   * @return Policy start date in milliseconds; null when only the status changed
+   */
+  public java.lang.Long getPolicyStartDate() {
+    return policyStartDate;
+  }
+
+
+  /**
+   * Sets the value of the 'policyStartDate' field.
+   * Policy start date in milliseconds; null when only the status changed
+   * @param value the value to set.
+   */
+  public void setPolicyStartDate(java.lang.Long value) {
+    this.policyStartDate = value;
+  }
+
+  /**
+   * Gets the value of the 'policyEndDate' field.
+   * @return Policy end date in milliseconds; null when only the status changed
+   */
+  public java.lang.Long getPolicyEndDate() {
+    return policyEndDate;
+  }
+
+
+  /**
+   * Sets the value of the 'policyEndDate' field.
+   * Policy end date in milliseconds; null when only the status changed
+   * @param value the value to set.
+   */
+  public void setPolicyEndDate(java.lang.Long value) {
+    this.policyEndDate = value;
+  }
+
+  /**
+   * Gets the value of the 'timestamp' field.
+   * @return Change timestamp in milliseconds
+   */
+  public long getTimestamp() {
+    return timestamp;
+  }
+
+
+  /**
+   * Sets the value of the 'timestamp' field.
+   * Change timestamp in milliseconds
+   * @param value the value to set.
+   */
+  public void setTimestamp(long value) {
+    this.timestamp = value;
+  }
+
+  /**
+   * Creates a new PolicyEvent RecordBuilder.
+   * @return A new PolicyEvent RecordBuilder
+   */
+  public static com.nikhilspring.insurance.events.PolicyEvent.Builder newBuilder() {
+    return new com.nikhilspring.insurance.events.PolicyEvent.Builder();
+  }
+
+  /**
+   * Creates a new PolicyEvent RecordBuilder by copying an existing Builder.
+   * @param other The existing builder to copy.
+   * @return A new PolicyEvent RecordBuilder
+   */
+  public static com.nikhilspring.insurance.events.PolicyEvent.Builder newBuilder(com.nikhilspring.insurance.events.PolicyEvent.Builder other) {
+    if (other == null) {
+      return new com.nikhilspring.insurance.events.PolicyEvent.Builder();
+    } else {
+      return new com.nikhilspring.insurance.events.PolicyEvent.Builder(other);
+    }
+  }
+
+  /**
+   * Creates a new PolicyEvent RecordBuilder by copying an existing PolicyEvent instance.
+   * @param other The existing instance to copy.
+   * @return A new PolicyEvent RecordBuilder
+   */
+  public static com.nikhilspring.insurance.events.PolicyEvent.Builder newBuilder(com.nikhilspring.insurance.events.PolicyEvent other) {
+    if (other == null) {
+      return new com.nikhilspring.insurance.events.PolicyEvent.Builder();
+    } else {
+      return new com.nikhilspring.insurance.events.PolicyEvent.Builder(other);
+    }
+  }
+
+  /**
+   * RecordBuilder for PolicyEvent instances.
+   */
+  @org.apache.avro.specific.AvroGenerated
+  public static class Builder extends org.apache.avro.specific.SpecificRecordBuilderBase<PolicyEvent>
+    implements org.apache.avro.data.RecordBuilder<PolicyEvent> {
+
+    /** Unique policy identifier */
+    private long policyId;
+    /** Policy status after the change */
+    private java.lang.String policyStatus;
+    /** Coverage amount; null when only the status changed */
+    private java.lang.Long coverageAmount;
+    /** Policy start date in milliseconds; null when only the status changed */
+    private java.lang.Long policyStartDate;
+    /** Policy end date in milliseconds; null when only the status changed */
+    private java.lang.Long policyEndDate;
+    /** Change timestamp in milliseconds */
+    private long timestamp;
+
+    /** Creates a new Builder */
+    private Builder() {
+      super(SCHEMA$, MODEL$);
+    }
+
+    /**
+     * Creates a Builder by copying an existing Builder.
+     * @param other The existing Builder to copy.
+     */
+    private Builder(com.nikhilspring.insurance.events.PolicyEvent.Builder other) {
+      super(other);
+      if (isValidValue(fields()[0], other.policyId)) {
+        this.policyId = data().deepCopy(fields()[0].schema(), other.policyId);
+        fieldSetFlags()[0] = other.fieldSetFlags()[0];
+      }
+      if (isValidValue(fields()[1], other.policyStatus)) {
+        this.policyStatus = data().deepCopy(fields()[1].schema(), other.policyStatus);
+        fieldSetFlags()[1] = other.fieldSetFlags()[1];
+      }
+      if (isValidValue(fields()[2], other.coverageAmount)) {
+        this.coverageAmount = data().deepCopy(fields()[2].schema(), other.coverageAmount);
+        fieldSetFlags()[2] = other.fieldSetFlags()[2];
+      }
+      if (isValidValue(fields()[3], other.policyStartDate)) {
+        this.policyStartDate = data().deepCopy(fields()[3].schema(), other.policyStartDate);
+        fieldSetFlags()[3] = other.fieldSetFlags()[3];
+      }
+      if (isValidValue(fields()[4], other.policyEndDate)) {
+        this.policyEndDate = data().deepCopy(fields()[4].schema(), other.policyEndDate);
+        fieldSetFlags()[4] = other.fieldSetFlags()[4];
+      }
+      if (isValidValue(fields()[5], other.timestamp)) {
+        this.timestamp = data().deepCopy(fields()[5].schema(), other.timestamp);
+        fieldSetFlags()[5] = other.fieldSetFlags()[5];
+      }
+    }
+
+    /**
+     * Creates a Builder by copying an existing PolicyEvent instance
+     * @param other The existing instance to copy.
+     */
+    private Builder(com.nikhilspring.insurance.events.PolicyEvent other) {
+      super(SCHEMA$, MODEL$);
+      if (isValidValue(fields()[0], other.policyId)) {
+        this.policyId = data().deepCopy(fields()[0].schema(), other.policyId);
+        fieldSetFlags()[0] = true;
+      }
+      if (isValidValue(fields()[1], other.policyStatus)) {
+        this.policyStatus = data().deepCopy(fields()[1].schema(), other.policyStatus);
+        fieldSetFlags()[1] = true;
+      }
+      if (isValidValue(fields()[2], other.coverageAmount)) {
+        this.coverageAmount = data().deepCopy(fields()[2].schema(), other.coverageAmount);
+        fieldSetFlags()[2] = true;
+      }
+      if (isValidValue(fields()[3], other.policyStartDate)) {
+        this.policyStartDate = data().deepCopy(fields()[3].schema(), other.policyStartDate);
+        fieldSetFlags()[3] = true;
+      }
+      if (isValidValue(fields()[4], other.policyEndDate)) {
+        this.policyEndDate = data().deepCopy(fields()[4].schema(), other.policyEndDate);
+        fieldSetFlags()[4] = true;
+      }
+      if (isValidValue(fields()[5], other.timestamp)) {
+        this.timestamp = data().deepCopy(fields()[5].schema(), other.timestamp);
+        fieldSetFlags()[5] = true;
+      }
+    }
+
+    /**
+      * Gets the value of the 'policyId' field.
+      * Unique policy identifier
+      * @return The value.
+      */
+    public long getPolicyId() {
+      return policyId;
+    }
+
+
+    /**
+      * Sets the value of the 'policyId' field.
+      * Unique policy identifier
+      * @param value The value of 'policyId'.
+      * @return This builder.
+      */
+    public com.nikhilspring.insurance.events.PolicyEvent.Builder setPolicyId(long value) {
+      validate(fields()[0], value);
+      this.policyId = value;
+      fieldSetFlags()[0] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'policyId' field has been set.
+      * Unique policy identifier
+      * @return True if the 'policyId' field has been set, false otherwise.
+      */
+    public boolean hasPolicyId() {
+      return fieldSetFlags()[0];
+    }
+
+
+    /**
+      * Clears the value of the 'policyId' field.
+      * Unique policy identifier
+      * @return This builder.
+      */
+    public com.nikhilspring.insurance.events.PolicyEvent.Builder clearPolicyId() {
+      fieldSetFlags()[0] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'policyStatus' field.
+      * Policy status after the change
+      * @return The value.
+      */
+    public java.lang.String getPolicyStatus() {
+      return policyStatus;
+    }
+
+
+    /**
+      * Sets the value of the 'policyStatus' field.
+      * Policy status after the change
+      * @param value The value of 'policyStatus'.
+      * @return This builder.
+      */
+    public com.nikhilspring.insurance.events.PolicyEvent.Builder setPolicyStatus(java.lang.String value) {
+      validate(fields()[1], value);
+      this.policyStatus = value;
+      fieldSetFlags()[1] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'policyStatus' field has been set.
+      * Policy status after the change
+      * @return True if the 'policyStatus' field has been set, false otherwise.
+      */
+    public boolean hasPolicyStatus() {
+      return fieldSetFlags()[1];
+    }
+
+
+    /**
+      * Clears the value of the 'policyStatus' field.
+      * Policy status after the change
+      * @return This builder.
+      */
+    public com.nikhilspring.insurance.events.PolicyEvent.Builder clearPolicyStatus() {
+      policyStatus = null;
+      fieldSetFlags()[1] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'coverageAmount' field.
+      * Coverage amount; null when only the status changed
+      * @return The value.
+      */
+    public java.lang.Long getCoverageAmount() {
+      return coverageAmount;
+    }
+
+
+    /**
+      * Sets the value of the 'coverageAmount' field.
+      * Coverage amount; null when only the status changed
+      * @param value The value of 'coverageAmount'.
+      * @return This builder.
+      */
+    public com.nikhilspring.insurance.events.PolicyEvent.Builder setCoverageAmount(java.lang.Long value) {
+      validate(fields()[2], value);
+      this.coverageAmount = value;
+      fieldSetFlags()[2] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'coverageAmount' field has been set.
+      * Coverage amount; null when only the status changed
+      * @return True if the 'coverageAmount' field has been set, false otherwise.
+      */
+    public boolean hasCoverageAmount() {
+      return fieldSetFlags()[2];
+    }
+
+
+    /**
+      * Clears the value of the 'coverageAmount' field.
+      * Coverage amount; null when only the status changed
+      * @return This builder.
+      */
+    public com.nikhilspring.insurance.events.PolicyEvent.Builder clearCoverageAmount() {
+      coverageAmount = null;
+      fieldSetFlags()[2] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'policyStartDate' field.
+      * Policy start date in milliseconds; null when only the status changed
+      * @return The value.
+      */
+    public java.lang.Long getPolicyStartDate() {
+      return policyStartDate;
+    }
+
+
+    /**
+      * Sets the value of the 'policyStartDate' field.
+      * Policy start date in milliseconds; null when only the status changed
+      * @param value The value of 'policyStartDate'.
+      * @return This builder.
+      */
+    public com.nikhilspring.insurance.events.PolicyEvent.Builder setPolicyStartDate(java.lang.Long value) {
+      validate(fields()[3], value);
+      this.policyStartDate = value;
+      fieldSetFlags()[3] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'policyStartDate' field has been set.
+      * Policy start date in milliseconds; null when only the status changed
+      * @return True if the 'policyStartDate' field has been set, false otherwise.
+      */
+    public boolean hasPolicyStartDate() {
+      return fieldSetFlags()[3];
+    }
+
+
+    /**
+      * Clears the value of the 'policyStartDate' field.
+      * Policy start date in milliseconds; null when only the status changed
+      * @return This builder.
+      */
+    public com.nikhilspring.insurance.events.PolicyEvent.Builder clearPolicyStartDate() {
+      policyStartDate = null;
+      fieldSetFlags()[3] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'policyEndDate' field.
+      * Policy end date in milliseconds; null when only the status changed
+      * @return The value.
+      */
+    public java.lang.Long getPolicyEndDate() {
+      return policyEndDate;
+    }
+
+
+    /**
+      * Sets the value of the 'policyEndDate' field.
+      * Policy end date in milliseconds; null when only the status changed
+      * @param value The value of 'policyEndDate'.
+      * @return This builder.
+      */
+    public com.nikhilspring.insurance.events.PolicyEvent.Builder setPolicyEndDate(java.lang.Long value) {
+      validate(fields()[4], value);
+      this.policyEndDate = value;
+      fieldSetFlags()[4] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'policyEndDate' field has been set.
+      * Policy end date in milliseconds; null when only the status changed
+      * @return True if the 'policyEndDate' field has been set, false otherwise.
+      */
+    public boolean hasPolicyEndDate() {
+      return fieldSetFlags()[4];
+    }
+
+
+    /**
+      * Clears the value of the 'policyEndDate' field.
+      * Policy end date in milliseconds; null when only the status changed
+      * @return This builder.
+      */
+    public com.nikhilspring.insurance.events.PolicyEvent.Builder clearPolicyEndDate() {
+      policyEndDate = null;
+      fieldSetFlags()[4] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'timestamp' field.
+      * Change timestamp in milliseconds
+      * @return The value.
+      */
+    public long getTimestamp() {
+      return timestamp;
+    }
+
+
+    /**
+      * Sets the value of the 'timestamp' field.
+      * Change timestamp in milliseconds
+      * @param value The value of 'timestamp'.
+      * @return This builder.
+      */
+    public com.nikhilspring.insurance.events.PolicyEvent.Builder setTimestamp(long value) {
+      validate(fields()[5], value);
+      this.timestamp = value;
+      fieldSetFlags()[5] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'timestamp' field has been set.
+      * Change timestamp in milliseconds
+      * @return True if the 'timestamp' field has been set, false otherwise.
+      */
+    public boolean hasTimestamp() {
+      return fieldSetFlags()[5];
+    }
+
+
+    /**
+      * Clears the value of the 'timestamp' field.
+      * Change timestamp in milliseconds
+      * @return This builder.
+      */
+    public com.nikhilspring.insurance.events.PolicyEvent.Builder clearTimestamp() {
+      fieldSetFlags()[5] = false;
+      return this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public PolicyEvent build() {
+      try {
+        PolicyEvent record = new PolicyEvent();
+        record.policyId = fieldSetFlags()[0] ? this.policyId : (java.lang.Long) defaultValue(fields()[0]);
+        record.policyStatus = fieldSetFlags()[1] ? this.policyStatus : (java.lang.String) defaultValue(fields()[1]);
+        record.coverageAmount = fieldSetFlags()[2] ? this.coverageAmount : (java.lang.Long) defaultValue(fields()[2]);
+        record.policyStartDate = fieldSetFlags()[3] ? this.policyStartDate : (java.lang.Long) defaultValue(fields()[3]);
+        record.policyEndDate = fieldSetFlags()[4] ? this.policyEndDate : (java.lang.Long) defaultValue(fields()[4]);
+        record.timestamp = fieldSetFlags()[5] ? this.timestamp : (java.lang.Long) defaultValue(fields()[5]);
+        return record;
+      } catch (org.apache.avro.AvroMissingFieldException e) {
+        throw e;
+      } catch (java.lang.Exception e) {
+        throw new org.apache.avro.AvroRuntimeException(e);
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static final org.apache.avro.io.DatumWriter<PolicyEvent>
+    WRITER$ = (org.apache.avro.io.DatumWriter<PolicyEvent>)MODEL$.createDatumWriter(SCHEMA$);
+
+  @Override public void writeExternal(java.io.ObjectOutput out)
+    throws java.io.IOException {
+    WRITER$.write(this, SpecificData.getEncoder(out));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static final org.apache.avro.io.DatumReader<PolicyEvent>
+    READER$ = (org.apache.avro.io.DatumReader<PolicyEvent>)MODEL$.createDatumReader(SCHEMA$);
+
+  @Override public void readExternal(java.io.ObjectInput in)
+    throws java.io.IOException {
+    READER$.read(this, SpecificData.getDecoder(in));
+  }
+
+  @Override protected boolean hasCustomCoders() { return true; }
+
+  @Override public void customEncode(org.apache.avro.io.Encoder out)
+    throws java.io.IOException
+  {
+    out.writeLong(this.policyId);
+
+    out.writeString(this.policyStatus);
+
+    if (this.coverageAmount == null) {
+      out.writeIndex(0);
+      out.writeNull();
+    } else {
+      out.writeIndex(1);
+      out.writeLong(this.coverageAmount);
+    }
+
+    if (this.policyStartDate == null) {
+      out.writeIndex(0);
+      out.writeNull();
+    } else {
+      out.writeIndex(1);
+      out.writeLong(this.policyStartDate);
+    }
+
+    if (this.policyEndDate == null) {
+      out.writeIndex(0);
+      out.writeNull();
+    } else {
+      out.writeIndex(1);
+      out.writeLong(this.policyEndDate);
+    }
+
+    out.writeLong(this.timestamp);
+
+  }
+
+  @Override public void customDecode(org.apache.avro.io.ResolvingDecoder in)
+    throws java.io.IOException
+  {
+    org.apache.avro.Schema.Field[] fieldOrder = in.readFieldOrderIfDiff();
+    if (fieldOrder == null) {
+      this.policyId = in.readLong();
+
+      this.policyStatus = in.readString();
+
+      if (in.readIndex() != 1) {
+        in.readNull();
+        this.coverageAmount = null;
+      } else {
+        this.coverageAmount = in.readLong();
+      }
+
+      if (in.readIndex() != 1) {
+        in.readNull();
+        this.policyStartDate = null;
+      } else {
+        this.policyStartDate = in.readLong();
+      }
+
+      if (in.readIndex() != 1) {
+        in.readNull();
+        this.policyEndDate = null;
+      } else {
+        this.policyEndDate = in.readLong();
+      }
+
+      this.timestamp = in.readLong();
+
+    } else {
+      for (int i = 0; i < 6; i++) {
+        switch (fieldOrder[i].pos()) {
+        case 0:
+          this.policyId = in.readLong();
+          break;
+
+        case 1:
+          this.policyStatus = in.readString();
+          break;
+
+        case 2:
+          if (in.readIndex() != 1) {
+            in.readNull();
+            this.coverageAmount = null;
+          } else {
+            this.coverageAmount = in.readLong();
+          }
+          break;
+
+        case 3:
+          if (in.readIndex() != 1) {
+            in.readNull();
+            this.policyStartDate = null;
+          } else {
+            this.policyStartDate = in.readLong();
+          }
+          break;
+
+        case 4:
+          if (in.readIndex() != 1) {
+            in.readNull();
+            this.policyEndDate = null;
+          } else {
+            this.policyEndDate = in.readLong();
+          }
+          break;
+
+        case 5:
+          this.timestamp = in.readLong();
+          break;
+
+        default:
+          throw new java.io.IOException("Corrupt ResolvingDecoder.");
+        }
+      }
+    }
+  }
+}
+
+
+
+
+
+
+
+
+
+
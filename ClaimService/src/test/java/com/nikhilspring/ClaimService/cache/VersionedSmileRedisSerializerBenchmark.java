@@ -0,0 +1,129 @@
+package com.nikhilspring.ClaimService.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.nikhilspring.ClaimService.model.ClaimResponse;
+import com.nikhilspring.common.cache.VersionedSmileRedisSerializer;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a "claims" cache entry: {@code json*} is the default region serializer (type-hinted JSON),
+ * {@code smile*} is {@link VersionedSmileRedisSerializer}. Writes measure a cache put, reads a cache hit. The
+ * {@code *Size} benchmarks write one entry and report its length as their {@code bytes} counter; their time is a
+ * single cold call and means nothing.
+ * Not run by the test suite; run {@link #main} from the IDE, or from ClaimService after {@code mvn test-compile
+ * dependency:build-classpath -Dmdep.outputFile=cp.txt} with
+ * {@code java -cp target/test-classes:target/classes:$(cat cp.txt) org.openjdk.jmh.Main VersionedSmileRedisSerializerBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VersionedSmileRedisSerializerBenchmark {
+
+    private final GenericJackson2JsonRedisSerializer json = GenericJackson2JsonRedisSerializer.builder()
+            .objectMapper(new ObjectMapper().registerModule(new JavaTimeModule()))
+            .defaultTyping(true)
+            .build();
+    private final VersionedSmileRedisSerializer<ClaimResponse> smile =
+            new VersionedSmileRedisSerializer<>(ClaimResponse.class);
+
+    private ClaimResponse claim;
+    private byte[] jsonBytes;
+    private byte[] smileBytes;
+
+    @Setup
+    public void setup() {
+        claim = ClaimResponse.builder()
+                .claimId(1)
+                .claimNumber("CLM-2718281828459045")
+                .policyId(1)
+                .customerId("CUST001")
+                .claimType("HEALTH")
+                .claimAmount(5000)
+                .description("Hospitalisation after a road accident")
+                .status("SUBMITTED")
+                .claimDate(Instant.now().truncatedTo(ChronoUnit.MILLIS))
+                .approvedAmount(0)
+                .build();
+        jsonBytes = json.serialize(claim);
+        smileBytes = smile.serialize(claim);
+    }
+
+    @Benchmark
+    public byte[] jsonWrite() {
+        return json.serialize(claim);
+    }
+
+    @Benchmark
+    public Object jsonRead() {
+        return json.deserialize(jsonBytes);
+    }
+
+    @Benchmark
+    public byte[] smileWrite() {
+        return smile.serialize(claim);
+    }
+
+    @Benchmark
+    public ClaimResponse smileRead() {
+        return smile.deserialize(smileBytes);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    public byte[] jsonSize(EntrySize size) {
+        return size.record(json.serialize(claim));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    public byte[] smileSize(EntrySize size) {
+        return size.record(smile.serialize(claim));
+    }
+
+    /**
+     * Bytes of one entry. JMH adds event counters up over iterations, hence the single-iteration size benchmarks.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EntrySize {
+
+        public long bytes;
+
+        byte[] record(byte[] entry) {
+            bytes = entry.length;
+            return entry;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(VersionedSmileRedisSerializerBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
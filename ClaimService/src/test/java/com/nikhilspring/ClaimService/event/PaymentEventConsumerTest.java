@@ -0,0 +1,77 @@
+package com.nikhilspring.ClaimService.event;
+
+import com.nikhilspring.ClaimService.service.ClaimService;
+import com.nikhilspring.insurance.events.PaymentEvent;
+import com.nikhilspring.insurance.events.PaymentStatus;
+import com.nikhilspring.insurance.events.PaymentType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PaymentEventConsumerTest {
+
+    private final ClaimService claimService = mock(ClaimService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PaymentEventConsumer paymentEventConsumer = new PaymentEventConsumer(claimService, meterRegistry);
+
+    @DisplayName("Handle Payment Events - Each claim takes the last outcome of the poll")
+    @Test
+    void test_When_Claim_Has_Several_Events_Then_Last_One_Applied() {
+        paymentEventConsumer.handlePaymentEvents(List.of(
+                getMockPaymentEvent(1L, PaymentStatus.FAILED, PaymentType.CLAIM_PAYMENT),
+                getMockPaymentEvent(2L, PaymentStatus.COMPLETED, PaymentType.CLAIM_PAYMENT),
+                getMockPaymentEvent(1L, PaymentStatus.COMPLETED, PaymentType.CLAIM_PAYMENT),
+                getMockPaymentEvent(3L, PaymentStatus.COMPLETED, PaymentType.CLAIM_PAYMENT),
+                getMockPaymentEvent(3L, PaymentStatus.FAILED, PaymentType.CLAIM_PAYMENT),
+                getMockPaymentEvent(3L, PaymentStatus.PENDING, PaymentType.CLAIM_PAYMENT),
+                getMockPaymentEvent(4L, PaymentStatus.COMPLETED, PaymentType.PREMIUM)));
+
+        verify(claimService).markClaimsPaid(List.of(1L, 2L));
+        verify(claimService).markClaimPaymentsFailed(List.of(3L));
+        assertEquals(1, meterRegistry.get("payment.events.batch").tag("outcome", "success").timer().count());
+    }
+
+    @DisplayName("Handle Payment Events - Nothing to settle skips the database")
+    @Test
+    void test_When_No_Claim_Payments_Then_No_Update() {
+        paymentEventConsumer.handlePaymentEvents(List.of(
+                getMockPaymentEvent(1L, PaymentStatus.COMPLETED, PaymentType.PREMIUM),
+                getMockPaymentEvent(2L, PaymentStatus.PENDING, PaymentType.CLAIM_PAYMENT)));
+
+        verify(claimService, never()).markClaimsPaid(anyCollection());
+        verify(claimService, never()).markClaimPaymentsFailed(anyCollection());
+    }
+
+    @DisplayName("Handle Payment Events - Failure propagates so offsets are not committed")
+    @Test
+    void test_When_Update_Fails_Then_Exception_Propagates() {
+        when(claimService.markClaimsPaid(anyCollection())).thenThrow(new IllegalStateException("database down"));
+
+        assertThrows(IllegalStateException.class, () -> paymentEventConsumer.handlePaymentEvents(List.of(
+                getMockPaymentEvent(1L, PaymentStatus.COMPLETED, PaymentType.CLAIM_PAYMENT))));
+
+        assertEquals(1, meterRegistry.get("payment.events.batch").tag("outcome", "failure").timer().count());
+    }
+
+    private PaymentEvent getMockPaymentEvent(Long claimId, PaymentStatus status, PaymentType type) {
+        return PaymentEvent.newBuilder()
+                .setPaymentId(claimId * 100)
+                .setPolicyId(claimId)
+                .setClaimId(claimId)
+                .setAmount(500.0)
+                .setStatus(status)
+                .setPaymentType(type)
+                .setTimestamp(System.currentTimeMillis())
+                .build();
+    }
+}
@@ -0,0 +1,141 @@
+package com.nikhilspring.ClaimService.exception;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.nikhilspring.ClaimService.model.ErrorResponse;
+import org.apache.logging.log4j.LogManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Rejected-claim throughput: an exception thrown {@code depth} frames below the handler, as from claim validation
+ * under the servlet and Spring MVC stack, turned into its 4xx response. {@code before} is the previous path
+ * (full stack trace, an ERROR line per rejection, a timestamp formatted per response); {@code after} is
+ * {@link ClaimServiceCustomException} through {@link RestResponseEntityExceptionHandler}. Log lines are formatted
+ * into a null stream, so formatting is measured and console I/O is not.
+ * Not run by the test suite; run {@link #main} from the IDE, or from ClaimService after {@code mvn test-compile
+ * dependency:build-classpath -Dmdep.outputFile=cp.txt} with
+ * {@code java -cp target/test-classes:target/classes:$(cat cp.txt) org.openjdk.jmh.Main BusinessErrorBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BusinessErrorBenchmark {
+
+    private static final org.apache.logging.log4j.Logger LEGACY_LOG =
+            LogManager.getLogger(RestResponseEntityExceptionHandler.class);
+    private static final String MESSAGE = "Claim amount exceeds policy coverage amount";
+    private static final String ERROR_CODE = "INVALID_CLAIM_AMOUNT";
+
+    @Param({"100"})
+    public int depth;
+
+    private RestResponseEntityExceptionHandler handler;
+    private WebRequest request;
+
+    @Setup
+    public void setup() {
+        LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p %t --- %logger{39} : %m%n");
+        encoder.start();
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(loggerContext);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+        Logger root = loggerContext.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.detachAndStopAllAppenders();
+        root.addAppender(appender);
+        root.setLevel(Level.INFO);
+
+        handler = new RestResponseEntityExceptionHandler(Duration.ofSeconds(10), 5);
+        request = new ServletWebRequest(new MockHttpServletRequest("POST", "/claim"));
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> before() {
+        try {
+            return descend(depth, () -> new TracedException(MESSAGE, ERROR_CODE, 400));
+        } catch (TracedException exception) {
+            LEGACY_LOG.error("Claim Service Exception: {}", exception.getMessage());
+
+            ErrorResponse errorResponse = ErrorResponse.builder()
+                    .errorMessage(exception.getMessage())
+                    .errorCode(exception.errorCode)
+                    .timestamp(LocalDateTime.now().toString())
+                    .path(request.getDescription(false))
+                    .build();
+
+            return new ResponseEntity<>(errorResponse, HttpStatus.valueOf(exception.status));
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> after() {
+        try {
+            return descend(depth, () -> new ClaimServiceCustomException(MESSAGE, ERROR_CODE, 400));
+        } catch (ClaimServiceCustomException exception) {
+            return handler.handleClaimServiceException(exception, request);
+        }
+    }
+
+    private static ResponseEntity<ErrorResponse> descend(int depth, Supplier<RuntimeException> failure) {
+        if (depth == 0) {
+            throw failure.get();
+        }
+        return descend(depth - 1, failure);
+    }
+
+    /**
+     * The previous ClaimServiceCustomException: same fields, stack trace captured
+     */
+    private static final class TracedException extends RuntimeException {
+        private final String errorCode;
+        private final int status;
+
+        private TracedException(String message, String errorCode, int status) {
+            super(message);
+            this.errorCode = errorCode;
+            this.status = status;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BusinessErrorBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
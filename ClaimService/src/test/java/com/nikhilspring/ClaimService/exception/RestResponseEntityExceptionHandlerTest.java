@@ -0,0 +1,87 @@
+package com.nikhilspring.ClaimService.exception;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.nikhilspring.ClaimService.model.ErrorResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RestResponseEntityExceptionHandlerTest {
+
+    private final ListAppender<ILoggingEvent> logEvents = new ListAppender<>();
+    private final Logger businessErrorLogger = (Logger) LoggerFactory.getLogger(BusinessErrorLog.class);
+
+    @BeforeEach
+    void setup() {
+        logEvents.start();
+        businessErrorLogger.addAppender(logEvents);
+    }
+
+    @AfterEach
+    void tearDown() {
+        businessErrorLogger.detachAppender(logEvents);
+    }
+
+    @DisplayName("Business Error - Stackless exception maps to its code and status")
+    @Test
+    void test_When_Business_Exception_Then_Error_Response() {
+        ClaimServiceCustomException exception = new ClaimServiceCustomException(
+                "Policy not found with ID: 1", "POLICY_NOT_FOUND", 404);
+        RestResponseEntityExceptionHandler handler = new RestResponseEntityExceptionHandler(Duration.ofSeconds(10), 5);
+
+        ResponseEntity<ErrorResponse> response = handler.handleClaimServiceException(exception, getMockWebRequest());
+
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals(404, response.getStatusCode().value());
+        assertEquals("POLICY_NOT_FOUND", response.getBody().getErrorCode());
+        assertEquals("Policy not found with ID: 1", response.getBody().getErrorMessage());
+        assertEquals("uri=/claim", response.getBody().getPath());
+        assertNotNull(response.getBody().getTimestamp());
+        assertSame(ErrorDescriptor.of("POLICY_NOT_FOUND", 404), ErrorDescriptor.of("POLICY_NOT_FOUND", 404));
+    }
+
+    @DisplayName("Business Error - Repeated code is logged up to the budget, then counted")
+    @Test
+    void test_When_Same_Code_Repeats_Then_Log_Rate_Limited() throws InterruptedException {
+        RestResponseEntityExceptionHandler handler = new RestResponseEntityExceptionHandler(Duration.ofMillis(200), 2);
+        for (int i = 0; i < 5; i++) {
+            handler.handleClaimServiceException(
+                    new ClaimServiceCustomException("Claim amount exceeds coverage", "INVALID_CLAIM_AMOUNT"),
+                    getMockWebRequest());
+        }
+        handler.handleClaimServiceException(
+                new ClaimServiceCustomException("Policy is not active", "POLICY_NOT_ACTIVE"), getMockWebRequest());
+
+        assertEquals(3, logEvents.list.size());
+
+        Thread.sleep(250);
+        handler.handleClaimServiceException(
+                new ClaimServiceCustomException("Claim amount exceeds coverage", "INVALID_CLAIM_AMOUNT"),
+                getMockWebRequest());
+
+        List<ILoggingEvent> events = logEvents.list;
+        assertEquals(4, events.size());
+        assertEquals("WARN", events.get(3).getLevel().toString());
+        assertTrue(events.get(3).getFormattedMessage().endsWith("(3 more suppressed)"),
+                events.get(3).getFormattedMessage());
+    }
+
+    private ServletWebRequest getMockWebRequest() {
+        return new ServletWebRequest(new MockHttpServletRequest("POST", "/claim"));
+    }
+}
@@ -0,0 +1,210 @@
+package com.nikhilspring.ClaimService.external.http;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.hc5.ApacheHttp5Client;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.catalina.Context;
+import org.apache.catalina.LifecycleException;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.Timeout;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives the claim validation lookups (policy, payment) and the policy issuance lookup (product) against an
+ * embedded Tomcat in bursts, once through the default HttpURLConnection client and once through the pooled client.
+ * The server charges each new connection a fixed cost standing in for the TCP/TLS handshake of a real hop;
+ * HttpURLConnection keeps only 5 idle connections per host, so every burst above that pays it again.
+ * A rough comparison, not a substitute for a load run against real services.
+ */
+class FeignConnectionPoolLoadTest {
+
+    private static final int CALLERS = 32;
+    private static final int BURSTS = 20;
+    private static final int CALLS_PER_BURST = 3;
+    private static final int WARMUP_CALLS = 100;
+    private static final int POOL_SIZE = CALLERS;
+    private static final Duration NEW_CONNECTION_COST = Duration.ofMillis(5);
+    private static final List<String> PATHS = List.of("/policy/1", "/payment/policy/1", "/product/1/validation");
+    private static final Request.Options OPTIONS = new Request.Options(1, TimeUnit.SECONDS, 2, TimeUnit.SECONDS, true);
+    private static final byte[] BODY = "{\"policyId\":1,\"policyStatus\":\"ACTIVE\",\"coverageAmount\":10000}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private Tomcat tomcat;
+    // Saturation test only: the handler counts in on arrival and holds its response until released
+    private volatile CountDownLatch arrived = new CountDownLatch(0);
+    private volatile CountDownLatch release = new CountDownLatch(0);
+
+    @BeforeEach
+    void setup() throws Exception {
+        tomcat = new Tomcat();
+        tomcat.setBaseDir(Files.createTempDirectory("tomcat").toString());
+        tomcat.setPort(0);
+        // Connections are only closed by the client under test, not recycled by Tomcat every 100 requests
+        tomcat.getConnector().setProperty("maxKeepAliveRequests", "-1");
+        Context context = tomcat.addContext("", null);
+        Tomcat.addServlet(context, "stub", new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                if (clientPorts.add(request.getRemotePort())) {
+                    sleep(NEW_CONNECTION_COST);
+                }
+                arrived.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                response.setContentType("application/json");
+                response.setContentLength(BODY.length);
+                response.getOutputStream().write(BODY);
+            }
+        });
+        context.addServletMappingDecoded("/*", "stub");
+        tomcat.start();
+    }
+
+    @AfterEach
+    void tearDown() throws LifecycleException {
+        tomcat.stop();
+        tomcat.destroy();
+    }
+
+    @DisplayName("Pooled Client - Reuses at most pool-size connections and records acquire time")
+    @Test
+    void test_When_Pooled_Client_Then_Connections_Reused() throws Exception {
+        run(new Client.Default(null, null));
+        int defaultConnections = clientPorts.size();
+        clientPorts.clear();
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        try (CloseableHttpClient httpClient = pooledHttpClient(meterRegistry, Timeout.ofSeconds(1))) {
+            run(new ApacheHttp5Client(httpClient));
+
+            assertTrue(clientPorts.size() <= POOL_SIZE,
+                    "pooled client opened " + clientPorts.size() + " connections");
+            long acquisitions = meterRegistry.find("feign.client.pool.acquire").tag("outcome", "success")
+                    .timers().stream().mapToLong(Timer::count).sum();
+            assertEquals((long) CALLERS * BURSTS * CALLS_PER_BURST + WARMUP_CALLS, acquisitions);
+            assertTrue(clientPorts.size() < defaultConnections,
+                    "pooled " + clientPorts.size() + " connections, default " + defaultConnections);
+        }
+    }
+
+    @DisplayName("Pooled Client - Saturated pool fails fast and records a timeout")
+    @Test
+    void test_When_Pool_Saturated_Then_Acquire_Timeout_Recorded() throws Exception {
+        arrived = new CountDownLatch(POOL_SIZE);
+        release = new CountDownLatch(1);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        try (CloseableHttpClient httpClient = pooledHttpClient(meterRegistry, Timeout.ofMilliseconds(50));
+             ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            Client client = new ApacheHttp5Client(httpClient);
+            List<Future<?>> calls = new ArrayList<>();
+            for (int i = 0; i < POOL_SIZE; i++) {
+                calls.add(callers.submit(() -> call(client, PATHS.get(0))));
+            }
+            try {
+                // Every pooled connection is now leased to a request the server is holding
+                assertTrue(arrived.await(5, TimeUnit.SECONDS), "requests in flight: " + (POOL_SIZE - arrived.getCount()));
+
+                assertThrows(IOException.class, () -> call(client, PATHS.get(0)));
+            } finally {
+                release.countDown();
+            }
+            for (Future<?> pending : calls) {
+                pending.get();
+            }
+            assertEquals(1, meterRegistry.get("feign.client.pool.acquire").tag("outcome", "timeout").timer().count());
+        }
+    }
+
+    private CloseableHttpClient pooledHttpClient(SimpleMeterRegistry meterRegistry, Timeout connectionRequestTimeout) {
+        InstrumentedConnectionManager connectionManager = new InstrumentedConnectionManager(
+                PoolingHttpClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(POOL_SIZE)
+                        .setMaxConnPerRoute(POOL_SIZE)
+                        .build(),
+                meterRegistry);
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(connectionRequestTimeout)
+                        .build())
+                .build();
+    }
+
+    private void run(Client client) throws Exception {
+        // Warm up both the client and the server before measuring
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            call(client, PATHS.get(i % PATHS.size()));
+        }
+        for (int burst = 0; burst < BURSTS; burst++) {
+            // Every caller goes idle between bursts, as request threads do between claim submissions
+            List<Future<?>> callers = new ArrayList<>();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int caller = 0; caller < CALLERS; caller++) {
+                    callers.add(executor.submit(() -> {
+                        for (int i = 0; i < CALLS_PER_BURST; i++) {
+                            call(client, PATHS.get(i % PATHS.size()));
+                        }
+                        return null;
+                    }));
+                }
+            }
+            for (Future<?> caller : callers) {
+                caller.get();
+            }
+        }
+    }
+
+    private Void call(Client client, String path) throws IOException {
+        Request request = Request.create(Request.HttpMethod.GET, "http://127.0.0.1:" + tomcat.getConnector().getLocalPort() + path,
+                new HashMap<>(), null, StandardCharsets.UTF_8, null);
+        try (Response response = client.execute(request, OPTIONS)) {
+            assertEquals(200, response.status());
+            response.body().asInputStream().readAllBytes();
+        }
+        return null;
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.nikhilspring.ClaimService.external.http;
+
+import feign.Client;
+import feign.Contract;
+import feign.MethodMetadata;
+import feign.Param;
+import feign.Request;
+import feign.RequestLine;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.Target;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FeignTelemetryTest {
+
+    private static final Request.Options OPTIONS = new Request.Options(1, TimeUnit.SECONDS, 2, TimeUnit.SECONDS, true);
+
+    interface PolicyApi {
+        @RequestLine("GET /policy/{id}")
+        String getPolicyById(@Param("id") long id);
+    }
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @DisplayName("Telemetry - Fast successful call is timed by client, method and status, body untouched")
+    @Test
+    void test_When_Fast_Success_Then_Timed_Only() throws IOException {
+        Request request = getMockRequest();
+        Response delegated = Response.builder().status(200).request(request).body(getMockBody(10)).build();
+        Client downstream = (req, options) -> delegated;
+        Client client = new FeignTelemetry(meterRegistry, Duration.ofSeconds(1), 1.0, 64).enrich(downstream);
+
+        assertSame(delegated, client.execute(request, OPTIONS));
+        assertEquals(1, meterRegistry.get("feign.client.requests")
+                .tag("client", "POLICY-SERVICE")
+                .tag("method", "getPolicyById")
+                .tag("status", "200")
+                .tag("outcome", "SUCCESS")
+                .timer().count());
+    }
+
+    @DisplayName("Telemetry - Sampled failed call still hands the decoder the whole body")
+    @Test
+    void test_When_Failed_Call_Sampled_Then_Body_Intact() throws IOException {
+        byte[] payload = getMockBody(5000);
+        Client downstream = (request, options) -> Response.builder().status(503).request(request)
+                .body(payload).build();
+        Client client = new FeignTelemetry(meterRegistry, Duration.ofSeconds(1), 1.0, 64).enrich(downstream);
+
+        Response response = client.execute(getMockRequest(), OPTIONS);
+
+        try (InputStream body = response.body().asInputStream()) {
+            assertArrayEquals(payload, body.readAllBytes());
+        }
+        assertEquals(payload.length, response.body().length());
+        assertEquals(1, meterRegistry.get("feign.client.requests")
+                .tag("status", "503").tag("outcome", "SERVER_ERROR").timer().count());
+    }
+
+    @DisplayName("Telemetry - Connection failure is timed as IO_ERROR and rethrown")
+    @Test
+    void test_When_IOException_Then_Timed_And_Rethrown() {
+        Client downstream = (request, options) -> {
+            throw new SocketTimeoutException("Read timed out");
+        };
+        Client client = new FeignTelemetry(meterRegistry, Duration.ofSeconds(1), 1.0, 64).enrich(downstream);
+
+        assertThrows(SocketTimeoutException.class, () -> client.execute(getMockRequest(), OPTIONS));
+        assertEquals(1, meterRegistry.get("feign.client.requests")
+                .tag("method", "getPolicyById").tag("status", "IO_ERROR").timer().count());
+    }
+
+    private Request getMockRequest() {
+        MethodMetadata metadata = new Contract.Default().parseAndValidateMetadata(PolicyApi.class).get(0);
+        RequestTemplate template = new RequestTemplate();
+        template.feignTarget(new Target.HardCodedTarget<>(PolicyApi.class, "POLICY-SERVICE", "http://policy"));
+        template.methodMetadata(metadata);
+        return Request.create(Request.HttpMethod.GET, "http://policy/policy/1", new HashMap<>(), null,
+                StandardCharsets.UTF_8, template);
+    }
+
+    private byte[] getMockBody(int size) {
+        byte[] body = new byte[size];
+        for (int i = 0; i < size; i++) {
+            body[i] = (byte) ('a' + i % 26);
+        }
+        return body;
+    }
+}
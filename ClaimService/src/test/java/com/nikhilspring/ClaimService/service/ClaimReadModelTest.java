@@ -0,0 +1,153 @@
+package com.nikhilspring.ClaimService.service;
+
+import com.nikhilspring.ClaimService.entity.PaymentSnapshot;
+import com.nikhilspring.ClaimService.entity.PolicySnapshot;
+import com.nikhilspring.ClaimService.external.response.PolicyResponse;
+import com.nikhilspring.ClaimService.repository.PaymentSnapshotRepository;
+import com.nikhilspring.ClaimService.repository.PolicySnapshotRepository;
+import com.nikhilspring.insurance.events.PaymentEvent;
+import com.nikhilspring.insurance.events.PaymentStatus;
+import com.nikhilspring.insurance.events.PaymentType;
+import com.nikhilspring.insurance.events.PolicyEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ClaimReadModelTest {
+
+    @Mock
+    private PolicySnapshotRepository policySnapshotRepository;
+
+    @Mock
+    private PaymentSnapshotRepository paymentSnapshotRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ClaimReadModel claimReadModel;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        claimReadModel = new ClaimReadModel(policySnapshotRepository, paymentSnapshotRepository,
+                meterRegistry, Duration.ofHours(1));
+    }
+
+    @DisplayName("Find Policy - Fresh active copy is served locally")
+    @Test
+    void test_When_Fresh_Active_Snapshot_Then_Hit() {
+        when(policySnapshotRepository.findById(1L))
+                .thenReturn(Optional.of(getMockPolicySnapshot("ACTIVE", Instant.now())));
+
+        Optional<PolicyResponse> policy = claimReadModel.findActivePolicy(1L);
+
+        assertTrue(policy.isPresent());
+        assertEquals(10000, policy.get().getCoverageAmount());
+        assertEquals(1.0, meterRegistry.counter("claim.read-model.lookups",
+                "model", "policy", "result", "hit").count());
+    }
+
+    @DisplayName("Find Policy - Stale or non-active copies fall back to PolicyService")
+    @Test
+    void test_When_Stale_Or_Pending_Snapshot_Then_Empty() {
+        when(policySnapshotRepository.findById(1L))
+                .thenReturn(Optional.of(getMockPolicySnapshot("ACTIVE", Instant.now().minus(2, ChronoUnit.HOURS))));
+        when(policySnapshotRepository.findById(2L))
+                .thenReturn(Optional.of(getMockPolicySnapshot("PENDING", Instant.now())));
+
+        assertTrue(claimReadModel.findActivePolicy(1L).isEmpty());
+        assertTrue(claimReadModel.findActivePolicy(2L).isEmpty());
+        assertEquals(1.0, meterRegistry.counter("claim.read-model.lookups",
+                "model", "policy", "result", "stale").count());
+        assertEquals(1.0, meterRegistry.counter("claim.read-model.lookups",
+                "model", "policy", "result", "unconfirmed").count());
+    }
+
+    @DisplayName("Apply Policy Events - Status-only event keeps coverage, older event is ignored")
+    @Test
+    void test_When_Status_Event_Then_Coverage_Kept_And_Older_Ignored() {
+        Instant activatedAt = Instant.now();
+        PolicySnapshot pending = getMockPolicySnapshot("PENDING", activatedAt.minusSeconds(60));
+        when(policySnapshotRepository.findAllById(anyCollection())).thenReturn(new ArrayList<>(List.of(pending)));
+
+        claimReadModel.applyPolicyEvents(List.of(
+                PolicyEvent.newBuilder().setPolicyId(1L).setPolicyStatus("ACTIVE")
+                        .setTimestamp(activatedAt.toEpochMilli()).build(),
+                PolicyEvent.newBuilder().setPolicyId(1L).setPolicyStatus("PENDING")
+                        .setTimestamp(activatedAt.minusSeconds(30).toEpochMilli()).build()));
+
+        assertEquals("ACTIVE", pending.getPolicyStatus());
+        assertEquals(10000L, pending.getCoverageAmount());
+        assertEquals(activatedAt.toEpochMilli(), pending.getAsOf().toEpochMilli());
+        verify(policySnapshotRepository).saveAll(anyCollection());
+    }
+
+    @DisplayName("Apply Payment Events - Completed premiums are stored as SUCCESS, claim payouts skipped")
+    @SuppressWarnings("unchecked")
+    @Test
+    void test_When_Premium_Completed_Then_Snapshot_Success() {
+        when(paymentSnapshotRepository.findAllById(anyCollection())).thenReturn(List.of());
+
+        claimReadModel.applyPaymentEvents(List.of(
+                getMockPaymentEvent(10L, 1L, PaymentType.PREMIUM),
+                getMockPaymentEvent(11L, 1L, PaymentType.CLAIM_PAYMENT)));
+
+        ArgumentCaptor<Iterable<PaymentSnapshot>> saved = ArgumentCaptor.forClass(Iterable.class);
+        verify(paymentSnapshotRepository).saveAll(saved.capture());
+        PaymentSnapshot snapshot = saved.getValue().iterator().next();
+        assertEquals(10L, snapshot.getPaymentId());
+        assertEquals("SUCCESS", snapshot.getPaymentStatus());
+        assertEquals("CUST001", snapshot.getCustomerId());
+    }
+
+    @DisplayName("Apply Payment Events - Batch without premiums touches nothing")
+    @Test
+    void test_When_Only_Claim_Payments_Then_Nothing_Saved() {
+        claimReadModel.applyPaymentEvents(List.of(getMockPaymentEvent(11L, 1L, PaymentType.CLAIM_PAYMENT)));
+
+        verify(paymentSnapshotRepository, never()).findAllById(anyCollection());
+        verify(paymentSnapshotRepository, never()).saveAll(anyCollection());
+    }
+
+    private PolicySnapshot getMockPolicySnapshot(String status, Instant asOf) {
+        return PolicySnapshot.builder()
+                .policyId(1)
+                .policyStatus(status)
+                .coverageAmount(10000L)
+                .policyStartDate(Instant.now().minus(1, ChronoUnit.DAYS))
+                .policyEndDate(Instant.now().plus(365, ChronoUnit.DAYS))
+                .asOf(asOf)
+                .build();
+    }
+
+    private PaymentEvent getMockPaymentEvent(long paymentId, long policyId, PaymentType paymentType) {
+        return PaymentEvent.newBuilder()
+                .setPaymentId(paymentId)
+                .setPolicyId(policyId)
+                .setCustomerId("CUST001")
+                .setAmount(100.0)
+                .setStatus(PaymentStatus.COMPLETED)
+                .setPaymentType(paymentType)
+                .setTimestamp(System.currentTimeMillis())
+                .build();
+    }
+}
@@ -0,0 +1,200 @@
+package com.nikhilspring.ClaimService.service;
+
+import com.nikhilspring.ClaimService.entity.Claim;
+import com.nikhilspring.ClaimService.exception.ClaimServiceCustomException;
+import com.nikhilspring.ClaimService.model.BulkClaimResult;
+import com.nikhilspring.ClaimService.model.ClaimRequest;
+import com.nikhilspring.ClaimService.repository.ClaimRepository;
+import com.nikhilspring.common.id.BusinessNumberGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ClaimServiceImplTest {
+
+    @Mock
+    private ClaimRepository claimRepository;
+
+    @Mock
+    private ClaimValidationService claimValidationService;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Spy
+    private BusinessNumberGenerator businessNumberGenerator = new BusinessNumberGenerator(1);
+
+    @InjectMocks
+    private ClaimServiceImpl claimService;
+
+    private ExecutorService executor;
+
+    private final AtomicLong nextId = new AtomicLong(100);
+
+    @BeforeEach
+    void setup() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        ReflectionTestUtils.setField(claimService, "claimValidationExecutor", executor);
+        ReflectionTestUtils.setField(claimService, "bulkBatchSize", 3);
+        ReflectionTestUtils.setField(claimService, "bulkMaxConcurrentLookups", 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @DisplayName("File Claims - Each line gets its outcome, in order")
+    @Test
+    void test_When_Bulk_Claims_Mixed_Then_Each_Line_Reported() {
+        when(claimValidationService.lookUp(anyLong(), any())).thenReturn(getMockLookups());
+        doAnswer(invocation -> {
+            if (invocation.<ClaimRequest>getArgument(0).getPolicyId() == 4) {
+                throw new ClaimServiceCustomException("Policy is not active. Current status: CANCELLED", "POLICY_NOT_ACTIVE", 400);
+            }
+            return null;
+        }).when(claimValidationService).validateClaimRequest(any(), any());
+        when(claimRepository.findByIdempotencyKeyIn(anyCollection()))
+                .thenAnswer(invocation -> invocation.<Collection<String>>getArgument(0).contains("K2")
+                        ? List.of(getMockClaim(7L, "K2", 2L)) : List.of());
+        when(claimRepository.findPolicyIdsWithClaims(anyCollection())).thenReturn(List.of(3L));
+        when(claimRepository.saveAll(anyList())).thenAnswer(invocation -> withIds(invocation.getArgument(0)));
+
+        List<ClaimRequest> claimRequests = List.of(
+                getMockClaimRequest(1L, "K1"),
+                getMockClaimRequest(2L, "K2"),
+                getMockClaimRequest(3L, "K3"),
+                getMockClaimRequest(4L, "K4"),
+                getMockClaimRequest(1L, "K5"),
+                getMockClaimRequest(5L, "K1"),
+                getMockClaimRequest(5L, null));
+        List<BulkClaimResult> results = new ArrayList<>();
+        claimService.fileClaims(claimRequests, results::add);
+
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6), results.stream().map(BulkClaimResult::getIndex).toList());
+        assertEquals(BulkClaimResult.Outcome.FILED, results.get(0).getOutcome());
+        assertEquals(BulkClaimResult.Outcome.DUPLICATE, results.get(1).getOutcome());
+        assertEquals(7L, results.get(1).getClaimId());
+        assertEquals("CLAIM_ALREADY_EXISTS", results.get(2).getErrorCode());
+        assertEquals("POLICY_NOT_ACTIVE", results.get(3).getErrorCode());
+        assertEquals("CLAIM_ALREADY_EXISTS", results.get(4).getErrorCode());
+        assertEquals("DUPLICATE_IDEMPOTENCY_KEY", results.get(5).getErrorCode());
+        assertEquals("MISSING_IDEMPOTENCY_KEY", results.get(6).getErrorCode());
+        assertEquals(BulkClaimResult.Outcome.REJECTED, results.get(6).getOutcome());
+
+        // Policy 1 is claimed twice in the upload but looked up once; policy 3 already has a claim
+        verify(claimValidationService, times(1)).lookUp(eq(1L), any());
+        verify(claimValidationService, times(1)).lookUp(eq(4L), any());
+        verify(claimValidationService, times(2)).lookUp(anyLong(), any());
+    }
+
+    @DisplayName("File Claims - Lookups stay within the concurrency limit")
+    @Test
+    void test_When_Many_Policies_Then_Lookups_Bounded() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger mostRunning = new AtomicInteger();
+        when(claimValidationService.lookUp(anyLong(), any())).thenAnswer(invocation -> {
+            mostRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(10);
+            running.decrementAndGet();
+            return getMockLookups();
+        });
+        when(claimRepository.saveAll(anyList())).thenAnswer(invocation -> withIds(invocation.getArgument(0)));
+        ReflectionTestUtils.setField(claimService, "bulkBatchSize", 10);
+
+        List<ClaimRequest> claimRequests = new ArrayList<>();
+        for (int i = 1; i <= 40; i++) {
+            claimRequests.add(getMockClaimRequest(i, "K" + i));
+        }
+        List<BulkClaimResult> results = new ArrayList<>();
+        claimService.fileClaims(claimRequests, results::add);
+
+        assertEquals(40, results.stream().filter(result -> result.getOutcome() == BulkClaimResult.Outcome.FILED).count());
+        assertTrue(mostRunning.get() <= 4, "at most 4 lookups at once, saw " + mostRunning.get());
+        verify(claimRepository, times(4)).saveAll(anyList());
+    }
+
+    @DisplayName("File Claims - A key filed meanwhile by another upload is reported as a duplicate")
+    @Test
+    void test_When_Batch_Clashes_Then_Filed_One_By_One() {
+        when(claimValidationService.lookUp(anyLong(), any())).thenReturn(getMockLookups());
+        when(claimRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("Duplicate entry 'K2'"));
+        when(claimRepository.save(any(Claim.class))).thenAnswer(invocation -> {
+            Claim claim = invocation.getArgument(0);
+            if ("K2".equals(claim.getIdempotencyKey())) {
+                throw new DataIntegrityViolationException("Duplicate entry 'K2'");
+            }
+            claim.setId(nextId.incrementAndGet());
+            return claim;
+        });
+        when(claimRepository.findByIdempotencyKey("K2")).thenReturn(getMockClaim(9L, "K2", 2L));
+
+        List<BulkClaimResult> results = new ArrayList<>();
+        claimService.fileClaims(List.of(getMockClaimRequest(1L, "K1"), getMockClaimRequest(2L, "K2")), results::add);
+
+        assertEquals(BulkClaimResult.Outcome.FILED, results.get(0).getOutcome());
+        assertEquals(BulkClaimResult.Outcome.DUPLICATE, results.get(1).getOutcome());
+        assertEquals(9L, results.get(1).getClaimId());
+    }
+
+    private List<Claim> withIds(List<Claim> claims) {
+        claims.forEach(claim -> claim.setId(nextId.incrementAndGet()));
+        return claims;
+    }
+
+    private ClaimValidationService.PolicyLookups getMockLookups() {
+        return new ClaimValidationService.PolicyLookups(CompletableFuture.completedFuture(null),
+                CompletableFuture.completedFuture(null));
+    }
+
+    private Claim getMockClaim(long id, String idempotencyKey, long policyId) {
+        return Claim.builder()
+                .id(id)
+                .claimNumber("CLM-" + id)
+                .idempotencyKey(idempotencyKey)
+                .policyId(policyId)
+                .build();
+    }
+
+    private ClaimRequest getMockClaimRequest(long policyId, String idempotencyKey) {
+        return ClaimRequest.builder()
+                .policyId(policyId)
+                .customerId("CUST001")
+                .claimType("MEDICAL")
+                .claimAmount(5000)
+                .description("Hospitalisation")
+                .idempotencyKey(idempotencyKey)
+                .build();
+    }
+}
@@ -0,0 +1,187 @@
+package com.nikhilspring.ClaimService.service;
+
+import com.nikhilspring.ClaimService.exception.ClaimServiceCustomException;
+import com.nikhilspring.ClaimService.external.client.PaymentService;
+import com.nikhilspring.ClaimService.external.client.PolicyService;
+import com.nikhilspring.ClaimService.external.response.PaymentResponse;
+import com.nikhilspring.ClaimService.external.response.PolicyResponse;
+import com.nikhilspring.ClaimService.model.ClaimRequest;
+import feign.FeignException;
+import feign.Request;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ClaimValidationServiceTest {
+
+    @Mock
+    private PolicyService policyService;
+
+    @Mock
+    private PaymentService paymentService;
+
+    @Mock
+    private ClaimReadModel claimReadModel;
+
+    @InjectMocks
+    private ClaimValidationService claimValidationService;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setup() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        ReflectionTestUtils.setField(claimValidationService, "claimValidationExecutor", executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @DisplayName("Validate Claim - Success Scenario fetches each dependency once")
+    @Test
+    void test_When_Valid_Claim_Then_Each_Lookup_Once() {
+        when(policyService.getPolicyById(anyLong()))
+                .thenReturn(new ResponseEntity<>(getMockPolicyResponse("ACTIVE"), HttpStatus.OK));
+        when(paymentService.getPaymentByPolicyId(anyLong()))
+                .thenReturn(new ResponseEntity<>(getMockPaymentResponse("SUCCESS"), HttpStatus.OK));
+
+        assertDoesNotThrow(() -> claimValidationService.validateClaimRequest(getMockClaimRequest()));
+
+        verify(policyService, times(1)).getPolicyById(anyLong());
+        verify(paymentService, times(1)).getPaymentByPolicyId(anyLong());
+        verify(claimReadModel).recordPolicy(any(PolicyResponse.class), any(Instant.class));
+        verify(claimReadModel).recordPayment(any(PaymentResponse.class), any(Instant.class));
+    }
+
+    @DisplayName("Validate Claim - Read model hits make no remote calls")
+    @Test
+    void test_When_Read_Model_Has_Both_Then_No_Remote_Calls() {
+        when(claimReadModel.findActivePolicy(1L)).thenReturn(Optional.of(getMockPolicyResponse("ACTIVE")));
+        when(claimReadModel.findSuccessfulPayment(1L)).thenReturn(Optional.of(getMockPaymentResponse("SUCCESS")));
+
+        assertDoesNotThrow(() -> claimValidationService.validateClaimRequest(getMockClaimRequest()));
+
+        verify(policyService, never()).getPolicyById(anyLong());
+        verify(paymentService, never()).getPaymentByPolicyId(anyLong());
+    }
+
+    @DisplayName("Validate Claim - Read model miss on one side only calls that service")
+    @Test
+    void test_When_Read_Model_Misses_Payment_Then_Only_Payment_Fetched() {
+        when(claimReadModel.findActivePolicy(1L)).thenReturn(Optional.of(getMockPolicyResponse("ACTIVE")));
+        when(paymentService.getPaymentByPolicyId(anyLong()))
+                .thenReturn(new ResponseEntity<>(getMockPaymentResponse("SUCCESS"), HttpStatus.OK));
+
+        assertDoesNotThrow(() -> claimValidationService.validateClaimRequest(getMockClaimRequest()));
+
+        verify(policyService, never()).getPolicyById(anyLong());
+        verify(paymentService, times(1)).getPaymentByPolicyId(anyLong());
+    }
+
+    @DisplayName("Validate Claim - Policy not found keeps POLICY_NOT_FOUND")
+    @Test
+    void test_When_Policy_Not_Found_Then_Policy_Not_Found() {
+        when(policyService.getPolicyById(anyLong())).thenThrow(notFound());
+        when(paymentService.getPaymentByPolicyId(anyLong()))
+                .thenReturn(new ResponseEntity<>(getMockPaymentResponse("SUCCESS"), HttpStatus.OK));
+
+        ClaimServiceCustomException exception = assertThrows(ClaimServiceCustomException.class,
+                () -> claimValidationService.validateClaimRequest(getMockClaimRequest()));
+
+        assertEquals("POLICY_NOT_FOUND", exception.getErrorCode());
+        assertEquals(404, exception.getStatus());
+    }
+
+    @DisplayName("Validate Claim - Payment not found keeps PAYMENT_NOT_FOUND")
+    @Test
+    void test_When_Payment_Not_Found_Then_Payment_Not_Found() {
+        when(policyService.getPolicyById(anyLong()))
+                .thenReturn(new ResponseEntity<>(getMockPolicyResponse("ACTIVE"), HttpStatus.OK));
+        when(paymentService.getPaymentByPolicyId(anyLong())).thenThrow(notFound());
+
+        ClaimServiceCustomException exception = assertThrows(ClaimServiceCustomException.class,
+                () -> claimValidationService.validateClaimRequest(getMockClaimRequest()));
+
+        assertEquals("PAYMENT_NOT_FOUND", exception.getErrorCode());
+        assertEquals(404, exception.getStatus());
+    }
+
+    @DisplayName("Validate Claim - Unsuccessful payment keeps PAYMENT_NOT_SUCCESSFUL")
+    @Test
+    void test_When_Payment_Failed_Then_Payment_Not_Successful() {
+        when(policyService.getPolicyById(anyLong()))
+                .thenReturn(new ResponseEntity<>(getMockPolicyResponse("ACTIVE"), HttpStatus.OK));
+        when(paymentService.getPaymentByPolicyId(anyLong()))
+                .thenReturn(new ResponseEntity<>(getMockPaymentResponse("FAILED"), HttpStatus.OK));
+
+        ClaimServiceCustomException exception = assertThrows(ClaimServiceCustomException.class,
+                () -> claimValidationService.validateClaimRequest(getMockClaimRequest()));
+
+        assertEquals("PAYMENT_NOT_SUCCESSFUL", exception.getErrorCode());
+        verify(paymentService, times(1)).getPaymentByPolicyId(anyLong());
+    }
+
+    private FeignException.NotFound notFound() {
+        Request request = Request.create(Request.HttpMethod.GET, "/", new HashMap<>(),
+                null, StandardCharsets.UTF_8, null);
+        return new FeignException.NotFound("Not Found", request, new byte[0], null);
+    }
+
+    private ClaimRequest getMockClaimRequest() {
+        return ClaimRequest.builder()
+                .policyId(1)
+                .customerId("CUST001")
+                .claimType("ACCIDENT")
+                .claimAmount(500)
+                .description("Rear-ended at a junction")
+                .build();
+    }
+
+    private PolicyResponse getMockPolicyResponse(String status) {
+        return PolicyResponse.builder()
+                .policyId(1)
+                .policyStatus(status)
+                .coverageAmount(10000)
+                .policyStartDate(Instant.now().minus(1, ChronoUnit.DAYS))
+                .policyEndDate(Instant.now().plus(365, ChronoUnit.DAYS))
+                .build();
+    }
+
+    private PaymentResponse getMockPaymentResponse(String status) {
+        return PaymentResponse.builder()
+                .paymentId(1)
+                .policyId(1)
+                .customerId("CUST001")
+                .status(status)
+                .build();
+    }
+}
@@ -0,0 +1,81 @@
+package com.nikhilspring.ClaimService.validation;
+
+import com.nikhilspring.ClaimService.exception.ClaimServiceCustomException;
+import com.nikhilspring.ClaimService.model.ClaimRequest;
+import com.nikhilspring.common.validation.RequestValidator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClaimValidationRulesTest {
+
+    @DisplayName("Claim Request - Valid request has no violations")
+    @Test
+    void test_When_Valid_Request_Then_No_Violations() {
+        assertTrue(ClaimValidationRules.CLAIM_REQUEST.violations(getMockClaimRequest()).isEmpty());
+        ClaimValidationRules.CLAIM_REQUEST.validate(getMockClaimRequest());
+    }
+
+    @DisplayName("Claim Request - Every violation reported under the first code")
+    @Test
+    void test_When_Several_Violations_Then_All_Reported() {
+        ClaimRequest claimRequest = getMockClaimRequest();
+        claimRequest.setClaimAmount(0);
+        claimRequest.setCustomerId("cust-1");
+        claimRequest.setDescription(" ");
+
+        List<RequestValidator.Violation> violations = ClaimValidationRules.CLAIM_REQUEST.violations(claimRequest);
+        ClaimServiceCustomException exception = assertThrows(ClaimServiceCustomException.class,
+                () -> ClaimValidationRules.CLAIM_REQUEST.validate(claimRequest));
+
+        assertEquals(List.of("INVALID_CLAIM_AMOUNT", "INVALID_CUSTOMER_ID_FORMAT", "INVALID_DESCRIPTION"),
+                violations.stream().map(RequestValidator.Violation::errorCode).toList());
+        assertEquals("INVALID_CLAIM_AMOUNT", exception.getErrorCode());
+        assertEquals(400, exception.getStatus());
+        assertEquals("Claim amount must be greater than 0; "
+                + "Invalid customer ID format. Must contain only uppercase letters and numbers: cust-1; "
+                + "Claim description cannot be null or empty", exception.getMessage());
+    }
+
+    @DisplayName("Claim Request - Single violation keeps its message")
+    @Test
+    void test_When_One_Violation_Then_Previous_Message() {
+        ClaimRequest claimRequest = getMockClaimRequest();
+        claimRequest.setPolicyId(-4);
+
+        ClaimServiceCustomException exception = assertThrows(ClaimServiceCustomException.class,
+                () -> ClaimValidationRules.CLAIM_REQUEST.validate(claimRequest));
+
+        assertEquals("INVALID_POLICY_ID", exception.getErrorCode());
+        assertEquals("Invalid policy ID: -4", exception.getMessage());
+    }
+
+    @DisplayName("Claim Request - Missing customer ID is not also a format violation")
+    @Test
+    void test_When_Customer_Id_Blank_Then_Only_Missing_Reported() {
+        ClaimRequest claimRequest = getMockClaimRequest();
+        claimRequest.setCustomerId("  ");
+
+        List<RequestValidator.Violation> violations = ClaimValidationRules.CLAIM_REQUEST.violations(claimRequest);
+
+        assertEquals(List.of(new RequestValidator.Violation("INVALID_CUSTOMER_ID", "Customer ID cannot be null or empty")),
+                violations);
+        assertEquals("INVALID_REQUEST",
+                ClaimValidationRules.CLAIM_REQUEST.violations(null).get(0).errorCode());
+    }
+
+    private ClaimRequest getMockClaimRequest() {
+        return ClaimRequest.builder()
+                .policyId(1)
+                .customerId("CUST001")
+                .claimType("HEALTH")
+                .claimAmount(5000)
+                .description("Hospitalisation")
+                .build();
+    }
+}
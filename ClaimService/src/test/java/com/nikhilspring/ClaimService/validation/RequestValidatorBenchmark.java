@@ -0,0 +1,129 @@
+package com.nikhilspring.ClaimService.validation;
+
+import com.nikhilspring.ClaimService.exception.ClaimServiceCustomException;
+import com.nikhilspring.ClaimService.model.ClaimRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Claim request validation: {@code legacy*} is the previous chain (trim per string field, {@code String.matches}
+ * compiling the customer ID regex per call, first failure thrown), the others {@link ClaimValidationRules}.
+ * Invalid requests fail the customer ID format, which the legacy chain reports alone and the rules report with
+ * the blank description behind it.
+ * Not run by the test suite; run {@link #main} from the IDE, or from ClaimService after {@code mvn test-compile
+ * dependency:build-classpath -Dmdep.outputFile=cp.txt} with
+ * {@code java -cp target/test-classes:target/classes:$(cat cp.txt) org.openjdk.jmh.Main RequestValidatorBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestValidatorBenchmark {
+
+    private final ClaimRequest valid = ClaimRequest.builder()
+            .policyId(1)
+            .customerId("CUST001")
+            .claimType("HEALTH")
+            .claimAmount(5000)
+            .description("Hospitalisation")
+            .build();
+
+    private final ClaimRequest invalid = ClaimRequest.builder()
+            .policyId(1)
+            .customerId("cust-001")
+            .claimType("HEALTH")
+            .claimAmount(5000)
+            .description(" ")
+            .build();
+
+    @Benchmark
+    public Object legacyValid() {
+        legacyValidate(valid);
+        return valid;
+    }
+
+    @Benchmark
+    public Object rulesValid() {
+        ClaimValidationRules.CLAIM_REQUEST.validate(valid);
+        return valid;
+    }
+
+    @Benchmark
+    public Object legacyInvalid() {
+        try {
+            legacyValidate(invalid);
+            return null;
+        } catch (ClaimServiceCustomException exception) {
+            return exception;
+        }
+    }
+
+    @Benchmark
+    public Object rulesInvalid() {
+        try {
+            ClaimValidationRules.CLAIM_REQUEST.validate(invalid);
+            return null;
+        } catch (ClaimServiceCustomException exception) {
+            return exception;
+        }
+    }
+
+    @Benchmark
+    public boolean legacyCustomerId() {
+        return valid.getCustomerId().matches("^[A-Z0-9]+$");
+    }
+
+    @Benchmark
+    public boolean rulesCustomerId() {
+        return ClaimValidationRules.CUSTOMER_ID.violations(valid.getCustomerId()).isEmpty();
+    }
+
+    /**
+     * The previous ClaimValidationUtil.validateClaimRequest
+     */
+    private static void legacyValidate(ClaimRequest claimRequest) {
+        if (claimRequest == null) {
+            throw new ClaimServiceCustomException("Claim request cannot be null", "INVALID_REQUEST", 400);
+        }
+        if (claimRequest.getPolicyId() <= 0) {
+            throw new ClaimServiceCustomException("Invalid policy ID: " + claimRequest.getPolicyId(), "INVALID_POLICY_ID", 400);
+        }
+        if (claimRequest.getClaimAmount() <= 0) {
+            throw new ClaimServiceCustomException("Claim amount must be greater than 0", "INVALID_CLAIM_AMOUNT", 400);
+        }
+        if (claimRequest.getCustomerId() == null || claimRequest.getCustomerId().trim().isEmpty()) {
+            throw new ClaimServiceCustomException("Customer ID cannot be null or empty", "INVALID_CUSTOMER_ID", 400);
+        }
+        if (!claimRequest.getCustomerId().matches("^[A-Z0-9]+$")) {
+            throw new ClaimServiceCustomException(
+                    "Invalid customer ID format. Must contain only uppercase letters and numbers: " + claimRequest.getCustomerId(),
+                    "INVALID_CUSTOMER_ID_FORMAT", 400);
+        }
+        if (claimRequest.getClaimType() == null || claimRequest.getClaimType().trim().isEmpty()) {
+            throw new ClaimServiceCustomException("Claim type cannot be null or empty", "INVALID_CLAIM_TYPE", 400);
+        }
+        if (claimRequest.getDescription() == null || claimRequest.getDescription().trim().isEmpty()) {
+            throw new ClaimServiceCustomException("Claim description cannot be null or empty", "INVALID_DESCRIPTION", 400);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RequestValidatorBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,37 @@
+package com.nikhilspring.CloudGateway.config;
+
+import com.nikhilspring.CloudGateway.ratelimit.PrincipalKeyResolver;
+import com.nikhilspring.CloudGateway.ratelimit.RateLimitProperties;
+import com.nikhilspring.CloudGateway.ratelimit.TieredRedisRateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.gateway.filter.ratelimit.RedisRateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimiterConfig {
+
+    @Bean
+    public PrincipalKeyResolver principalKeyResolver(RateLimitProperties properties) {
+        return new PrincipalKeyResolver(properties.getTrustedProxies());
+    }
+
+    @Bean
+    @Primary
+    public TieredRedisRateLimiter tieredRateLimiter(ReactiveStringRedisTemplate redisTemplate,
+                                                   @Qualifier(RedisRateLimiter.REDIS_SCRIPT_NAME) RedisScript<List<Long>> script,
+                                                   ConfigurationService configurationService,
+                                                   RateLimitProperties properties,
+                                                   MeterRegistry meterRegistry) {
+        return new TieredRedisRateLimiter(redisTemplate, script, configurationService, properties, meterRegistry);
+    }
+}
@@ -0,0 +1,37 @@
+package com.nikhilspring.CloudGateway.ratelimit;
+
+/**
+ * In-memory token bucket used while Redis is unreachable, so the gateway keeps
+ * enforcing the quota per instance instead of failing fully open.
+ */
+class LocalTokenBucket {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final double replenishRate;
+    private final double burstCapacity;
+    private double tokens;
+    private long lastRefillNanos;
+
+    LocalTokenBucket(int replenishRate, int burstCapacity, long nowNanos) {
+        this.replenishRate = replenishRate;
+        this.burstCapacity = burstCapacity;
+        this.tokens = burstCapacity;
+        this.lastRefillNanos = nowNanos;
+    }
+
+    synchronized boolean tryConsume(int requested, long nowNanos) {
+        long elapsed = Math.max(0, nowNanos - lastRefillNanos);
+        tokens = Math.min(burstCapacity, tokens + elapsed / NANOS_PER_SECOND * replenishRate);
+        lastRefillNanos = nowNanos;
+        if (tokens >= requested) {
+            tokens -= requested;
+            return true;
+        }
+        return false;
+    }
+
+    synchronized long remaining() {
+        return (long) tokens;
+    }
+}
@@ -0,0 +1,93 @@
+package com.nikhilspring.CloudGateway.ratelimit;
+
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.cloud.gateway.support.ipresolver.RemoteAddressResolver;
+import org.springframework.cloud.gateway.support.ipresolver.XForwardedRemoteAddressResolver;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.security.Principal;
+
+/**
+ * Derives one rate limit bucket per caller instead of a single shared bucket.
+ * Callers are identified by JWT subject, by client id for machine-to-machine tokens,
+ * and by client IP when the request is not authenticated.
+ *
+ * The client IP is the connection's remote address, or with {@code trustedProxies} set, the X-Forwarded-For entry
+ * added by the outermost of those proxies. Entries left of it are written by the client and cannot be trusted.
+ */
+public class PrincipalKeyResolver implements KeyResolver {
+
+    private static final String ADMIN_ROLE = "ROLE_Admin";
+    private static final String CUSTOMER_ROLE = "ROLE_Customer";
+    private static final String CLIENT_CREDENTIALS_GRANT = "client-credentials";
+
+    private final RemoteAddressResolver remoteAddressResolver;
+
+    public PrincipalKeyResolver() {
+        this(0);
+    }
+
+    /**
+     * @param trustedProxies number of proxies in front of the gateway that append to X-Forwarded-For
+     */
+    public PrincipalKeyResolver(int trustedProxies) {
+        this.remoteAddressResolver = trustedProxies > 0
+                ? XForwardedRemoteAddressResolver.maxTrustedIndex(trustedProxies)
+                : new RemoteAddressResolver() { };
+    }
+
+    @Override
+    public Mono<String> resolve(ServerWebExchange exchange) {
+        return exchange.getPrincipal()
+                .map(principal -> fromPrincipal(principal).encode())
+                .switchIfEmpty(Mono.fromSupplier(() ->
+                        new RateLimitKey(RateLimitKey.ANONYMOUS, "ip|" + clientIp(exchange)).encode()));
+    }
+
+    RateLimitKey fromPrincipal(Principal principal) {
+        String tier = RateLimitKey.ANONYMOUS;
+        if (principal instanceof Authentication authentication) {
+            tier = resolveTier(authentication);
+        }
+
+        if (principal instanceof JwtAuthenticationToken jwtToken) {
+            Jwt jwt = jwtToken.getToken();
+            String clientId = jwt.getClaimAsString("azp");
+            if (CLIENT_CREDENTIALS_GRANT.equals(jwt.getClaimAsString("gty")) && clientId != null) {
+                return new RateLimitKey(tier, "client|" + clientId);
+            }
+            return new RateLimitKey(tier, "user|" + jwt.getSubject());
+        }
+
+        return new RateLimitKey(tier, "user|" + principal.getName());
+    }
+
+    private String resolveTier(Authentication authentication) {
+        boolean customer = false;
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            if (ADMIN_ROLE.equals(authority.getAuthority())) {
+                return RateLimitKey.ADMIN;
+            }
+            if (CUSTOMER_ROLE.equals(authority.getAuthority())) {
+                customer = true;
+            }
+        }
+        return customer ? RateLimitKey.CUSTOMER : RateLimitKey.ANONYMOUS;
+    }
+
+    private String clientIp(ServerWebExchange exchange) {
+        InetSocketAddress remoteAddress = remoteAddressResolver.resolve(exchange);
+        if (remoteAddress == null) {
+            return "unknown";
+        }
+        return remoteAddress.getAddress() != null
+                ? remoteAddress.getAddress().getHostAddress()
+                : remoteAddress.getHostString();
+    }
+}
@@ -0,0 +1,26 @@
+package com.nikhilspring.CloudGateway.ratelimit;
+
+/**
+ * Rate limit key produced by {@link PrincipalKeyResolver}, encoded as "tier:principal"
+ * so the limiter can pick the tier quota without touching the exchange again.
+ */
+public record RateLimitKey(String tier, String principal) {
+
+    public static final String ADMIN = "admin";
+    public static final String CUSTOMER = "customer";
+    public static final String ANONYMOUS = "anonymous";
+
+    private static final char SEPARATOR = ':';
+
+    public String encode() {
+        return tier + SEPARATOR + principal;
+    }
+
+    public static RateLimitKey decode(String key) {
+        int index = key.indexOf(SEPARATOR);
+        if (index <= 0) {
+            return new RateLimitKey(ANONYMOUS, key);
+        }
+        return new RateLimitKey(key.substring(0, index), key.substring(index + 1));
+    }
+}
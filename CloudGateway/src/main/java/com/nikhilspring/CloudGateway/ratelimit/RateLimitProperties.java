@@ -0,0 +1,104 @@
+package com.nikhilspring.CloudGateway.ratelimit;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "gateway.rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * Quota used when neither the route nor the caller's tier has one configured
+     */
+    private Quota defaultQuota = new Quota(10, 20, 1);
+
+    /**
+     * Quotas per tier (admin, customer, anonymous), applied to every route
+     */
+    private Map<String, Quota> tiers = new HashMap<>();
+
+    /**
+     * Per-route overrides, keyed by route id and then by tier
+     */
+    private Map<String, Map<String, Quota>> routes = new HashMap<>();
+
+    /**
+     * Proxies in front of the gateway that append the caller's address to X-Forwarded-For. Anonymous callers are
+     * keyed by the entry the outermost of them added; 0 keys them by the connection's remote address.
+     */
+    private int trustedProxies = 0;
+
+    /**
+     * Local token leasing in front of the Redis bucket
+     */
+    private Lease lease = new Lease();
+
+    /**
+     * Resolve the quota for a caller tier on a route: route override, then tier, then default
+     */
+    public Quota resolve(String routeId, String tier) {
+        String normalizedTier = tier == null ? RateLimitKey.ANONYMOUS : tier.toLowerCase(Locale.ROOT);
+
+        Map<String, Quota> routeQuotas = routes.get(routeId);
+        if (routeQuotas != null) {
+            Quota quota = findIgnoreCase(routeQuotas, normalizedTier);
+            if (quota != null) {
+                return quota;
+            }
+        }
+
+        Quota quota = findIgnoreCase(tiers, normalizedTier);
+        return quota != null ? quota : defaultQuota;
+    }
+
+    private static Quota findIgnoreCase(Map<String, Quota> quotas, String tier) {
+        Quota quota = quotas.get(tier);
+        if (quota != null) {
+            return quota;
+        }
+        for (Map.Entry<String, Quota> entry : quotas.entrySet()) {
+            if (entry.getKey().equalsIgnoreCase(tier)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    @Data
+    public static class Lease {
+        /**
+         * Tokens taken from Redis per round trip. 1 keeps every request exact (one Redis call each); larger values
+         * make fewer calls, but leased tokens belong to one instance: a caller served by several instances can be
+         * denied on one while up to size - 1 tokens sit unused in another's lease, and tokens still unused when
+         * the lease TTL runs out are lost to the caller.
+         */
+        private int size = 1;
+
+        /**
+         * How long unused leased tokens stay valid locally before they are dropped
+         */
+        private Duration ttl = Duration.ofSeconds(1);
+
+        /**
+         * Upper bound on locally tracked keys: expired leases are swept past it, and the least recently used
+         * fallback buckets are evicted
+         */
+        private int maxKeys = 10000;
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Quota {
+        private int replenishRate;
+        private int burstCapacity;
+        private int requestedTokens = 1;
+    }
+}
@@ -0,0 +1,223 @@
+package com.nikhilspring.CloudGateway.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.cloud.gateway.filter.ratelimit.AbstractRateLimiter;
+import org.springframework.cloud.gateway.filter.ratelimit.RedisRateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis token bucket limiter that applies a quota per caller tier and per route.
+ * Buckets are keyed by route and caller (see {@link PrincipalKeyResolver}), so capacity
+ * grows with the number of callers instead of being capped by one global bucket.
+ *
+ * <p>When {@code gateway.rate-limit.lease.size} is above 1, tokens are taken from Redis
+ * in batches and served from a local lease, so most requests never leave the instance.
+ * Concurrent requests that find the lease empty share one refill per key; those left
+ * without a token by their peers make one exact request to Redis and are denied if it fails.
+ * When the bucket cannot serve even one request the key is denied locally until it has
+ * refilled, so callers over their limit do not add Redis calls.
+ * If Redis is unreachable the quota is enforced per instance with a local bucket.
+ */
+@Log4j2
+public class TieredRedisRateLimiter extends AbstractRateLimiter<RateLimitProperties.Quota> {
+
+    public static final String CONFIGURATION_PROPERTY_NAME = "tiered-rate-limiter";
+    public static final String TIER_HEADER = "X-RateLimit-Tier";
+
+    private static final String METRIC_NAME = "gateway.ratelimit.requests";
+    private static final String SOURCE_LEASE = "lease";
+    private static final String SOURCE_REDIS = "redis";
+    private static final String SOURCE_FALLBACK = "fallback";
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+    // An idle fallback bucket is full again long before this, so dropping it loses nothing
+    private static final Duration FALLBACK_IDLE_TIME = Duration.ofMinutes(1);
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final RedisScript<List<Long>> script;
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, TokenLease> leases = new ConcurrentHashMap<>();
+    private final Map<String, Mono<Void>> refills = new ConcurrentHashMap<>();
+    private final Cache<String, LocalTokenBucket> fallbackBuckets;
+
+    public TieredRedisRateLimiter(ReactiveStringRedisTemplate redisTemplate,
+                                  RedisScript<List<Long>> script,
+                                  ConfigurationService configurationService,
+                                  RateLimitProperties properties,
+                                  MeterRegistry meterRegistry) {
+        super(RateLimitProperties.Quota.class, CONFIGURATION_PROPERTY_NAME, configurationService);
+        this.redisTemplate = redisTemplate;
+        this.script = script;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.fallbackBuckets = Caffeine.newBuilder()
+                .maximumSize(properties.getLease().getMaxKeys())
+                .expireAfterAccess(FALLBACK_IDLE_TIME)
+                .build();
+    }
+
+    @Override
+    public Mono<Response> isAllowed(String routeId, String id) {
+        RateLimitKey key = RateLimitKey.decode(id);
+        RateLimitProperties.Quota quota = properties.resolve(routeId, key.tier());
+        int requested = quota.getRequestedTokens();
+        int leaseSize = Math.max(requested, Math.min(properties.getLease().getSize(), quota.getBurstCapacity()));
+        String bucketKey = routeId + '|' + id;
+        long now = System.nanoTime();
+
+        if (leaseSize == requested) {
+            return acquire(routeId, id, quota, requested)
+                    .map(result -> decide(routeId, key, quota, result.get(0) == 1L, result.get(1), SOURCE_REDIS))
+                    .onErrorResume(throwable -> fallback(routeId, key, quota, bucketKey, now, throwable));
+        }
+
+        TokenLease lease = leases.get(bucketKey);
+        if (lease != null && lease.isEmpty(now)) {
+            return Mono.just(decide(routeId, key, quota, false, 0, SOURCE_LEASE));
+        }
+        if (lease != null && lease.tryConsume(requested, now)) {
+            return Mono.just(decide(routeId, key, quota, true, lease.remaining(), SOURCE_LEASE));
+        }
+        return refill(routeId, id, quota, leaseSize, bucketKey)
+                .then(Mono.defer(() -> {
+                    TokenLease refilled = leases.get(bucketKey);
+                    long afterRefill = System.nanoTime();
+                    if (refilled != null && refilled.tryConsume(requested, afterRefill)) {
+                        return Mono.just(decide(routeId, key, quota, true, refilled.remaining(), SOURCE_REDIS));
+                    }
+                    if (refilled == null || refilled.isEmpty(afterRefill)) {
+                        return Mono.just(decide(routeId, key, quota, false, 0, SOURCE_REDIS));
+                    }
+                    // Requests that shared the refill took all of it; ask the bucket once for this request alone
+                    return acquire(routeId, id, quota, requested)
+                            .map(result -> {
+                                boolean allowed = result.get(0) == 1L;
+                                if (!allowed) {
+                                    markEmpty(bucketKey, quota, result.get(1), System.nanoTime());
+                                }
+                                return decide(routeId, key, quota, allowed, result.get(1), SOURCE_REDIS);
+                            });
+                }))
+                .onErrorResume(throwable -> fallback(routeId, key, quota, bucketKey, now, throwable));
+    }
+
+    /**
+     * Takes a lease from Redis for {@code bucketKey}, sharing one call among the requests that ask meanwhile.
+     * A bucket too low for a full lease is asked for a single request's tokens; if it cannot spare those either,
+     * the key is marked empty until the bucket has refilled enough for one request.
+     */
+    private Mono<Void> refill(String routeId, String id, RateLimitProperties.Quota quota, int leaseSize,
+                              String bucketKey) {
+        int requested = quota.getRequestedTokens();
+        return refills.computeIfAbsent(bucketKey, ignored -> acquire(routeId, id, quota, leaseSize)
+                .flatMap(result -> result.get(0) == 1L
+                        ? Mono.just(new Refill(leaseSize, result.get(1)))
+                        : acquire(routeId, id, quota, requested)
+                                .map(exact -> new Refill(exact.get(0) == 1L ? requested : 0, exact.get(1))))
+                .doOnNext(refill -> {
+                    long now = System.nanoTime();
+                    if (refill.granted() > 0) {
+                        grantLease(bucketKey, refill.granted(), now);
+                    } else {
+                        markEmpty(bucketKey, quota, refill.tokensLeft(), now);
+                    }
+                })
+                .doFinally(signal -> refills.remove(bucketKey))
+                .then()
+                .cache());
+    }
+
+    private record Refill(long granted, long tokensLeft) {
+    }
+
+    private void markEmpty(String bucketKey, RateLimitProperties.Quota quota, long tokensLeft, long now) {
+        double missing = Math.max(1, quota.getRequestedTokens() - tokensLeft);
+        long refillNanos = (long) Math.ceil(missing / quota.getReplenishRate() * NANOS_PER_SECOND);
+        leases.computeIfAbsent(bucketKey, ignored -> new TokenLease()).markEmpty(now + refillNanos);
+    }
+
+    private Mono<List<Long>> acquire(String routeId, String id, RateLimitProperties.Quota quota, int tokens) {
+        List<String> scriptArgs = Arrays.asList(
+                String.valueOf(quota.getReplenishRate()),
+                String.valueOf(quota.getBurstCapacity()),
+                "",
+                String.valueOf(tokens));
+
+        return redisTemplate.execute(script, getKeys(routeId, id), scriptArgs)
+                .reduce(new ArrayList<>(), (longs, l) -> {
+                    longs.addAll(l);
+                    return longs;
+                });
+    }
+
+    private void grantLease(String bucketKey, long tokens, long now) {
+        long ttlNanos = properties.getLease().getTtl().toNanos();
+        if (leases.size() >= properties.getLease().getMaxKeys()) {
+            leases.entrySet().removeIf(entry -> entry.getValue().isExpired(now));
+        }
+        leases.computeIfAbsent(bucketKey, ignored -> new TokenLease()).grant(tokens, now, ttlNanos);
+    }
+
+    private Mono<Response> fallback(String routeId, RateLimitKey key, RateLimitProperties.Quota quota,
+                                    String bucketKey, long now, Throwable throwable) {
+        log.warn("Rate limiter Redis call failed for route {}, using local bucket: {}",
+                routeId, throwable.getMessage());
+        LocalTokenBucket bucket = fallbackBuckets.get(bucketKey,
+                ignored -> new LocalTokenBucket(quota.getReplenishRate(), quota.getBurstCapacity(), now));
+        boolean allowed = bucket.tryConsume(quota.getRequestedTokens(), now);
+        return Mono.just(decide(routeId, key, quota, allowed, bucket.remaining(), SOURCE_FALLBACK));
+    }
+
+    private Response decide(String routeId, RateLimitKey key, RateLimitProperties.Quota quota,
+                            boolean allowed, long tokensLeft, String source) {
+        record(routeId, key.tier(), allowed, source);
+        if (!allowed) {
+            log.debug("Rate limit exceeded for {} on route {}", key.principal(), routeId);
+        }
+        return new Response(allowed, getHeaders(quota, key.tier(), tokensLeft));
+    }
+
+    static List<String> getKeys(String routeId, String id) {
+        String prefix = "request_rate_limiter.{" + routeId + "." + id;
+        return Arrays.asList(prefix + "}.tokens", prefix + "}.timestamp");
+    }
+
+    Map<String, String> getHeaders(RateLimitProperties.Quota quota, String tier, long tokensLeft) {
+        Map<String, String> headers = new HashMap<>();
+        headers.put(RedisRateLimiter.REMAINING_HEADER, String.valueOf(tokensLeft));
+        headers.put(RedisRateLimiter.REPLENISH_RATE_HEADER, String.valueOf(quota.getReplenishRate()));
+        headers.put(RedisRateLimiter.BURST_CAPACITY_HEADER, String.valueOf(quota.getBurstCapacity()));
+        headers.put(RedisRateLimiter.REQUESTED_TOKENS_HEADER, String.valueOf(quota.getRequestedTokens()));
+        headers.put(TIER_HEADER, tier);
+        return headers;
+    }
+
+    private void record(String routeId, String tier, boolean allowed, String source) {
+        String outcome = allowed ? "allowed" : "denied";
+        counters.computeIfAbsent(routeId + '|' + tier + '|' + outcome + '|' + source,
+                        ignored -> Counter.builder(METRIC_NAME)
+                                .description("Rate limiter decisions per route and caller tier")
+                                .tag("route", routeId)
+                                .tag("tier", tier)
+                                .tag("outcome", outcome)
+                                .tag("source", source)
+                                .register(meterRegistry))
+                .increment();
+    }
+}
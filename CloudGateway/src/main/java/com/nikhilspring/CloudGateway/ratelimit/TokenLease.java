@@ -0,0 +1,62 @@
+package com.nikhilspring.CloudGateway.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tokens taken from the shared Redis bucket in one batch and handed out locally
+ * until they run out or the lease expires.
+ */
+class TokenLease {
+
+    private final AtomicLong tokens = new AtomicLong();
+    private volatile long expiresAtNanos;
+    private volatile boolean granted;
+    private volatile long emptyUntilNanos;
+    private volatile boolean empty;
+
+    boolean tryConsume(int requested, long nowNanos) {
+        if (isExpired(nowNanos)) {
+            return false;
+        }
+        long current;
+        do {
+            current = tokens.get();
+            if (current < requested) {
+                return false;
+            }
+        } while (!tokens.compareAndSet(current, current - requested));
+        return true;
+    }
+
+    synchronized void grant(long count, long nowNanos, long ttlNanos) {
+        if (isExpired(nowNanos)) {
+            // Leftovers from an expired lease must not be carried over
+            tokens.set(count);
+        } else {
+            tokens.addAndGet(count);
+        }
+        expiresAtNanos = nowNanos + ttlNanos;
+        granted = true;
+    }
+
+    /**
+     * Records that the shared bucket cannot serve a request before {@code untilNanos}, so requests until then are
+     * denied here without asking Redis again
+     */
+    void markEmpty(long untilNanos) {
+        emptyUntilNanos = untilNanos;
+        empty = true;
+    }
+
+    boolean isEmpty(long nowNanos) {
+        return empty && nowNanos - emptyUntilNanos < 0;
+    }
+
+    boolean isExpired(long nowNanos) {
+        return !granted || nowNanos - expiresAtNanos >= 0;
+    }
+
+    long remaining() {
+        return tokens.get();
+    }
+}
@@ -0,0 +1,112 @@
+package com.nikhilspring.CloudGateway.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.net.InetSocketAddress;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PrincipalKeyResolverTest {
+
+    private final PrincipalKeyResolver keyResolver = new PrincipalKeyResolver();
+
+    @DisplayName("Resolve Key - Customer JWT uses subject and customer tier")
+    @Test
+    void test_When_Customer_Jwt_Then_Subject_Key() {
+        JwtAuthenticationToken token = jwtToken(Map.of("sub", "auth0|42"), "ROLE_Customer");
+
+        String key = keyResolver.resolve(exchangeWith(token)).block();
+
+        assertEquals("customer:user|auth0|42", key);
+    }
+
+    @DisplayName("Resolve Key - Admin role wins over Customer role")
+    @Test
+    void test_When_Admin_And_Customer_Then_Admin_Tier() {
+        JwtAuthenticationToken token = jwtToken(Map.of("sub", "auth0|7"), "ROLE_Customer", "ROLE_Admin");
+
+        RateLimitKey key = RateLimitKey.decode(keyResolver.resolve(exchangeWith(token)).block());
+
+        assertEquals(RateLimitKey.ADMIN, key.tier());
+        assertEquals("user|auth0|7", key.principal());
+    }
+
+    @DisplayName("Resolve Key - Client credentials token uses client id")
+    @Test
+    void test_When_Client_Credentials_Then_Client_Key() {
+        JwtAuthenticationToken token = jwtToken(
+                Map.of("sub", "abc@clients", "azp", "abc", "gty", "client-credentials"));
+
+        String key = keyResolver.resolve(exchangeWith(token)).block();
+
+        assertEquals("anonymous:client|abc", key);
+    }
+
+    @DisplayName("Resolve Key - Unauthenticated request uses the connection address, not X-Forwarded-For")
+    @Test
+    void test_When_No_Principal_Then_Remote_Address_Key() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/policy/1")
+                .remoteAddress(new InetSocketAddress("192.168.1.20", 53000))
+                .header("X-Forwarded-For", "10.0.0.5"));
+
+        String key = keyResolver.resolve(exchange).block();
+
+        assertEquals("anonymous:ip|192.168.1.20", key);
+    }
+
+    @DisplayName("Resolve Key - Behind a trusted proxy the entry it added is used, not the client's own")
+    @Test
+    void test_When_Trusted_Proxy_Then_Rightmost_Forwarded_Ip_Key() {
+        PrincipalKeyResolver behindProxy = new PrincipalKeyResolver(1);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/policy/1")
+                .remoteAddress(new InetSocketAddress("192.168.1.20", 53000))
+                .header("X-Forwarded-For", "1.2.3.4, 10.0.0.5"));
+
+        String key = behindProxy.resolve(exchange).block();
+
+        assertEquals("anonymous:ip|10.0.0.5", key);
+    }
+
+    @DisplayName("Resolve Quota - Route override, then tier, then default")
+    @Test
+    void test_Quota_Resolution_Order() {
+        RateLimitProperties properties = new RateLimitProperties();
+        RateLimitProperties.Quota customer = new RateLimitProperties.Quota(20, 40, 1);
+        RateLimitProperties.Quota claimCustomer = new RateLimitProperties.Quota(5, 10, 1);
+        properties.getTiers().put("customer", customer);
+        properties.getRoutes().put("CLAIM-SERVICE", Map.of("customer", claimCustomer));
+
+        assertEquals(claimCustomer, properties.resolve("CLAIM-SERVICE", "customer"));
+        assertEquals(customer, properties.resolve("POLICY-SERVICE", "customer"));
+        assertEquals(properties.getDefaultQuota(), properties.resolve("POLICY-SERVICE", "admin"));
+    }
+
+    private MockServerWebExchange exchangeWith(JwtAuthenticationToken token) {
+        return MockServerWebExchange.builder(MockServerHttpRequest.get("/policy/1"))
+                .principal(token)
+                .build();
+    }
+
+    private JwtAuthenticationToken jwtToken(Map<String, Object> claims, String... roles) {
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "none")
+                .claims(c -> c.putAll(claims))
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(60))
+                .build();
+        List<SimpleGrantedAuthority> authorities = Arrays.stream(roles)
+                .map(SimpleGrantedAuthority::new)
+                .toList();
+        return new JwtAuthenticationToken(jwt, authorities);
+    }
+}
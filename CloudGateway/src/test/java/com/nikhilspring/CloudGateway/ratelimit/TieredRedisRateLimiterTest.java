@@ -0,0 +1,216 @@
+package com.nikhilspring.CloudGateway.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.ratelimit.RateLimiter;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TieredRedisRateLimiterTest {
+
+    private static final String ROUTE = "POLICY-SERVICE";
+    private static final String CALLER = "customer:user|auth0|42";
+
+    private final ReactiveStringRedisTemplate redisTemplate = mock(ReactiveStringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final RedisScript<List<Long>> script = mock(RedisScript.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RateLimitProperties properties = new RateLimitProperties();
+    private final AtomicLong redisTokens = new AtomicLong();
+    private final AtomicInteger redisCalls = new AtomicInteger();
+
+    @BeforeEach
+    void setup() {
+        properties.getTiers().put("customer", new RateLimitProperties.Quota(1, 100, 1));
+        redisTokens.set(100);
+    }
+
+    @DisplayName("Is Allowed - Lease size 1 calls Redis for every request")
+    @Test
+    void test_When_Lease_Disabled_Then_Redis_Per_Request() {
+        mockRedisBucket();
+        TieredRedisRateLimiter rateLimiter = rateLimiter();
+
+        for (int i = 0; i < 50; i++) {
+            assertTrue(rateLimiter.isAllowed(ROUTE, CALLER).block().isAllowed());
+        }
+
+        assertEquals(50, redisCalls.get());
+        assertEquals(50, redisTokens.get());
+    }
+
+    @DisplayName("Is Allowed - Leased tokens serve requests without Redis")
+    @Test
+    void test_When_Lease_Enabled_Then_Fewer_Redis_Calls() {
+        mockRedisBucket();
+        properties.getLease().setSize(10);
+        TieredRedisRateLimiter rateLimiter = rateLimiter();
+
+        for (int i = 0; i < 50; i++) {
+            assertTrue(rateLimiter.isAllowed(ROUTE, CALLER).block().isAllowed());
+        }
+
+        assertEquals(5, redisCalls.get());
+        assertEquals(50, redisTokens.get());
+        assertEquals(45, meterRegistry.get("gateway.ratelimit.requests")
+                .tag("source", "lease").counter().count());
+    }
+
+    @DisplayName("Is Allowed - Falls back to an exact request when a full lease is not available")
+    @Test
+    void test_When_Bucket_Nearly_Empty_Then_Exact_Request() {
+        mockRedisBucket();
+        properties.getLease().setSize(10);
+        redisTokens.set(3);
+        TieredRedisRateLimiter rateLimiter = rateLimiter();
+
+        RateLimiter.Response response = rateLimiter.isAllowed(ROUTE, CALLER).block();
+
+        assertTrue(response.isAllowed());
+        assertEquals(2, redisTokens.get());
+        assertEquals(2, redisCalls.get());
+    }
+
+    @DisplayName("Is Allowed - Redis failure enforces the quota locally")
+    @Test
+    void test_When_Redis_Down_Then_Local_Bucket() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyList()))
+                .thenReturn(Flux.error(new RedisConnectionFailureException("Connection refused")));
+        properties.getTiers().put("customer", new RateLimitProperties.Quota(1, 3, 1));
+        TieredRedisRateLimiter rateLimiter = rateLimiter();
+
+        assertTrue(rateLimiter.isAllowed(ROUTE, CALLER).block().isAllowed());
+        assertTrue(rateLimiter.isAllowed(ROUTE, CALLER).block().isAllowed());
+        assertTrue(rateLimiter.isAllowed(ROUTE, CALLER).block().isAllowed());
+        assertFalse(rateLimiter.isAllowed(ROUTE, CALLER).block().isAllowed());
+    }
+
+    @DisplayName("Is Allowed - An empty bucket is answered locally until it refills")
+    @Test
+    void test_When_Bucket_Empty_Then_Denied_Without_Redis() {
+        mockRedisBucket();
+        properties.getLease().setSize(10);
+        redisTokens.set(0);
+        TieredRedisRateLimiter rateLimiter = rateLimiter();
+
+        for (int i = 0; i < 20; i++) {
+            assertFalse(rateLimiter.isAllowed(ROUTE, CALLER).block().isAllowed());
+        }
+
+        // One lease request and one exact request, then denied locally for the second the bucket needs to refill
+        assertEquals(2, redisCalls.get());
+        assertEquals(19, meterRegistry.get("gateway.ratelimit.requests")
+                .tag("source", "lease").tag("outcome", "denied").counter().count());
+    }
+
+    @DisplayName("Is Allowed - Concurrent requests on an empty lease share one Redis call")
+    @Test
+    void test_When_Concurrent_Requests_Then_One_Refill() {
+        Sinks.One<List<Long>> redisReply = Sinks.one();
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyList()))
+                .thenAnswer(invocation -> {
+                    redisCalls.incrementAndGet();
+                    return redisReply.asMono().flux();
+                });
+        properties.getLease().setSize(10);
+        TieredRedisRateLimiter rateLimiter = rateLimiter();
+
+        List<Mono<RateLimiter.Response>> responses = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Mono<RateLimiter.Response> response = rateLimiter.isAllowed(ROUTE, CALLER).cache();
+            response.subscribe();
+            responses.add(response);
+        }
+        redisReply.tryEmitValue(List.of(1L, 90L));
+
+        assertTrue(responses.stream().allMatch(response -> response.block().isAllowed()));
+        assertEquals(1, redisCalls.get());
+    }
+
+    @DisplayName("Is Allowed - Requests left out of a shared refill ask Redis once each")
+    @Test
+    void test_When_Shared_Refill_Exhausted_Then_One_Exact_Request() {
+        Sinks.One<List<Long>> leaseReply = Sinks.one();
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyList()))
+                .thenAnswer(invocation -> {
+                    redisCalls.incrementAndGet();
+                    return leaseReply.asMono().flux();
+                })
+                .thenAnswer(invocation -> {
+                    redisCalls.incrementAndGet();
+                    return Flux.just(List.of(1L, 0L));
+                })
+                .thenAnswer(invocation -> {
+                    redisCalls.incrementAndGet();
+                    return Flux.just(List.of(0L, 0L));
+                });
+        properties.getLease().setSize(10);
+        TieredRedisRateLimiter rateLimiter = rateLimiter();
+
+        List<Mono<RateLimiter.Response>> responses = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            Mono<RateLimiter.Response> response = rateLimiter.isAllowed(ROUTE, CALLER).cache();
+            response.subscribe();
+            responses.add(response);
+        }
+        leaseReply.tryEmitValue(List.of(1L, 1L));
+
+        assertEquals(11, responses.stream().filter(response -> response.block().isAllowed()).count());
+        assertEquals(3, redisCalls.get());
+    }
+
+    @DisplayName("Is Allowed - Fallback buckets of other keys survive key churn")
+    @Test
+    void test_When_Many_Keys_During_Outage_Then_Existing_Buckets_Kept() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyList()))
+                .thenReturn(Flux.error(new RedisConnectionFailureException("Connection refused")));
+        properties.getTiers().put("customer", new RateLimitProperties.Quota(1, 1, 1));
+        properties.getLease().setMaxKeys(3);
+        TieredRedisRateLimiter rateLimiter = rateLimiter();
+
+        assertTrue(rateLimiter.isAllowed(ROUTE, CALLER).block().isAllowed());
+        for (int i = 0; i < 2; i++) {
+            assertTrue(rateLimiter.isAllowed(ROUTE, "customer:user|auth0|" + i).block().isAllowed());
+            // The active caller stays most recently used and keeps its empty bucket
+            assertFalse(rateLimiter.isAllowed(ROUTE, CALLER).block().isAllowed());
+        }
+    }
+
+    private TieredRedisRateLimiter rateLimiter() {
+        return new TieredRedisRateLimiter(redisTemplate, script, null, properties, meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void mockRedisBucket() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyList()))
+                .thenAnswer(invocation -> {
+                    redisCalls.incrementAndGet();
+                    List<String> args = invocation.getArgument(2);
+                    long requested = Long.parseLong(args.get(3));
+                    long current = redisTokens.get();
+                    if (current < requested) {
+                        return Flux.just(List.of(0L, current));
+                    }
+                    return Flux.just(List.of(1L, redisTokens.addAndGet(-requested)));
+                });
+    }
+}
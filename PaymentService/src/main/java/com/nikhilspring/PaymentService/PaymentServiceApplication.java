@@ -1,13 +1,18 @@
 package com.nikhilspring.PaymentService;
 
+import com.nikhilspring.common.id.BusinessNumberConfig;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableDiscoveryClient
 @EnableFeignClients
+@Import(BusinessNumberConfig.class)
+@EnableScheduling
 public class PaymentServiceApplication {
 
 	public static void main(String[] args) {
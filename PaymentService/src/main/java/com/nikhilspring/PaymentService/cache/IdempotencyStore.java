@@ -0,0 +1,172 @@
+package com.nikhilspring.PaymentService.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nikhilspring.PaymentService.exception.PaymentServiceCustomException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Results of requests sent with an {@code Idempotency-Key}, kept in Redis under {@code idempotency:<scope>:<key>}
+ * so a retry gets the first answer back from one GET instead of running the request again.
+ *
+ * The first request claims the key for {@code leaseTime}, renewed every third of it for as long as the request runs,
+ * and then stores its result for {@code retention}; the lease only runs out on its own if the instance dies. A retry
+ * while it runs gets a 409; a key sent again with a different body gets a 422. A request that fails gives its key
+ * back so it can be retried. When Redis cannot be reached requests run unguarded, as they
+ * did before, and the database constraints still turn away duplicates.
+ */
+public class IdempotencyStore {
+
+    static final String KEY_PREFIX = "idempotency:";
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyStore.class);
+    private static final char IN_PROGRESS = 'P';
+    private static final char DONE = 'D';
+    // State, separator, then the SHA-256 fingerprint in hex
+    private static final int FINGERPRINT_END = 2 + 64;
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration leaseTime;
+    private final Duration retention;
+    private final ScheduledExecutorService leaseRenewer = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("idempotency-lease-renewer").daemon().factory());
+
+    public IdempotencyStore(StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper,
+                            Duration leaseTime, Duration retention) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.leaseTime = leaseTime;
+        this.retention = retention;
+    }
+
+    /**
+     * Runs {@code operation} the first time {@code key} is seen with this request and returns its result; afterwards
+     * returns the stored result without running it
+     */
+    public <T> T execute(String scope, String key, Object request, Class<T> resultType, Supplier<T> operation) {
+        String redisKey = KEY_PREFIX + scope + ':' + key;
+        String fingerprint = fingerprint(request);
+        String claim = IN_PROGRESS + ":" + fingerprint;
+
+        boolean claimed;
+        String stored = null;
+        try {
+            claimed = !Boolean.FALSE.equals(stringRedisTemplate.opsForValue().setIfAbsent(redisKey, claim, leaseTime));
+            if (!claimed) {
+                stored = stringRedisTemplate.opsForValue().get(redisKey);
+            }
+        } catch (Exception e) {
+            logger.warn("Idempotency store unavailable, running {} request {} unguarded: {}", scope, key, e.getMessage());
+            return operation.get();
+        }
+        if (claimed) {
+            return runAndStore(redisKey, claim, fingerprint, operation);
+        }
+        if (stored == null) {
+            // The lease ran out between the two calls; nothing finished under this key
+            return execute(scope, key, request, resultType, operation);
+        }
+        if (!stored.regionMatches(2, fingerprint, 0, fingerprint.length())) {
+            throw new PaymentServiceCustomException(
+                "Idempotency key " + key + " was already used for a different request",
+                "IDEMPOTENCY_KEY_REUSED",
+                422
+            );
+        }
+        if (stored.charAt(0) != DONE) {
+            throw new PaymentServiceCustomException(
+                "A request with idempotency key " + key + " is still being processed",
+                "IDEMPOTENCY_REQUEST_IN_PROGRESS",
+                409
+            );
+        }
+        try {
+            return objectMapper.readValue(stored.substring(FINGERPRINT_END + 1), resultType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable result stored for idempotency key " + key, e);
+        }
+    }
+
+    private <T> T runAndStore(String redisKey, String claim, String fingerprint, Supplier<T> operation) {
+        long renewMillis = Math.max(1, leaseTime.toMillis() / 3);
+        ScheduledFuture<?> renewal = leaseRenewer.scheduleAtFixedRate(() -> renew(redisKey, claim),
+                renewMillis, renewMillis, TimeUnit.MILLISECONDS);
+        T result;
+        try {
+            result = operation.get();
+        } catch (RuntimeException e) {
+            renewal.cancel(false);
+            release(redisKey, claim);
+            throw e;
+        }
+        renewal.cancel(false);
+        try {
+            stringRedisTemplate.opsForValue().set(redisKey,
+                    DONE + ":" + fingerprint + ':' + objectMapper.writeValueAsString(result), retention);
+        } catch (Exception e) {
+            // The request succeeded; a retry after the lease runs out repeats it and meets the database constraints
+            logger.warn("Could not store result for {}, it is not replayed: {}", redisKey, e.getMessage());
+        }
+        return result;
+    }
+
+    /**
+     * Extends the lease only while the key still holds this request's claim, never a result or another claim
+     */
+    private void renew(String redisKey, String claim) {
+        try {
+            Long renewed = stringRedisTemplate.execute(RENEW_SCRIPT, List.of(redisKey), claim,
+                    String.valueOf(leaseTime.toMillis()));
+            if (renewed == null || renewed == 0) {
+                logger.warn("Lease on {} was lost while its request runs; a retry may run it again", redisKey);
+            }
+        } catch (Exception e) {
+            logger.warn("Could not renew {}, it expires after {}: {}", redisKey, leaseTime, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        leaseRenewer.shutdownNow();
+    }
+
+    private void release(String redisKey, String claim) {
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(redisKey), claim);
+        } catch (Exception e) {
+            logger.warn("Could not release {}, it expires after {}: {}", redisKey, leaseTime, e.getMessage());
+        }
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Cannot fingerprint " + request.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -1,24 +1,64 @@
 package com.nikhilspring.PaymentService.controller;
 
+import com.nikhilspring.PaymentService.cache.IdempotencyStore;
+import com.nikhilspring.PaymentService.model.PaymentExportFormat;
+import com.nikhilspring.PaymentService.model.PaymentHistoryPage;
 import com.nikhilspring.PaymentService.model.PaymentRequest;
 import com.nikhilspring.PaymentService.model.PaymentResponse;
+import com.nikhilspring.PaymentService.model.ReconciliationReport;
+import com.nikhilspring.PaymentService.reconciliation.SettlementFileFormat;
+import com.nikhilspring.PaymentService.reconciliation.SettlementReconciler;
+import com.nikhilspring.PaymentService.service.PaymentExporter;
 import com.nikhilspring.PaymentService.service.PaymentService;
+import com.nikhilspring.PaymentService.validation.PaymentValidationRules;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
 @RestController
 @RequestMapping("/payment")
 public class PaymentController {
 
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     @Autowired
     private PaymentService paymentService;
 
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    @Autowired
+    private PaymentExporter paymentExporter;
+
+    @Autowired
+    private SettlementReconciler settlementReconciler;
+
+    /**
+     * With an Idempotency-Key header, a retry of the same payment returns the first payment's ID without running
+     * it again
+     */
     @PostMapping
-    public ResponseEntity<Long> processPayment(@RequestBody PaymentRequest paymentRequest) {
+    public ResponseEntity<Long> processPayment(@RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                                               @RequestBody PaymentRequest paymentRequest) {
+        if (idempotencyKey == null) {
+            return new ResponseEntity<>(
+                    paymentService.processPayment(paymentRequest),
+                    HttpStatus.OK
+            );
+        }
+        PaymentValidationRules.IDEMPOTENCY_KEY.validate(idempotencyKey);
         return new ResponseEntity<>(
-                paymentService.processPayment(paymentRequest),
+                idempotencyStore.execute("payment", idempotencyKey, paymentRequest, Long.class,
+                        () -> paymentService.processPayment(paymentRequest)),
                 HttpStatus.OK
         );
     }
@@ -39,4 +79,58 @@ public class PaymentController {
         );
     }
 
-}
\ No newline at end of file
+    @GetMapping("/customer/{customerId}/history")
+    public ResponseEntity<PaymentHistoryPage> getPaymentHistoryByCustomerId(@PathVariable String customerId,
+                                                                            @RequestParam(required = false) String cursor,
+                                                                            @RequestParam(defaultValue = "20") int size) {
+        return new ResponseEntity<>(
+                paymentService.getPaymentHistoryByCustomerId(customerId, cursor, size),
+                HttpStatus.OK
+        );
+    }
+
+    @GetMapping("/policy/{policyId}/history")
+    public ResponseEntity<PaymentHistoryPage> getPaymentHistoryByPolicyId(@PathVariable String policyId,
+                                                                          @RequestParam(required = false) String cursor,
+                                                                          @RequestParam(defaultValue = "20") int size) {
+        return new ResponseEntity<>(
+                paymentService.getPaymentHistoryByPolicyId(policyId, cursor, size),
+                HttpStatus.OK
+        );
+    }
+
+    /**
+     * Streams the payments with from <= paymentDate < to, optionally of one status, as CSV or NDJSON. Rows go out as
+     * they are read on the request thread, so the download starts at once and is not cut off by the async timeout
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasAnyRole('Admin', 'Internal')")
+    public void exportPayments(@RequestParam Instant from,
+                               @RequestParam Instant to,
+                               @RequestParam(required = false) String status,
+                               @RequestParam(defaultValue = "csv") String format,
+                               HttpServletResponse response) throws IOException {
+        PaymentExportFormat exportFormat = PaymentExportFormat.of(format);
+        paymentExporter.checkExport(from, to);
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("payments." + exportFormat.getFileExtension())
+                .build()
+                .toString());
+        paymentExporter.export(from, to, status, exportFormat, response.getOutputStream());
+    }
+
+    /**
+     * Reconciles a settlement file from the configured settlement directory against recorded payments
+     */
+    @PostMapping("/reconciliation")
+    @PreAuthorize("hasAnyRole('Admin', 'Internal')")
+    public ResponseEntity<ReconciliationReport> reconcileSettlementFile(@RequestParam String file,
+                                                                        @RequestParam(defaultValue = "csv") String format) {
+        return new ResponseEntity<>(
+                settlementReconciler.reconcile(file, SettlementFileFormat.of(format)),
+                HttpStatus.OK
+        );
+    }
+}
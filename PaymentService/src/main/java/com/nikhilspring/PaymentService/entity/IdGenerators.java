@@ -0,0 +1,18 @@
+package com.nikhilspring.PaymentService.entity;
+
+/**
+ * Pooled ID allocation for the entities: each table has a row in ID_GENERATOR that is moved on by
+ * {@link #ALLOCATION_SIZE} at a time, so an instance takes that many IDs per round trip and Hibernate can batch
+ * the inserts that IDENTITY columns forced one statement at a time. A table generator rather than a sequence,
+ * so it behaves the same on MySQL as on H2. Keep the allocation size in step with hibernate.jdbc.batch_size.
+ */
+public final class IdGenerators {
+
+    public static final String TABLE = "ID_GENERATOR";
+    public static final String NAME_COLUMN = "SEQUENCE_NAME";
+    public static final String VALUE_COLUMN = "NEXT_VAL";
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdGenerators() {
+    }
+}
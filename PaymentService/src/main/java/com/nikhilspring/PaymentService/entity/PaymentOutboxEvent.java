@@ -0,0 +1,58 @@
+package com.nikhilspring.PaymentService.entity;
+
+import com.nikhilspring.insurance.events.PaymentStatus;
+import com.nikhilspring.insurance.events.PaymentType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+/**
+ * Payment event waiting to be published to Kafka. Rows are written in the same transaction as the payment
+ * and picked up by the outbox relay; PUBLISHED_AT stays null until the broker has acknowledged the event.
+ */
+@Entity
+@Table(name = "PAYMENT_OUTBOX",
+        indexes = @Index(name = "IDX_PAYMENT_OUTBOX_PENDING", columnList = "PUBLISHED_AT, ID"))
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PaymentOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private long id;
+
+    @Column(name = "PAYMENT_ID")
+    private long paymentId;
+
+    @Column(name = "POLICY_ID")
+    private Long policyId;
+
+    @Column(name = "CLAIM_ID")
+    private Long claimId;
+
+    @Column(name = "CUSTOMER_ID")
+    private String customerId;
+
+    @Column(name = "AMOUNT")
+    private double amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "STATUS")
+    private PaymentStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "PAYMENT_TYPE")
+    private PaymentType paymentType;
+
+    @Column(name = "CREATED_AT")
+    private Instant createdAt;
+
+    @Column(name = "PUBLISHED_AT")
+    private Instant publishedAt;
+}
@@ -9,7 +9,14 @@ import jakarta.persistence.*;
 import java.time.Instant;
 
 @Entity
-@Table(name = "PAYMENT_DETAILS")
+// InnoDB appends the primary key to every secondary index, so these also serve the (PAYMENT_DATE, ID) order of
+// history pages and exports
+@Table(name = "PAYMENT_DETAILS", indexes = {
+        @Index(name = "IDX_PAYMENT_DETAILS_DATE", columnList = "PAYMENT_DATE"),
+        @Index(name = "IDX_PAYMENT_DETAILS_CUSTOMER_DATE", columnList = "CUSTOMER_ID, PAYMENT_DATE"),
+        @Index(name = "IDX_PAYMENT_DETAILS_POLICY_DATE", columnList = "POLICY_ID, PAYMENT_DATE"),
+        @Index(name = "IDX_PAYMENT_DETAILS_TRANSACTION_ID", columnList = "TRANSACTION_ID")
+})
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -17,12 +24,20 @@ import java.time.Instant;
 public class TransactionDetails {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "payment_details_id")
+    @TableGenerator(name = "payment_details_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "PAYMENT_DETAILS",
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private long id;
 
     @Column(name = "POLICY_ID")
     private long policyId;
 
+    // The policy ID for a PREMIUM payment and null otherwise, so the unique key allows one premium per policy
+    // while other payment types may repeat
+    @Column(name = "PREMIUM_POLICY_ID", unique = true)
+    private Long premiumPolicyId;
+
     @Column(name = "CUSTOMER_ID")
     private String customerId;
 
@@ -1,54 +1,56 @@
 package com.nikhilspring.PaymentService.event;
 
-import com.nikhilspring.insurance.events.PaymentEvent;
+import com.nikhilspring.PaymentService.entity.PaymentOutboxEvent;
+import com.nikhilspring.PaymentService.repository.PaymentOutboxRepository;
 import com.nikhilspring.insurance.events.PaymentStatus;
 import com.nikhilspring.insurance.events.PaymentType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+
+/**
+ * Records payment events in the outbox table as part of the caller's transaction, so an event exists
+ * exactly when its payment does. {@link PaymentOutboxRelay} publishes them to Kafka.
+ */
 @Component
+@Transactional(propagation = Propagation.MANDATORY)
 public class PaymentEventProducer {
 
     private static final Logger logger = LoggerFactory.getLogger(PaymentEventProducer.class);
-    private static final String PAYMENT_TOPIC = "payment-events";
 
     @Autowired
-    private KafkaTemplate<String, Object> kafkaTemplate;
+    private PaymentOutboxRepository paymentOutboxRepository;
 
-    public void publishPaymentEvent(Long paymentId, Long policyId, Long claimId, 
+    public void publishPaymentEvent(Long paymentId, Long policyId, Long claimId, String customerId,
                                    Double amount, PaymentStatus status, PaymentType type) {
-        try {
-            PaymentEvent paymentEvent = PaymentEvent.newBuilder()
-                    .setPaymentId(paymentId)
-                    .setPolicyId(policyId)
-                    .setClaimId(claimId)
-                    .setAmount(amount)
-                    .setStatus(status)
-                    .setPaymentType(type)
-                    .setTimestamp(System.currentTimeMillis())
-                    .build();
-
-            logger.info("Publishing payment event: {} for payment ID: {}", status, paymentId);
-            kafkaTemplate.send(PAYMENT_TOPIC, String.valueOf(paymentId), paymentEvent);
-            logger.info("Payment event published successfully");
-            
-        } catch (Exception e) {
-            logger.error("Error publishing payment event for payment ID: {}", paymentId, e);
-            throw new RuntimeException("Failed to publish payment event", e);
-        }
+        PaymentOutboxEvent outboxEvent = PaymentOutboxEvent.builder()
+                .paymentId(paymentId)
+                .policyId(policyId)
+                .claimId(claimId)
+                .customerId(customerId)
+                .amount(amount)
+                .status(status)
+                .paymentType(type)
+                .createdAt(Instant.now())
+                .build();
+
+        paymentOutboxRepository.save(outboxEvent);
+        logger.info("Queued payment event: {} for payment ID: {}", status, paymentId);
     }
 
     // Convenience methods for common scenarios
-    public void publishPolicyPaymentCompleted(Long paymentId, Long policyId, Double amount) {
-        publishPaymentEvent(paymentId, policyId, null, amount, 
+    public void publishPolicyPaymentCompleted(Long paymentId, Long policyId, String customerId, Double amount) {
+        publishPaymentEvent(paymentId, policyId, null, customerId, amount, 
                           PaymentStatus.COMPLETED, PaymentType.PREMIUM);
     }
 
-    public void publishClaimPaymentCompleted(Long paymentId, Long claimId, Double amount) {
-        publishPaymentEvent(paymentId, null, claimId, amount, 
+    public void publishClaimPaymentCompleted(Long paymentId, Long claimId, String customerId, Double amount) {
+        publishPaymentEvent(paymentId, null, claimId, customerId, amount, 
                           PaymentStatus.COMPLETED, PaymentType.CLAIM_PAYMENT);
     }
-} 
\ No newline at end of file
+}
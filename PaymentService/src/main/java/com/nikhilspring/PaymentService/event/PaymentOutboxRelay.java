@@ -0,0 +1,151 @@
+package com.nikhilspring.PaymentService.event;
+
+import com.nikhilspring.PaymentService.entity.PaymentOutboxEvent;
+import com.nikhilspring.PaymentService.repository.PaymentOutboxRepository;
+import com.nikhilspring.insurance.events.PaymentEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes pending outbox rows to {@code payment-events} in batches. All sends of a batch are handed to the
+ * producer at once so they share record batches, then acknowledged rows are marked published in the same
+ * transaction that locked them. Delivery is at-least-once: a crash between ack and commit republishes the batch.
+ */
+@Component
+@ConditionalOnProperty(name = "payment.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class PaymentOutboxRelay {
+
+    static final String PAYMENT_TOPIC = "payment-events";
+
+    private static final Logger logger = LoggerFactory.getLogger(PaymentOutboxRelay.class);
+
+    private final PaymentOutboxRepository paymentOutboxRepository;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration sendTimeout;
+    private final Duration retention;
+    private final Counter published;
+    private final Counter failed;
+    private final DistributionSummary batchSizes;
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public PaymentOutboxRelay(PaymentOutboxRepository paymentOutboxRepository,
+                              KafkaTemplate<String, Object> kafkaTemplate,
+                              TransactionTemplate transactionTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${payment.outbox.relay.batch-size:500}") int batchSize,
+                              @Value("${payment.outbox.relay.send-timeout:PT10S}") Duration sendTimeout,
+                              @Value("${payment.outbox.retention:P7D}") Duration retention) {
+        this.paymentOutboxRepository = paymentOutboxRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.sendTimeout = sendTimeout;
+        this.retention = retention;
+        this.published = Counter.builder("payment.outbox.published")
+                .description("Payment events acknowledged by Kafka")
+                .register(meterRegistry);
+        this.failed = Counter.builder("payment.outbox.failed")
+                .description("Payment event sends that failed and will be retried")
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("payment.outbox.batch.size")
+                .description("Events picked up per relay run")
+                .register(meterRegistry);
+        TimeGauge.builder("payment.outbox.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("Age of the oldest pending payment event at the last relay run")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${payment.outbox.relay.interval:PT0.2S}")
+    public void relay() {
+        // Keep draining while batches come back full, so a burst does not wait for the next tick
+        int relayed;
+        do {
+            relayed = transactionTemplate.execute(status -> relayBatch());
+        } while (relayed == batchSize);
+    }
+
+    @Scheduled(fixedDelayString = "${payment.outbox.purge-interval:PT1H}")
+    public void purgePublished() {
+        Integer deleted = transactionTemplate.execute(status ->
+                paymentOutboxRepository.deletePublishedBefore(Instant.now().minus(retention)));
+        if (deleted != null && deleted > 0) {
+            logger.info("Purged {} published payment events older than {}", deleted, retention);
+        }
+    }
+
+    int relayBatch() {
+        List<PaymentOutboxEvent> batch = paymentOutboxRepository.findPendingForUpdate(PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            lagMillis.set(0);
+            return 0;
+        }
+        lagMillis.set(Duration.between(batch.get(0).getCreatedAt(), Instant.now()).toMillis());
+        batchSizes.record(batch.size());
+
+        List<CompletableFuture<SendResult<String, Object>>> sends = new ArrayList<>(batch.size());
+        for (PaymentOutboxEvent outboxEvent : batch) {
+            sends.add(kafkaTemplate.send(PAYMENT_TOPIC, String.valueOf(outboxEvent.getPaymentId()),
+                    toPaymentEvent(outboxEvent)));
+        }
+
+        List<Long> acknowledged = new ArrayList<>(batch.size());
+        long deadline = System.nanoTime() + sendTimeout.toNanos();
+        for (int i = 0; i < batch.size(); i++) {
+            PaymentOutboxEvent outboxEvent = batch.get(i);
+            try {
+                sends.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                acknowledged.add(outboxEvent.getId());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                failed.increment();
+                logger.warn("Failed to publish payment event {} for payment ID: {}, will retry: {}",
+                        outboxEvent.getId(), outboxEvent.getPaymentId(), e.getMessage());
+            }
+        }
+
+        if (!acknowledged.isEmpty()) {
+            paymentOutboxRepository.markPublished(acknowledged, Instant.now());
+            published.increment(acknowledged.size());
+        }
+        logger.debug("Relayed {} of {} payment events", acknowledged.size(), batch.size());
+        // A partially failed batch stops the drain loop; the rest is retried on the next tick
+        return acknowledged.size() == batch.size() ? batch.size() : 0;
+    }
+
+    static PaymentEvent toPaymentEvent(PaymentOutboxEvent outboxEvent) {
+        return PaymentEvent.newBuilder()
+                .setPaymentId(outboxEvent.getPaymentId())
+                .setPolicyId(outboxEvent.getPolicyId())
+                .setClaimId(outboxEvent.getClaimId())
+                .setCustomerId(outboxEvent.getCustomerId())
+                .setAmount(outboxEvent.getAmount())
+                .setStatus(outboxEvent.getStatus())
+                .setPaymentType(outboxEvent.getPaymentType())
+                .setTimestamp(outboxEvent.getCreatedAt().toEpochMilli())
+                .build();
+    }
+}
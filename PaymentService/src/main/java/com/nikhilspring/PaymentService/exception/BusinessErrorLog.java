@@ -0,0 +1,61 @@
+package com.nikhilspring.PaymentService.exception;
+
+import lombok.extern.log4j.Log4j2;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Logs business errors, at most {@code maxPerWindow} lines per error code and window: 4xx at WARN, since the
+ * caller sent something we reject, and 5xx at ERROR. The first line after a quiet spell reports how many
+ * were left out, so a burst of the same rejection costs a counter increment per request instead of a log line.
+ */
+@Log4j2
+public class BusinessErrorLog {
+
+    private final long windowNanos;
+    private final int maxPerWindow;
+    private final ConcurrentMap<ErrorDescriptor, Window> windows = new ConcurrentHashMap<>();
+
+    public BusinessErrorLog(Duration window, int maxPerWindow) {
+        this.windowNanos = window.toNanos();
+        this.maxPerWindow = maxPerWindow;
+    }
+
+    public void log(ErrorDescriptor descriptor, String message) {
+        long now = System.nanoTime();
+        Window window = windows.computeIfAbsent(descriptor, key -> new Window(now - windowNanos));
+        long start = window.start.get();
+        if (now - start >= windowNanos && window.start.compareAndSet(start, now)) {
+            window.logged.set(0);
+        }
+        if (window.logged.get() >= maxPerWindow || window.logged.incrementAndGet() > maxPerWindow) {
+            window.suppressed.increment();
+            return;
+        }
+        long suppressed = window.suppressed.sumThenReset();
+        if (descriptor.status().is5xxServerError()) {
+            log.error("{} {}: {}{}", descriptor.status().value(), descriptor.errorCode(), message, suppressedNote(suppressed));
+        } else {
+            log.warn("{} {}: {}{}", descriptor.status().value(), descriptor.errorCode(), message, suppressedNote(suppressed));
+        }
+    }
+
+    private static String suppressedNote(long suppressed) {
+        return suppressed == 0 ? "" : " (" + suppressed + " more suppressed)";
+    }
+
+    private static final class Window {
+        private final AtomicLong start;
+        private final AtomicInteger logged = new AtomicInteger();
+        private final LongAdder suppressed = new LongAdder();
+
+        private Window(long start) {
+            this.start = new AtomicLong(start);
+        }
+    }
+}
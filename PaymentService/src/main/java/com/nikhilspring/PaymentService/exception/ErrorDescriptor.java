@@ -0,0 +1,34 @@
+package com.nikhilspring.PaymentService.exception;
+
+import org.springframework.http.HttpStatusCode;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * An error code with its resolved HTTP status, built once per code and status and shared by every response
+ * that reports it. Also the key the business error log budgets by.
+ */
+public record ErrorDescriptor(String errorCode, HttpStatusCode status) {
+
+    // Codes relayed from downstream services are not a closed set; past this many, descriptors are not cached
+    private static final int MAX_CACHED = 1024;
+    private static final ConcurrentMap<Key, ErrorDescriptor> DESCRIPTORS = new ConcurrentHashMap<>();
+
+    public static ErrorDescriptor of(String errorCode, int status) {
+        Key key = new Key(errorCode, status);
+        ErrorDescriptor descriptor = DESCRIPTORS.get(key);
+        if (descriptor != null) {
+            return descriptor;
+        }
+        descriptor = new ErrorDescriptor(errorCode, HttpStatusCode.valueOf(status));
+        if (DESCRIPTORS.size() >= MAX_CACHED) {
+            return descriptor;
+        }
+        ErrorDescriptor cached = DESCRIPTORS.putIfAbsent(key, descriptor);
+        return cached != null ? cached : descriptor;
+    }
+
+    private record Key(String errorCode, int status) {
+    }
+}
@@ -2,6 +2,10 @@ package com.nikhilspring.PaymentService.exception;
 
 import lombok.Data;
 
+/**
+ * An expected business failure reported to the caller by its error code. No stack trace is captured: the
+ * code identifies the failure, and filling in the trace would dominate the cost of a rejected request.
+ */
 @Data
 public class PaymentServiceCustomException extends RuntimeException {
 
@@ -9,13 +13,13 @@ public class PaymentServiceCustomException extends RuntimeException {
     private final int status;
 
     public PaymentServiceCustomException(String message, String errorCode, int status) {
-        super(message);
+        super(message, null, false, false);
         this.errorCode = errorCode;
         this.status = status;
     }
 
     public PaymentServiceCustomException(String message, String errorCode) {
-        super(message);
+        super(message, null, false, false);
         this.errorCode = errorCode;
         this.status = 400;
     }
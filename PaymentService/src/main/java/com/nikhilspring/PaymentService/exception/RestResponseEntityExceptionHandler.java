@@ -2,6 +2,7 @@ package com.nikhilspring.PaymentService.exception;
 
 import com.nikhilspring.PaymentService.model.ErrorResponse;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -9,24 +10,37 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 @ControllerAdvice
 @Log4j2
 public class RestResponseEntityExceptionHandler extends ResponseEntityExceptionHandler {
 
+    private static volatile Timestamp lastTimestamp = new Timestamp(Long.MIN_VALUE, "");
+
+    private final BusinessErrorLog businessErrorLog;
+
+    public RestResponseEntityExceptionHandler(@Value("${error-log.window:10s}") Duration window,
+                                              @Value("${error-log.max-per-window:5}") int maxPerWindow) {
+        this.businessErrorLog = new BusinessErrorLog(window, maxPerWindow);
+    }
+
     @ExceptionHandler(PaymentServiceCustomException.class)
     public ResponseEntity<ErrorResponse> handlePaymentServiceException(PaymentServiceCustomException exception, WebRequest request) {
-        log.error("Payment Service Exception: {}", exception.getMessage());
+        ErrorDescriptor descriptor = ErrorDescriptor.of(exception.getErrorCode(), exception.getStatus());
+        businessErrorLog.log(descriptor, exception.getMessage());
         
         ErrorResponse errorResponse = ErrorResponse.builder()
                 .errorMessage(exception.getMessage())
-                .errorCode(exception.getErrorCode())
-                .timestamp(LocalDateTime.now().toString())
+                .errorCode(descriptor.errorCode())
+                .timestamp(timestamp())
                 .path(request.getDescription(false))
                 .build();
         
-        return new ResponseEntity<>(errorResponse, HttpStatus.valueOf(exception.getStatus()));
+        return new ResponseEntity<>(errorResponse, descriptor.status());
     }
 
     @ExceptionHandler(Exception.class)
@@ -36,7 +50,7 @@ public class RestResponseEntityExceptionHandler extends ResponseEntityExceptionH
         ErrorResponse errorResponse = ErrorResponse.builder()
                 .errorMessage("An unexpected error occurred")
                 .errorCode("INTERNAL_SERVER_ERROR")
-                .timestamp(LocalDateTime.now().toString())
+                .timestamp(timestamp())
                 .path(request.getDescription(false))
                 .build();
         
@@ -45,15 +59,32 @@ public class RestResponseEntityExceptionHandler extends ResponseEntityExceptionH
 
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException exception, WebRequest request) {
-        log.error("Illegal Argument Exception: {}", exception.getMessage());
+        ErrorDescriptor descriptor = ErrorDescriptor.of("INVALID_INPUT", HttpStatus.BAD_REQUEST.value());
+        businessErrorLog.log(descriptor, exception.getMessage());
         
         ErrorResponse errorResponse = ErrorResponse.builder()
                 .errorMessage(exception.getMessage())
-                .errorCode("INVALID_INPUT")
-                .timestamp(LocalDateTime.now().toString())
+                .errorCode(descriptor.errorCode())
+                .timestamp(timestamp())
                 .path(request.getDescription(false))
                 .build();
         
-        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        return new ResponseEntity<>(errorResponse, descriptor.status());
+    }
+
+    /**
+     * The local date-time as before, formatted at most once per millisecond however many errors share it
+     */
+    private static String timestamp() {
+        long now = System.currentTimeMillis();
+        Timestamp timestamp = lastTimestamp;
+        if (timestamp.millis() != now) {
+            timestamp = new Timestamp(now, LocalDateTime.ofInstant(Instant.ofEpochMilli(now), ZoneId.systemDefault()).toString());
+            lastTimestamp = timestamp;
+        }
+        return timestamp.text();
+    }
+
+    private record Timestamp(long millis, String text) {
     }
-} 
\ No newline at end of file
+}
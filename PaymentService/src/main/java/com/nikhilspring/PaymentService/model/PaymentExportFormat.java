@@ -0,0 +1,29 @@
+package com.nikhilspring.PaymentService.model;
+
+import com.nikhilspring.PaymentService.exception.PaymentServiceCustomException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum PaymentExportFormat {
+
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String fileExtension;
+
+    public static PaymentExportFormat of(String format) {
+        for (PaymentExportFormat exportFormat : values()) {
+            if (exportFormat.fileExtension.equalsIgnoreCase(format)) {
+                return exportFormat;
+            }
+        }
+        throw new PaymentServiceCustomException(
+            "Unsupported export format: " + format + ". Use csv or ndjson",
+            "INVALID_EXPORT_FORMAT",
+            400
+        );
+    }
+}
@@ -0,0 +1,35 @@
+package com.nikhilspring.PaymentService.model;
+
+import com.nikhilspring.PaymentService.exception.PaymentServiceCustomException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position after the last payment of a history page: its payment date and ID, sent to clients as an opaque
+ * URL-safe token
+ */
+public record PaymentHistoryCursor(Instant paymentDate, long id) {
+
+    public String encode() {
+        String position = paymentDate + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PaymentHistoryCursor decode(String cursor) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = position.indexOf('|');
+            return new PaymentHistoryCursor(Instant.parse(position.substring(0, separator)),
+                    Long.parseLong(position.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new PaymentServiceCustomException(
+                "Invalid cursor: " + cursor,
+                "INVALID_CURSOR",
+                400
+            );
+        }
+    }
+}
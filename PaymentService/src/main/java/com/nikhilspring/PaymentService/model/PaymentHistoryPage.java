@@ -0,0 +1,23 @@
+package com.nikhilspring.PaymentService.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of payment history, newest first. {@code nextCursor} fetches the page after it and is absent on the last
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PaymentHistoryPage {
+
+    private List<PaymentResponse> payments;
+    private String nextCursor;
+}
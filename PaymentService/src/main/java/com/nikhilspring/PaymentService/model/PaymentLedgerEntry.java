@@ -0,0 +1,7 @@
+package com.nikhilspring.PaymentService.model;
+
+/**
+ * The columns of a recorded payment that a settlement line is checked against
+ */
+public record PaymentLedgerEntry(String transactionId, long amount, String status) {
+}
@@ -0,0 +1,35 @@
+package com.nikhilspring.PaymentService.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ReconciliationMismatch {
+
+    public enum Type {
+        // The settlement line names a transaction with no recorded payment
+        MISSING_PAYMENT,
+        AMOUNT_MISMATCH,
+        // Settled in the file but not successful here, or the other way round
+        STATUS_MISMATCH,
+        // A later line for a transaction already seen in the file
+        DUPLICATE_IN_FILE,
+        // A line that could not be parsed
+        INVALID_RECORD
+    }
+
+    private Type type;
+    private String transactionId;
+    // Byte offset of the line in the settlement file
+    private long position;
+    private Long settledAmount;
+    private Long recordedAmount;
+    private String settledStatus;
+    private String recordedStatus;
+    private String detail;
+}
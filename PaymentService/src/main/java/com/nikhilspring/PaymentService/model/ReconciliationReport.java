@@ -0,0 +1,34 @@
+package com.nikhilspring.PaymentService.model;
+
+import com.nikhilspring.PaymentService.reconciliation.SettlementFileFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ReconciliationReport {
+
+    private String file;
+    private SettlementFileFormat format;
+    private long bytes;
+    private long records;
+    private long matched;
+    private long mismatched;
+    private Map<ReconciliationMismatch.Type, Long> mismatchesByType;
+    // Up to payment.reconciliation.max-reported-mismatches of them, in file order; all are counted above
+    private List<ReconciliationMismatch> mismatches;
+    private int partitions;
+    private long queries;
+    private long parseMillis;
+    private long matchMillis;
+    private long elapsedMillis;
+    private long recordsPerSecond;
+    private long bytesPerSecond;
+}
@@ -0,0 +1,136 @@
+package com.nikhilspring.PaymentService.reconciliation;
+
+import com.nikhilspring.PaymentService.exception.PaymentServiceCustomException;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Line layouts of a bank settlement file. Amounts are whole currency units, as PAYMENT_DETAILS.AMOUNT, and fields
+ * are ASCII.
+ */
+public enum SettlementFileFormat {
+
+    /**
+     * A header line, then {@code transaction_id,amount,status} per line
+     */
+    CSV("csv", true) {
+        @Override
+        SettlementRecord parse(byte[] line, int length, long position) {
+            int first = indexOf(line, ',', 0, length);
+            int second = first < 0 ? -1 : indexOf(line, ',', first + 1, length);
+            if (second < 0 || indexOf(line, ',', second + 1, length) >= 0) {
+                throw new IllegalArgumentException("Expected transaction_id,amount,status");
+            }
+            return new SettlementRecord(transactionId(line, 0, first), amount(line, first + 1, second),
+                    text(line, second + 1, length), position);
+        }
+    },
+
+    /**
+     * Space-padded columns: transaction ID in 1-24, amount right-aligned in 25-39, status in 40-49. Anything after
+     * column 49 is ignored.
+     */
+    FIXED_WIDTH("fixed", false) {
+        @Override
+        SettlementRecord parse(byte[] line, int length, long position) {
+            if (length < STATUS_END) {
+                throw new IllegalArgumentException("Fixed-width line shorter than " + STATUS_END + " bytes");
+            }
+            return new SettlementRecord(transactionId(line, 0, TRANSACTION_ID_END),
+                    amount(line, TRANSACTION_ID_END, AMOUNT_END), text(line, AMOUNT_END, STATUS_END), position);
+        }
+    };
+
+    static final int TRANSACTION_ID_END = 24;
+    static final int AMOUNT_END = 39;
+    static final int STATUS_END = 49;
+
+    private final String parameter;
+    private final boolean header;
+
+    SettlementFileFormat(String parameter, boolean header) {
+        this.parameter = parameter;
+        this.header = header;
+    }
+
+    public static SettlementFileFormat of(String format) {
+        for (SettlementFileFormat fileFormat : values()) {
+            if (fileFormat.parameter.equalsIgnoreCase(format)) {
+                return fileFormat;
+            }
+        }
+        throw new PaymentServiceCustomException(
+            "Unsupported settlement file format: " + format + ". Use csv or fixed",
+            "INVALID_SETTLEMENT_FORMAT",
+            400
+        );
+    }
+
+    boolean hasHeader() {
+        return header;
+    }
+
+    /**
+     * Parses the first {@code length} bytes of {@code line}, which hold no line terminator. Throws
+     * IllegalArgumentException for a malformed line.
+     */
+    abstract SettlementRecord parse(byte[] line, int length, long position);
+
+    private static int indexOf(byte[] line, char c, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (line[i] == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String transactionId(byte[] line, int from, int to) {
+        String transactionId = text(line, from, to);
+        if (transactionId.isEmpty()) {
+            throw new IllegalArgumentException("Missing transaction ID");
+        }
+        return transactionId;
+    }
+
+    private static String text(byte[] line, int from, int to) {
+        while (from < to && line[from] == ' ') {
+            from++;
+        }
+        while (to > from && line[to - 1] == ' ') {
+            to--;
+        }
+        return new String(line, from, to - from, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Digits with an optional sign, parsed in place so no String is made per amount
+     */
+    private static long amount(byte[] line, int from, int to) {
+        while (from < to && line[from] == ' ') {
+            from++;
+        }
+        while (to > from && line[to - 1] == ' ') {
+            to--;
+        }
+        boolean negative = from < to && line[from] == '-';
+        if (from < to && (line[from] == '-' || line[from] == '+')) {
+            from++;
+        }
+        if (from == to) {
+            throw new IllegalArgumentException("Missing amount");
+        }
+        long amount = 0;
+        for (int i = from; i < to; i++) {
+            int digit = line[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new IllegalArgumentException("Invalid amount");
+            }
+            if (amount > (Long.MAX_VALUE - digit) / 10) {
+                throw new IllegalArgumentException("Amount out of range");
+            }
+            amount = amount * 10 + digit;
+        }
+        return negative ? -amount : amount;
+    }
+}
@@ -0,0 +1,148 @@
+package com.nikhilspring.PaymentService.reconciliation;
+
+import com.nikhilspring.PaymentService.exception.PaymentServiceCustomException;
+import com.nikhilspring.PaymentService.model.ReconciliationMismatch;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads a settlement file in line-aligned chunks, each memory-mapped on its own so several threads can parse at
+ * once without copying the file through a stream. Records are spread over partitions by transaction ID hash, so
+ * every line for one transaction lands in the same partition whichever chunk it came from.
+ */
+public class SettlementFileReader implements AutoCloseable {
+
+    static final int MAX_LINE_LENGTH = 1024;
+    // Keeps each mapping well under the 2 GB a MappedByteBuffer can address
+    private static final long MAX_CHUNK_SIZE = 64L * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final SettlementFileFormat format;
+    private final long size;
+
+    public SettlementFileReader(Path file, SettlementFileFormat format) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.format = format;
+        this.size = channel.size();
+    }
+
+    public record Chunk(long start, long end) {
+    }
+
+    /**
+     * Records of one chunk by partition, in file order, and the lines that could not be parsed
+     */
+    public record ParsedChunk(List<List<SettlementRecord>> partitions, List<ReconciliationMismatch> invalid) {
+    }
+
+    public static int partitionOf(String transactionId, int partitions) {
+        return Math.floorMod(transactionId.hashCode(), partitions);
+    }
+
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Splits the file into about {@code count} chunks, more for a file too large for that many mappings. Every
+     * chunk starts at the beginning of a line.
+     */
+    public List<Chunk> split(int count) throws IOException {
+        long chunkCount = Math.max(count, (size + MAX_CHUNK_SIZE - 1) / MAX_CHUNK_SIZE);
+        List<Chunk> chunks = new ArrayList<>();
+        long start = 0;
+        for (long i = 1; i <= chunkCount && start < size; i++) {
+            long end = i == chunkCount ? size : lineStartAtOrAfter(size * i / chunkCount);
+            if (end > start) {
+                chunks.add(new Chunk(start, end));
+                start = end;
+            }
+        }
+        return chunks;
+    }
+
+    /**
+     * Parses every line that starts in {@code chunk}
+     */
+    public ParsedChunk parse(Chunk chunk, int partitions) {
+        MappedByteBuffer buffer;
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, chunk.start(), chunk.end() - chunk.start());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        List<List<SettlementRecord>> byPartition = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            byPartition.add(new ArrayList<>());
+        }
+        List<ReconciliationMismatch> invalid = new ArrayList<>();
+        byte[] line = new byte[MAX_LINE_LENGTH];
+        int limit = buffer.limit();
+        int lineStart = 0;
+        while (lineStart < limit) {
+            int lineEnd = lineStart;
+            while (lineEnd < limit && buffer.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            int length = lineEnd - lineStart;
+            if (length > 0 && buffer.get(lineEnd - 1) == '\r') {
+                length--;
+            }
+            long position = chunk.start() + lineStart;
+            boolean header = position == 0 && format.hasHeader();
+            if (length > MAX_LINE_LENGTH) {
+                invalid.add(invalidRecord(position, "Line longer than " + MAX_LINE_LENGTH + " bytes"));
+            } else if (length > 0 && !header) {
+                buffer.get(lineStart, line, 0, length);
+                try {
+                    SettlementRecord record = format.parse(line, length, position);
+                    byPartition.get(partitionOf(record.transactionId(), partitions)).add(record);
+                } catch (IllegalArgumentException e) {
+                    invalid.add(invalidRecord(position, e.getMessage()));
+                }
+            }
+            lineStart = lineEnd + 1;
+        }
+        return new ParsedChunk(byPartition, invalid);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private long lineStartAtOrAfter(long offset) throws IOException {
+        // Looks from the byte before, so a chunk that would start exactly on a line keeps it
+        long from = offset - 1;
+        MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, from,
+                Math.min(MAX_LINE_LENGTH + 2, size - from));
+        for (int i = 0; i < window.limit(); i++) {
+            if (window.get(i) == '\n') {
+                return from + i + 1;
+            }
+        }
+        if (from + window.limit() == size) {
+            return size;
+        }
+        throw new PaymentServiceCustomException(
+            "Settlement file has a line longer than " + MAX_LINE_LENGTH + " bytes near byte " + offset,
+            "INVALID_SETTLEMENT_FILE",
+            422
+        );
+    }
+
+    private static ReconciliationMismatch invalidRecord(long position, String detail) {
+        return ReconciliationMismatch.builder()
+                .type(ReconciliationMismatch.Type.INVALID_RECORD)
+                .position(position)
+                .detail(detail)
+                .build();
+    }
+}
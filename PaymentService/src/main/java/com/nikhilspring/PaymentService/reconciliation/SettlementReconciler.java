@@ -0,0 +1,262 @@
+package com.nikhilspring.PaymentService.reconciliation;
+
+import com.nikhilspring.PaymentService.exception.PaymentServiceCustomException;
+import com.nikhilspring.PaymentService.model.PaymentLedgerEntry;
+import com.nikhilspring.PaymentService.model.ReconciliationMismatch;
+import com.nikhilspring.PaymentService.model.ReconciliationReport;
+import com.nikhilspring.PaymentService.repository.TransactionDetailsRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Checks a bank settlement file against PAYMENT_DETAILS.
+ *
+ * The file is parsed in memory-mapped chunks on a fork-join pool, with each record put in a partition by the hash
+ * of its transaction ID. Partitions are then matched in parallel, each looking its transaction IDs up in batched IN
+ * queries; since one transaction always hashes to one partition, duplicate lines are caught without sharing state
+ * between workers. Payments missing from the file are not looked for.
+ */
+@Service
+@Log4j2
+public class SettlementReconciler {
+
+    // The bank's status for a completed transfer; it matches a SUCCESS payment
+    static final String SETTLED = "SETTLED";
+    private static final String SUCCESS = "SUCCESS";
+    private static final int CHUNKS_PER_WORKER = 4;
+    private static final int PARTITIONS_PER_WORKER = 4;
+
+    private final TransactionDetailsRepository transactionDetailsRepository;
+    private final MeterRegistry meterRegistry;
+    private final Path directory;
+    private final int parallelism;
+    private final int partitions;
+    private final int batchSize;
+    private final int maxReportedMismatches;
+    private final ForkJoinPool pool;
+    private final Counter recordsRead;
+    private final Timer duration;
+
+    public SettlementReconciler(TransactionDetailsRepository transactionDetailsRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${payment.reconciliation.directory:settlements}") String directory,
+                                @Value("${payment.reconciliation.parallelism:4}") int parallelism,
+                                @Value("${payment.reconciliation.batch-size:1000}") int batchSize,
+                                @Value("${payment.reconciliation.max-reported-mismatches:1000}") int maxReportedMismatches) {
+        this.transactionDetailsRepository = transactionDetailsRepository;
+        this.meterRegistry = meterRegistry;
+        this.directory = Path.of(directory).toAbsolutePath().normalize();
+        this.parallelism = parallelism;
+        this.partitions = parallelism * PARTITIONS_PER_WORKER;
+        this.batchSize = batchSize;
+        this.maxReportedMismatches = maxReportedMismatches;
+        this.pool = new ForkJoinPool(parallelism);
+        this.recordsRead = Counter.builder("payment.reconciliation.records")
+                .description("Settlement file lines reconciled")
+                .register(meterRegistry);
+        this.duration = Timer.builder("payment.reconciliation.duration")
+                .description("Time to reconcile one settlement file")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Reconciles {@code fileName}, a file in the settlement directory
+     */
+    public ReconciliationReport reconcile(String fileName, SettlementFileFormat format) {
+        Path file = directory.resolve(fileName).normalize();
+        if (!file.startsWith(directory) || !Files.isRegularFile(file)) {
+            throw new PaymentServiceCustomException(
+                "Settlement file not found: " + fileName,
+                "SETTLEMENT_FILE_NOT_FOUND",
+                404
+            );
+        }
+        long startTime = System.nanoTime();
+        try (SettlementFileReader reader = new SettlementFileReader(file, format)) {
+            List<SettlementFileReader.ParsedChunk> chunks = joinAll(reader.split(parallelism * CHUNKS_PER_WORKER)
+                    .stream()
+                    .map(chunk -> pool.submit(() -> reader.parse(chunk, partitions)))
+                    .toList());
+            long parsedTime = System.nanoTime();
+            List<PartitionResult> results = joinAll(IntStream.range(0, partitions)
+                    .mapToObj(partition -> pool.submit(() -> matchPartition(recordsOf(chunks, partition))))
+                    .toList());
+            long endTime = System.nanoTime();
+
+            PartitionResult total = new PartitionResult(Integer.MAX_VALUE);
+            chunks.forEach(chunk -> chunk.invalid().forEach(total::add));
+            results.forEach(total::merge);
+            return report(fileName, format, reader.size(), total, startTime, parsedTime, endTime);
+        } catch (IOException | UncheckedIOException e) {
+            throw new PaymentServiceCustomException(
+                "Cannot read settlement file " + fileName + ": " + e.getMessage(),
+                "SETTLEMENT_FILE_UNREADABLE",
+                500
+            );
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private static <T> List<T> joinAll(List<ForkJoinTask<T>> tasks) {
+        return tasks.stream().map(ForkJoinTask::join).toList();
+    }
+
+    private static List<SettlementRecord> recordsOf(List<SettlementFileReader.ParsedChunk> chunks, int partition) {
+        List<SettlementRecord> records = new ArrayList<>();
+        chunks.forEach(chunk -> records.addAll(chunk.partitions().get(partition)));
+        return records;
+    }
+
+    private PartitionResult matchPartition(List<SettlementRecord> records) {
+        PartitionResult result = new PartitionResult(maxReportedMismatches);
+        Set<String> seen = new HashSet<>();
+        List<SettlementRecord> batch = new ArrayList<>(batchSize);
+        for (SettlementRecord record : records) {
+            result.records++;
+            if (!seen.add(record.transactionId())) {
+                result.add(mismatch(ReconciliationMismatch.Type.DUPLICATE_IN_FILE, record, null));
+                continue;
+            }
+            batch.add(record);
+            if (batch.size() == batchSize) {
+                matchBatch(batch, result);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            matchBatch(batch, result);
+        }
+        return result;
+    }
+
+    private void matchBatch(List<SettlementRecord> batch, PartitionResult result) {
+        Map<String, PaymentLedgerEntry> ledger = new HashMap<>();
+        transactionDetailsRepository.findLedgerEntries(batch.stream().map(SettlementRecord::transactionId).toList())
+                .forEach(entry -> ledger.putIfAbsent(entry.transactionId(), entry));
+        result.queries++;
+        for (SettlementRecord record : batch) {
+            PaymentLedgerEntry entry = ledger.get(record.transactionId());
+            if (entry == null) {
+                result.add(mismatch(ReconciliationMismatch.Type.MISSING_PAYMENT, record, null));
+            } else if (entry.amount() != record.amount()) {
+                result.add(mismatch(ReconciliationMismatch.Type.AMOUNT_MISMATCH, record, entry));
+            } else if (SETTLED.equalsIgnoreCase(record.status()) != SUCCESS.equals(entry.status())) {
+                result.add(mismatch(ReconciliationMismatch.Type.STATUS_MISMATCH, record, entry));
+            } else {
+                result.matched++;
+            }
+        }
+    }
+
+    private static ReconciliationMismatch mismatch(ReconciliationMismatch.Type type, SettlementRecord record,
+                                                   PaymentLedgerEntry entry) {
+        return ReconciliationMismatch.builder()
+                .type(type)
+                .transactionId(record.transactionId())
+                .position(record.position())
+                .settledAmount(record.amount())
+                .settledStatus(record.status())
+                .recordedAmount(entry == null ? null : entry.amount())
+                .recordedStatus(entry == null ? null : entry.status())
+                .build();
+    }
+
+    private ReconciliationReport report(String fileName, SettlementFileFormat format, long bytes, PartitionResult total,
+                                        long startTime, long parsedTime, long endTime) {
+        long elapsedNanos = Math.max(1, endTime - startTime);
+        long mismatched = total.countsByType.values().stream().mapToLong(Long::longValue).sum();
+        recordsRead.increment(total.records);
+        total.countsByType.forEach((type, count) -> Counter.builder("payment.reconciliation.mismatches")
+                .description("Settlement file lines that did not match a payment")
+                .tag("type", type.name())
+                .register(meterRegistry)
+                .increment(count));
+        duration.record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        ReconciliationReport report = ReconciliationReport.builder()
+                .file(fileName)
+                .format(format)
+                .bytes(bytes)
+                .records(total.records)
+                .matched(total.matched)
+                .mismatched(mismatched)
+                .mismatchesByType(total.countsByType)
+                .mismatches(total.mismatches.stream()
+                        .sorted(Comparator.comparingLong(ReconciliationMismatch::getPosition))
+                        .limit(maxReportedMismatches)
+                        .toList())
+                .partitions(partitions)
+                .queries(total.queries)
+                .parseMillis(TimeUnit.NANOSECONDS.toMillis(parsedTime - startTime))
+                .matchMillis(TimeUnit.NANOSECONDS.toMillis(endTime - parsedTime))
+                .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+                .recordsPerSecond(total.records * 1_000_000_000L / elapsedNanos)
+                .bytesPerSecond(bytes * 1_000_000_000L / elapsedNanos)
+                .build();
+        log.info("Reconciled {}: {} records, {} matched, {} mismatched {} in {} ms ({} records/s)", fileName,
+                report.getRecords(), report.getMatched(), mismatched, total.countsByType, report.getElapsedMillis(),
+                report.getRecordsPerSecond());
+        return report;
+    }
+
+    /**
+     * Counts of one partition, or of all of them once merged. Only the first {@code maxListed} mismatches are kept.
+     */
+    private static final class PartitionResult {
+
+        private final int maxListed;
+        private final Map<ReconciliationMismatch.Type, Long> countsByType = new EnumMap<>(ReconciliationMismatch.Type.class);
+        private final List<ReconciliationMismatch> mismatches = new ArrayList<>();
+        private long records;
+        private long matched;
+        private long queries;
+
+        PartitionResult(int maxListed) {
+            this.maxListed = maxListed;
+        }
+
+        void add(ReconciliationMismatch mismatch) {
+            if (mismatch.getType() == ReconciliationMismatch.Type.INVALID_RECORD) {
+                records++;
+            }
+            countsByType.merge(mismatch.getType(), 1L, Long::sum);
+            if (mismatches.size() < maxListed) {
+                mismatches.add(mismatch);
+            }
+        }
+
+        void merge(PartitionResult other) {
+            records += other.records;
+            matched += other.matched;
+            queries += other.queries;
+            other.countsByType.forEach((type, count) -> countsByType.merge(type, count, Long::sum));
+            mismatches.addAll(other.mismatches);
+        }
+    }
+}
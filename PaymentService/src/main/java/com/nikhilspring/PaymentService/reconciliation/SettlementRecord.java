@@ -0,0 +1,7 @@
+package com.nikhilspring.PaymentService.reconciliation;
+
+/**
+ * One line of a settlement file; {@code position} is its byte offset in the file
+ */
+public record SettlementRecord(String transactionId, long amount, String status, long position) {
+}
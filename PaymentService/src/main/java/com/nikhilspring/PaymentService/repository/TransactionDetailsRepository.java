@@ -1,11 +1,71 @@
 package com.nikhilspring.PaymentService.repository;
 
 import com.nikhilspring.PaymentService.entity.TransactionDetails;
+import com.nikhilspring.PaymentService.model.PaymentLedgerEntry;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface TransactionDetailsRepository extends JpaRepository<TransactionDetails, Long> {
-    Optional<TransactionDetails> findByPolicyId(long policyId);
-    Optional<TransactionDetails> findByCustomerId(String customerId);
+    boolean existsByPremiumPolicyId(long premiumPolicyId);
+
+    // The most recent payment, now that a policy or customer may have several
+    Optional<TransactionDetails> findFirstByPolicyIdOrderByPaymentDateDescIdDesc(long policyId);
+    Optional<TransactionDetails> findFirstByCustomerIdOrderByPaymentDateDescIdDesc(String customerId);
+
+    // History pages, newest first. A page after the first starts below the (paymentDate, id) of the last row
+    // before it, which the (owner, PAYMENT_DATE) indexes seek to directly however long the history is
+
+    @Query("SELECT t FROM TransactionDetails t WHERE t.customerId = :customerId " +
+           "ORDER BY t.paymentDate DESC, t.id DESC")
+    List<TransactionDetails> findHistoryByCustomerId(@Param("customerId") String customerId, Limit limit);
+
+    @Query("SELECT t FROM TransactionDetails t WHERE t.customerId = :customerId " +
+           "AND (t.paymentDate < :paymentDate OR (t.paymentDate = :paymentDate AND t.id < :id)) " +
+           "ORDER BY t.paymentDate DESC, t.id DESC")
+    List<TransactionDetails> findHistoryByCustomerIdBefore(@Param("customerId") String customerId,
+                                                           @Param("paymentDate") Instant paymentDate,
+                                                           @Param("id") long id,
+                                                           Limit limit);
+
+    @Query("SELECT t FROM TransactionDetails t WHERE t.policyId = :policyId " +
+           "ORDER BY t.paymentDate DESC, t.id DESC")
+    List<TransactionDetails> findHistoryByPolicyId(@Param("policyId") long policyId, Limit limit);
+
+    @Query("SELECT t FROM TransactionDetails t WHERE t.policyId = :policyId " +
+           "AND (t.paymentDate < :paymentDate OR (t.paymentDate = :paymentDate AND t.id < :id)) " +
+           "ORDER BY t.paymentDate DESC, t.id DESC")
+    List<TransactionDetails> findHistoryByPolicyIdBefore(@Param("policyId") long policyId,
+                                                         @Param("paymentDate") Instant paymentDate,
+                                                         @Param("id") long id,
+                                                         Limit limit);
+
+    // Export scan in (PAYMENT_DATE, ID) order along IDX_PAYMENT_DETAILS_DATE. The fetch size has MySQL read through a
+    // server-side cursor (useCursorFetch) instead of buffering the whole result, and read-only rows keep no snapshot;
+    // the stream must be consumed inside a transaction and closed
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM TransactionDetails t WHERE t.paymentDate >= :from AND t.paymentDate < :to " +
+           "AND (:status IS NULL OR t.paymentStatus = :status) " +
+           "ORDER BY t.paymentDate, t.id")
+    Stream<TransactionDetails> streamForExport(@Param("from") Instant from,
+                                               @Param("to") Instant to,
+                                               @Param("status") String status);
+
+    // Settlement reconciliation looks up a batch of transaction IDs at a time, reading only the compared columns
+    @Query("SELECT new com.nikhilspring.PaymentService.model.PaymentLedgerEntry(t.transactionId, t.amount, t.paymentStatus) " +
+           "FROM TransactionDetails t WHERE t.transactionId IN :transactionIds")
+    List<PaymentLedgerEntry> findLedgerEntries(@Param("transactionIds") Collection<String> transactionIds);
 }
@@ -0,0 +1,194 @@
+package com.nikhilspring.PaymentService.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nikhilspring.PaymentService.entity.TransactionDetails;
+import com.nikhilspring.PaymentService.exception.PaymentServiceCustomException;
+import com.nikhilspring.PaymentService.model.PaymentExportFormat;
+import com.nikhilspring.PaymentService.repository.TransactionDetailsRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes the payments of a date range to a stream as CSV or NDJSON while reading them from a forward-only cursor.
+ *
+ * Each row is detached once written, so memory stays flat however many rows match. Writes block while the client
+ * is behind, which holds the cursor back instead of letting rows pile up in memory.
+ */
+@Service
+@Log4j2
+public class PaymentExporter {
+
+    static final String CSV_HEADER = "paymentId,transactionId,policyId,policyNumber,customerId,paymentType,"
+            + "paymentMode,status,amount,paymentDate,referenceNumber";
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    @Autowired
+    private TransactionDetailsRepository transactionDetailsRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Checked before the response starts, so a bad request still gets a JSON error
+     */
+    public void checkExport(Instant from, Instant to) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new PaymentServiceCustomException(
+                "Export range must have from before to: " + from + " - " + to,
+                "INVALID_DATE_RANGE",
+                400
+            );
+        }
+    }
+
+    /**
+     * Writes every payment with {@code from <= paymentDate < to}, and of {@code status} when given, in payment date
+     * order. Returns the number of payments written.
+     */
+    @Transactional(readOnly = true)
+    public long export(Instant from, Instant to, String status, PaymentExportFormat format, OutputStream out)
+            throws IOException {
+        checkExport(from, to);
+        String statusFilter = status == null || status.isBlank() ? null : status.trim();
+        long startTime = System.currentTimeMillis();
+        long count = 0;
+        try (Stream<TransactionDetails> payments = transactionDetailsRepository.streamForExport(from, to, statusFilter);
+             RowWriter rowWriter = format == PaymentExportFormat.CSV ? new CsvRowWriter(out) : new NdjsonRowWriter(out)) {
+            Iterator<TransactionDetails> rows = payments.iterator();
+            while (rows.hasNext()) {
+                TransactionDetails payment = rows.next();
+                rowWriter.write(payment);
+                entityManager.detach(payment);
+                count++;
+            }
+        }
+        log.info("Exported {} payments from {} to {} with status {} as {} in {} ms", count, from, to, statusFilter,
+                format, System.currentTimeMillis() - startTime);
+        return count;
+    }
+
+    private interface RowWriter extends AutoCloseable {
+        void write(TransactionDetails payment) throws IOException;
+
+        // Flushes what is buffered; the response stream itself is left to the container
+        @Override
+        void close() throws IOException;
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+
+        CsvRowWriter(OutputStream out) throws IOException {
+            writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        @Override
+        public void write(TransactionDetails payment) throws IOException {
+            writer.write(Long.toString(payment.getId()));
+            writer.write(',');
+            writeText(payment.getTransactionId());
+            writer.write(',');
+            writer.write(Long.toString(payment.getPolicyId()));
+            writer.write(',');
+            writeText(payment.getPolicyNumber());
+            writer.write(',');
+            writeText(payment.getCustomerId());
+            writer.write(',');
+            writeText(payment.getPaymentType());
+            writer.write(',');
+            writeText(payment.getPaymentMode());
+            writer.write(',');
+            writeText(payment.getPaymentStatus());
+            writer.write(',');
+            writer.write(Long.toString(payment.getAmount()));
+            writer.write(',');
+            if (payment.getPaymentDate() != null) {
+                writer.write(payment.getPaymentDate().toString());
+            }
+            writer.write(',');
+            writeText(payment.getReferenceNumber());
+            writer.write('\n');
+        }
+
+        /**
+         * RFC 4180 quoting, only for values that need it
+         */
+        private void writeText(String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+
+    /**
+     * One object per line with the field names of PaymentResponse
+     */
+    private final class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(OutputStream out) throws IOException {
+            generator = objectMapper.getFactory().createGenerator(out);
+            generator.setRootValueSeparator(null);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        public void write(TransactionDetails payment) throws IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("paymentId", payment.getId());
+            generator.writeStringField("status", payment.getPaymentStatus());
+            generator.writeStringField("paymentMode", payment.getPaymentMode());
+            generator.writeNumberField("amount", payment.getAmount());
+            generator.writeStringField("paymentDate",
+                    payment.getPaymentDate() == null ? null : payment.getPaymentDate().toString());
+            generator.writeNumberField("policyId", payment.getPolicyId());
+            generator.writeStringField("paymentType", payment.getPaymentType());
+            generator.writeStringField("referenceNumber", payment.getReferenceNumber());
+            generator.writeStringField("customerId", payment.getCustomerId());
+            generator.writeStringField("policyNumber", payment.getPolicyNumber());
+            generator.writeStringField("transactionId", payment.getTransactionId());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+}
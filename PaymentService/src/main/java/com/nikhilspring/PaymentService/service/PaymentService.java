@@ -1,5 +1,6 @@
 package com.nikhilspring.PaymentService.service;
 
+import com.nikhilspring.PaymentService.model.PaymentHistoryPage;
 import com.nikhilspring.PaymentService.model.PaymentRequest;
 import com.nikhilspring.PaymentService.model.PaymentResponse;
 
@@ -9,4 +10,16 @@ public interface PaymentService {
     PaymentResponse getPaymentDetailsByPolicyId(String policyId);
 
     PaymentResponse getPaymentDetailsByCustomerId(String customerId);
+
+    /**
+     * Up to {@code size} of the customer's payments, newest first, starting after {@code cursor} or at the latest
+     * payment when it is null
+     */
+    PaymentHistoryPage getPaymentHistoryByCustomerId(String customerId, String cursor, int size);
+
+    /**
+     * Up to {@code size} of the policy's payments, newest first, starting after {@code cursor} or at the latest
+     * payment when it is null
+     */
+    PaymentHistoryPage getPaymentHistoryByPolicyId(String policyId, String cursor, int size);
 }
\ No newline at end of file
@@ -1,45 +1,69 @@
 package com.nikhilspring.PaymentService.service;
 
 import com.nikhilspring.PaymentService.entity.TransactionDetails;
+import com.nikhilspring.PaymentService.event.PaymentEventProducer;
 import com.nikhilspring.PaymentService.exception.PaymentServiceCustomException;
+import com.nikhilspring.PaymentService.model.PaymentHistoryCursor;
+import com.nikhilspring.PaymentService.model.PaymentHistoryPage;
 import com.nikhilspring.PaymentService.model.PaymentMode;
 import com.nikhilspring.PaymentService.model.PaymentRequest;
 import com.nikhilspring.PaymentService.model.PaymentResponse;
 import com.nikhilspring.PaymentService.repository.TransactionDetailsRepository;
-import com.nikhilspring.PaymentService.validation.PaymentValidationUtil;
+import com.nikhilspring.PaymentService.validation.PaymentValidationRules;
+import com.nikhilspring.common.id.BusinessNumberGenerator;
+import com.nikhilspring.insurance.events.PaymentStatus;
+import com.nikhilspring.insurance.events.PaymentType;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 
 @Service
 @Log4j2
 public class PaymentServiceImpl implements PaymentService{
 
+    static final int MAX_PAGE_SIZE = 100;
+
     @Autowired
     private TransactionDetailsRepository transactionDetailsRepository;
 
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private PaymentEventProducer paymentEventProducer;
+
+    @Autowired
+    private BusinessNumberGenerator businessNumberGenerator;
+
     @Override
-    @CacheEvict(value = {"payments", "payment-status"}, allEntries = true)
+    @Transactional
     public long processPayment(PaymentRequest paymentRequest) {
         log.info("Processing Payment: {}", paymentRequest);
 
-        // Validate payment request using utility
-        PaymentValidationUtil.validatePaymentRequest(paymentRequest);
+        // Validate payment request
+        PaymentValidationRules.PAYMENT_REQUEST.validate(paymentRequest);
 
         // Validate policy exists and is active
         validatePolicyExists(paymentRequest.getPolicyId(), paymentRequest.getPolicyNumber());
 
-        // Check if payment already exists for this policy
-        Optional<TransactionDetails> existingPayment = transactionDetailsRepository.findByPolicyId(paymentRequest.getPolicyId());
-        if (existingPayment.isPresent()) {
+        // One premium per policy; renewals, fees and claim payments may repeat. A concurrent premium that passes
+        // this check is turned away by the unique key on PREMIUM_POLICY_ID when it is flushed
+        boolean premium = "PREMIUM".equalsIgnoreCase(paymentRequest.getPaymentType());
+        if (premium && transactionDetailsRepository.existsByPremiumPolicyId(paymentRequest.getPolicyId())) {
             throw new PaymentServiceCustomException(
-                "Payment already exists for policy ID: " + paymentRequest.getPolicyId(),
+                "Premium payment already exists for policy ID: " + paymentRequest.getPolicyId(),
                 "PAYMENT_ALREADY_EXISTS",
                 409
             );
@@ -55,6 +79,7 @@ public class PaymentServiceImpl implements PaymentService{
                 .paymentType(paymentRequest.getPaymentType())
                 .paymentStatus("SUCCESS")
                 .policyId(paymentRequest.getPolicyId())
+                .premiumPolicyId(premium ? paymentRequest.getPolicyId() : null)
                 .customerId(paymentRequest.getCustomerId())
                 .policyNumber(paymentRequest.getPolicyNumber())
                 .referenceNumber(paymentRequest.getReferenceNumber())
@@ -64,9 +89,20 @@ public class PaymentServiceImpl implements PaymentService{
                 .build();
 
         try {
-            transactionDetailsRepository.save(transactionDetails);
+            // Flushed here so a concurrent premium for the same policy is turned away by the unique key below
+            transactionDetailsRepository.saveAndFlush(transactionDetails);
+            // Same transaction as the payment row: the event is published if and only if the payment commits
+            queuePaymentEvent(transactionDetails);
             log.info("Payment Transaction Completed with Id: {}", transactionDetails.getId());
+            updateCachesAfterCommit(transactionDetails);
             return transactionDetails.getId();
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Concurrent premium for policy ID {} lost the race: {}", paymentRequest.getPolicyId(), e.getMessage());
+            throw new PaymentServiceCustomException(
+                "Premium payment already exists for policy ID: " + paymentRequest.getPolicyId(),
+                "PAYMENT_ALREADY_EXISTS",
+                409
+            );
         } catch (Exception e) {
             log.error("Error saving payment transaction: {}", e.getMessage());
             throw new PaymentServiceCustomException(
@@ -120,16 +156,16 @@ public class PaymentServiceImpl implements PaymentService{
     }
 
     @Override
-    @Cacheable(value = "payments", key = "'policy-' + #policyId")
+    @Cacheable(value = "payments", key = "'policy-' + #policyId", sync = true)
     public PaymentResponse getPaymentDetailsByPolicyId(String policyId) {
         log.info("Getting payment details for the Policy Id: {}", policyId);
 
-        // Validate policy ID using utility
-        PaymentValidationUtil.validatePolicyId(policyId);
+        // Validate policy ID
+        PaymentValidationRules.POLICY_ID.validate(policyId);
 
         try {
             Long policyIdLong = Long.valueOf(policyId);
-            Optional<TransactionDetails> transactionDetailsOpt = transactionDetailsRepository.findByPolicyId(policyIdLong);
+            Optional<TransactionDetails> transactionDetailsOpt = transactionDetailsRepository.findFirstByPolicyIdOrderByPaymentDateDescIdDesc(policyIdLong);
 
             if (transactionDetailsOpt.isEmpty()) {
                 throw new PaymentServiceCustomException(
@@ -150,14 +186,14 @@ public class PaymentServiceImpl implements PaymentService{
     }
 
     @Override
-    @Cacheable(value = "payments", key = "'customer-' + #customerId")
+    @Cacheable(value = "payments", key = "'customer-' + #customerId", sync = true)
     public PaymentResponse getPaymentDetailsByCustomerId(String customerId) {
         log.info("Getting payment details for the Customer Id: {}", customerId);
 
-        // Validate customer ID using utility
-        PaymentValidationUtil.validateCustomerId(customerId);
+        // Validate customer ID
+        PaymentValidationRules.CUSTOMER_ID.validate(customerId);
 
-        Optional<TransactionDetails> transactionDetailsOpt = transactionDetailsRepository.findByCustomerId(customerId);
+        Optional<TransactionDetails> transactionDetailsOpt = transactionDetailsRepository.findFirstByCustomerIdOrderByPaymentDateDescIdDesc(customerId);
 
         if (transactionDetailsOpt.isEmpty()) {
             throw new PaymentServiceCustomException(
@@ -170,6 +206,158 @@ public class PaymentServiceImpl implements PaymentService{
         return buildPaymentResponse(transactionDetailsOpt.get());
     }
 
+    /**
+     * Only pages behind a cursor are cached: payments are appended newest first, so those pages keep their content
+     * while the first page changes with every new payment
+     */
+    @Override
+    @Cacheable(value = "payment-history", key = "'customer-' + #customerId + ':' + #size + ':' + #cursor",
+            condition = "#cursor != null", sync = true)
+    public PaymentHistoryPage getPaymentHistoryByCustomerId(String customerId, String cursor, int size) {
+        log.info("Getting payment history for the Customer Id: {}, cursor: {}", customerId, cursor);
+
+        PaymentValidationRules.CUSTOMER_ID.validate(customerId);
+        checkPageSize(size);
+
+        Limit limit = Limit.of(size + 1);
+        List<TransactionDetails> payments;
+        if (cursor == null) {
+            payments = transactionDetailsRepository.findHistoryByCustomerId(customerId, limit);
+        } else {
+            PaymentHistoryCursor after = PaymentHistoryCursor.decode(cursor);
+            payments = transactionDetailsRepository.findHistoryByCustomerIdBefore(customerId, after.paymentDate(),
+                    after.id(), limit);
+        }
+        return buildHistoryPage(payments, size);
+    }
+
+    @Override
+    @Cacheable(value = "payment-history", key = "'policy-' + #policyId + ':' + #size + ':' + #cursor",
+            condition = "#cursor != null", sync = true)
+    public PaymentHistoryPage getPaymentHistoryByPolicyId(String policyId, String cursor, int size) {
+        log.info("Getting payment history for the Policy Id: {}, cursor: {}", policyId, cursor);
+
+        PaymentValidationRules.POLICY_ID.validate(policyId);
+        checkPageSize(size);
+
+        long policyIdLong;
+        try {
+            policyIdLong = Long.parseLong(policyId);
+        } catch (NumberFormatException e) {
+            throw new PaymentServiceCustomException(
+                "Invalid policy ID format: " + policyId,
+                "INVALID_POLICY_ID_FORMAT",
+                400
+            );
+        }
+
+        Limit limit = Limit.of(size + 1);
+        List<TransactionDetails> payments;
+        if (cursor == null) {
+            payments = transactionDetailsRepository.findHistoryByPolicyId(policyIdLong, limit);
+        } else {
+            PaymentHistoryCursor after = PaymentHistoryCursor.decode(cursor);
+            payments = transactionDetailsRepository.findHistoryByPolicyIdBefore(policyIdLong, after.paymentDate(),
+                    after.id(), limit);
+        }
+        return buildHistoryPage(payments, size);
+    }
+
+    private static void checkPageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new PaymentServiceCustomException(
+                "Page size must be between 1 and " + MAX_PAGE_SIZE + ": " + size,
+                "INVALID_PAGE_SIZE",
+                400
+            );
+        }
+    }
+
+    /**
+     * {@code payments} holds one row more than the page when there is a next page; that row only sets the cursor
+     */
+    private PaymentHistoryPage buildHistoryPage(List<TransactionDetails> payments, int size) {
+        List<TransactionDetails> page = payments.size() > size ? payments.subList(0, size) : payments;
+        String nextCursor = null;
+        if (payments.size() > size) {
+            TransactionDetails last = page.get(page.size() - 1);
+            nextCursor = new PaymentHistoryCursor(last.getPaymentDate(), last.getId()).encode();
+        }
+        return PaymentHistoryPage.builder()
+                .payments(page.stream().map(this::buildPaymentResponse).toList())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * PREMIUM activates the policy and CLAIM_PAYMENT settles a claim. RENEWAL and ADMINISTRATIVE_FEE have no event
+     * type and no consumer, so they publish nothing rather than pass for a premium.
+     */
+    private void queuePaymentEvent(TransactionDetails transactionDetails) {
+        PaymentType paymentType = eventPaymentType(transactionDetails.getPaymentType());
+        if (paymentType == null) {
+            log.info("No payment event for {} payment {}", transactionDetails.getPaymentType(), transactionDetails.getId());
+        } else if (paymentType == PaymentType.CLAIM_PAYMENT) {
+            paymentEventProducer.publishPaymentEvent(transactionDetails.getId(), transactionDetails.getPolicyId(), null,
+                    transactionDetails.getCustomerId(), (double) transactionDetails.getAmount(),
+                    PaymentStatus.COMPLETED, PaymentType.CLAIM_PAYMENT);
+        } else {
+            paymentEventProducer.publishPolicyPaymentCompleted(transactionDetails.getId(),
+                    transactionDetails.getPolicyId(), transactionDetails.getCustomerId(),
+                    (double) transactionDetails.getAmount());
+        }
+    }
+
+    /**
+     * The event type for a request payment type, matched ignoring case as the request was validated; null if none
+     */
+    private static PaymentType eventPaymentType(String paymentType) {
+        for (PaymentType type : PaymentType.values()) {
+            if (type.name().equalsIgnoreCase(paymentType)) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Caches change only once the payment has committed: a read between an earlier eviction and the commit would
+     * re-cache the old state, and a rolled-back payment must not be served from the cache
+     */
+    private void updateCachesAfterCommit(TransactionDetails transactionDetails) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            updateCaches(transactionDetails);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                updateCaches(transactionDetails);
+            }
+        });
+    }
+
+    /**
+     * Evicts the customer's payments and the policy's status, and writes the new payment through under its policy
+     * key, which holds the policy's most recent payment
+     */
+    private void updateCaches(TransactionDetails transactionDetails) {
+        try {
+            Cache payments = cacheManager.getCache("payments");
+            Cache paymentStatus = cacheManager.getCache("payment-status");
+            if (paymentStatus != null) {
+                paymentStatus.evict("policy-" + transactionDetails.getPolicyId());
+            }
+            if (payments != null) {
+                payments.evict("customer-" + transactionDetails.getCustomerId());
+                payments.put("policy-" + transactionDetails.getPolicyId(), buildPaymentResponse(transactionDetails));
+            }
+        } catch (Exception e) {
+            // The payment is already saved; entries left behind expire with their TTL
+            log.warn("Could not update caches for policy ID {}: {}", transactionDetails.getPolicyId(), e.getMessage());
+        }
+    }
+
     private PaymentResponse buildPaymentResponse(TransactionDetails transactionDetails) {
         return PaymentResponse.builder()
                 .paymentId(transactionDetails.getId())
@@ -187,6 +375,6 @@ public class PaymentServiceImpl implements PaymentService{
     }
 
     private String generateTransactionId() {
-        return "TXN-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+        return businessNumberGenerator.next("TXN");
     }
 }
\ No newline at end of file
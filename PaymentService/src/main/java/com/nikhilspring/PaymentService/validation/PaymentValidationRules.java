@@ -0,0 +1,80 @@
+package com.nikhilspring.PaymentService.validation;
+
+import com.nikhilspring.PaymentService.exception.PaymentServiceCustomException;
+import com.nikhilspring.PaymentService.model.PaymentRequest;
+import com.nikhilspring.common.validation.CharClass;
+import com.nikhilspring.common.validation.RequestValidator;
+import com.nikhilspring.common.validation.ValidationExceptionFactory;
+
+import java.util.List;
+import java.util.function.Function;
+
+public final class PaymentValidationRules {
+
+    /**
+     * Rejects an invalid request with a 400
+     */
+    public static final ValidationExceptionFactory EXCEPTIONS = (message, errorCode) ->
+            new PaymentServiceCustomException(message, errorCode, 400);
+
+    private static final List<String> PAYMENT_TYPES = List.of("PREMIUM", "RENEWAL", "CLAIM_PAYMENT", "ADMINISTRATIVE_FEE");
+
+    public static final RequestValidator<PaymentRequest> PAYMENT_REQUEST = RequestValidator
+            .<PaymentRequest>builder(EXCEPTIONS, "INVALID_REQUEST", "Payment request cannot be null")
+            .positive(PaymentRequest::getPolicyId, "INVALID_POLICY_ID",
+                    paymentRequest -> "Invalid policy ID: " + paymentRequest.getPolicyId())
+            .positive(PaymentRequest::getAmount, "INVALID_AMOUNT", "Payment amount must be greater than 0")
+            .notNull(PaymentRequest::getPaymentMode, "INVALID_PAYMENT_MODE", "Payment mode cannot be null")
+            .notBlank(PaymentRequest::getPaymentType, "INVALID_PAYMENT_TYPE", "Payment type cannot be null or empty")
+            .notBlank(PaymentRequest::getCustomerId, "INVALID_CUSTOMER_ID", "Customer ID cannot be null or empty")
+            .notBlank(PaymentRequest::getReferenceNumber, "INVALID_REFERENCE_NUMBER", "Reference number cannot be null or empty")
+            .notBlank(PaymentRequest::getPolicyNumber, "INVALID_POLICY_NUMBER", "Policy number cannot be null or empty")
+            .oneOfIgnoreCase(PaymentRequest::getPaymentType, PAYMENT_TYPES, "INVALID_PAYMENT_TYPE",
+                    paymentRequest -> "Invalid payment type: " + paymentRequest.getPaymentType()
+                            + ". Valid types are: " + String.join(", ", PAYMENT_TYPES))
+            .build();
+
+    /**
+     * A policy ID path variable. Digits past the range of a long still fail to parse in the service, under the
+     * same INVALID_POLICY_ID_FORMAT code.
+     */
+    public static final RequestValidator<String> POLICY_ID = RequestValidator
+            .<String>builder(EXCEPTIONS, "INVALID_POLICY_ID", "Policy ID cannot be null or empty")
+            .notBlank(Function.identity(), "INVALID_POLICY_ID", "Policy ID cannot be null or empty")
+            .require(policyId -> RequestValidator.isBlank(policyId) || isInteger(policyId), "INVALID_POLICY_ID_FORMAT",
+                    policyId -> "Invalid policy ID format: " + policyId)
+            .build();
+
+    public static final RequestValidator<String> CUSTOMER_ID = RequestValidator
+            .<String>builder(EXCEPTIONS, "INVALID_CUSTOMER_ID", "Customer ID cannot be null or empty")
+            .notBlank(Function.identity(), "INVALID_CUSTOMER_ID", "Customer ID cannot be null or empty")
+            .build();
+
+    public static final int IDEMPOTENCY_KEY_MAX_LENGTH = 64;
+
+    public static final RequestValidator<String> IDEMPOTENCY_KEY = RequestValidator
+            .<String>builder(EXCEPTIONS, "MISSING_IDEMPOTENCY_KEY", "Idempotency key cannot be null or empty")
+            .notBlank(Function.identity(), "MISSING_IDEMPOTENCY_KEY", "Idempotency key cannot be null or empty")
+            .require(key -> key == null || key.length() <= IDEMPOTENCY_KEY_MAX_LENGTH, "INVALID_IDEMPOTENCY_KEY",
+                    key -> "Idempotency key must be at most " + IDEMPOTENCY_KEY_MAX_LENGTH + " characters: " + key)
+            .build();
+
+    private PaymentValidationRules() {
+    }
+
+    /**
+     * An optional sign followed by digits, the form Long.valueOf accepts
+     */
+    private static boolean isInteger(String value) {
+        int start = value.charAt(0) == '-' || value.charAt(0) == '+' ? 1 : 0;
+        if (start == value.length()) {
+            return false;
+        }
+        for (int i = start; i < value.length(); i++) {
+            if (!CharClass.DIGITS.contains(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
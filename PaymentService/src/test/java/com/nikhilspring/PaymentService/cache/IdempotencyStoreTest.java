@@ -0,0 +1,177 @@
+package com.nikhilspring.PaymentService.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nikhilspring.PaymentService.exception.PaymentServiceCustomException;
+import com.nikhilspring.PaymentService.model.PaymentMode;
+import com.nikhilspring.PaymentService.model.PaymentRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IdempotencyStoreTest {
+
+    private final Map<String, String> redis = new ConcurrentHashMap<>();
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    private final AtomicInteger runs = new AtomicInteger();
+
+    private IdempotencyStore store;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenAnswer(invocation -> redis.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1)) == null);
+        when(valueOperations.get(anyString())).thenAnswer(invocation -> redis.get(invocation.<String>getArgument(0)));
+        doAnswer(invocation -> redis.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any()))
+                .thenAnswer(invocation -> redis.remove(invocation.<List<String>>getArgument(1).get(0),
+                        invocation.<String>getArgument(2)) ? 1L : 0L);
+        store = new IdempotencyStore(stringRedisTemplate, new ObjectMapper(), Duration.ofSeconds(30), Duration.ofHours(24));
+    }
+
+    @DisplayName("Idempotency - A retry gets the first result without running again")
+    @Test
+    void test_When_Retried_Then_Stored_Result_Returned() {
+        long first = store.execute("payment", "K1", getMockPaymentRequest(1000), Long.class, this::pay);
+        long retry = store.execute("payment", "K1", getMockPaymentRequest(1000), Long.class, this::pay);
+
+        assertEquals(first, retry);
+        assertEquals(1, runs.get());
+        assertTrue(redis.get(IdempotencyStore.KEY_PREFIX + "payment:K1").startsWith("D:"));
+    }
+
+    @DisplayName("Idempotency - A key reused for another request is refused")
+    @Test
+    void test_When_Key_Reused_With_Other_Body_Then_Unprocessable() {
+        store.execute("payment", "K1", getMockPaymentRequest(1000), Long.class, this::pay);
+
+        PaymentServiceCustomException exception = assertThrows(PaymentServiceCustomException.class,
+                () -> store.execute("payment", "K1", getMockPaymentRequest(2000), Long.class, this::pay));
+
+        assertEquals("IDEMPOTENCY_KEY_REUSED", exception.getErrorCode());
+        assertEquals(422, exception.getStatus());
+        assertEquals(1, runs.get());
+    }
+
+    @DisplayName("Idempotency - A retry while the first request runs gets a conflict")
+    @Test
+    void test_When_First_Request_Running_Then_Conflict() {
+        PaymentServiceCustomException exception = assertThrows(PaymentServiceCustomException.class,
+                () -> store.execute("payment", "K1", getMockPaymentRequest(1000), Long.class,
+                        () -> store.execute("payment", "K1", getMockPaymentRequest(1000), Long.class, this::pay)));
+
+        assertEquals("IDEMPOTENCY_REQUEST_IN_PROGRESS", exception.getErrorCode());
+        assertEquals(409, exception.getStatus());
+    }
+
+    @DisplayName("Idempotency - A request that outlasts the lease keeps its claim")
+    @Test
+    @SuppressWarnings("unchecked")
+    void test_When_Request_Outlasts_Lease_Then_Claim_Renewed() {
+        Duration leaseTime = Duration.ofMillis(300);
+        Map<String, Long> expiresAt = new ConcurrentHashMap<>();
+        CountDownLatch renewals = new CountDownLatch(4);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenAnswer(invocation -> {
+            String key = invocation.getArgument(0);
+            if (redis.containsKey(key) && System.nanoTime() < expiresAt.get(key)) {
+                return false;
+            }
+            redis.put(key, invocation.getArgument(1));
+            expiresAt.put(key, System.nanoTime() + invocation.<Duration>getArgument(2).toNanos());
+            return true;
+        });
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString())).thenAnswer(invocation -> {
+            String key = invocation.<List<String>>getArgument(1).get(0);
+            expiresAt.put(key, System.nanoTime() + Duration.ofMillis(Long.parseLong(invocation.getArgument(3))).toNanos());
+            renewals.countDown();
+            return invocation.getArgument(2).equals(redis.get(key)) ? 1L : 0L;
+        });
+        store = new IdempotencyStore(stringRedisTemplate, new ObjectMapper(), leaseTime, Duration.ofHours(24));
+
+        long result = store.execute("payment", "K1", getMockPaymentRequest(1000), Long.class, () -> {
+            // Four renewals a third of a lease apart: the first claim would have expired without them
+            assertTrue(await(renewals));
+            PaymentServiceCustomException exception = assertThrows(PaymentServiceCustomException.class,
+                    () -> store.execute("payment", "K1", getMockPaymentRequest(1000), Long.class, this::pay));
+            assertEquals("IDEMPOTENCY_REQUEST_IN_PROGRESS", exception.getErrorCode());
+            return pay();
+        });
+        store.shutdown();
+
+        assertEquals(1L, result);
+        assertEquals(1, runs.get());
+    }
+
+    @DisplayName("Idempotency - A failed request gives its key back")
+    @Test
+    void test_When_Request_Fails_Then_Key_Released() {
+        assertThrows(PaymentServiceCustomException.class, () -> store.execute("payment", "K1",
+                getMockPaymentRequest(1000), Long.class, () -> {
+                    throw new PaymentServiceCustomException("Payment amount must be greater than 0", "INVALID_AMOUNT", 400);
+                }));
+
+        assertTrue(redis.isEmpty());
+        assertEquals(1L, store.execute("payment", "K1", getMockPaymentRequest(1000), Long.class, this::pay));
+    }
+
+    @DisplayName("Idempotency - Without Redis the request still runs")
+    @Test
+    void test_When_Redis_Down_Then_Runs_Unguarded() {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenThrow(new RedisConnectionFailureException("Connection refused"));
+
+        assertEquals(1L, store.execute("payment", "K1", getMockPaymentRequest(1000), Long.class, this::pay));
+        assertEquals(2L, store.execute("payment", "K1", getMockPaymentRequest(1000), Long.class, this::pay));
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private long pay() {
+        return runs.incrementAndGet();
+    }
+
+    private PaymentRequest getMockPaymentRequest(long amount) {
+        return PaymentRequest.builder()
+                .policyId(1)
+                .amount(amount)
+                .referenceNumber("REF-1")
+                .paymentMode(PaymentMode.CREDIT_CARD)
+                .paymentType("PREMIUM")
+                .customerId("CUST001")
+                .policyNumber("POL-1")
+                .build();
+    }
+}
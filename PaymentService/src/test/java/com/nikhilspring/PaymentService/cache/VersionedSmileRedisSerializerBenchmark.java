@@ -0,0 +1,131 @@
+package com.nikhilspring.PaymentService.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.nikhilspring.PaymentService.model.PaymentMode;
+import com.nikhilspring.PaymentService.model.PaymentResponse;
+import com.nikhilspring.common.cache.VersionedSmileRedisSerializer;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a "payments" cache entry: {@code json*} is the default region serializer (type-hinted JSON),
+ * {@code smile*} is {@link VersionedSmileRedisSerializer}. Writes measure a cache put, reads a cache hit. The
+ * {@code *Size} benchmarks write one entry and report its length as their {@code bytes} counter; their time is a
+ * single cold call and means nothing.
+ * Not run by the test suite; run {@link #main} from the IDE, or from PaymentService after {@code mvn test-compile
+ * dependency:build-classpath -Dmdep.outputFile=cp.txt} with
+ * {@code java -cp target/test-classes:target/classes:$(cat cp.txt) org.openjdk.jmh.Main VersionedSmileRedisSerializerBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VersionedSmileRedisSerializerBenchmark {
+
+    private final GenericJackson2JsonRedisSerializer json = GenericJackson2JsonRedisSerializer.builder()
+            .objectMapper(new ObjectMapper().registerModule(new JavaTimeModule()))
+            .defaultTyping(true)
+            .build();
+    private final VersionedSmileRedisSerializer<PaymentResponse> smile =
+            new VersionedSmileRedisSerializer<>(PaymentResponse.class);
+
+    private PaymentResponse payment;
+    private byte[] jsonBytes;
+    private byte[] smileBytes;
+
+    @Setup
+    public void setup() {
+        payment = PaymentResponse.builder()
+                .paymentId(1)
+                .status("SUCCESS")
+                .paymentMode(PaymentMode.CREDIT_CARD)
+                .amount(1200)
+                .paymentDate(Instant.now().truncatedTo(ChronoUnit.MILLIS))
+                .policyId(1)
+                .paymentType("PREMIUM")
+                .referenceNumber("REF-000001")
+                .customerId("CUST001")
+                .policyNumber("POL-2024-000001")
+                .transactionId("TXN-2718281828459045")
+                .build();
+        jsonBytes = json.serialize(payment);
+        smileBytes = smile.serialize(payment);
+    }
+
+    @Benchmark
+    public byte[] jsonWrite() {
+        return json.serialize(payment);
+    }
+
+    @Benchmark
+    public Object jsonRead() {
+        return json.deserialize(jsonBytes);
+    }
+
+    @Benchmark
+    public byte[] smileWrite() {
+        return smile.serialize(payment);
+    }
+
+    @Benchmark
+    public PaymentResponse smileRead() {
+        return smile.deserialize(smileBytes);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    public byte[] jsonSize(EntrySize size) {
+        return size.record(json.serialize(payment));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    public byte[] smileSize(EntrySize size) {
+        return size.record(smile.serialize(payment));
+    }
+
+    /**
+     * Bytes of one entry. JMH adds event counters up over iterations, hence the single-iteration size benchmarks.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EntrySize {
+
+        public long bytes;
+
+        byte[] record(byte[] entry) {
+            bytes = entry.length;
+            return entry;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(VersionedSmileRedisSerializerBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,99 @@
+package com.nikhilspring.PaymentService.event;
+
+import com.nikhilspring.PaymentService.entity.PaymentOutboxEvent;
+import com.nikhilspring.PaymentService.repository.PaymentOutboxRepository;
+import com.nikhilspring.insurance.events.PaymentStatus;
+import com.nikhilspring.insurance.events.PaymentType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PaymentOutboxRelayTest {
+
+    private final PaymentOutboxRepository paymentOutboxRepository = mock(PaymentOutboxRepository.class);
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, Object> kafkaTemplate = mock(KafkaTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private PaymentOutboxRelay relay;
+
+    @BeforeEach
+    void setup() {
+        relay = new PaymentOutboxRelay(paymentOutboxRepository, kafkaTemplate, mock(TransactionTemplate.class),
+                meterRegistry, 10, Duration.ofSeconds(1), Duration.ofDays(7));
+    }
+
+    @DisplayName("Relay - Acknowledged events are marked published in one update")
+    @Test
+    void test_When_Batch_Acknowledged_Then_Marked_Published() {
+        when(paymentOutboxRepository.findPendingForUpdate(any(Pageable.class)))
+                .thenReturn(List.of(getMockOutboxEvent(1, 101), getMockOutboxEvent(2, 102)));
+        when(kafkaTemplate.send(eq(PaymentOutboxRelay.PAYMENT_TOPIC), any(String.class), any()))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        relay.relayBatch();
+
+        verify(kafkaTemplate, times(2)).send(eq(PaymentOutboxRelay.PAYMENT_TOPIC), any(String.class), any());
+        verify(paymentOutboxRepository).markPublished(eq(List.of(1L, 2L)), any(Instant.class));
+        assertEquals(2, meterRegistry.get("payment.outbox.published").counter().count());
+    }
+
+    @DisplayName("Relay - Failed sends stay pending for the next run")
+    @Test
+    void test_When_Send_Fails_Then_Event_Stays_Pending() {
+        when(paymentOutboxRepository.findPendingForUpdate(any(Pageable.class)))
+                .thenReturn(List.of(getMockOutboxEvent(1, 101), getMockOutboxEvent(2, 102)));
+        when(kafkaTemplate.send(PaymentOutboxRelay.PAYMENT_TOPIC, "101", PaymentOutboxRelay.toPaymentEvent(getMockOutboxEvent(1, 101))))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")));
+        when(kafkaTemplate.send(PaymentOutboxRelay.PAYMENT_TOPIC, "102", PaymentOutboxRelay.toPaymentEvent(getMockOutboxEvent(2, 102))))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        assertEquals(0, relay.relayBatch());
+
+        verify(paymentOutboxRepository).markPublished(eq(List.of(2L)), any(Instant.class));
+        assertEquals(1, meterRegistry.get("payment.outbox.failed").counter().count());
+    }
+
+    @DisplayName("Relay - Nothing pending sends nothing")
+    @Test
+    void test_When_No_Pending_Events_Then_Nothing_Sent() {
+        when(paymentOutboxRepository.findPendingForUpdate(any(Pageable.class))).thenReturn(List.of());
+
+        assertEquals(0, relay.relayBatch());
+
+        verify(kafkaTemplate, never()).send(any(String.class), any(String.class), any());
+        verify(paymentOutboxRepository, never()).markPublished(anyCollection(), any(Instant.class));
+    }
+
+    private PaymentOutboxEvent getMockOutboxEvent(long id, long paymentId) {
+        return PaymentOutboxEvent.builder()
+                .id(id)
+                .paymentId(paymentId)
+                .policyId(1L)
+                .amount(1200)
+                .status(PaymentStatus.COMPLETED)
+                .paymentType(PaymentType.PREMIUM)
+                .createdAt(Instant.parse("2024-01-01T00:00:00Z"))
+                .build();
+    }
+}
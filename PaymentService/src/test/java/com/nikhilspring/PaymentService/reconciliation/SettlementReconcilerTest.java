@@ -0,0 +1,148 @@
+package com.nikhilspring.PaymentService.reconciliation;
+
+import com.nikhilspring.PaymentService.exception.PaymentServiceCustomException;
+import com.nikhilspring.PaymentService.model.PaymentLedgerEntry;
+import com.nikhilspring.PaymentService.model.ReconciliationMismatch;
+import com.nikhilspring.PaymentService.model.ReconciliationReport;
+import com.nikhilspring.PaymentService.repository.TransactionDetailsRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SettlementReconcilerTest {
+
+    private static final Map<String, PaymentLedgerEntry> LEDGER = Map.of(
+            "TXN-1001", new PaymentLedgerEntry("TXN-1001", 1000, "SUCCESS"),
+            "TXN-1002", new PaymentLedgerEntry("TXN-1002", 2000, "SUCCESS"),
+            "TXN-1003", new PaymentLedgerEntry("TXN-1003", 1500, "FAILED"),
+            "TXN-1004", new PaymentLedgerEntry("TXN-1004", 1200, "FAILED"),
+            "TXN-1006", new PaymentLedgerEntry("TXN-1006", 3000, "SUCCESS"));
+
+    private final TransactionDetailsRepository transactionDetailsRepository = mock(TransactionDetailsRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Queue<Integer> batchSizes = new ConcurrentLinkedQueue<>();
+
+    private SettlementReconciler reconciler;
+
+    @AfterEach
+    void tearDown() {
+        reconciler.shutdown();
+    }
+
+    @DisplayName("Reconciliation - Each kind of mismatch in a CSV settlement file is reported in file order")
+    @Test
+    void test_When_Csv_Settlement_File_Then_Mismatches_Reported() throws URISyntaxException {
+        reconciler = getReconciler(getFixtureDirectory(), 2);
+        stubLedger(LEDGER);
+
+        ReconciliationReport report = reconciler.reconcile("settlement-2026-03-01.csv", SettlementFileFormat.CSV);
+
+        assertEquals(8, report.getRecords());
+        assertEquals(3, report.getMatched());
+        assertEquals(5, report.getMismatched());
+        assertEquals(List.of(
+                ReconciliationMismatch.Type.AMOUNT_MISMATCH,
+                ReconciliationMismatch.Type.STATUS_MISMATCH,
+                ReconciliationMismatch.Type.MISSING_PAYMENT,
+                ReconciliationMismatch.Type.DUPLICATE_IN_FILE,
+                ReconciliationMismatch.Type.INVALID_RECORD),
+                report.getMismatches().stream().map(ReconciliationMismatch::getType).toList());
+        assertEquals(2000L, report.getMismatches().get(0).getRecordedAmount());
+        assertEquals("TXN-1001", report.getMismatches().get(3).getTransactionId());
+        assertTrue(batchSizes.stream().allMatch(size -> size <= 2), "IN queries of at most 2 IDs: " + batchSizes);
+        assertEquals(8, meterRegistry.counter("payment.reconciliation.records").count());
+        assertEquals(1, meterRegistry.counter("payment.reconciliation.mismatches", "type", "MISSING_PAYMENT").count());
+    }
+
+    @DisplayName("Reconciliation - A fixed-width file reconciles like the same lines as CSV")
+    @Test
+    void test_When_Fixed_Width_Settlement_File_Then_Same_As_Csv() throws URISyntaxException {
+        reconciler = getReconciler(getFixtureDirectory(), 2);
+        stubLedger(LEDGER);
+
+        ReconciliationReport csv = reconciler.reconcile("settlement-2026-03-01.csv", SettlementFileFormat.CSV);
+        ReconciliationReport fixedWidth = reconciler.reconcile("settlement-2026-03-01.txt", SettlementFileFormat.FIXED_WIDTH);
+
+        assertEquals(csv.getMatched(), fixedWidth.getMatched());
+        assertEquals(csv.getMismatchesByType(), fixedWidth.getMismatchesByType());
+        assertEquals(csv.getMismatches().stream().map(ReconciliationMismatch::getTransactionId).toList(),
+                fixedWidth.getMismatches().stream().map(ReconciliationMismatch::getTransactionId).toList());
+    }
+
+    @DisplayName("Reconciliation - Every line is read once however the file is split")
+    @Test
+    void test_When_Large_File_Split_Into_Chunks_Then_Each_Line_Read_Once(@TempDir Path directory) throws IOException {
+        reconciler = getReconciler(directory, 100);
+        List<String> lines = new ArrayList<>(List.of("transaction_id,amount,status"));
+        for (int i = 1; i <= 20_000; i++) {
+            lines.add("TXN-" + i + "," + i + ",SETTLED");
+        }
+        Files.write(directory.resolve("settlement.csv"), lines, StandardCharsets.US_ASCII);
+        when(transactionDetailsRepository.findLedgerEntries(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> transactionIds = invocation.getArgument(0);
+            batchSizes.add(transactionIds.size());
+            return transactionIds.stream()
+                    .map(transactionId -> new PaymentLedgerEntry(transactionId, Long.parseLong(transactionId.substring(4)), "SUCCESS"))
+                    .toList();
+        });
+
+        ReconciliationReport report = reconciler.reconcile("settlement.csv", SettlementFileFormat.CSV);
+
+        assertEquals(20_000, report.getRecords());
+        assertEquals(20_000, report.getMatched());
+        assertEquals(0, report.getMismatched());
+        assertEquals(20_000, batchSizes.stream().mapToInt(Integer::intValue).sum());
+        assertTrue(batchSizes.stream().allMatch(size -> size <= 100));
+    }
+
+    @DisplayName("Reconciliation - Files outside the settlement directory are not read")
+    @Test
+    void test_When_File_Outside_Directory_Then_Not_Found() throws URISyntaxException {
+        reconciler = getReconciler(getFixtureDirectory(), 2);
+
+        PaymentServiceCustomException exception = assertThrows(PaymentServiceCustomException.class,
+                () -> reconciler.reconcile("../application.yaml", SettlementFileFormat.CSV));
+
+        assertEquals("SETTLEMENT_FILE_NOT_FOUND", exception.getErrorCode());
+        assertEquals(404, exception.getStatus());
+    }
+
+    private void stubLedger(Map<String, PaymentLedgerEntry> ledger) {
+        when(transactionDetailsRepository.findLedgerEntries(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> transactionIds = invocation.getArgument(0);
+            batchSizes.add(transactionIds.size());
+            return transactionIds.stream().map(ledger::get).filter(Objects::nonNull).toList();
+        });
+    }
+
+    private SettlementReconciler getReconciler(Path directory, int batchSize) {
+        return new SettlementReconciler(transactionDetailsRepository, meterRegistry, directory.toString(), 4,
+                batchSize, 100);
+    }
+
+    private Path getFixtureDirectory() throws URISyntaxException {
+        return Path.of(Objects.requireNonNull(getClass().getResource("/settlement")).toURI());
+    }
+}
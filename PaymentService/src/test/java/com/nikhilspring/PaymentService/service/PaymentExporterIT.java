@@ -0,0 +1,74 @@
+package com.nikhilspring.PaymentService.service;
+
+import com.nikhilspring.PaymentService.model.PaymentExportFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A million-row export in the small heap failsafe forks this test with (see the PaymentService pom). Buffered, the
+ * rows would take several times that heap, so the export only completes if they stream from the cursor to the output.
+ * Not part of {@code mvn test}; runs with {@code mvn verify}.
+ */
+@SpringJUnitConfig(PaymentExporterTest.ExportTestConfig.class)
+class PaymentExporterIT {
+
+    private static final int ROWS = 1_000_000;
+    private static final long MAX_HEAP = 128L * 1024 * 1024;
+
+    @Autowired
+    private PaymentExporter paymentExporter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setup() {
+        PaymentExporterTest.insertPayments(jdbcTemplate, ROWS);
+    }
+
+    @DisplayName("Export Payments - A million rows stream through a small heap")
+    @Test
+    void test_When_Million_Rows_In_Small_Heap_Then_Export_Completes() throws IOException {
+        assertTrue(Runtime.getRuntime().maxMemory() <= MAX_HEAP,
+                "run with a heap of at most " + MAX_HEAP / (1024 * 1024) + " MB, as failsafe does");
+        LineCountingOutputStream out = new LineCountingOutputStream();
+
+        long exported = paymentExporter.export(PaymentExporterTest.START, PaymentExporterTest.START.plusSeconds(ROWS),
+                "SUCCESS", PaymentExportFormat.CSV, out);
+
+        assertEquals(ROWS - ROWS / 10, exported);
+        assertEquals(exported + 1, out.lines);
+    }
+
+    /**
+     * Discards the export, counting its lines
+     */
+    private static final class LineCountingOutputStream extends OutputStream {
+
+        private long lines;
+
+        @Override
+        public void write(int b) {
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                write(b[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.nikhilspring.PaymentService.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nikhilspring.PaymentService.entity.TransactionDetails;
+import com.nikhilspring.PaymentService.exception.PaymentServiceCustomException;
+import com.nikhilspring.PaymentService.model.PaymentExportFormat;
+import com.nikhilspring.PaymentService.repository.TransactionDetailsRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.util.FileSystemUtils;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Exports from an H2 database on disk. The volume run under a small heap is {@link PaymentExporterIT}.
+ */
+@SpringJUnitConfig(PaymentExporterTest.ExportTestConfig.class)
+class PaymentExporterTest {
+
+    static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    private static final int ROWS = 100;
+
+    @Autowired
+    private PaymentExporter paymentExporter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setup() {
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM PAYMENT_DETAILS", Long.class) == 0) {
+            insertPayments(jdbcTemplate, ROWS);
+        }
+    }
+
+    @DisplayName("Export Payments - Rows come in payment date order within the range")
+    @Test
+    void test_When_Range_Given_Then_Rows_In_Order() throws IOException {
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+
+        paymentExporter.export(START.plusSeconds(8), START.plusSeconds(11), null, PaymentExportFormat.CSV, csv);
+        paymentExporter.export(START.plusSeconds(8), START.plusSeconds(11), null, PaymentExportFormat.NDJSON, ndjson);
+
+        assertEquals(List.of(
+                PaymentExporter.CSV_HEADER,
+                "9,TXN-9,9,POL-9,CUST9,PREMIUM,CREDIT_CARD,SUCCESS,1009,2026-01-01T00:00:08Z,\"REF,9\"",
+                "10,TXN-10,10,POL-10,CUST10,PREMIUM,CREDIT_CARD,FAILED,1010,2026-01-01T00:00:09Z,\"REF,10\"",
+                "11,TXN-11,11,POL-11,CUST11,PREMIUM,CREDIT_CARD,SUCCESS,1011,2026-01-01T00:00:10Z,\"REF,11\""),
+                csv.toString(StandardCharsets.UTF_8).lines().toList());
+        List<String> lines = ndjson.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(3, lines.size());
+        JsonNode first = new ObjectMapper().readTree(lines.get(0));
+        assertEquals(9, first.get("paymentId").asLong());
+        assertEquals("2026-01-01T00:00:08Z", first.get("paymentDate").asText());
+        assertEquals("REF,9", first.get("referenceNumber").asText());
+    }
+
+    @DisplayName("Export Payments - An empty range is a bad request")
+    @Test
+    void test_When_From_Not_Before_To_Then_Bad_Request() {
+        PaymentServiceCustomException exception = assertThrows(PaymentServiceCustomException.class,
+                () -> paymentExporter.checkExport(START, START));
+
+        assertEquals("INVALID_DATE_RANGE", exception.getErrorCode());
+    }
+
+    /**
+     * One payment a second from {@link #START}, every tenth failed. Loaded without secondary indexes, then the one
+     * the export scans is built in one pass.
+     */
+    static void insertPayments(JdbcTemplate jdbcTemplate, int rows) {
+        jdbcTemplate.queryForList("SELECT CONSTRAINT_NAME FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS "
+                + "WHERE TABLE_NAME = 'PAYMENT_DETAILS' AND CONSTRAINT_TYPE = 'UNIQUE'", String.class)
+                .forEach(constraint -> jdbcTemplate.execute("ALTER TABLE PAYMENT_DETAILS DROP CONSTRAINT " + constraint));
+        jdbcTemplate.queryForList("SELECT INDEX_NAME FROM INFORMATION_SCHEMA.INDEXES "
+                + "WHERE TABLE_NAME = 'PAYMENT_DETAILS' AND INDEX_NAME LIKE 'IDX_%'", String.class)
+                .forEach(index -> jdbcTemplate.execute("DROP INDEX " + index));
+        jdbcTemplate.update("INSERT INTO PAYMENT_DETAILS (ID, POLICY_ID, CUSTOMER_ID, POLICY_NUMBER, PAYMENT_MODE, "
+                + "PAYMENT_TYPE, REFERENCE_NUMBER, TRANSACTION_ID, PAYMENT_DATE, STATUS, AMOUNT) "
+                + "SELECT X, X, 'CUST' || MOD(X, 5000), 'POL-' || X, 'CREDIT_CARD', 'PREMIUM', 'REF,' || X, "
+                + "'TXN-' || X, DATEADD(SECOND, X - 1, TIMESTAMP WITH TIME ZONE '2026-01-01 00:00:00Z'), "
+                + "CASEWHEN(MOD(X, 10) = 0, 'FAILED', 'SUCCESS'), 1000 + MOD(X, 100) "
+                + "FROM SYSTEM_RANGE(1, ?)", rows);
+        jdbcTemplate.execute("CREATE INDEX IDX_PAYMENT_DETAILS_DATE ON PAYMENT_DETAILS (PAYMENT_DATE)");
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    @EnableJpaRepositories(basePackageClasses = TransactionDetailsRepository.class)
+    @Import(PaymentExporter.class)
+    static class ExportTestConfig {
+
+        private final Path databaseDirectory = Files.createTempDirectory("payment-export");
+
+        ExportTestConfig() throws IOException {
+        }
+
+        @Bean
+        DataSource dataSource() {
+            // Lazy execution hands rows over as the cursor reaches them instead of materialising the result
+            return new DriverManagerDataSource("jdbc:h2:file:" + databaseDirectory.resolve("payments")
+                    + ";LAZY_QUERY_EXECUTION=1", "sa", "");
+        }
+
+        @PreDestroy
+        void deleteDatabase() throws IOException {
+            FileSystemUtils.deleteRecursively(databaseDirectory);
+        }
+
+        @Bean
+        LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+            LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+            factory.setDataSource(dataSource);
+            factory.setPackagesToScan(TransactionDetails.class.getPackageName());
+            factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            factory.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "create-drop"));
+            return factory;
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+
+        @Bean
+        JdbcTemplate jdbcTemplate(DataSource dataSource) {
+            return new JdbcTemplate(dataSource);
+        }
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+    }
+}
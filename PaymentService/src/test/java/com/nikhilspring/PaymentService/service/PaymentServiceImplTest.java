@@ -0,0 +1,208 @@
+package com.nikhilspring.PaymentService.service;
+
+import com.nikhilspring.PaymentService.entity.TransactionDetails;
+import com.nikhilspring.PaymentService.event.PaymentEventProducer;
+import com.nikhilspring.PaymentService.exception.PaymentServiceCustomException;
+import com.nikhilspring.PaymentService.model.PaymentHistoryCursor;
+import com.nikhilspring.PaymentService.model.PaymentHistoryPage;
+import com.nikhilspring.PaymentService.model.PaymentMode;
+import com.nikhilspring.PaymentService.model.PaymentRequest;
+import com.nikhilspring.PaymentService.model.PaymentResponse;
+import com.nikhilspring.PaymentService.repository.TransactionDetailsRepository;
+import com.nikhilspring.common.id.BusinessNumberGenerator;
+import com.nikhilspring.insurance.events.PaymentStatus;
+import com.nikhilspring.insurance.events.PaymentType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentServiceImplTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-01T10:15:30.123456Z");
+
+    @Mock
+    private TransactionDetailsRepository transactionDetailsRepository;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private PaymentEventProducer paymentEventProducer;
+
+    @Mock
+    private BusinessNumberGenerator businessNumberGenerator;
+
+    @InjectMocks
+    private PaymentServiceImpl paymentService;
+
+    @DisplayName("Process Payment - Premium payments queue the event that activates the policy")
+    @Test
+    void test_When_Premium_Payment_Then_Policy_Payment_Event() {
+        paymentService.processPayment(getMockPaymentRequest("premium"));
+
+        verify(paymentEventProducer).publishPolicyPaymentCompleted(0L, 1L, "CUST001", 1000.0);
+        verifyNoMoreInteractions(paymentEventProducer);
+    }
+
+    @DisplayName("Process Payment - Claim payments queue a claim payment event, whatever the case")
+    @Test
+    void test_When_Claim_Payment_Then_Claim_Payment_Event() {
+        paymentService.processPayment(getMockPaymentRequest("claim_payment"));
+
+        verify(paymentEventProducer).publishPaymentEvent(0L, 1L, null, "CUST001", 1000.0,
+                PaymentStatus.COMPLETED, PaymentType.CLAIM_PAYMENT);
+        verifyNoMoreInteractions(paymentEventProducer);
+    }
+
+    @DisplayName("Process Payment - Renewals and fees queue no event, so they cannot activate a policy")
+    @Test
+    void test_When_Non_Premium_Payment_Then_No_Policy_Activation() {
+        paymentService.processPayment(getMockPaymentRequest("RENEWAL"));
+        paymentService.processPayment(getMockPaymentRequest("ADMINISTRATIVE_FEE"));
+
+        verify(transactionDetailsRepository, times(2)).saveAndFlush(any(TransactionDetails.class));
+        verifyNoInteractions(paymentEventProducer);
+    }
+
+    @DisplayName("Process Payment - A second premium for a policy is a conflict")
+    @Test
+    void test_When_Premium_Already_Paid_Then_Conflict() {
+        when(transactionDetailsRepository.existsByPremiumPolicyId(1L)).thenReturn(true);
+
+        PaymentServiceCustomException exception = assertThrows(PaymentServiceCustomException.class,
+                () -> paymentService.processPayment(getMockPaymentRequest("PREMIUM")));
+
+        assertEquals("PAYMENT_ALREADY_EXISTS", exception.getErrorCode());
+        assertEquals(409, exception.getStatus());
+        verify(transactionDetailsRepository, never()).saveAndFlush(any(TransactionDetails.class));
+    }
+
+    @DisplayName("Process Payment - Renewals are accepted on a policy whose premium is paid")
+    @Test
+    void test_When_Renewal_After_Premium_Then_Saved() {
+        paymentService.processPayment(getMockPaymentRequest("RENEWAL"));
+
+        verify(transactionDetailsRepository, never()).existsByPremiumPolicyId(anyLong());
+        verify(transactionDetailsRepository).saveAndFlush(argThat(payment -> payment.getPremiumPolicyId() == null));
+    }
+
+    @DisplayName("Process Payment - Caches change only once the payment commits")
+    @Test
+    void test_When_Payment_Processed_Then_Caches_Updated_After_Commit() {
+        Cache payments = mock(Cache.class);
+        Cache paymentStatus = mock(Cache.class);
+        when(cacheManager.getCache("payments")).thenReturn(payments);
+        when(cacheManager.getCache("payment-status")).thenReturn(paymentStatus);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            paymentService.processPayment(getMockPaymentRequest("PREMIUM"));
+            verifyNoInteractions(cacheManager);
+
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(paymentStatus).evict("policy-1");
+        verify(payments).evict("customer-CUST001");
+        verify(payments).put(eq("policy-1"), any(PaymentResponse.class));
+    }
+
+    @DisplayName("Payment History - A full page carries the cursor of its last payment")
+    @Test
+    void test_When_More_Payments_Than_Page_Then_Next_Cursor() {
+        when(transactionDetailsRepository.findHistoryByCustomerId("CUST001", Limit.of(3)))
+                .thenReturn(List.of(getMockPayment(30, NOW), getMockPayment(20, NOW), getMockPayment(10, NOW.minusSeconds(60))));
+
+        PaymentHistoryPage page = paymentService.getPaymentHistoryByCustomerId("CUST001", null, 2);
+
+        assertEquals(List.of(30L, 20L), page.getPayments().stream().map(PaymentResponse::getPaymentId).toList());
+        assertEquals(new PaymentHistoryCursor(NOW, 20), PaymentHistoryCursor.decode(page.getNextCursor()));
+    }
+
+    @DisplayName("Payment History - The next page seeks past the cursor and the last page has none")
+    @Test
+    void test_When_Cursor_Given_Then_Page_After_It() {
+        String cursor = new PaymentHistoryCursor(NOW, 20).encode();
+        when(transactionDetailsRepository.findHistoryByPolicyIdBefore(1L, NOW, 20L, Limit.of(3)))
+                .thenReturn(List.of(getMockPayment(10, NOW.minusSeconds(60))));
+
+        PaymentHistoryPage page = paymentService.getPaymentHistoryByPolicyId("1", cursor, 2);
+
+        assertEquals(List.of(10L), page.getPayments().stream().map(PaymentResponse::getPaymentId).toList());
+        assertNull(page.getNextCursor());
+    }
+
+    @DisplayName("Payment History - A tampered cursor is a bad request")
+    @Test
+    void test_When_Cursor_Invalid_Then_Bad_Request() {
+        PaymentServiceCustomException exception = assertThrows(PaymentServiceCustomException.class,
+                () -> paymentService.getPaymentHistoryByCustomerId("CUST001", "not-a-cursor", 20));
+
+        assertEquals("INVALID_CURSOR", exception.getErrorCode());
+        verifyNoInteractions(transactionDetailsRepository);
+    }
+
+    @DisplayName("Payment History - Page size is bounded")
+    @Test
+    void test_When_Page_Size_Too_Large_Then_Bad_Request() {
+        PaymentServiceCustomException exception = assertThrows(PaymentServiceCustomException.class,
+                () -> paymentService.getPaymentHistoryByCustomerId("CUST001", null, PaymentServiceImpl.MAX_PAGE_SIZE + 1));
+
+        assertEquals("INVALID_PAGE_SIZE", exception.getErrorCode());
+        verifyNoInteractions(transactionDetailsRepository);
+    }
+
+    private PaymentRequest getMockPaymentRequest(String paymentType) {
+        return PaymentRequest.builder()
+                .policyId(1)
+                .policyNumber("POL-2026-000001")
+                .customerId("CUST001")
+                .amount(1000)
+                .paymentMode(PaymentMode.CREDIT_CARD)
+                .paymentType(paymentType)
+                .referenceNumber("REF-000001")
+                .build();
+    }
+
+    private TransactionDetails getMockPayment(long id, Instant paymentDate) {
+        return TransactionDetails.builder()
+                .id(id)
+                .policyId(1)
+                .customerId("CUST001")
+                .paymentMode("CREDIT_CARD")
+                .paymentType("PREMIUM")
+                .paymentStatus("SUCCESS")
+                .paymentDate(paymentDate)
+                .amount(1000)
+                .build();
+    }
+}
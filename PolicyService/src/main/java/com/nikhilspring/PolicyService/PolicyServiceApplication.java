@@ -1,11 +1,14 @@
 package com.nikhilspring.PolicyService;
 
+import com.nikhilspring.common.id.BusinessNumberConfig;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.context.annotation.Import;
 
 @SpringBootApplication
 @EnableFeignClients
+@Import(BusinessNumberConfig.class)
 public class PolicyServiceApplication {
 
 	public static void main(String[] args) {
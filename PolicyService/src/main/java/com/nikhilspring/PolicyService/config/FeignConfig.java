@@ -1,7 +1,10 @@
 package com.nikhilspring.PolicyService.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nikhilspring.PolicyService.external.decoder.CustomErrorDecoder;
+import com.nikhilspring.common.feign.ErrorBodyReader;
 import feign.codec.ErrorDecoder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -9,7 +12,13 @@ import org.springframework.context.annotation.Configuration;
 public class FeignConfig {
 
     @Bean
-    ErrorDecoder errorDecoder() {
-        return new CustomErrorDecoder();
+    ErrorBodyReader errorBodyReader(ObjectMapper objectMapper,
+                                    @Value("${feign.error-decoder.max-body-bytes:8192}") int maxBodyBytes) {
+        return new ErrorBodyReader(objectMapper, maxBodyBytes);
     }
-}
\ No newline at end of file
+
+    @Bean
+    ErrorDecoder errorDecoder(ErrorBodyReader errorBodyReader) {
+        return new CustomErrorDecoder(errorBodyReader);
+    }
+}
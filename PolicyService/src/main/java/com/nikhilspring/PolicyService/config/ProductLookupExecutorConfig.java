@@ -0,0 +1,22 @@
+package com.nikhilspring.PolicyService.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class ProductLookupExecutorConfig {
+
+    /**
+     * Virtual-thread executor for the per-product ProductService checks of a bulk issue.
+     * No request is bound on these threads; the security context is carried over instead, and TokenService reads
+     * the caller's JWT from it so Feign calls still forward it.
+     */
+    @Bean(name = "productLookupExecutor")
+    public ExecutorService productLookupExecutor() {
+        return new DelegatingSecurityContextExecutorService(Executors.newVirtualThreadPerTaskExecutor());
+    }
+}
@@ -1,21 +1,44 @@
 package com.nikhilspring.PolicyService.config;
 
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.nikhilspring.PolicyService.event.ProductChangeListener;
+import com.nikhilspring.PolicyService.model.PolicyResponse;
+import com.nikhilspring.common.cache.CacheInvalidationListener;
+import com.nikhilspring.common.cache.CacheInvalidationPublisher;
+import com.nikhilspring.common.cache.CacheLoadLock;
+import com.nikhilspring.common.cache.TwoLevelCacheManager;
+import com.nikhilspring.common.cache.VersionedSmileRedisSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.Set;
 
 @Configuration
 @EnableCaching
 public class RedisConfig {
 
+    @Value("${cache.redis.binary-regions:}")
+    private Set<String> binaryRegions = Set.of();
+
     @Bean
     public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
@@ -48,10 +71,91 @@ public class RedisConfig {
     public RedisCacheManagerBuilderCustomizer redisCacheManagerBuilderCustomizer() {
         return (builder) -> builder
                 .withCacheConfiguration("policies",
-                        RedisCacheConfiguration.defaultCacheConfig()
-                                .entryTtl(Duration.ofMinutes(30))) // Policies cache for 30 minutes
+                        regionConfiguration("policies", PolicyResponse.class,
+                                Duration.ofMinutes(30))) // Policies cache for 30 minutes
                 .withCacheConfiguration("policy-products",
-                        RedisCacheConfiguration.defaultCacheConfig()
+                        cacheConfiguration()
                                 .entryTtl(Duration.ofMinutes(60))); // Product cache for 1 hour
     }
-} 
\ No newline at end of file
+
+    /**
+     * JSON by default; regions listed in cache.redis.binary-regions store versioned Smile under their own key prefix,
+     * so instances on either format can run side by side during a rolling deploy.
+     */
+    private RedisCacheConfiguration regionConfiguration(String cacheName, JavaType valueType, Duration ttl) {
+        RedisCacheConfiguration configuration = cacheConfiguration().entryTtl(ttl);
+        if (!binaryRegions.contains(cacheName)) {
+            return configuration;
+        }
+        return configuration
+                .prefixCacheNameWith(VersionedSmileRedisSerializer.KEY_PREFIX)
+                .serializeValuesWith(RedisSerializationContext.SerializationPair
+                        .fromSerializer(new VersionedSmileRedisSerializer<>(valueType)));
+    }
+
+    private RedisCacheConfiguration regionConfiguration(String cacheName, Class<?> valueType, Duration ttl) {
+        return regionConfiguration(cacheName, TypeFactory.defaultInstance().constructType(valueType), ttl);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "policy.product-cache.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer productChangeListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       ProductChangeListener productChangeListener) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(productChangeListener, new ChannelTopic(ProductChangeListener.CHANNEL));
+        return container;
+    }
+
+    @Bean
+    public CacheInvalidationPublisher cacheInvalidationPublisher(StringRedisTemplate stringRedisTemplate,
+                                                                 @Value("${spring.application.name}") String applicationName) {
+        return new CacheInvalidationPublisher(stringRedisTemplate, applicationName);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cache.stampede.lock.enabled", havingValue = "true")
+    public CacheLoadLock cacheLoadLock(StringRedisTemplate stringRedisTemplate,
+                                       @Value("${cache.stampede.lock.lease:PT10S}") Duration leaseTime,
+                                       @Value("${cache.stampede.lock.wait:PT2S}") Duration waitTime) {
+        return new CacheLoadLock(stringRedisTemplate, leaseTime, waitTime);
+    }
+
+    @Bean
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     CacheInvalidationPublisher cacheInvalidationPublisher,
+                                     ObjectProvider<CacheLoadLock> cacheLoadLock,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${cache.local.enabled:true}") boolean localCacheEnabled,
+                                     @Value("${cache.local.maximum-size:10000}") long localCacheMaximumSize,
+                                     @Value("${cache.local.ttl:PT30S}") Duration localCacheTtl,
+                                     @Value("${cache.stampede.early-refresh-beta:1.0}") double earlyRefreshBeta) {
+        RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(cacheConfiguration());
+        redisCacheManagerBuilderCustomizer().customize(builder);
+        RedisCacheManager redisCacheManager = builder.build();
+        redisCacheManager.afterPropertiesSet();
+
+        if (!localCacheEnabled) {
+            return redisCacheManager;
+        }
+        // Local level stays short-lived: pub/sub invalidation is best effort, the TTL bounds staleness
+        return new TwoLevelCacheManager(redisCacheManager, cacheInvalidationPublisher, meterRegistry,
+                localCacheMaximumSize, localCacheTtl, earlyRefreshBeta, cacheLoadLock.getIfAvailable());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cache.local.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            CacheManager cacheManager,
+                                                                            CacheInvalidationPublisher cacheInvalidationPublisher) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        if (cacheManager instanceof TwoLevelCacheManager twoLevelCacheManager) {
+            container.addMessageListener(
+                    new CacheInvalidationListener(twoLevelCacheManager, cacheInvalidationPublisher.getInstanceId()),
+                    new ChannelTopic(cacheInvalidationPublisher.getChannel()));
+        }
+        return container;
+    }
+}
@@ -1,6 +1,11 @@
 package com.nikhilspring.PolicyService.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.nikhilspring.PolicyService.entity.Product;
+import com.nikhilspring.PolicyService.exception.CustomException;
 import com.nikhilspring.PolicyService.external.client.ProductService;
 import com.nikhilspring.PolicyService.external.response.ProductResponse;
 import com.nikhilspring.PolicyService.model.PolicyRequest;
@@ -9,10 +14,17 @@ import com.nikhilspring.PolicyService.repository.ProductRepository;
 import com.nikhilspring.PolicyService.service.PolicyService;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
 
 @RestController
 @RequestMapping("/policy")
@@ -28,6 +40,12 @@ public class PolicyController {
     @Autowired
     private ProductService productService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${policy.bulk.max-items:50000}")
+    private int bulkMaxItems;
+
     @PreAuthorize("hasAnyRole('Customer')")
     @PostMapping("/issue")
     public ResponseEntity<Long> issuePolicy(@RequestBody PolicyRequest policyRequest) {
@@ -36,6 +54,38 @@ public class PolicyController {
         return new ResponseEntity<>(policyId, HttpStatus.OK);
     }
 
+    /**
+     * Issues a JSON array of policy requests and streams one result per request back as NDJSON, in request order
+     * and as each batch is written, so the caller sees progress on large loads and which items to resend
+     */
+    @PreAuthorize("hasAnyRole('Admin')")
+    @PostMapping(value = "/issue/bulk", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> issuePolicies(@RequestBody List<PolicyRequest> policyRequests) {
+        if (policyRequests.size() > bulkMaxItems) {
+            throw new CustomException(
+                "At most " + bulkMaxItems + " policies can be issued per request, got " + policyRequests.size(),
+                "BULK_LIMIT_EXCEEDED",
+                400
+            );
+        }
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                // Lines are separated by the newline alone, not the generator's default space between root values
+                generator.setRootValueSeparator(null);
+                policyService.issuePolicies(policyRequests, result -> {
+                    try {
+                        writer.writeValue(generator, result);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
 
     @PreAuthorize("hasAnyRole('Admin', 'Customer')")
     @GetMapping("/{policyId}")
@@ -17,7 +17,10 @@ import java.time.Instant;
 public class Policy {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "policy_id")
+    @TableGenerator(name = "policy_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "POLICY_DETAILS",
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private long id;
 
     @Column(name = "POLICY_NUMBER")
@@ -49,4 +52,8 @@ public class Policy {
 
     @Column(name = "UPDATED_DATE")
     private Instant updatedDate;
+
+    @Version
+    @Column(name = "VERSION")
+    private long version;
 }
\ No newline at end of file
@@ -1,53 +1,70 @@
 package com.nikhilspring.PolicyService.event;
 
+import com.nikhilspring.PolicyService.service.PolicyService;
 import com.nikhilspring.insurance.events.PaymentEvent;
 import com.nikhilspring.insurance.events.PaymentStatus;
 import com.nikhilspring.insurance.events.PaymentType;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
+/**
+ * Activates policies for completed premium payments, one poll at a time. Exceptions propagate so the
+ * container redelivers the batch instead of committing its offsets.
+ */
 @Component
 public class PaymentEventConsumer {
 
     private static final Logger logger = LoggerFactory.getLogger(PaymentEventConsumer.class);
 
-    @KafkaListener(topics = "payment-events", groupId = "policy-service")
-    public void handlePaymentEvent(@Payload PaymentEvent paymentEvent) {
-        try {
-            logger.info("Received payment event: {} for payment ID: {}", 
-                       paymentEvent.getStatus(), paymentEvent.getPaymentId());
+    private final PolicyService policyService;
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary batchSizes;
 
-            // Only process premium payments that are completed
-            if (paymentEvent.getPaymentType() == PaymentType.PREMIUM && 
-                paymentEvent.getStatus() == PaymentStatus.COMPLETED &&
-                paymentEvent.getPolicyId() != null) {
-                
-                activatePolicy(paymentEvent);
-            }
-            
-        } catch (Exception e) {
-            logger.error("Error processing payment event for payment ID: {}", 
-                        paymentEvent.getPaymentId(), e);
-        }
+    public PaymentEventConsumer(PolicyService policyService, MeterRegistry meterRegistry) {
+        this.policyService = policyService;
+        this.meterRegistry = meterRegistry;
+        this.batchSizes = DistributionSummary.builder("payment.events.batch.size")
+                .description("Payment events received per poll")
+                .register(meterRegistry);
     }
 
-    private void activatePolicy(PaymentEvent paymentEvent) {
+    @KafkaListener(topics = "payment-events", groupId = "policy-service")
+    public void handlePaymentEvents(@Payload List<PaymentEvent> paymentEvents) {
+        logger.info("Received {} payment events", paymentEvents.size());
+        batchSizes.record(paymentEvents.size());
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
         try {
-            Long policyId = paymentEvent.getPolicyId();
-            logger.info("Activating policy ID: {} due to payment completion. Payment ID: {}, Amount: {}", 
-                       policyId, paymentEvent.getPaymentId(), paymentEvent.getAmount());
-            
-            // TODO: Add your policy activation logic here
-            // Example: policyService.activatePolicy(policyId);
-            
-            logger.info("Policy ID: {} activated successfully", policyId);
-            
-        } catch (Exception e) {
-            logger.error("Failed to activate policy ID: {} for payment ID: {}", 
-                        paymentEvent.getPolicyId(), paymentEvent.getPaymentId(), e);
+            // Only process premium payments that are completed
+            List<Long> policyIds = paymentEvents.stream()
+                    .filter(paymentEvent -> paymentEvent.getPaymentType() == PaymentType.PREMIUM &&
+                            paymentEvent.getStatus() == PaymentStatus.COMPLETED &&
+                            paymentEvent.getPolicyId() != null)
+                    .map(PaymentEvent::getPolicyId)
+                    .distinct()
+                    .toList();
+
+            if (!policyIds.isEmpty()) {
+                logger.info("Activating {} policies due to payment completion", policyIds.size());
+                policyService.activatePolicies(policyIds);
+            }
+            outcome = "success";
+        } catch (RuntimeException e) {
+            logger.error("Failed to activate policies for a batch of {} payment events", paymentEvents.size(), e);
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("payment.events.batch")
+                    .description("Time to handle one poll of payment events")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
         }
     }
-} 
\ No newline at end of file
+}
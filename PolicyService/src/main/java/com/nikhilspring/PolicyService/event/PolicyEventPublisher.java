@@ -0,0 +1,65 @@
+package com.nikhilspring.PolicyService.event;
+
+import com.nikhilspring.PolicyService.entity.Policy;
+import com.nikhilspring.insurance.events.PolicyEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Publishes policy changes to the policy-events topic, keyed by policy ID, so other services can keep a
+ * local copy of the fields they validate against.
+ */
+@Component
+public class PolicyEventPublisher {
+
+    public static final String TOPIC = "policy-events";
+
+    private static final Logger logger = LoggerFactory.getLogger(PolicyEventPublisher.class);
+
+    @Autowired
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    public void publishPolicyChanged(Policy policy) {
+        send(PolicyEvent.newBuilder()
+                .setPolicyId(policy.getId())
+                .setPolicyStatus(policy.getPolicyStatus())
+                .setCoverageAmount(policy.getCoverageAmount())
+                .setPolicyStartDate(toMillis(policy.getPolicyStartDate()))
+                .setPolicyEndDate(toMillis(policy.getPolicyEndDate()))
+                .setTimestamp(System.currentTimeMillis())
+                .build());
+    }
+
+    public void publishStatusChanged(long policyId, String policyStatus) {
+        send(PolicyEvent.newBuilder()
+                .setPolicyId(policyId)
+                .setPolicyStatus(policyStatus)
+                .setTimestamp(System.currentTimeMillis())
+                .build());
+    }
+
+    private void send(PolicyEvent policyEvent) {
+        try {
+            kafkaTemplate.send(TOPIC, String.valueOf(policyEvent.getPolicyId()), policyEvent)
+                    .whenComplete((result, e) -> {
+                        if (e != null) {
+                            logger.warn("Failed to publish policy event for policy ID: {}", policyEvent.getPolicyId(), e);
+                        }
+                    });
+            logger.debug("Published policy event: {} for policy ID: {}",
+                    policyEvent.getPolicyStatus(), policyEvent.getPolicyId());
+        } catch (Exception e) {
+            // Consumers fall back to PolicyService when their copy is missing or stale, so a lost event only costs a remote call
+            logger.warn("Failed to publish policy event for policy ID: {}", policyEvent.getPolicyId(), e);
+        }
+    }
+
+    private static Long toMillis(Instant instant) {
+        return instant == null ? null : instant.toEpochMilli();
+    }
+}
@@ -0,0 +1,33 @@
+package com.nikhilspring.PolicyService.event;
+
+import com.nikhilspring.PolicyService.service.ProductSnapshotCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+@Component
+public class ProductChangeListener implements MessageListener {
+
+    public static final String CHANNEL = "product-changes";
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductChangeListener.class);
+
+    @Autowired
+    private ProductSnapshotCache productSnapshotCache;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            productSnapshotCache.evict(Long.parseLong(body));
+        } catch (NumberFormatException e) {
+            logger.warn("Unrecognised product change message '{}', clearing product snapshots", body);
+            productSnapshotCache.clear();
+        }
+    }
+}
@@ -2,6 +2,10 @@ package com.nikhilspring.PolicyService.exception;
 
 import lombok.Data;
 
+/**
+ * An expected business failure reported to the caller by its error code. No stack trace is captured: the
+ * code identifies the failure, and filling in the trace would dominate the cost of a rejected request.
+ */
 @Data
 public class CustomException extends RuntimeException{
 
@@ -9,7 +13,7 @@ public class CustomException extends RuntimeException{
     private int status;
 
     public CustomException(String message, String errorCode, int status) {
-        super(message);
+        super(message, null, false, false);
         this.errorCode = errorCode;
         this.status = status;
     }
@@ -2,6 +2,7 @@ package com.nikhilspring.PolicyService.exception;
 
 import com.nikhilspring.PolicyService.external.response.ErrorResponse;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -9,22 +10,30 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
-import java.time.LocalDateTime;
+import java.time.Duration;
 
 @ControllerAdvice
 @Log4j2
 public class RestResponseEntityExceptionHandler extends ResponseEntityExceptionHandler {
 
+    private final BusinessErrorLog businessErrorLog;
+
+    public RestResponseEntityExceptionHandler(@Value("${error-log.window:10s}") Duration window,
+                                              @Value("${error-log.max-per-window:5}") int maxPerWindow) {
+        this.businessErrorLog = new BusinessErrorLog(window, maxPerWindow);
+    }
+
     @ExceptionHandler(CustomException.class)
     public ResponseEntity<ErrorResponse> handlePolicyServiceException(CustomException exception, WebRequest request) {
-        log.error("Policy Service Custom Exception: {}", exception.getMessage());
+        ErrorDescriptor descriptor = ErrorDescriptor.of(exception.getErrorCode(), exception.getStatus());
+        businessErrorLog.log(descriptor, exception.getMessage());
         
         ErrorResponse errorResponse = ErrorResponse.builder()
                 .errorMessage(exception.getMessage())
-                .errorCode(exception.getErrorCode())
+                .errorCode(descriptor.errorCode())
                 .build();
         
-        return new ResponseEntity<>(errorResponse, HttpStatus.valueOf(exception.getStatus()));
+        return new ResponseEntity<>(errorResponse, descriptor.status());
     }
 
     @ExceptionHandler(Exception.class)
@@ -41,14 +50,15 @@ public class RestResponseEntityExceptionHandler extends ResponseEntityExceptionH
 
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException exception, WebRequest request) {
-        log.error("Illegal Argument Exception: {}", exception.getMessage());
+        ErrorDescriptor descriptor = ErrorDescriptor.of("INVALID_INPUT", HttpStatus.BAD_REQUEST.value());
+        businessErrorLog.log(descriptor, exception.getMessage());
         
         ErrorResponse errorResponse = ErrorResponse.builder()
                 .errorMessage(exception.getMessage())
-                .errorCode("INVALID_INPUT")
+                .errorCode(descriptor.errorCode())
                 .build();
         
-        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        return new ResponseEntity<>(errorResponse, descriptor.status());
     }
 
     @ExceptionHandler(RuntimeException.class)
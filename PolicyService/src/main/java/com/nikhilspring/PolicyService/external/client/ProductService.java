@@ -2,6 +2,7 @@ package com.nikhilspring.PolicyService.external.client;
 
 import com.nikhilspring.PolicyService.exception.CustomException;
 import com.nikhilspring.PolicyService.external.response.ProductResponse;
+import com.nikhilspring.PolicyService.external.response.ProductValidationResponse;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
@@ -24,6 +25,12 @@ public interface ProductService {
             @PathVariable("id") long productId
     );
 
+    @CircuitBreaker(name = "external", fallbackMethod = "fallback")
+    @GetMapping("/{id}/validation")
+    ResponseEntity<ProductValidationResponse> validateAndGetProduct(
+            @PathVariable("id") long productId
+    );
+
     default Object fallback(long productId, Exception e) {
         throw new CustomException("Product Service is not available",
                 "UNAVAILABLE",
@@ -1,38 +1,39 @@
 package com.nikhilspring.PolicyService.external.decoder;
 
 import com.nikhilspring.PolicyService.exception.CustomException;
-import com.nikhilspring.PolicyService.external.response.ErrorResponse;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nikhilspring.common.feign.ErrorBodyReader;
 import feign.Response;
 import feign.codec.ErrorDecoder;
-import lombok.extern.log4j.Log4j2;
 
 import java.io.IOException;
 
-@Log4j2
 public class CustomErrorDecoder implements ErrorDecoder {
 
-    @Override
-    public Exception decode(String s, Response response) {
-        ObjectMapper objectMapper
-                = new ObjectMapper();
+    private final ErrorBodyReader errorBodyReader;
 
-        log.info("::{}",response.request().url());
-        log.info("::{}",response.request().headers());
+    public CustomErrorDecoder(ErrorBodyReader errorBodyReader) {
+        this.errorBodyReader = errorBodyReader;
+    }
 
+    @Override
+    public Exception decode(String s, Response response) {
+        ErrorBodyReader.ErrorFields errorFields;
         try {
-            ErrorResponse errorResponse
-                    = objectMapper.readValue(response.body().asInputStream(),
-                    ErrorResponse.class);
-
-            return new CustomException(errorResponse.getErrorMessage() ,
-                    errorResponse.getErrorCode(),
-                    response.status());
-
+            errorFields = errorBodyReader.parse(errorBodyReader.readBody(response));
         } catch (IOException e) {
-            throw  new CustomException("Internal Server Error",
-                    "INTERNAL_SERVER_ERROR",
-                    500);
+            return internalServerError();
+        }
+        if (errorFields.isEmpty()) {
+            return internalServerError();
         }
+        return new CustomException(errorFields.errorMessage(),
+                errorFields.errorCode(),
+                response.status());
+    }
+
+    private static CustomException internalServerError() {
+        return new CustomException("Internal Server Error",
+                "INTERNAL_SERVER_ERROR",
+                500);
     }
-}
\ No newline at end of file
+}
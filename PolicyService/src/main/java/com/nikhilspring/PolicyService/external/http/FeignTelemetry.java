@@ -0,0 +1,122 @@
+package com.nikhilspring.PolicyService.external.http;
+
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every Feign call as {@code feign.client.requests{client, method, status, outcome}} with a percentile
+ * histogram. Only slow or failed calls are logged, and only a sample of those, with at most
+ * {@code maxPayloadBytes} of the response body and never the request headers; fast successful calls are
+ * not logged at all, so log volume follows the error rate rather than traffic.
+ */
+public class FeignTelemetry implements Capability {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeignTelemetry.class);
+    private static final String UNKNOWN = "unknown";
+
+    private final MeterRegistry meterRegistry;
+    private final Duration slowThreshold;
+    private final double payloadSampleRate;
+    private final int maxPayloadBytes;
+
+    public FeignTelemetry(MeterRegistry meterRegistry, Duration slowThreshold,
+                          double payloadSampleRate, int maxPayloadBytes) {
+        this.meterRegistry = meterRegistry;
+        this.slowThreshold = slowThreshold;
+        this.payloadSampleRate = payloadSampleRate;
+        this.maxPayloadBytes = maxPayloadBytes;
+    }
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            long start = System.nanoTime();
+            Response response;
+            try {
+                response = client.execute(request, options);
+            } catch (IOException | RuntimeException e) {
+                long elapsed = System.nanoTime() - start;
+                record(request, "IO_ERROR", "IO_ERROR", elapsed);
+                if (sampled()) {
+                    logger.warn("Feign call {} {} failed after {} ms: {}", request.httpMethod(), request.url(),
+                            TimeUnit.NANOSECONDS.toMillis(elapsed), e.toString());
+                }
+                throw e;
+            }
+            long elapsed = System.nanoTime() - start;
+            record(request, String.valueOf(response.status()), outcome(response.status()), elapsed);
+            if ((response.status() >= 400 || elapsed >= slowThreshold.toNanos()) && sampled()) {
+                return logPayload(request, response, elapsed);
+            }
+            return response;
+        };
+    }
+
+    private void record(Request request, String status, String outcome, long elapsedNanos) {
+        RequestTemplate template = request.requestTemplate();
+        String clientName = template != null && template.feignTarget() != null ? template.feignTarget().name() : UNKNOWN;
+        String method = template != null && template.methodMetadata() != null
+                ? template.methodMetadata().method().getName() : UNKNOWN;
+        Timer.builder("feign.client.requests")
+                .description("Feign calls by client method and response status")
+                .tag("client", clientName)
+                .tag("method", method)
+                .tag("status", status)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Logs the first {@code maxPayloadBytes} of the body and hands back a response that still reads the whole body
+     */
+    private Response logPayload(Request request, Response response, long elapsedNanos) throws IOException {
+        if (response.body() == null) {
+            logCall(request, response, elapsedNanos, "");
+            return response;
+        }
+        InputStream body = response.body().asInputStream();
+        byte[] captured = body.readNBytes(maxPayloadBytes);
+        logCall(request, response, elapsedNanos, new String(captured, StandardCharsets.UTF_8));
+        return response.toBuilder()
+                .body(new SequenceInputStream(new ByteArrayInputStream(captured), body), response.body().length())
+                .build();
+    }
+
+    private void logCall(Request request, Response response, long elapsedNanos, String payload) {
+        logger.warn("Feign call {} {} returned {} in {} ms, body: {}", request.httpMethod(), request.url(),
+                response.status(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos), payload);
+    }
+
+    private boolean sampled() {
+        return payloadSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < payloadSampleRate;
+    }
+
+    private static String outcome(int status) {
+        if (status >= 500) {
+            return "SERVER_ERROR";
+        }
+        if (status >= 400) {
+            return "CLIENT_ERROR";
+        }
+        return status >= 200 && status < 300 ? "SUCCESS" : "REDIRECTION";
+    }
+}
@@ -0,0 +1,34 @@
+package com.nikhilspring.PolicyService.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one request in a bulk issue, by its position in the request array
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkIssueResult {
+
+    private int index;
+    private Outcome outcome;
+    private Long policyId;
+    private String policyNumber;
+    private String errorCode;
+    private String errorMessage;
+
+    public enum Outcome {
+        // Written and PENDING until its premium is paid
+        ISSUED,
+        // Failed validation or product checks; nothing written
+        REJECTED,
+        // Valid, but its batch could not be written
+        FAILED
+    }
+}
@@ -0,0 +1,12 @@
+package com.nikhilspring.PolicyService.model;
+
+/**
+ * Policy lifecycle. A policy is issued PENDING and becomes ACTIVE once its premium payment completes;
+ * transitions are applied with conditional UPDATEs on the current status, never by read-modify-write.
+ */
+public enum PolicyStatus {
+    PENDING,
+    ACTIVE,
+    CANCELLED,
+    EXPIRED
+}
@@ -0,0 +1,69 @@
+package com.nikhilspring.PolicyService.repository;
+
+import com.nikhilspring.PolicyService.entity.IdGenerators;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Moves each ID_GENERATOR row past the highest ID already in its table, once at startup and before listeners
+ * or the web server can insert. Tables that were filled through an IDENTITY column would otherwise be handed
+ * IDs from 1 again. Rows are only ever raised, so running on every instance and every restart is harmless.
+ */
+@Component
+@Log4j2
+public class IdGeneratorFloor implements SmartInitializingSingleton {
+
+    // Table name, which is also the generator row name, to its ID column
+    private static final Map<String, String> ID_COLUMNS = Map.of("POLICY_DETAILS", "ID", "PRODUCTS", "PRODUCT_ID");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdGeneratorFloor(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        ID_COLUMNS.forEach((table, idColumn) -> {
+            try {
+                raise(table, idColumn);
+            } catch (DataAccessException e) {
+                log.warn("Could not check ID generator {} against existing rows: {}", table, e.getMessage());
+            }
+        });
+    }
+
+    private void raise(String table, String idColumn) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(" + idColumn + ") FROM " + table, Long.class);
+        if (maxId == null) {
+            return;
+        }
+        // A stored value hands out the block ending at it, so it must be a full block above the highest ID
+        long floor = maxId + IdGenerators.ALLOCATION_SIZE;
+        int raised = jdbcTemplate.update("UPDATE " + IdGenerators.TABLE + " SET " + IdGenerators.VALUE_COLUMN + " = ?"
+                        + " WHERE " + IdGenerators.NAME_COLUMN + " = ? AND " + IdGenerators.VALUE_COLUMN + " < ?",
+                floor, table, floor);
+        if (raised > 0) {
+            log.info("Raised ID generator {} to {} past existing ID {}", table, floor, maxId);
+            return;
+        }
+        Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + IdGenerators.TABLE
+                + " WHERE " + IdGenerators.NAME_COLUMN + " = ?", Integer.class, table);
+        if (rows != null && rows > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update("INSERT INTO " + IdGenerators.TABLE + " (" + IdGenerators.NAME_COLUMN + ", "
+                    + IdGenerators.VALUE_COLUMN + ") VALUES (?, ?)", table, floor);
+            log.info("Started ID generator {} at {} past existing ID {}", table, floor, maxId);
+        } catch (DuplicateKeyException e) {
+            // Another instance created the row first; it applied the same floor
+        }
+    }
+}
@@ -2,8 +2,25 @@ package com.nikhilspring.PolicyService.repository;
 
 import com.nikhilspring.PolicyService.entity.Policy;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
 
 @Repository
 public interface PolicyRepository extends JpaRepository<Policy,Long> {
+
+    /**
+     * PENDING to ACTIVE for every listed policy in one statement. Policies that are already active (a redelivered
+     * event) or in any other state do not match, so repeats are no-ops and need no prior read.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Policy p SET p.policyStatus = 'ACTIVE', p.updatedDate = :now, p.version = p.version + 1 " +
+           "WHERE p.id IN :policyIds AND p.policyStatus = 'PENDING'")
+    int activatePendingPolicies(@Param("policyIds") Collection<Long> policyIds, @Param("now") Instant now);
 }
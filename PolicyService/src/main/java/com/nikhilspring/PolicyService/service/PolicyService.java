@@ -1,10 +1,23 @@
 package com.nikhilspring.PolicyService.service;
 
+import com.nikhilspring.PolicyService.model.BulkIssueResult;
 import com.nikhilspring.PolicyService.model.PolicyRequest;
 import com.nikhilspring.PolicyService.model.PolicyResponse;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
 public interface PolicyService {
     long issuePolicy(PolicyRequest policyRequest);
 
+    /**
+     * Issues every request that passes the same checks as {@link #issuePolicy}; the others are reported and do
+     * not stop the rest. Results reach {@code results} in request order, a batch at a time as each is written.
+     */
+    void issuePolicies(List<PolicyRequest> policyRequests, Consumer<BulkIssueResult> results);
+
     PolicyResponse getPolicyDetails(long policyId);
+
+    int activatePolicies(Collection<Long> policyIds);
 }
\ No newline at end of file
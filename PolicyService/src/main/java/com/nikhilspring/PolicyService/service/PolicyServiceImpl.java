@@ -2,6 +2,7 @@ package com.nikhilspring.PolicyService.service;
 
 import com.nikhilspring.PolicyService.entity.Policy;
 import com.nikhilspring.PolicyService.entity.Product;
+import com.nikhilspring.PolicyService.event.PolicyEventPublisher;
 import com.nikhilspring.PolicyService.exception.CustomException;
 import com.nikhilspring.PolicyService.external.client.ClaimService;
 import com.nikhilspring.PolicyService.external.client.PaymentService;
@@ -11,20 +12,38 @@ import com.nikhilspring.PolicyService.external.request.PaymentRequest;
 import com.nikhilspring.PolicyService.external.response.ClaimResponse;
 import com.nikhilspring.PolicyService.external.response.PaymentResponse;
 import com.nikhilspring.PolicyService.external.response.ProductResponse;
+import com.nikhilspring.PolicyService.external.response.ProductValidationResponse;
+import com.nikhilspring.PolicyService.model.BulkIssueResult;
 import com.nikhilspring.PolicyService.model.PolicyRequest;
 import com.nikhilspring.PolicyService.model.PolicyResponse;
+import com.nikhilspring.PolicyService.model.PolicyStatus;
 import com.nikhilspring.PolicyService.repository.PolicyRepository;
 import com.nikhilspring.PolicyService.repository.ProductRepository;
-import com.nikhilspring.PolicyService.validation.PolicyValidationUtil;
+import com.nikhilspring.PolicyService.validation.PolicyValidationRules;
+import com.nikhilspring.common.id.BusinessNumberGenerator;
+import com.nikhilspring.common.validation.RequestValidator;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
 
 @Service
 @Log4j2
@@ -39,107 +58,163 @@ public class PolicyServiceImpl implements PolicyService{
     @Autowired
     private ProductService productService;
 
+    @Autowired
+    private ProductSnapshotCache productSnapshotCache;
+
     @Autowired
     private PaymentService paymentService;
 
     @Autowired
     private ClaimService claimService;
 
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private PolicyEventPublisher policyEventPublisher;
+
+    @Autowired
+    private BusinessNumberGenerator businessNumberGenerator;
+
+    @Autowired
+    @Qualifier("productLookupExecutor")
+    private ExecutorService productLookupExecutor;
+
+    @Value("${policy.bulk.batch-size:500}")
+    private int bulkBatchSize;
+
+    @Value("${policy.bulk.max-concurrent-lookups:32}")
+    private int bulkMaxConcurrentLookups;
+
     @Override
-    @CacheEvict(value = {"policies", "policy-products"}, allEntries = true)
     public long issuePolicy(PolicyRequest policyRequest) {
         log.info("Issuing Policy Request: {}", policyRequest);
         
         // Validate request
-        PolicyValidationUtil.validatePolicyRequest(policyRequest);
+        PolicyValidationRules.POLICY_REQUEST.validate(policyRequest);
         log.info("Policy request validation passed");
         
         // Check if product exists and is active using ProductService API
-        log.info("Checking if product with ID {} exists and is active via ProductService", policyRequest.getProductId());
-        
-        try {
-            // Call ProductService to validate product
-            log.info("Calling ProductService.validateProduct for product ID: {}", policyRequest.getProductId());
-            productService.validateProduct(policyRequest.getProductId());
-            log.info("Product validation successful for ID: {}", policyRequest.getProductId());
-            
-            // Get product details from ProductService
-            log.info("Calling ProductService.getProductById for product ID: {}", policyRequest.getProductId());
-            ResponseEntity<ProductResponse> productResponse = productService.getProductById(policyRequest.getProductId());
-            
-            if (productResponse == null) {
-                log.error("ProductService.getProductById returned null ResponseEntity for product ID: {}", policyRequest.getProductId());
-                throw new CustomException(
-                    "ProductService returned null response for product ID: " + policyRequest.getProductId(),
-                    "PRODUCT_SERVICE_ERROR",
-                    500
-                );
-            }
-            
-            ProductResponse product = productResponse.getBody();
-            log.info("ProductService response status: {}, body: {}", productResponse.getStatusCode(), product);
-            
-            if (product == null) {
-                log.error("Product not found with ID: {} - ProductService returned null body", policyRequest.getProductId());
-                throw new CustomException(
-                    "Product not found with ID: " + policyRequest.getProductId(),
-                    "PRODUCT_NOT_FOUND",
-                    400
-                );
-            }
-            
-            if (!product.isActive()) {
-                log.error("Product is inactive. Product: {}, isActive: {}", product.getProductName(), product.isActive());
-                throw new CustomException(
-                    "Product is inactive with ID: " + policyRequest.getProductId(),
-                    "PRODUCT_INACTIVE",
-                    400
-                );
-            }
-            
-            log.info("Found active product: {} (ID: {}, Active: {})", product.getProductName(), product.getProductId(), product.isActive());
-            
-        } catch (CustomException e) {
-            // Re-throw CustomException as is
-            log.error("Custom exception during product validation: {}", e.getMessage());
-            throw e;
-        } catch (Exception e) {
-            log.error("Error validating product with ID {}: {}", policyRequest.getProductId(), e.getMessage(), e);
-            throw new CustomException(
-                "Error validating product: " + e.getMessage(),
-                "PRODUCT_VALIDATION_ERROR",
-                500
-            );
-        }
+        requireActiveProduct(policyRequest.getProductId());
         
         // Create policy entity
-        Policy policy = Policy.builder()
-                .policyNumber(generatePolicyNumber())
-                .customerId(policyRequest.getCustomerId())
-                .productId(policyRequest.getProductId())
-                .premiumAmount(policyRequest.getPremiumAmount())
-                .coverageAmount(policyRequest.getCoverageAmount())
-                .policyStartDate(policyRequest.getPolicyStartDate())
-                .policyEndDate(policyRequest.getPolicyEndDate())
-                .policyStatus("ACTIVE")
-                .createdDate(Instant.now())
-                .updatedDate(Instant.now())
-                .build();
+        Policy policy = newPolicy(policyRequest);
         
         // Save policy
         Policy savedPolicy = policyRepository.save(policy);
         log.info("Policy created successfully with ID: {}", savedPolicy.getId());
+        policyEventPublisher.publishPolicyChanged(savedPolicy);
         
         return savedPolicy.getId();
     }
 
+    /**
+     * Each distinct product is checked once, all of them at the start and in parallel, at most
+     * {@code policy.bulk.max-concurrent-lookups} at a time, so later batches find their products resolved while
+     * earlier ones are being written. Every batch is saved in one transaction; a batch that cannot be written is
+     * reported as FAILED and the next one still goes ahead.
+     */
     @Override
-    @Cacheable(value = "policies", key = "#policyId")
+    public void issuePolicies(List<PolicyRequest> policyRequests, Consumer<BulkIssueResult> results) {
+        log.info("Issuing {} policies in bulk", policyRequests.size());
+
+        // Virtual threads are cheap, but each check holds a pooled connection to ProductService
+        Semaphore lookupPermits = new Semaphore(bulkMaxConcurrentLookups);
+        Executor lookupExecutor = task -> productLookupExecutor.execute(() -> {
+            lookupPermits.acquireUninterruptibly();
+            try {
+                task.run();
+            } finally {
+                lookupPermits.release();
+            }
+        });
+        Map<Long, CompletableFuture<CustomException>> productChecks = new HashMap<>();
+        for (PolicyRequest policyRequest : policyRequests) {
+            if (policyRequest != null) {
+                productChecks.computeIfAbsent(policyRequest.getProductId(), productId ->
+                        CompletableFuture.supplyAsync(() -> productRejection(productId), lookupExecutor));
+            }
+        }
+
+        int issued = 0;
+        for (int from = 0; from < policyRequests.size(); from += bulkBatchSize) {
+            int to = Math.min(from + bulkBatchSize, policyRequests.size());
+            BulkIssueResult[] batchResults = new BulkIssueResult[to - from];
+            List<Policy> policies = new ArrayList<>(to - from);
+            List<Integer> positions = new ArrayList<>(to - from);
+
+            for (int index = from; index < to; index++) {
+                PolicyRequest policyRequest = policyRequests.get(index);
+                CustomException rejection = requestRejection(policyRequest);
+                if (rejection == null) {
+                    rejection = productChecks.get(policyRequest.getProductId()).join();
+                }
+                if (rejection != null) {
+                    batchResults[index - from] = failure(index, BulkIssueResult.Outcome.REJECTED, rejection.getErrorCode(), rejection.getMessage());
+                } else {
+                    policies.add(newPolicy(policyRequest));
+                    positions.add(index);
+                }
+            }
+
+            try {
+                List<Policy> saved = policyRepository.saveAll(policies);
+                for (int i = 0; i < saved.size(); i++) {
+                    Policy policy = saved.get(i);
+                    batchResults[positions.get(i) - from] = BulkIssueResult.builder()
+                            .index(positions.get(i))
+                            .outcome(BulkIssueResult.Outcome.ISSUED)
+                            .policyId(policy.getId())
+                            .policyNumber(policy.getPolicyNumber())
+                            .build();
+                    policyEventPublisher.publishPolicyChanged(policy);
+                }
+                issued += saved.size();
+            } catch (RuntimeException e) {
+                log.error("Could not write bulk policies {} to {}: {}", from, to - 1, e.getMessage(), e);
+                for (int position : positions) {
+                    batchResults[position - from] = failure(position, BulkIssueResult.Outcome.FAILED,
+                            "POLICY_PERSISTENCE_ERROR", "Policy could not be saved");
+                }
+            }
+
+            for (BulkIssueResult result : batchResults) {
+                results.accept(result);
+            }
+        }
+        log.info("Bulk issue finished: {} of {} policies issued", issued, policyRequests.size());
+    }
+
+    /**
+     * Activates every pending policy in one conditional UPDATE; ids that are unknown or no longer pending are skipped
+     */
+    @Override
+    public int activatePolicies(Collection<Long> policyIds) {
+        if (policyIds.isEmpty()) {
+            return 0;
+        }
+        int activated = policyRepository.activatePendingPolicies(policyIds, Instant.now());
+        log.info("Activated {} of {} policies", activated, policyIds.size());
+
+        // Nothing matched means every event was a repeat and no cached response changed
+        if (activated > 0) {
+            // Evict after the update has committed so a concurrent read cannot re-cache the old status
+            Cache policies = cacheManager.getCache("policies");
+            if (policies != null) {
+                policyIds.forEach(policies::evict);
+            }
+            publishActivations(policyIds, activated);
+        }
+        return activated;
+    }
+
+    @Override
+    @Cacheable(value = "policies", key = "#policyId", sync = true)
     public PolicyResponse getPolicyDetails(long policyId) {
         log.info("Get policy details for Policy Id : {}", policyId);
 
-        // Validate policy ID using utility
-        PolicyValidationUtil.validatePolicyId(policyId);
+        // Validate policy ID
+        RequestValidator.checkPositiveId(policyId, "INVALID_POLICY_ID", "policy ID", PolicyValidationRules.EXCEPTIONS);
 
         Policy policy
                 = policyRepository.findById(policyId)
@@ -227,11 +302,144 @@ public class PolicyServiceImpl implements PolicyService{
         return policyResponse;
     }
 
+    /**
+     * When every listed policy was activated the status alone is published; for a partial match the rows are
+     * read back so ids that were skipped are published with the status they actually have
+     */
+    private void publishActivations(Collection<Long> policyIds, int activated) {
+        if (activated == policyIds.size()) {
+            policyIds.forEach(policyId -> policyEventPublisher.publishStatusChanged(policyId, PolicyStatus.ACTIVE.name()));
+        } else {
+            policyRepository.findAllById(policyIds).forEach(policyEventPublisher::publishPolicyChanged);
+        }
+    }
+
+    /**
+     * Existence, active flag and product data in one ProductService call, served from the near-cache when possible
+     */
+    private ProductValidationResponse getProductSnapshot(long productId) {
+        ProductValidationResponse cached = productSnapshotCache.get(productId);
+        if (cached != null) {
+            log.info("Using cached product snapshot for product ID: {}", productId);
+            return cached;
+        }
+
+        log.info("Calling ProductService.validateAndGetProduct for product ID: {}", productId);
+        ResponseEntity<ProductValidationResponse> response = productService.validateAndGetProduct(productId);
+
+        if (response == null || response.getBody() == null) {
+            log.error("ProductService.validateAndGetProduct returned no body for product ID: {}", productId);
+            throw new CustomException(
+                "ProductService returned null response for product ID: " + productId,
+                "PRODUCT_SERVICE_ERROR",
+                500
+            );
+        }
+
+        ProductValidationResponse validation = response.getBody();
+        log.info("ProductService response status: {}, body: {}", response.getStatusCode(), validation);
+
+        // Unknown products are not cached, so a product added later is seen straight away
+        if (validation.isExists()) {
+            productSnapshotCache.put(validation);
+        }
+        return validation;
+    }
+
+    /**
+     * Throws PRODUCT_NOT_FOUND or PRODUCT_INACTIVE unless the product exists and is active
+     */
+    private void requireActiveProduct(long productId) {
+        log.info("Checking if product with ID {} exists and is active via ProductService", productId);
+
+        try {
+            ProductValidationResponse validation = getProductSnapshot(productId);
+            ProductResponse product = validation.isExists() ? validation.getProduct() : null;
+
+            if (product == null) {
+                log.error("Product not found with ID: {} - ProductService reported no such product", productId);
+                throw new CustomException(
+                    "Product not found with ID: " + productId,
+                    "PRODUCT_NOT_FOUND",
+                    400
+                );
+            }
+
+            if (!validation.isActive()) {
+                log.error("Product is inactive. Product: {}, isActive: {}", product.getProductName(), product.isActive());
+                throw new CustomException(
+                    "Product is inactive with ID: " + productId,
+                    "PRODUCT_INACTIVE",
+                    400
+                );
+            }
+
+            log.info("Found active product: {} (ID: {}, Active: {})", product.getProductName(), product.getProductId(), product.isActive());
+        } catch (CustomException e) {
+            // Re-throw CustomException as is
+            log.error("Custom exception during product validation: {}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("Error validating product with ID {}: {}", productId, e.getMessage(), e);
+            throw new CustomException(
+                "Error validating product: " + e.getMessage(),
+                "PRODUCT_VALIDATION_ERROR",
+                500
+            );
+        }
+    }
+
+    /**
+     * The error a single issue would have thrown for the request's shape, or null when it is valid
+     */
+    private static CustomException requestRejection(PolicyRequest policyRequest) {
+        try {
+            PolicyValidationRules.POLICY_REQUEST.validate(policyRequest);
+            return null;
+        } catch (CustomException e) {
+            return e;
+        }
+    }
+
+    private CustomException productRejection(long productId) {
+        try {
+            requireActiveProduct(productId);
+            return null;
+        } catch (CustomException e) {
+            return e;
+        }
+    }
+
+    private static BulkIssueResult failure(int index, BulkIssueResult.Outcome outcome, String errorCode, String errorMessage) {
+        return BulkIssueResult.builder()
+                .index(index)
+                .outcome(outcome)
+                .errorCode(errorCode)
+                .errorMessage(errorMessage)
+                .build();
+    }
+
+    private Policy newPolicy(PolicyRequest policyRequest) {
+        return Policy.builder()
+                .policyNumber(generatePolicyNumber())
+                .customerId(policyRequest.getCustomerId())
+                .productId(policyRequest.getProductId())
+                .premiumAmount(policyRequest.getPremiumAmount())
+                .coverageAmount(policyRequest.getCoverageAmount())
+                .policyStartDate(policyRequest.getPolicyStartDate())
+                .policyEndDate(policyRequest.getPolicyEndDate())
+                // Activated by the premium PaymentEvent, see PaymentEventConsumer
+                .policyStatus(PolicyStatus.PENDING.name())
+                .createdDate(Instant.now())
+                .updatedDate(Instant.now())
+                .build();
+    }
+
     private String generatePolicyNumber() {
-        return "POL-" + System.currentTimeMillis();
+        return businessNumberGenerator.next("POL");
     }
 
     private String generateReferenceNumber() {
-        return "REF-" + System.currentTimeMillis();
+        return businessNumberGenerator.next("REF");
     }
 } 
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.nikhilspring.PolicyService.service;
+
+import com.nikhilspring.PolicyService.external.response.ProductValidationResponse;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process near-cache of product snapshots used during policy issuance.
+ * Entries expire after a short TTL and are dropped early when ProductService announces a change.
+ */
+@Component
+@Log4j2
+public class ProductSnapshotCache {
+
+    private final Map<Long, Entry> snapshots = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    public ProductSnapshotCache(@Value("${policy.product-cache.ttl:PT5M}") Duration ttl,
+                                @Value("${policy.product-cache.max-entries:1000}") int maxEntries) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+    }
+
+    public ProductValidationResponse get(long productId) {
+        Entry entry = snapshots.get(productId);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.expiresAtNanos() >= 0) {
+            snapshots.remove(productId, entry);
+            return null;
+        }
+        return entry.snapshot();
+    }
+
+    public void put(ProductValidationResponse snapshot) {
+        if (snapshots.size() >= maxEntries) {
+            long now = System.nanoTime();
+            snapshots.values().removeIf(entry -> now - entry.expiresAtNanos() >= 0);
+            if (snapshots.size() >= maxEntries) {
+                snapshots.clear();
+            }
+        }
+        snapshots.put(snapshot.getProductId(), new Entry(snapshot, System.nanoTime() + ttlNanos));
+    }
+
+    public void evict(long productId) {
+        if (snapshots.remove(productId) != null) {
+            log.info("Evicted product snapshot for product ID: {}", productId);
+        }
+    }
+
+    public void clear() {
+        snapshots.clear();
+    }
+
+    private record Entry(ProductValidationResponse snapshot, long expiresAtNanos) {
+    }
+}
@@ -1,6 +1,8 @@
 package com.nikhilspring.PolicyService.service;
 
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Service;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
@@ -8,6 +10,10 @@ import org.springframework.web.context.request.ServletRequestAttributes;
 @Service
 public class TokenService {
 
+    /**
+     * The caller's bearer token: from the bound request, or on executor threads (which have no request bound) from
+     * the JWT authentication carried over with the security context
+     */
     public String extractToken() {
         ServletRequestAttributes attributes =
                 (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
@@ -20,6 +26,10 @@ public class TokenService {
                 return authHeader.substring(7);  // Extract token value
             }
         }
+
+        if (SecurityContextHolder.getContext().getAuthentication() instanceof JwtAuthenticationToken jwtToken) {
+            return jwtToken.getToken().getTokenValue();
+        }
         return null;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,41 @@
+package com.nikhilspring.PolicyService.validation;
+
+import com.nikhilspring.PolicyService.exception.CustomException;
+import com.nikhilspring.PolicyService.model.PolicyRequest;
+import com.nikhilspring.common.validation.RequestValidator;
+import com.nikhilspring.common.validation.ValidationExceptionFactory;
+
+public final class PolicyValidationRules {
+
+    /**
+     * Rejects an invalid request with a 400
+     */
+    public static final ValidationExceptionFactory EXCEPTIONS = (message, errorCode) ->
+            new CustomException(message, errorCode, 400);
+
+    // A start date in the past stays allowed for testing purposes, as before
+    public static final RequestValidator<PolicyRequest> POLICY_REQUEST = RequestValidator
+            .<PolicyRequest>builder(EXCEPTIONS, "INVALID_REQUEST", "Policy request cannot be null")
+            .positive(PolicyRequest::getCustomerId, "INVALID_CUSTOMER_ID",
+                    policyRequest -> "Invalid customer ID: " + policyRequest.getCustomerId())
+            .positive(PolicyRequest::getProductId, "INVALID_PRODUCT_ID",
+                    policyRequest -> "Invalid product ID: " + policyRequest.getProductId())
+            .positive(PolicyRequest::getPremiumAmount, "INVALID_PREMIUM_AMOUNT", "Premium amount must be greater than 0")
+            .positive(PolicyRequest::getCoverageAmount, "INVALID_COVERAGE_AMOUNT", "Coverage amount must be greater than 0")
+            .notNull(PolicyRequest::getPolicyStartDate, "INVALID_START_DATE", "Policy start date cannot be null")
+            .notNull(PolicyRequest::getPolicyEndDate, "INVALID_END_DATE", "Policy end date cannot be null")
+            .require(PolicyValidationRules::startsBeforeEnd, "INVALID_DATE_RANGE", "Policy start date cannot be after end date")
+            .notNull(PolicyRequest::getPaymentMode, "INVALID_PAYMENT_MODE", "Payment mode cannot be null")
+            .build();
+
+    private PolicyValidationRules() {
+    }
+
+    /**
+     * Missing dates are reported by their own rules
+     */
+    private static boolean startsBeforeEnd(PolicyRequest policyRequest) {
+        return policyRequest.getPolicyStartDate() == null || policyRequest.getPolicyEndDate() == null
+                || !policyRequest.getPolicyStartDate().isAfter(policyRequest.getPolicyEndDate());
+    }
+}
@@ -15,10 +15,10 @@ import org.apache.avro.message.SchemaStore;
 /** Simple payment event for policy activation and claim processing */
 @org.apache.avro.specific.AvroGenerated
 public class PaymentEvent extends org.apache.avro.specific.SpecificRecordBase implements org.apache.avro.specific.SpecificRecord {
-  private static final long serialVersionUID = 2300057278346184460L;
+  private static final long serialVersionUID = -6961930449205760758L;
 
 
-  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"PaymentEvent\",\"namespace\":\"com.nikhilspring.insurance.events\",\"doc\":\"Simple payment event for policy activation and claim processing\",\"fields\":[{\"name\":\"paymentId\",\"type\":\"long\",\"doc\":\"Unique payment identifier\"},{\"name\":\"policyId\",\"type\":[\"null\",\"long\"],\"doc\":\"Policy ID if this is a policy payment\",\"default\":null},{\"name\":\"claimId\",\"type\":[\"null\",\"long\"],\"doc\":\"Claim ID if this is a claim payment\",\"default\":null},{\"name\":\"amount\",\"type\":\"double\",\"doc\":\"Payment amount\"},{\"name\":\"status\",\"type\":{\"type\":\"enum\",\"name\":\"PaymentStatus\",\"symbols\":[\"COMPLETED\",\"FAILED\",\"PENDING\"]},\"doc\":\"Payment status\"},{\"name\":\"paymentType\",\"type\":{\"type\":\"enum\",\"name\":\"PaymentType\",\"symbols\":[\"PREMIUM\",\"CLAIM_PAYMENT\"]},\"doc\":\"Type of payment\"},{\"name\":\"timestamp\",\"type\":\"long\",\"doc\":\"Payment timestamp in milliseconds\"}]}");
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"PaymentEvent\",\"namespace\":\"com.nikhilspring.insurance.events\",\"doc\":\"Simple payment event for policy activation and claim processing\",\"fields\":[{\"name\":\"paymentId\",\"type\":\"long\",\"doc\":\"Unique payment identifier\"},{\"name\":\"policyId\",\"type\":[\"null\",\"long\"],\"doc\":\"Policy ID if this is a policy payment\",\"default\":null},{\"name\":\"claimId\",\"type\":[\"null\",\"long\"],\"doc\":\"Claim ID if this is a claim payment\",\"default\":null},{\"name\":\"amount\",\"type\":\"double\",\"doc\":\"Payment amount\"},{\"name\":\"status\",\"type\":{\"type\":\"enum\",\"name\":\"PaymentStatus\",\"symbols\":[\"COMPLETED\",\"FAILED\",\"PENDING\"]},\"doc\":\"Payment status\"},{\"name\":\"paymentType\",\"type\":{\"type\":\"enum\",\"name\":\"PaymentType\",\"symbols\":[\"PREMIUM\",\"CLAIM_PAYMENT\"]},\"doc\":\"Type of payment\"},{\"name\":\"timestamp\",\"type\":\"long\",\"doc\":\"Payment timestamp in milliseconds\"},{\"name\":\"customerId\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"Customer who made the payment; null on events written before this field existed\",\"default\":null}]}");
   public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
 
   private static final SpecificData MODEL$ = new SpecificData();
@@ -88,6 +88,8 @@ public class PaymentEvent extends org.apache.avro.specific.SpecificRecordBase im
   private com.nikhilspring.insurance.events.PaymentType paymentType;
   /** Payment timestamp in milliseconds */
   private long timestamp;
+  /** Customer who made the payment; null on events written before this field existed */
+  private java.lang.String customerId;
 
   /**
    * Default constructor.  Note that this does not initialize fields
@@ -105,8 +107,9 @@ public class PaymentEvent extends org.apache.avro.specific.SpecificRecordBase im
    * @param status Payment status
    * @param paymentType Type of payment
    * @param timestamp Payment timestamp in milliseconds
+   * @param customerId Customer who made the payment; null on events written before this field existed
    */
-  public PaymentEvent(java.lang.Long paymentId, java.lang.Long policyId, java.lang.Long claimId, java.lang.Double amount, com.nikhilspring.insurance.events.PaymentStatus status, com.nikhilspring.insurance.events.PaymentType paymentType, java.lang.Long timestamp) {
+  public PaymentEvent(java.lang.Long paymentId, java.lang.Long policyId, java.lang.Long claimId, java.lang.Double amount, com.nikhilspring.insurance.events.PaymentStatus status, com.nikhilspring.insurance.events.PaymentType paymentType, java.lang.Long timestamp, java.lang.String customerId) {
     this.paymentId = paymentId;
     this.policyId = policyId;
     this.claimId = claimId;
@@ -114,6 +117,7 @@ public class PaymentEvent extends org.apache.avro.specific.SpecificRecordBase im
     this.status = status;
     this.paymentType = paymentType;
     this.timestamp = timestamp;
+    this.customerId = customerId;
   }
 
   @Override
@@ -133,6 +137,7 @@ public class PaymentEvent extends org.apache.avro.specific.SpecificRecordBase im
     case 4: return status;
     case 5: return paymentType;
     case 6: return timestamp;
+    case 7: return customerId;
     default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
     }
   }
@@ -149,6 +154,7 @@ public class PaymentEvent extends org.apache.avro.specific.SpecificRecordBase im
     case 4: status = (com.nikhilspring.insurance.events.PaymentStatus)value$; break;
     case 5: paymentType = (com.nikhilspring.insurance.events.PaymentType)value$; break;
     case 6: timestamp = (java.lang.Long)value$; break;
+    case 7: customerId = value$ != null ? value$.toString() : null; break;
     default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
     }
   }
@@ -279,6 +285,24 @@ public class PaymentEvent extends org.apache.avro.specific.SpecificRecordBase im
     this.timestamp = value;
   }
 
+  /**
+   * Gets the value of the 'customerId' field.
+   * @return Customer who made the payment; null on events written before this field existed
+   */
+  public java.lang.String getCustomerId() {
+    return customerId;
+  }
+
+
+  /**
+   * Sets the value of the 'customerId' field.
+   * Customer who made the payment; null on events written before this field existed
+   * @param value the value to set.
+   */
+  public void setCustomerId(java.lang.String value) {
+    this.customerId = value;
+  }
+
   /**
    * Creates a new PaymentEvent RecordBuilder.
    * @return A new PaymentEvent RecordBuilder
@@ -334,6 +358,8 @@ public class PaymentEvent extends org.apache.avro.specific.SpecificRecordBase im
     private com.nikhilspring.insurance.events.PaymentType paymentType;
     /** Payment timestamp in milliseconds */
     private long timestamp;
+    /** Customer who made the payment; null on events written before this field existed */
+    private java.lang.String customerId;
 
     /** Creates a new Builder */
     private Builder() {
@@ -374,6 +400,10 @@ public class PaymentEvent extends org.apache.avro.specific.SpecificRecordBase im
         this.timestamp = data().deepCopy(fields()[6].schema(), other.timestamp);
         fieldSetFlags()[6] = other.fieldSetFlags()[6];
       }
+      if (isValidValue(fields()[7], other.customerId)) {
+        this.customerId = data().deepCopy(fields()[7].schema(), other.customerId);
+        fieldSetFlags()[7] = other.fieldSetFlags()[7];
+      }
     }
 
     /**
@@ -410,6 +440,10 @@ public class PaymentEvent extends org.apache.avro.specific.SpecificRecordBase im
         this.timestamp = data().deepCopy(fields()[6].schema(), other.timestamp);
         fieldSetFlags()[6] = true;
       }
+      if (isValidValue(fields()[7], other.customerId)) {
+        this.customerId = data().deepCopy(fields()[7].schema(), other.customerId);
+        fieldSetFlags()[7] = true;
+      }
     }
 
     /**
@@ -717,6 +751,50 @@ public class PaymentEvent extends org.apache.avro.specific.SpecificRecordBase im
       return this;
     }
 
+    /**
+      * Gets the value of the 'customerId' field.
+      * Customer who made the payment; null on events written before this field existed
+      * @return The value.
+      */
+    public java.lang.String getCustomerId() {
+      return customerId;
+    }
+
+
+    /**
+      * Sets the value of the 'customerId' field.
+      * Customer who made the payment; null on events written before this field existed
+      * @param value The value of 'customerId'.
+      * @return This builder.
+      */
+    public com.nikhilspring.insurance.events.PaymentEvent.Builder setCustomerId(java.lang.String value) {
+      validate(fields()[7], value);
+      this.customerId = value;
+      fieldSetFlags()[7] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'customerId' field has been set.
+      * Customer who made the payment; null on events written before this field existed
+      * @return True if the 'customerId' field has been set, false otherwise.
+      */
+    public boolean hasCustomerId() {
+      return fieldSetFlags()[7];
+    }
+
+
+    /**
+      * Clears the value of the 'customerId' field.
+      * Customer who made the payment; null on events written before this field existed
+      * @return This builder.
+      */
+    public com.nikhilspring.insurance.events.PaymentEvent.Builder clearCustomerId() {
+      customerId = null;
+      fieldSetFlags()[7] = false;
+      return this;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public PaymentEvent build() {
@@ -729,6 +807,7 @@ public class PaymentEvent extends org.apache.avro.specific.SpecificRecordBase im
         record.status = fieldSetFlags()[4] ? this.status : (com.nikhilspring.insurance.events.PaymentStatus) defaultValue(fields()[4]);
         record.paymentType = fieldSetFlags()[5] ? this.paymentType : (com.nikhilspring.insurance.events.PaymentType) defaultValue(fields()[5]);
         record.timestamp = fieldSetFlags()[6] ? this.timestamp : (java.lang.Long) defaultValue(fields()[6]);
+        record.customerId = fieldSetFlags()[7] ? this.customerId : (java.lang.String) defaultValue(fields()[7]);
         return record;
       } catch (org.apache.avro.AvroMissingFieldException e) {
         throw e;
@@ -787,6 +866,14 @@ public class PaymentEvent extends org.apache.avro.specific.SpecificRecordBase im
 
     out.writeLong(this.timestamp);
 
+    if (this.customerId == null) {
+      out.writeIndex(0);
+      out.writeNull();
+    } else {
+      out.writeIndex(1);
+      out.writeString(this.customerId);
+    }
+
   }
 
   @Override public void customDecode(org.apache.avro.io.ResolvingDecoder in)
@@ -818,8 +905,15 @@ public class PaymentEvent extends org.apache.avro.specific.SpecificRecordBase im
 
       this.timestamp = in.readLong();
 
+      if (in.readIndex() != 1) {
+        in.readNull();
+        this.customerId = null;
+      } else {
+        this.customerId = in.readString();
+      }
+
     } else {
-      for (int i = 0; i < 7; i++) {
+      for (int i = 0; i < 8; i++) {
         switch (fieldOrder[i].pos()) {
         case 0:
           this.paymentId = in.readLong();
@@ -859,6 +953,15 @@ public class PaymentEvent extends org.apache.avro.specific.SpecificRecordBase im
           this.timestamp = in.readLong();
           break;
 
+        case 7:
+          if (in.readIndex() != 1) {
+            in.readNull();
+            this.customerId = null;
+          } else {
+            this.customerId = in.readString();
+          }
+          break;
+
         default:
           throw new java.io.IOException("Corrupt ResolvingDecoder.");
         }
@@ -0,0 +1,146 @@
+package com.nikhilspring.PolicyService.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.nikhilspring.PolicyService.model.PaymentMode;
+import com.nikhilspring.PolicyService.model.PolicyResponse;
+import com.nikhilspring.common.cache.VersionedSmileRedisSerializer;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a "policies" cache entry: {@code json*} is the default region serializer (type-hinted JSON),
+ * {@code smile*} is {@link VersionedSmileRedisSerializer}. Writes measure a cache put, reads a cache hit. The
+ * {@code *Size} benchmarks write one entry and report its length as their {@code bytes} counter; their time is a
+ * single cold call and means nothing.
+ * Not run by the test suite; run {@link #main} from the IDE, or from PolicyService after {@code mvn test-compile
+ * dependency:build-classpath -Dmdep.outputFile=cp.txt} with
+ * {@code java -cp target/test-classes:target/classes:$(cat cp.txt) org.openjdk.jmh.Main VersionedSmileRedisSerializerBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VersionedSmileRedisSerializerBenchmark {
+
+    private final GenericJackson2JsonRedisSerializer json = GenericJackson2JsonRedisSerializer.builder()
+            .objectMapper(new ObjectMapper().registerModule(new JavaTimeModule()))
+            .defaultTyping(true)
+            .build();
+    private final VersionedSmileRedisSerializer<PolicyResponse> smile =
+            new VersionedSmileRedisSerializer<>(PolicyResponse.class);
+
+    private PolicyResponse policy;
+    private byte[] jsonBytes;
+    private byte[] smileBytes;
+
+    @Setup
+    public void setup() {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        policy = PolicyResponse.builder()
+                .policyId(1)
+                .policyNumber("POL-2024-000001")
+                .policyStatus("ACTIVE")
+                .premiumAmount(1200)
+                .coverageAmount(100000)
+                .policyStartDate(now)
+                .policyEndDate(now.plus(365, ChronoUnit.DAYS))
+                .productDetails(PolicyResponse.ProductDetails.builder()
+                        .productId(1)
+                        .productName("Health Plus")
+                        .productType("Health")
+                        .coverageType("Comprehensive")
+                        .build())
+                .paymentDetails(PolicyResponse.PaymentDetails.builder()
+                        .paymentId(1)
+                        .paymentMode(PaymentMode.CREDIT_CARD)
+                        .paymentStatus("SUCCESS")
+                        .paymentDate(now)
+                        .build())
+                .claimDetails(PolicyResponse.ClaimDetails.builder()
+                        .claimId(1)
+                        .claimType("ACCIDENT")
+                        .claimStatus("SUBMITTED")
+                        .claimDate(now)
+                        .build())
+                .build();
+        jsonBytes = json.serialize(policy);
+        smileBytes = smile.serialize(policy);
+    }
+
+    @Benchmark
+    public byte[] jsonWrite() {
+        return json.serialize(policy);
+    }
+
+    @Benchmark
+    public Object jsonRead() {
+        return json.deserialize(jsonBytes);
+    }
+
+    @Benchmark
+    public byte[] smileWrite() {
+        return smile.serialize(policy);
+    }
+
+    @Benchmark
+    public PolicyResponse smileRead() {
+        return smile.deserialize(smileBytes);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    public byte[] jsonSize(EntrySize size) {
+        return size.record(json.serialize(policy));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    public byte[] smileSize(EntrySize size) {
+        return size.record(smile.serialize(policy));
+    }
+
+    /**
+     * Bytes of one entry. JMH adds event counters up over iterations, hence the single-iteration size benchmarks.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EntrySize {
+
+        public long bytes;
+
+        byte[] record(byte[] entry) {
+            bytes = entry.length;
+            return entry;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(VersionedSmileRedisSerializerBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
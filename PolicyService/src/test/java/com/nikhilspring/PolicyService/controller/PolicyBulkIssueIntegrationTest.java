@@ -0,0 +1,144 @@
+package com.nikhilspring.PolicyService.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nikhilspring.PolicyService.PolicyServiceConfig;
+import com.nikhilspring.PolicyService.event.PolicyEventPublisher;
+import com.nikhilspring.PolicyService.external.client.ProductService;
+import com.nikhilspring.PolicyService.external.response.ProductResponse;
+import com.nikhilspring.PolicyService.external.response.ProductValidationResponse;
+import com.nikhilspring.PolicyService.model.BulkIssueResult;
+import com.nikhilspring.PolicyService.model.PaymentMode;
+import com.nikhilspring.PolicyService.model.PolicyRequest;
+import com.nikhilspring.PolicyService.repository.PolicyRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+
+/**
+ * Bulk issue through the endpoint, the real validation, H2 and JDBC batching, with ProductService and Kafka
+ * stubbed: every item must come back once, in order, with the right outcome, and the rows must match.
+ */
+@SpringBootTest({"server.port=0"})
+@AutoConfigureMockMvc
+@ContextConfiguration(classes = {PolicyServiceConfig.class})
+class PolicyBulkIssueIntegrationTest {
+
+    private static final int ITEMS = 5_000;
+    private static final long ACTIVE_PRODUCT = 1;
+    private static final long INACTIVE_PRODUCT = 2;
+    private static final long UNKNOWN_PRODUCT = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PolicyRepository policyRepository;
+
+    @MockitoBean
+    private ProductService productService;
+
+    @MockitoBean
+    private PolicyEventPublisher policyEventPublisher;
+
+    @DisplayName("Bulk Issue - Every item reported in order, valid ones written in batches")
+    @Test
+    void test_When_Bulk_Issue_Then_Per_Item_Results_Streamed() throws Exception {
+        stubProduct(ACTIVE_PRODUCT, true, true);
+        stubProduct(INACTIVE_PRODUCT, true, false);
+        stubProduct(UNKNOWN_PRODUCT, false, false);
+        List<PolicyRequest> policyRequests = new ArrayList<>(ITEMS);
+        for (int i = 0; i < ITEMS; i++) {
+            long productId = i % 100 == 1 ? INACTIVE_PRODUCT : i % 100 == 2 ? UNKNOWN_PRODUCT : ACTIVE_PRODUCT;
+            policyRequests.add(getMockPolicyRequest(i + 1, productId, i % 100 == 3 ? 0 : 1200));
+        }
+        long policiesBefore = policyRepository.count();
+
+        MvcResult started = mockMvc.perform(MockMvcRequestBuilders.post("/policy/issue/bulk")
+                        .with(user("admin").roles("Admin"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(policyRequests)))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(started))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        List<BulkIssueResult> results = new ArrayList<>(ITEMS);
+        for (String line : body.split("\n")) {
+            assertTrue(line.startsWith("{"), "each line is one bare JSON object: " + line);
+            results.add(objectMapper.readValue(line, BulkIssueResult.class));
+        }
+        Map<String, Long> byErrorCode = results.stream()
+                .filter(result -> result.getErrorCode() != null)
+                .collect(Collectors.groupingBy(BulkIssueResult::getErrorCode, Collectors.counting()));
+        Map<BulkIssueResult.Outcome, Long> byOutcome = results.stream()
+                .collect(Collectors.groupingBy(BulkIssueResult::getOutcome, Collectors.counting()));
+
+        assertEquals(ITEMS, results.size());
+        for (int i = 0; i < ITEMS; i++) {
+            assertEquals(i, results.get(i).getIndex());
+        }
+        assertEquals(Map.of("PRODUCT_INACTIVE", 50L, "PRODUCT_NOT_FOUND", 50L, "INVALID_PREMIUM_AMOUNT", 50L), byErrorCode);
+        assertEquals(ITEMS - 150L, byOutcome.get(BulkIssueResult.Outcome.ISSUED));
+        assertEquals(ITEMS - 150L, policyRepository.count() - policiesBefore);
+        assertEquals(ITEMS - 150L, results.stream().map(BulkIssueResult::getPolicyNumber)
+                .filter(number -> number != null).distinct().count());
+        verify(productService, times(1)).validateAndGetProduct(ACTIVE_PRODUCT);
+        verify(productService, times(1)).validateAndGetProduct(INACTIVE_PRODUCT);
+        verify(productService, times(1)).validateAndGetProduct(UNKNOWN_PRODUCT);
+    }
+
+    private void stubProduct(long productId, boolean exists, boolean active) {
+        ProductValidationResponse validation = ProductValidationResponse.builder()
+                .productId(productId)
+                .exists(exists)
+                .active(active)
+                .product(exists ? ProductResponse.builder()
+                        .productId(productId)
+                        .productName("Group Health " + productId)
+                        .isActive(active)
+                        .build() : null)
+                .build();
+        when(productService.validateAndGetProduct(productId)).thenReturn(new ResponseEntity<>(validation, HttpStatus.OK));
+    }
+
+    private PolicyRequest getMockPolicyRequest(long customerId, long productId, long premiumAmount) {
+        return PolicyRequest.builder()
+                .customerId(customerId)
+                .productId(productId)
+                .paymentMode(PaymentMode.CASH)
+                .premiumAmount(premiumAmount)
+                .coverageAmount(500000)
+                .policyStartDate(Instant.parse("2026-11-01T00:00:00Z"))
+                .policyEndDate(Instant.parse("2027-11-01T00:00:00Z"))
+                .build();
+    }
+}
@@ -0,0 +1,134 @@
+package com.nikhilspring.PolicyService.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.nikhilspring.PolicyService.event.PolicyEventPublisher;
+import com.nikhilspring.PolicyService.external.response.ProductResponse;
+import com.nikhilspring.PolicyService.external.response.ProductValidationResponse;
+import com.nikhilspring.PolicyService.model.PaymentMode;
+import com.nikhilspring.PolicyService.model.PolicyRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.time.Instant;
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+
+/**
+ * Product checks of a bulk issue run on virtual threads with no request bound; ProductService must still receive
+ * the caller's bearer token.
+ */
+@SpringBootTest({"server.port=0"})
+@AutoConfigureMockMvc
+@ContextConfiguration(classes = {PolicyBulkIssueTokenForwardingTest.ProductServiceInstance.class})
+class PolicyBulkIssueTokenForwardingTest {
+
+    private static final String CALLER_TOKEN = "bulk-caller-token";
+
+    @RegisterExtension
+    static WireMockExtension productService = WireMockExtension.newInstance()
+            .options(WireMockConfiguration.wireMockConfig().dynamicPort())
+            .build();
+
+    /**
+     * PRODUCT-SERVICE as the only instance, so the load balancer cannot send a check anywhere else
+     */
+    @TestConfiguration
+    static class ProductServiceInstance {
+
+        @Bean
+        public ServiceInstanceListSupplier supplier() {
+            return ServiceInstanceListSuppliers.from("PRODUCT-SERVICE", new DefaultServiceInstance(
+                    "PRODUCT-SERVICE", "PRODUCT-SERVICE", "localhost", productService.getPort(), false));
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private PolicyEventPublisher policyEventPublisher;
+
+    @DisplayName("Bulk Issue - Product checks forward the caller's JWT")
+    @Test
+    void test_When_Bulk_Issue_Then_Product_Checks_Carry_Caller_Token() throws Exception {
+        stubProduct(7001);
+        stubProduct(7002);
+        List<PolicyRequest> policyRequests = List.of(
+                getMockPolicyRequest(1, 7001),
+                getMockPolicyRequest(2, 7002),
+                getMockPolicyRequest(3, 7001));
+
+        MvcResult started = mockMvc.perform(MockMvcRequestBuilders.post("/policy/issue/bulk")
+                        .with(jwt().jwt(token -> token.tokenValue(CALLER_TOKEN))
+                                .authorities(new SimpleGrantedAuthority("ROLE_Admin")))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(policyRequests)))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(started))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        for (long productId : List.of(7001L, 7002L)) {
+            productService.verify(1, getRequestedFor(urlEqualTo("/product/" + productId + "/validation"))
+                    .withHeader("Authorization", equalTo("Bearer " + CALLER_TOKEN)));
+        }
+    }
+
+    private void stubProduct(long productId) throws Exception {
+        ProductValidationResponse validation = ProductValidationResponse.builder()
+                .productId(productId)
+                .exists(true)
+                .active(true)
+                .product(ProductResponse.builder()
+                        .productId(productId)
+                        .productName("Group Health " + productId)
+                        .isActive(true)
+                        .build())
+                .build();
+        productService.stubFor(get(urlEqualTo("/product/" + productId + "/validation"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                        .withBody(objectMapper.writeValueAsString(validation))));
+    }
+
+    private PolicyRequest getMockPolicyRequest(long customerId, long productId) {
+        return PolicyRequest.builder()
+                .customerId(customerId)
+                .productId(productId)
+                .paymentMode(PaymentMode.CASH)
+                .premiumAmount(1200)
+                .coverageAmount(500000)
+                .policyStartDate(Instant.parse("2026-11-01T00:00:00Z"))
+                .policyEndDate(Instant.parse("2027-11-01T00:00:00Z"))
+                .build();
+    }
+}
@@ -207,7 +207,7 @@ public class PolicyControllerTest {
 
         Policy p = policy.get();
         assertEquals(Long.parseLong(policyId), p.getId());
-        assertEquals("ACTIVE", p.getPolicyStatus());
+        assertEquals("PENDING", p.getPolicyStatus());
         assertEquals(policyRequest.getPremiumAmount(), p.getPremiumAmount());
         assertEquals(policyRequest.getCoverageAmount(), p.getCoverageAmount());
     }
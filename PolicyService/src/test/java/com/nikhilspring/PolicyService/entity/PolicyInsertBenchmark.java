@@ -0,0 +1,235 @@
+package com.nikhilspring.PolicyService.entity;
+
+import ch.qos.logback.classic.LoggerContext;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.Data;
+import org.h2.jdbcx.JdbcDataSource;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Insert throughput for {@code rows} policies in one transaction against in-memory H2: {@code identity} is the
+ * previous mapping, one INSERT executed per row to read back the generated key; {@code pooled} is {@link Policy}
+ * with its {@link IdGenerators} table generator and the batch settings from application.yaml. {@code roundTripMicros}
+ * stands in for the network to MySQL, where every statement execution saved is a round trip saved.
+ * Not run by the test suite; run {@link #main} from the IDE, or from PolicyService after {@code mvn test-compile
+ * dependency:build-classpath -Dmdep.outputFile=cp.txt} with
+ * {@code java -cp target/test-classes:target/classes:$(cat cp.txt) org.openjdk.jmh.Main PolicyInsertBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 3)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PolicyInsertBenchmark {
+
+    @Param({"500"})
+    public int rows;
+
+    /**
+     * Simulated network round trip per statement execution, in microseconds; 0 is plain in-memory H2
+     */
+    @Param({"0", "250"})
+    public long roundTripMicros;
+
+    private SessionFactory sessionFactory;
+
+    @Setup
+    public void setup() {
+        // Per-statement debug logging would otherwise cost more than the statements
+        ((LoggerContext) LoggerFactory.getILoggerFactory()).getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)
+                .setLevel(ch.qos.logback.classic.Level.WARN);
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:policy-insert;DB_CLOSE_DELAY=-1");
+        h2.setUser("sa");
+        Configuration configuration = new Configuration()
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(IdGenerators.ALLOCATION_SIZE))
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                .addAnnotatedClass(Policy.class)
+                .addAnnotatedClass(IdentityPolicy.class);
+        configuration.getProperties().put(AvailableSettings.JAKARTA_NON_JTA_DATASOURCE,
+                withRoundTrip(h2, TimeUnit.MICROSECONDS.toNanos(roundTripMicros)));
+        sessionFactory = configuration.buildSessionFactory();
+    }
+
+    @TearDown(Level.Iteration)
+    public void clear() {
+        sessionFactory.inTransaction(session -> {
+            session.createMutationQuery("delete from Policy").executeUpdate();
+            session.createMutationQuery("delete from IdentityPolicy").executeUpdate();
+        });
+    }
+
+    @TearDown
+    public void close() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public void identity() {
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < rows; i++) {
+                IdentityPolicy policy = new IdentityPolicy();
+                fill(policy, i);
+                session.persist(policy);
+            }
+        });
+    }
+
+    @Benchmark
+    public void pooled() {
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < rows; i++) {
+                Instant now = Instant.now();
+                session.persist(Policy.builder()
+                        .policyNumber("POL-" + i)
+                        .customerId(i + 1)
+                        .productId(7)
+                        .premiumAmount(1200)
+                        .coverageAmount(500000)
+                        .policyStartDate(now)
+                        .policyEndDate(now.plus(365, ChronoUnit.DAYS))
+                        .policyStatus("ACTIVE")
+                        .createdDate(now)
+                        .updatedDate(now)
+                        .build());
+            }
+        });
+    }
+
+    private static void fill(IdentityPolicy policy, int i) {
+        Instant now = Instant.now();
+        policy.setPolicyNumber("POL-" + i);
+        policy.setCustomerId(i + 1);
+        policy.setProductId(7);
+        policy.setPremiumAmount(1200);
+        policy.setCoverageAmount(500000);
+        policy.setPolicyStartDate(now);
+        policy.setPolicyEndDate(now.plus(365, ChronoUnit.DAYS));
+        policy.setPolicyStatus("ACTIVE");
+        policy.setCreatedDate(now);
+        policy.setUpdatedDate(now);
+    }
+
+    /**
+     * The data source, with every statement execution parked for the round trip a networked database would add
+     */
+    private static DataSource withRoundTrip(DataSource dataSource, long roundTripNanos) {
+        return proxy(DataSource.class, dataSource, roundTripNanos);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, long roundTripNanos) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (roundTripNanos > 0 && method.getName().startsWith("execute")) {
+                LockSupport.parkNanos(roundTripNanos);
+            }
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            if (result instanceof Connection connection) {
+                return proxy(Connection.class, connection, roundTripNanos);
+            }
+            if (result instanceof PreparedStatement statement) {
+                return proxy(PreparedStatement.class, statement, roundTripNanos);
+            }
+            if (result instanceof Statement statement) {
+                return proxy(Statement.class, statement, roundTripNanos);
+            }
+            return result;
+        });
+    }
+
+    /**
+     * {@link Policy} as it was mapped before, with an IDENTITY key
+     */
+    @Entity(name = "IdentityPolicy")
+    @Table(name = "POLICY_DETAILS_IDENTITY")
+    @Data
+    public static class IdentityPolicy {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private long id;
+
+        @Column(name = "POLICY_NUMBER")
+        private String policyNumber;
+
+        @Column(name = "CUSTOMER_ID")
+        private long customerId;
+
+        @Column(name = "PRODUCT_ID")
+        private long productId;
+
+        @Column(name = "PREMIUM_AMOUNT")
+        private long premiumAmount;
+
+        @Column(name = "COVERAGE_AMOUNT")
+        private long coverageAmount;
+
+        @Column(name = "POLICY_START_DATE")
+        private Instant policyStartDate;
+
+        @Column(name = "POLICY_END_DATE")
+        private Instant policyEndDate;
+
+        @Column(name = "STATUS")
+        private String policyStatus;
+
+        @Column(name = "CREATED_DATE")
+        private Instant createdDate;
+
+        @Column(name = "UPDATED_DATE")
+        private Instant updatedDate;
+
+        @Version
+        @Column(name = "VERSION")
+        private long version;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PolicyInsertBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
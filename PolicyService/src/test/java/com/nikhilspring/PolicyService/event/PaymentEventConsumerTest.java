@@ -0,0 +1,72 @@
+package com.nikhilspring.PolicyService.event;
+
+import com.nikhilspring.PolicyService.service.PolicyService;
+import com.nikhilspring.insurance.events.PaymentEvent;
+import com.nikhilspring.insurance.events.PaymentStatus;
+import com.nikhilspring.insurance.events.PaymentType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PaymentEventConsumerTest {
+
+    private final PolicyService policyService = mock(PolicyService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PaymentEventConsumer paymentEventConsumer = new PaymentEventConsumer(policyService, meterRegistry);
+
+    @DisplayName("Handle Payment Events - Completed premiums of one poll are activated together")
+    @Test
+    void test_When_Batch_Received_Then_Single_Activation() {
+        paymentEventConsumer.handlePaymentEvents(List.of(
+                getMockPaymentEvent(1L, PaymentStatus.COMPLETED, PaymentType.PREMIUM),
+                getMockPaymentEvent(2L, PaymentStatus.COMPLETED, PaymentType.PREMIUM),
+                getMockPaymentEvent(2L, PaymentStatus.COMPLETED, PaymentType.PREMIUM),
+                getMockPaymentEvent(3L, PaymentStatus.FAILED, PaymentType.PREMIUM),
+                getMockPaymentEvent(4L, PaymentStatus.COMPLETED, PaymentType.CLAIM_PAYMENT)));
+
+        verify(policyService).activatePolicies(List.of(1L, 2L));
+        assertEquals(1, meterRegistry.get("payment.events.batch").tag("outcome", "success").timer().count());
+    }
+
+    @DisplayName("Handle Payment Events - Nothing to activate skips the database")
+    @Test
+    void test_When_No_Premium_Payments_Then_No_Activation() {
+        paymentEventConsumer.handlePaymentEvents(List.of(
+                getMockPaymentEvent(1L, PaymentStatus.PENDING, PaymentType.PREMIUM)));
+
+        verify(policyService, never()).activatePolicies(anyCollection());
+    }
+
+    @DisplayName("Handle Payment Events - Failure propagates so offsets are not committed")
+    @Test
+    void test_When_Activation_Fails_Then_Exception_Propagates() {
+        when(policyService.activatePolicies(anyCollection())).thenThrow(new IllegalStateException("database down"));
+
+        assertThrows(IllegalStateException.class, () -> paymentEventConsumer.handlePaymentEvents(List.of(
+                getMockPaymentEvent(1L, PaymentStatus.COMPLETED, PaymentType.PREMIUM))));
+
+        assertEquals(1, meterRegistry.get("payment.events.batch").tag("outcome", "failure").timer().count());
+    }
+
+    private PaymentEvent getMockPaymentEvent(Long policyId, PaymentStatus status, PaymentType type) {
+        return PaymentEvent.newBuilder()
+                .setPaymentId(policyId * 100)
+                .setPolicyId(policyId)
+                .setClaimId(null)
+                .setAmount(1200.0)
+                .setStatus(status)
+                .setPaymentType(type)
+                .setTimestamp(System.currentTimeMillis())
+                .build();
+    }
+}
@@ -0,0 +1,91 @@
+package com.nikhilspring.PolicyService.external.decoder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nikhilspring.PolicyService.exception.CustomException;
+import com.nikhilspring.PolicyService.external.response.ErrorResponse;
+import com.nikhilspring.common.feign.ErrorBodyReader;
+import feign.Request;
+import feign.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Error decoding cost per response: the previous decoder (a new ObjectMapper per response, whole body bound to
+ * ErrorResponse) against {@link CustomErrorDecoder} with a shared {@link ErrorBodyReader}.
+ * Not run by the test suite; run {@link #main} from the IDE, or from PolicyService after {@code mvn test-compile
+ * dependency:build-classpath -Dmdep.outputFile=cp.txt} with
+ * {@code java -cp target/test-classes:target/classes:$(cat cp.txt) org.openjdk.jmh.Main CustomErrorDecoderBenchmark -prof gc}
+ * to compare allocation per operation as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomErrorDecoderBenchmark {
+
+    private static final Request REQUEST = Request.create(Request.HttpMethod.GET, "http://payment/payment/1",
+            new HashMap<>(), null, StandardCharsets.UTF_8, null);
+
+    /**
+     * A plain ErrorResponse, and one whose message carries a stack trace the way an unhandled downstream error
+     * arrives; the second is cut at the cap by the shared reader and read to the end by the previous decoder
+     */
+    @Param({"0", "65536"})
+    public int traceLength;
+
+    private byte[] body;
+    private CustomErrorDecoder sharedDecoder;
+
+    @Setup
+    public void setup() {
+        body = ("{\"errorMessage\":\"Payment not found" + "\\n\\tat x".repeat(traceLength / 8)
+                + "\",\"errorCode\":\"PAYMENT_NOT_FOUND\"}").getBytes(StandardCharsets.UTF_8);
+        sharedDecoder = new CustomErrorDecoder(new ErrorBodyReader(new ObjectMapper(), 8192));
+    }
+
+    @Benchmark
+    public Exception perResponseObjectMapper() {
+        Response response = response();
+        ObjectMapper objectMapper = new ObjectMapper();
+        try {
+            ErrorResponse errorResponse = objectMapper.readValue(response.body().asInputStream(), ErrorResponse.class);
+            return new CustomException(errorResponse.getErrorMessage(), errorResponse.getErrorCode(), response.status());
+        } catch (IOException e) {
+            return new CustomException("Internal Server Error", "INTERNAL_SERVER_ERROR", 500);
+        }
+    }
+
+    @Benchmark
+    public Exception sharedStreamingReader() {
+        return sharedDecoder.decode("PaymentService#getPaymentDetailsByPolicyId(long)", response());
+    }
+
+    private Response response() {
+        return Response.builder().status(404).request(REQUEST).headers(new HashMap<>()).body(body).build();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CustomErrorDecoderBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,66 @@
+package com.nikhilspring.PolicyService.external.decoder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nikhilspring.PolicyService.exception.CustomException;
+import com.nikhilspring.common.feign.ErrorBodyReader;
+import feign.Request;
+import feign.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+class CustomErrorDecoderTest {
+
+    private final CustomErrorDecoder customErrorDecoder =
+            new CustomErrorDecoder(new ErrorBodyReader(new ObjectMapper(), 256));
+
+    @DisplayName("Decode - Error fields are mapped whatever else the body carries")
+    @Test
+    void test_When_Error_Body_With_Extra_Fields_Then_CustomException() {
+        CustomException exception = decode(404, """
+                {"timestamp":"2025-01-01T00:00:00Z","details":{"trace":["a","b"]},
+                 "errorMessage":"Payment not found","errorCode":"PAYMENT_NOT_FOUND","path":"/payment/1"}""");
+
+        assertEquals("Payment not found", exception.getMessage());
+        assertEquals("PAYMENT_NOT_FOUND", exception.getErrorCode());
+        assertEquals(404, exception.getStatus());
+    }
+
+    @DisplayName("Decode - Body over the cap keeps the fields before the cut")
+    @Test
+    void test_When_Body_Over_Cap_Then_Leading_Fields_Kept() {
+        CustomException exception = decode(503, "{\"errorMessage\":\"Product service unavailable\","
+                + "\"errorCode\":\"UNAVAILABLE\",\"trace\":\"" + "x".repeat(10_000) + "\"}");
+
+        assertEquals("Product service unavailable", exception.getMessage());
+        assertEquals("UNAVAILABLE", exception.getErrorCode());
+        assertEquals(503, exception.getStatus());
+    }
+
+    @DisplayName("Decode - Non-JSON or empty body is an internal server error")
+    @Test
+    void test_When_Body_Not_Json_Then_Internal_Server_Error() {
+        CustomException html = decode(502, "<html><body>Bad Gateway</body></html>");
+        CustomException empty = decode(500, null);
+
+        assertEquals("INTERNAL_SERVER_ERROR", html.getErrorCode());
+        assertEquals(500, html.getStatus());
+        assertEquals("INTERNAL_SERVER_ERROR", empty.getErrorCode());
+    }
+
+    private CustomException decode(int status, String body) {
+        Request request = Request.create(Request.HttpMethod.GET, "http://payment/payment/1", new HashMap<>(),
+                null, StandardCharsets.UTF_8, null);
+        Response.Builder response = Response.builder().status(status).request(request).headers(new HashMap<>());
+        if (body != null) {
+            response.body(body, StandardCharsets.UTF_8);
+        }
+        return assertInstanceOf(CustomException.class,
+                customErrorDecoder.decode("PaymentService#getPaymentDetailsByPolicyId(long)", response.build()));
+    }
+}
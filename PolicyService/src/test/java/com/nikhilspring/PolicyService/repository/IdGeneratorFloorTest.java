@@ -0,0 +1,60 @@
+package com.nikhilspring.PolicyService.repository;
+
+import com.nikhilspring.PolicyService.entity.IdGenerators;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class IdGeneratorFloorTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setup() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:id-generator-floor;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("CREATE TABLE POLICY_DETAILS (ID BIGINT PRIMARY KEY)");
+        jdbcTemplate.execute("CREATE TABLE PRODUCTS (PRODUCT_ID BIGINT PRIMARY KEY)");
+        jdbcTemplate.execute("CREATE TABLE ID_GENERATOR (SEQUENCE_NAME VARCHAR(255) PRIMARY KEY, NEXT_VAL BIGINT)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @DisplayName("ID Generator - Raised past rows inserted through IDENTITY")
+    @Test
+    void test_When_Table_Has_Rows_Then_Generator_Raised() {
+        jdbcTemplate.update("INSERT INTO POLICY_DETAILS (ID) VALUES (1), (2), (340)");
+        jdbcTemplate.update("INSERT INTO ID_GENERATOR (SEQUENCE_NAME, NEXT_VAL) VALUES ('POLICY_DETAILS', 1)");
+        jdbcTemplate.update("INSERT INTO PRODUCTS (PRODUCT_ID) VALUES (12)");
+
+        new IdGeneratorFloor(jdbcTemplate).afterSingletonsInstantiated();
+
+        assertEquals(340 + IdGenerators.ALLOCATION_SIZE, nextValue("POLICY_DETAILS"));
+        assertEquals(12 + IdGenerators.ALLOCATION_SIZE, nextValue("PRODUCTS"));
+    }
+
+    @DisplayName("ID Generator - Left alone when already ahead or the table is empty")
+    @Test
+    void test_When_Generator_Ahead_Then_Unchanged() {
+        jdbcTemplate.update("INSERT INTO POLICY_DETAILS (ID) VALUES (7)");
+        jdbcTemplate.update("INSERT INTO ID_GENERATOR (SEQUENCE_NAME, NEXT_VAL) VALUES ('POLICY_DETAILS', 1000)");
+
+        new IdGeneratorFloor(jdbcTemplate).afterSingletonsInstantiated();
+
+        assertEquals(1000, nextValue("POLICY_DETAILS"));
+        assertNull(nextValue("PRODUCTS"));
+    }
+
+    private Long nextValue(String sequenceName) {
+        return jdbcTemplate.query("SELECT NEXT_VAL FROM ID_GENERATOR WHERE SEQUENCE_NAME = ?",
+                resultSet -> resultSet.next() ? resultSet.getLong(1) : null, sequenceName);
+    }
+}
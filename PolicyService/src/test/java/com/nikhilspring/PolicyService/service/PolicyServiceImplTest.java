@@ -1,29 +1,44 @@
 package com.nikhilspring.PolicyService.service;
 
 import com.nikhilspring.PolicyService.entity.Policy;
+import com.nikhilspring.PolicyService.event.PolicyEventPublisher;
 import com.nikhilspring.PolicyService.exception.CustomException;
 import com.nikhilspring.PolicyService.external.client.PaymentService;
 import com.nikhilspring.PolicyService.external.client.ProductService;
 import com.nikhilspring.PolicyService.external.request.PaymentRequest;
 import com.nikhilspring.PolicyService.external.response.PaymentResponse;
 import com.nikhilspring.PolicyService.external.response.ProductResponse;
+import com.nikhilspring.PolicyService.external.response.ProductValidationResponse;
+import com.nikhilspring.PolicyService.model.BulkIssueResult;
 import com.nikhilspring.PolicyService.model.PolicyRequest;
 import com.nikhilspring.PolicyService.model.PaymentMode;
 import com.nikhilspring.PolicyService.model.PolicyResponse;
 import com.nikhilspring.PolicyService.repository.PolicyRepository;
+import com.nikhilspring.common.id.BusinessNumberGenerator;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
@@ -39,6 +54,18 @@ public class PolicyServiceImplTest {
     @Mock
     private PaymentService paymentService;
 
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private PolicyEventPublisher policyEventPublisher;
+
+    @Spy
+    private ProductSnapshotCache productSnapshotCache = new ProductSnapshotCache(Duration.ofMinutes(5), 100);
+
+    @Spy
+    private BusinessNumberGenerator businessNumberGenerator = new BusinessNumberGenerator(1);
+
     @InjectMocks
     PolicyService policyService = new PolicyServiceImpl();
 
@@ -65,6 +92,56 @@ public class PolicyServiceImplTest {
         assertEquals(policy.getId(), policyResponse.getPolicyId());
     }
 
+    @DisplayName("Activate Policies - Activated policies are evicted by key")
+    @Test
+    void test_When_Policies_Activated_Then_Keys_Evicted() {
+        Cache policies = mock(Cache.class);
+        when(cacheManager.getCache("policies")).thenReturn(policies);
+        when(policyRepository.activatePendingPolicies(anyCollection(), any(Instant.class))).thenReturn(2);
+
+        int activated = policyService.activatePolicies(List.of(1L, 2L));
+
+        assertEquals(2, activated);
+        verify(policies).evict(1L);
+        verify(policies).evict(2L);
+        verify(policies, never()).clear();
+        verify(policyEventPublisher).publishStatusChanged(1L, "ACTIVE");
+        verify(policyEventPublisher).publishStatusChanged(2L, "ACTIVE");
+    }
+
+    @DisplayName("Activate Policies - Partial match publishes the stored status of every policy")
+    @Test
+    void test_When_Some_Policies_Activated_Then_Stored_Status_Published() {
+        Policy activatedPolicy = getMockPolicy();
+        activatedPolicy.setPolicyStatus("ACTIVE");
+        Policy cancelledPolicy = getMockPolicy();
+        cancelledPolicy.setId(2L);
+        cancelledPolicy.setPolicyStatus("CANCELLED");
+        when(cacheManager.getCache("policies")).thenReturn(mock(Cache.class));
+        when(policyRepository.activatePendingPolicies(anyCollection(), any(Instant.class))).thenReturn(1);
+        when(policyRepository.findAllById(anyCollection())).thenReturn(List.of(activatedPolicy, cancelledPolicy));
+
+        int activated = policyService.activatePolicies(List.of(1L, 2L));
+
+        assertEquals(1, activated);
+        verify(policyEventPublisher).publishPolicyChanged(activatedPolicy);
+        verify(policyEventPublisher).publishPolicyChanged(cancelledPolicy);
+        verify(policyEventPublisher, never()).publishStatusChanged(anyLong(), any());
+    }
+
+    @DisplayName("Activate Policies - Repeated events change nothing and evict nothing")
+    @Test
+    void test_When_Policies_Already_Active_Then_No_Eviction() {
+        when(policyRepository.activatePendingPolicies(anyCollection(), any(Instant.class))).thenReturn(0);
+
+        int activated = policyService.activatePolicies(List.of(1L));
+
+        assertEquals(0, activated);
+        verify(policyRepository, never()).findById(anyLong());
+        verify(cacheManager, never()).getCache("policies");
+        verifyNoInteractions(policyEventPublisher);
+    }
+
     @DisplayName("Get Policy - Failure Scenario")
     @Test
     void test_When_Get_Policy_NOT_FOUND_then_Not_Found() {
@@ -90,10 +167,8 @@ public class PolicyServiceImplTest {
 
         when(policyRepository.save(any(Policy.class)))
                 .thenReturn(policy);
-        when(productService.validateProduct(anyLong()))
-                .thenReturn(new ResponseEntity<Void>(HttpStatus.OK));
-        when(productService.getProductById(anyLong()))
-                .thenReturn(new ResponseEntity<>(getMockProductResponse(), HttpStatus.OK));
+        when(productService.validateAndGetProduct(anyLong()))
+                .thenReturn(new ResponseEntity<>(getMockProductValidationResponse(), HttpStatus.OK));
         when(paymentService.processPayment(any(PaymentRequest.class)))
                 .thenReturn(new ResponseEntity<Long>(1L, HttpStatus.OK));
 
@@ -102,9 +177,13 @@ public class PolicyServiceImplTest {
         verify(policyRepository, times(1))
                 .save(any());
         verify(productService, times(1))
+                .validateAndGetProduct(anyLong());
+        verify(productService, never())
                 .validateProduct(anyLong());
-        verify(productService, times(1))
+        verify(productService, never())
                 .getProductById(anyLong());
+        verify(policyEventPublisher, times(1))
+                .publishPolicyChanged(policy);
 
         assertEquals(policy.getId(), policyId);
     }
@@ -117,10 +196,8 @@ public class PolicyServiceImplTest {
 
         when(policyRepository.save(any(Policy.class)))
                 .thenReturn(policy);
-        when(productService.validateProduct(anyLong()))
-                .thenReturn(new ResponseEntity<Void>(HttpStatus.OK));
-        when(productService.getProductById(anyLong()))
-                .thenReturn(new ResponseEntity<>(getMockProductResponse(), HttpStatus.OK));
+        when(productService.validateAndGetProduct(anyLong()))
+                .thenReturn(new ResponseEntity<>(getMockProductValidationResponse(), HttpStatus.OK));
         when(paymentService.processPayment(any(PaymentRequest.class)))
                 .thenThrow(new RuntimeException());
 
@@ -129,13 +206,81 @@ public class PolicyServiceImplTest {
         verify(policyRepository, times(1))
                 .save(any());
         verify(productService, times(1))
+                .validateAndGetProduct(anyLong());
+        verify(productService, never())
                 .validateProduct(anyLong());
-        verify(productService, times(1))
+        verify(productService, never())
                 .getProductById(anyLong());
 
         assertEquals(policy.getId(), policyId);
     }
 
+    @DisplayName("Issue Policy - Cached Product Snapshot Scenario")
+    @Test
+    void test_When_Issue_Policy_Twice_Then_Product_Fetched_Once() {
+        Policy policy = getMockPolicy();
+
+        when(policyRepository.save(any(Policy.class)))
+                .thenReturn(policy);
+        when(productService.validateAndGetProduct(anyLong()))
+                .thenReturn(new ResponseEntity<>(getMockProductValidationResponse(), HttpStatus.OK));
+
+        policyService.issuePolicy(getMockPolicyRequest());
+        policyService.issuePolicy(getMockPolicyRequest());
+
+        verify(productService, times(1))
+                .validateAndGetProduct(anyLong());
+        verify(policyRepository, times(2))
+                .save(any());
+    }
+
+    @DisplayName("Issue Policy - Inactive Product Scenario")
+    @Test
+    void test_When_Product_Inactive_Then_Product_Inactive() {
+        ProductValidationResponse validation = getMockProductValidationResponse();
+        validation.setActive(false);
+        when(productService.validateAndGetProduct(anyLong()))
+                .thenReturn(new ResponseEntity<>(validation, HttpStatus.OK));
+
+        CustomException exception =
+                assertThrows(CustomException.class,
+                        () -> policyService.issuePolicy(getMockPolicyRequest()));
+
+        assertEquals("PRODUCT_INACTIVE", exception.getErrorCode());
+        verify(policyRepository, never())
+                .save(any());
+    }
+
+    @DisplayName("Issue Policies - Rejected items and a failed batch do not stop the rest")
+    @Test
+    void test_When_Bulk_Issue_Partly_Fails_Then_Each_Item_Reported() {
+        ReflectionTestUtils.setField(policyService, "productLookupExecutor", Executors.newVirtualThreadPerTaskExecutor());
+        ReflectionTestUtils.setField(policyService, "bulkBatchSize", 2);
+        ReflectionTestUtils.setField(policyService, "bulkMaxConcurrentLookups", 4);
+        when(productService.validateAndGetProduct(anyLong()))
+                .thenReturn(new ResponseEntity<>(getMockProductValidationResponse(), HttpStatus.OK));
+        PolicyRequest invalidRequest = getMockPolicyRequest();
+        invalidRequest.setPremiumAmount(0);
+        when(policyRepository.saveAll(anyList()))
+                .thenThrow(new RuntimeException("Connection reset"))
+                .thenAnswer(invocation -> {
+                    List<Policy> policies = invocation.getArgument(0);
+                    policies.forEach(policy -> policy.setId(42));
+                    return policies;
+                });
+
+        List<BulkIssueResult> results = new ArrayList<>();
+        policyService.issuePolicies(List.of(getMockPolicyRequest(), invalidRequest, getMockPolicyRequest()), results::add);
+
+        assertEquals(List.of(BulkIssueResult.Outcome.FAILED, BulkIssueResult.Outcome.REJECTED, BulkIssueResult.Outcome.ISSUED),
+                results.stream().map(BulkIssueResult::getOutcome).toList());
+        assertEquals(List.of(0, 1, 2), results.stream().map(BulkIssueResult::getIndex).toList());
+        assertEquals("INVALID_PREMIUM_AMOUNT", results.get(1).getErrorCode());
+        assertEquals(42L, results.get(2).getPolicyId());
+        verify(productService, times(1)).validateAndGetProduct(anyLong());
+        verify(policyEventPublisher, times(1)).publishPolicyChanged(any(Policy.class));
+    }
+
     private PolicyRequest getMockPolicyRequest() {
         return PolicyRequest.builder()
                 .customerId(1)
@@ -176,6 +321,15 @@ public class PolicyServiceImplTest {
                 .build();
     }
 
+    private ProductValidationResponse getMockProductValidationResponse() {
+        return ProductValidationResponse.builder()
+                .productId(1)
+                .exists(true)
+                .active(true)
+                .product(getMockProductResponse())
+                .build();
+    }
+
     private PaymentResponse getMockPaymentResponse() {
         return PaymentResponse.builder()
                 .paymentId(1)
@@ -2,6 +2,7 @@ package com.nikhilspring.ProductService.controller;
 
 import com.nikhilspring.ProductService.model.ProductRequest;
 import com.nikhilspring.ProductService.model.ProductResponse;
+import com.nikhilspring.ProductService.model.ProductValidationResponse;
 import com.nikhilspring.ProductService.service.ProductService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -65,4 +66,9 @@ public class ProductController {
         productService.getProductById(productId); // This will throw exception if product doesn't exist
         return new ResponseEntity<>(HttpStatus.OK);
     }
+
+    @GetMapping("/{id}/validation")
+    public ResponseEntity<ProductValidationResponse> validateAndGetProduct(@PathVariable("id") long productId) {
+        return new ResponseEntity<>(productService.validateAndGetProduct(productId), HttpStatus.OK);
+    }
 }
\ No newline at end of file
@@ -16,7 +16,10 @@ import jakarta.persistence.*;
 public class Product {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // How to generate (increment) the primary key values
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "product_id")
+    @TableGenerator(name = "product_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "PRODUCTS",
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private long productId;
 
     @Column(name = "PRODUCT_NAME")
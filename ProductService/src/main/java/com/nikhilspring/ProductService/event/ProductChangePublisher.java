@@ -0,0 +1,31 @@
+package com.nikhilspring.ProductService.event;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Notifies other services over Redis pub/sub that a product changed, so their local product copies are dropped.
+ */
+@Component
+public class ProductChangePublisher {
+
+    public static final String CHANNEL = "product-changes";
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductChangePublisher.class);
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    public void publishProductChanged(long productId) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, String.valueOf(productId));
+            logger.debug("Published product change for product ID: {}", productId);
+        } catch (Exception e) {
+            // Subscribers also expire entries on their own TTL, so a missed notification only delays the refresh
+            logger.warn("Failed to publish product change for product ID: {}", productId, e);
+        }
+    }
+}
@@ -3,6 +3,10 @@ package com.nikhilspring.ProductService.exception;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 
+/**
+ * An expected business failure reported to the caller by its error code. No stack trace is captured: the
+ * code identifies the failure, and filling in the trace would dominate the cost of a rejected request.
+ */
 @Data
 @EqualsAndHashCode(callSuper = false)
 public class ProductServiceCustomException extends RuntimeException{
@@ -10,7 +14,7 @@ public class ProductServiceCustomException extends RuntimeException{
     private final String errorCode;
 
     public ProductServiceCustomException(String message, String errorCode) {
-        super(message);
+        super(message, null, false, false);
         this.errorCode = errorCode;
     }
 
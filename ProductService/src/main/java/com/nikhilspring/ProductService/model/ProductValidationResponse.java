@@ -0,0 +1,17 @@
+package com.nikhilspring.ProductService.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ProductValidationResponse {
+    private long productId;
+    private boolean exists;
+    private boolean active;
+    private ProductResponse product;
+}
@@ -2,6 +2,7 @@ package com.nikhilspring.ProductService.service;
 
 import com.nikhilspring.ProductService.model.ProductRequest;
 import com.nikhilspring.ProductService.model.ProductResponse;
+import com.nikhilspring.ProductService.model.ProductValidationResponse;
 
 import java.util.List;
 
@@ -10,6 +11,8 @@ public interface ProductService {
 
     ProductResponse getProductById(long productId);
 
+    ProductValidationResponse validateAndGetProduct(long productId);
+
     List<ProductResponse> getAllProducts();
 
     List<ProductResponse> getProductsByType(String productType);
@@ -1,14 +1,20 @@
 package com.nikhilspring.ProductService.service;
 
 import com.nikhilspring.ProductService.entity.Product;
+import com.nikhilspring.ProductService.event.ProductChangePublisher;
 import com.nikhilspring.ProductService.exception.ProductServiceCustomException;
 import com.nikhilspring.ProductService.model.ProductRequest;
 import com.nikhilspring.ProductService.model.ProductResponse;
+import com.nikhilspring.ProductService.model.ProductValidationResponse;
 import com.nikhilspring.ProductService.repository.ProductRepository;
-import com.nikhilspring.ProductService.validation.ProductValidationUtil;
+import com.nikhilspring.ProductService.validation.ProductValidationRules;
+import com.nikhilspring.common.validation.RequestValidator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -21,11 +27,21 @@ public class ProductServiceImpl implements ProductService {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private ProductChangePublisher productChangePublisher;
+
+    @Autowired
+    private CacheManager cacheManager;
+
     @Override
-    @CacheEvict(value = {"products", "product-by-id"}, allEntries = true)
+    @Caching(evict = {
+            @CacheEvict(value = "products", key = "'all-products'"),
+            @CacheEvict(value = "products", key = "'type-' + #productRequest.productType"),
+            @CacheEvict(value = "product-validation", key = "#result") // drop a cached "does not exist" answer
+    })
     public long addProduct(ProductRequest productRequest) {
-        // Validate product request using utility
-        ProductValidationUtil.validateProductRequest(productRequest);
+        // Validate product request
+        ProductValidationRules.PRODUCT_REQUEST.validate(productRequest);
         
         // Check if product with same name and type already exists (more specific check)
         Optional<Product> existingProductByType = productRepository.findByProductNameAndType(
@@ -55,10 +71,10 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
-    @Cacheable(value = "product-by-id", key = "#productId")
+    @Cacheable(value = "product-by-id", key = "#productId", sync = true)
     public ProductResponse getProductById(long productId) {
-        // Validate product ID using utility
-        ProductValidationUtil.validateProductId(productId);
+        // Validate product ID
+        RequestValidator.checkPositiveId(productId, "INVALID_PRODUCT_ID", "product ID", ProductValidationRules.EXCEPTIONS);
         
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new ProductServiceCustomException("Product not found", "NOT_FOUND"));
@@ -66,31 +82,51 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
-    @Cacheable(value = "products", key = "'all-products'")
+    @Cacheable(value = "product-validation", key = "#productId", sync = true)
+    public ProductValidationResponse validateAndGetProduct(long productId) {
+        // Validate product ID
+        RequestValidator.checkPositiveId(productId, "INVALID_PRODUCT_ID", "product ID", ProductValidationRules.EXCEPTIONS);
+
+        return productRepository.findById(productId)
+                .map(this::toValidationResponse)
+                .orElseGet(() -> ProductValidationResponse.builder()
+                        .productId(productId)
+                        .exists(false)
+                        .active(false)
+                        .build());
+    }
+
+    @Override
+    @Cacheable(value = "products", key = "'all-products'", sync = true)
     public List<ProductResponse> getAllProducts() {
         return productRepository.findAll().stream().map(this::toResponse).collect(Collectors.toList());
     }
 
     @Override
-    @Cacheable(value = "products", key = "'type-' + #productType")
+    @Cacheable(value = "products", key = "'type-' + #productType", sync = true)
     public List<ProductResponse> getProductsByType(String productType) {
-        if (productType == null || productType.trim().isEmpty()) {
+        if (RequestValidator.isBlank(productType)) {
             throw new ProductServiceCustomException("Product type cannot be null or empty", "INVALID_PRODUCT_TYPE");
         }
         return productRepository.findByProductType(productType).stream().map(this::toResponse).collect(Collectors.toList());
     }
 
     @Override
-    @CacheEvict(value = {"products", "product-by-id"}, allEntries = true)
+    @Caching(evict = {
+            @CacheEvict(value = "products", key = "'all-products'"),
+            @CacheEvict(value = "products", key = "'type-' + #productRequest.productType")
+    })
     public void updateProduct(long productId, ProductRequest productRequest) {
-        // Validate product ID and request using utility
-        ProductValidationUtil.validateProductId(productId);
-        ProductValidationUtil.validateProductRequest(productRequest);
+        // Validate product ID and request
+        RequestValidator.checkPositiveId(productId, "INVALID_PRODUCT_ID", "product ID", ProductValidationRules.EXCEPTIONS);
+        ProductValidationRules.PRODUCT_REQUEST.validate(productRequest);
         
         // Check if product exists
         Product existingProduct = productRepository.findById(productId)
                 .orElseThrow(() -> new ProductServiceCustomException("Product not found", "NOT_FOUND"));
         
+        String previousProductType = existingProduct.getProductType();
+
         // Update the product fields
         existingProduct.setProductName(productRequest.getProductName());
         existingProduct.setProductType(productRequest.getProductType());
@@ -100,20 +136,62 @@ public class ProductServiceImpl implements ProductService {
         existingProduct.setDescription(productRequest.getDescription());
         existingProduct.setActive(productRequest.isActive());
         productRepository.save(existingProduct);
+
+        // A type change moves the product between type lists, so the old list is stale too
+        if (!previousProductType.equals(existingProduct.getProductType())) {
+            evict("products", "type-" + previousProductType);
+        }
+        cacheProduct(existingProduct);
+        productChangePublisher.publishProductChanged(productId);
     }
 
     @Override
-    @CacheEvict(value = {"products", "product-by-id"}, allEntries = true)
+    @CacheEvict(value = "products", key = "'all-products'")
     public void deleteProduct(long productId) {
-        // Validate product ID using utility
-        ProductValidationUtil.validateProductId(productId);
+        // Validate product ID
+        RequestValidator.checkPositiveId(productId, "INVALID_PRODUCT_ID", "product ID", ProductValidationRules.EXCEPTIONS);
         
         // Check if product exists before deleting
-        if (!productRepository.existsById(productId)) {
-            throw new ProductServiceCustomException("Product not found", "NOT_FOUND");
-        }
+        Product existingProduct = productRepository.findById(productId)
+                .orElseThrow(() -> new ProductServiceCustomException("Product not found", "NOT_FOUND"));
         
         productRepository.deleteById(productId);
+        evict("products", "type-" + existingProduct.getProductType());
+        // Evicted before the change goes out: PolicyService re-fetches on the event and must not get the
+        // deleted product back from these regions
+        evict("product-by-id", productId);
+        evict("product-validation", productId);
+        productChangePublisher.publishProductChanged(productId);
+    }
+
+    /**
+     * Write-through of a changed product into the single-product regions, so the next read is a cache hit
+     */
+    private void cacheProduct(Product product) {
+        Cache productById = cacheManager.getCache("product-by-id");
+        if (productById != null) {
+            productById.put(product.getProductId(), toResponse(product));
+        }
+        Cache productValidation = cacheManager.getCache("product-validation");
+        if (productValidation != null) {
+            productValidation.put(product.getProductId(), toValidationResponse(product));
+        }
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+
+    private ProductValidationResponse toValidationResponse(Product product) {
+        return ProductValidationResponse.builder()
+                .productId(product.getProductId())
+                .exists(true)
+                .active(product.isActive())
+                .product(toResponse(product))
+                .build();
     }
 
     private ProductResponse toResponse(Product product) {
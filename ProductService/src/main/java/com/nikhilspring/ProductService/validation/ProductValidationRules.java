@@ -0,0 +1,34 @@
+package com.nikhilspring.ProductService.validation;
+
+import com.nikhilspring.ProductService.exception.ProductServiceCustomException;
+import com.nikhilspring.ProductService.model.ProductRequest;
+import com.nikhilspring.common.validation.RequestValidator;
+import com.nikhilspring.common.validation.ValidationExceptionFactory;
+
+public final class ProductValidationRules {
+
+    /**
+     * Rejects an invalid request with a 400
+     */
+    public static final ValidationExceptionFactory EXCEPTIONS = (message, errorCode) ->
+            new ProductServiceCustomException(message, errorCode);
+
+    public static final RequestValidator<ProductRequest> PRODUCT_REQUEST = RequestValidator
+            .<ProductRequest>builder(EXCEPTIONS, "INVALID_REQUEST", "Product request cannot be null")
+            .notBlank(ProductRequest::getProductName, "INVALID_PRODUCT_NAME", "Product name cannot be null or empty")
+            .notBlank(ProductRequest::getProductType, "INVALID_PRODUCT_TYPE", "Product type cannot be null or empty")
+            .notBlank(ProductRequest::getCoverageType, "INVALID_COVERAGE_TYPE", "Coverage type cannot be null or empty")
+            .require(productRequest -> isPositive(productRequest.getMinPremium()), "INVALID_MIN_PREMIUM",
+                    "Minimum premium must be greater than 0")
+            .require(productRequest -> isPositive(productRequest.getMaxCoverage()), "INVALID_MAX_COVERAGE",
+                    "Maximum coverage must be greater than 0")
+            .notBlank(ProductRequest::getDescription, "INVALID_DESCRIPTION", "Product description cannot be null or empty")
+            .build();
+
+    private ProductValidationRules() {
+    }
+
+    private static boolean isPositive(Long amount) {
+        return amount != null && amount > 0;
+    }
+}
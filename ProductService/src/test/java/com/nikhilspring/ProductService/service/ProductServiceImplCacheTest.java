@@ -0,0 +1,156 @@
+package com.nikhilspring.ProductService.service;
+
+import com.nikhilspring.ProductService.entity.Product;
+import com.nikhilspring.ProductService.event.ProductChangePublisher;
+import com.nikhilspring.ProductService.model.ProductRequest;
+import com.nikhilspring.ProductService.model.ProductResponse;
+import com.nikhilspring.ProductService.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringJUnitConfig
+public class ProductServiceImplCacheTest {
+
+    @Configuration
+    @EnableCaching
+    static class CacheTestConfig {
+
+        @Bean
+        public CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager("products", "product-by-id", "product-validation");
+        }
+
+        @Bean
+        public ProductService productService() {
+            return new ProductServiceImpl();
+        }
+    }
+
+    @MockitoBean
+    private ProductRepository productRepository;
+
+    @MockitoBean
+    private ProductChangePublisher productChangePublisher;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setup() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @DisplayName("Update Product - Unrelated cached products stay cached")
+    @Test
+    void test_When_Update_Product_Then_Other_Entries_Intact() {
+        Product health = getMockProduct(1, "Health");
+        Product motor = getMockProduct(2, "Motor");
+        when(productRepository.findById(1L)).thenReturn(Optional.of(health));
+        when(productRepository.findById(2L)).thenReturn(Optional.of(motor));
+        when(productRepository.findByProductType("Motor")).thenReturn(List.of(motor));
+        when(productRepository.save(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        productService.getProductById(1);
+        productService.getProductById(2);
+        productService.getProductsByType("Motor");
+
+        productService.updateProduct(1, getMockProductRequest("Health Plus", "Health"));
+
+        // Product 2 and the Motor list are still served from the cache
+        productService.getProductById(2);
+        productService.getProductsByType("Motor");
+        verify(productRepository, times(1)).findById(2L);
+        verify(productRepository, times(1)).findByProductType("Motor");
+
+        // Product 1 was written through with the new data
+        ProductResponse updated = productService.getProductById(1);
+        assertEquals("Health Plus", updated.getProductName());
+        verify(productRepository, times(2)).findById(1L);
+    }
+
+    @DisplayName("Update Product - Type change evicts both type lists")
+    @Test
+    void test_When_Product_Type_Changes_Then_Old_Type_List_Evicted() {
+        Product health = getMockProduct(1, "Health");
+        when(productRepository.findById(1L)).thenReturn(Optional.of(health));
+        when(productRepository.findByProductType("Health")).thenReturn(List.of(health));
+        when(productRepository.save(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        productService.getProductsByType("Health");
+        assertNotNull(cacheManager.getCache("products").get("type-Health"));
+
+        productService.updateProduct(1, getMockProductRequest("Health Product", "Life"));
+
+        assertNull(cacheManager.getCache("products").get("type-Health"));
+    }
+
+    @DisplayName("Delete Product - Single-product entries are gone before the change is published")
+    @Test
+    void test_When_Product_Deleted_Then_Evicted_Before_Publish() {
+        Product health = getMockProduct(1, "Health");
+        when(productRepository.findById(1L)).thenReturn(Optional.of(health));
+        productService.getProductById(1);
+        productService.validateAndGetProduct(1);
+        List<Object> cachedAtPublish = new ArrayList<>();
+        doAnswer(invocation -> {
+            cachedAtPublish.add(cacheManager.getCache("product-by-id").get(1L));
+            cachedAtPublish.add(cacheManager.getCache("product-validation").get(1L));
+            return null;
+        }).when(productChangePublisher).publishProductChanged(1L);
+
+        productService.deleteProduct(1);
+
+        assertEquals(Arrays.asList(null, null), cachedAtPublish);
+    }
+
+    private Product getMockProduct(long productId, String productType) {
+        return Product.builder()
+                .productId(productId)
+                .productName(productType + " Product")
+                .productType(productType)
+                .coverageType("Comprehensive")
+                .minPremium(100L)
+                .maxCoverage(10000L)
+                .description("Test product")
+                .isActive(true)
+                .build();
+    }
+
+    private ProductRequest getMockProductRequest(String productName, String productType) {
+        return ProductRequest.builder()
+                .productName(productName)
+                .productType(productType)
+                .coverageType("Comprehensive")
+                .minPremium(100L)
+                .maxCoverage(10000L)
+                .description("Test product")
+                .isActive(true)
+                .build();
+    }
+}
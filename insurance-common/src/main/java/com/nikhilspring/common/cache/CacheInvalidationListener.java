@@ -0,0 +1,45 @@
+package com.nikhilspring.common.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Applies cache invalidations published by other instances to the local cache level.
+ */
+public class CacheInvalidationListener implements MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationListener.class);
+
+    private final TwoLevelCacheManager cacheManager;
+    private final String instanceId;
+
+    public CacheInvalidationListener(TwoLevelCacheManager cacheManager, String instanceId) {
+        this.cacheManager = cacheManager;
+        this.instanceId = instanceId;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\|", 4);
+        if (parts.length < 3) {
+            logger.warn("Ignoring malformed cache invalidation message: {}", body);
+            return;
+        }
+        if (instanceId.equals(parts[1])) {
+            return; // our own write, already applied locally
+        }
+
+        if (CacheInvalidationPublisher.CLEAR.equals(parts[0])) {
+            cacheManager.clearLocal(parts[2]);
+        } else if (CacheInvalidationPublisher.EVICT.equals(parts[0]) && parts.length == 4) {
+            cacheManager.evictLocal(parts[2], parts[3]);
+        } else {
+            logger.warn("Ignoring malformed cache invalidation message: {}", body);
+        }
+    }
+}
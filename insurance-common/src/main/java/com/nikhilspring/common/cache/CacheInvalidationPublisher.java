@@ -0,0 +1,59 @@
+package com.nikhilspring.common.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.UUID;
+
+/**
+ * Announces cache writes over Redis pub/sub so other instances evict the same key from their local cache.
+ * Messages are {@code evict|<instance>|<cache>|<key>} or {@code clear|<instance>|<cache>}, sent on a channel of
+ * their own per application ({@code cache-invalidation:<application>}) so a service only hears its own instances.
+ */
+public class CacheInvalidationPublisher {
+
+    public static final String CHANNEL_PREFIX = "cache-invalidation:";
+
+    static final String EVICT = "evict";
+    static final String CLEAR = "clear";
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationPublisher.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String channel;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    /**
+     * @param applicationName the spring.application.name shared by all instances of the service
+     */
+    public CacheInvalidationPublisher(StringRedisTemplate stringRedisTemplate, String applicationName) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.channel = CHANNEL_PREFIX + applicationName;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    public void publishEvict(String cacheName, String key) {
+        publish(EVICT + '|' + instanceId + '|' + cacheName + '|' + key);
+    }
+
+    public void publishClear(String cacheName) {
+        publish(CLEAR + '|' + instanceId + '|' + cacheName);
+    }
+
+    private void publish(String message) {
+        try {
+            stringRedisTemplate.convertAndSend(channel, message);
+        } catch (Exception e) {
+            // Local entries still expire on their own TTL, so a lost message only delays the refresh
+            logger.warn("Failed to publish cache invalidation '{}': {}", message, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.nikhilspring.common.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Short-lived Redis lock so only one instance runs the loader for a missing key while the others wait for its value.
+ * Lock keys are {@code cache-load-lock:<cache>:<key>} and expire on their own if the holder dies mid-load.
+ */
+public class CacheLoadLock {
+
+    static final String KEY_PREFIX = "cache-load-lock:";
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheLoadLock.class);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(50);
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration leaseTime;
+    private final Duration waitTime;
+
+    public CacheLoadLock(StringRedisTemplate stringRedisTemplate, Duration leaseTime, Duration waitTime) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.leaseTime = leaseTime;
+        this.waitTime = waitTime;
+    }
+
+    /**
+     * Returns a token when this instance should run the loader, or null when another instance already holds the lock
+     */
+    public String tryAcquire(String cacheName, String key) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = stringRedisTemplate.opsForValue()
+                    .setIfAbsent(lockKey(cacheName, key), token, leaseTime);
+            return Boolean.FALSE.equals(acquired) ? null : token;
+        } catch (Exception e) {
+            // Fail open: without the lock every instance loads for itself, as it did before
+            logger.warn("Failed to acquire cache load lock for {}::{}: {}", cacheName, key, e.getMessage());
+            return token;
+        }
+    }
+
+    public void release(String cacheName, String key, String token) {
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey(cacheName, key)), token);
+        } catch (Exception e) {
+            logger.warn("Failed to release cache load lock for {}::{}, it expires after {}: {}",
+                    cacheName, key, leaseTime, e.getMessage());
+        }
+    }
+
+    /**
+     * Polls until the lock holder's value shows up or the wait time runs out; null means load locally
+     */
+    public Object awaitValue(Supplier<Object> lookup) {
+        long deadline = System.nanoTime() + waitTime.toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(POLL_INTERVAL);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            Object value = lookup.get();
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private static String lockKey(String cacheName, String key) {
+        return KEY_PREFIX + cacheName + ':' + key;
+    }
+}
@@ -0,0 +1,401 @@
+package com.nikhilspring.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Cache region with a bounded in-process Caffeine cache (L1) in front of the shared Redis cache (L2).
+ * Writes go to Redis first and are then announced so other instances drop their L1 copy.
+ * Values served from L1 are shared instances and must be treated as read-only.
+ *
+ * <p>Loads through {@link #get(Object, Callable)} (i.e. {@code @Cacheable(sync = true)}) are protected against
+ * stampedes: one loader runs per key per instance and concurrent callers wait for it, entries close to their Redis
+ * expiry are refreshed early by a single caller (XFetch), and an optional {@link CacheLoadLock} coalesces misses
+ * across instances.
+ */
+public class TwoLevelCache implements Cache {
+
+    private static final String METRIC_NAME = "cache.level.gets";
+    private static final String LOADS_METRIC_NAME = "cache.loads";
+    private static final long LOAD_STATS_MAXIMUM_SIZE = 10_000;
+
+    private static final Logger logger = LoggerFactory.getLogger(TwoLevelCache.class);
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> localCache;
+    private final Cache redisCache;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+    private final Counter loaderCalls;
+    private final Counter coalescedLoads;
+    private final Counter remoteLoads;
+    private final Counter earlyRefreshes;
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final com.github.benmanes.caffeine.cache.Cache<String, LoadStats> loadStats;
+    private final double earlyRefreshBeta;
+    private final long timeToLiveNanos;
+    private final CacheLoadLock loadLock;
+
+    /**
+     * @param timeToLive       Redis TTL of the region; null or zero disables early refresh
+     * @param earlyRefreshBeta how eagerly entries are refreshed before expiry, 0 disables it
+     * @param loadLock         cross-instance load lock, or null to coalesce within this instance only
+     */
+    public TwoLevelCache(String name,
+                         com.github.benmanes.caffeine.cache.Cache<String, Object> localCache,
+                         Cache redisCache,
+                         CacheInvalidationPublisher invalidationPublisher,
+                         MeterRegistry meterRegistry,
+                         Duration timeToLive,
+                         double earlyRefreshBeta,
+                         CacheLoadLock loadLock) {
+        this.name = name;
+        this.localCache = localCache;
+        this.redisCache = redisCache;
+        this.invalidationPublisher = invalidationPublisher;
+        this.earlyRefreshBeta = earlyRefreshBeta;
+        this.loadLock = loadLock;
+        this.loadStats = timeToLive != null && !timeToLive.isZero() && earlyRefreshBeta > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(LOAD_STATS_MAXIMUM_SIZE)
+                        .expireAfter(new LoadStatsExpiry())
+                        .build()
+                : null;
+        this.timeToLiveNanos = timeToLive != null ? timeToLive.toNanos() : 0;
+        this.localHits = counter(meterRegistry, "l1", "hit");
+        this.localMisses = counter(meterRegistry, "l1", "miss");
+        this.redisHits = counter(meterRegistry, "l2", "hit");
+        this.redisMisses = counter(meterRegistry, "l2", "miss");
+        this.loaderCalls = loadCounter(meterRegistry, "loader");
+        this.coalescedLoads = loadCounter(meterRegistry, "coalesced");
+        this.remoteLoads = loadCounter(meterRegistry, "remote");
+        this.earlyRefreshes = loadCounter(meterRegistry, "early-refresh");
+        meterRegistry.gauge("cache.level.size", Tags.of("cache", name, "level", "l1"),
+                localCache, com.github.benmanes.caffeine.cache.Cache::estimatedSize);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return redisCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        Object local = localCache.getIfPresent(localKey);
+        if (local != null) {
+            localHits.increment();
+            return () -> local;
+        }
+        localMisses.increment();
+
+        ValueWrapper wrapper = redisCache.get(key);
+        if (wrapper == null || wrapper.get() == null) {
+            redisMisses.increment();
+            return wrapper;
+        }
+        redisHits.increment();
+        localCache.put(localKey, wrapper.get());
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        Object local = localCache.getIfPresent(localKey);
+        if (local != null) {
+            localHits.increment();
+            return (T) (refreshDue(localKey) ? refreshEarly(key, localKey, local, valueLoader) : local);
+        }
+        localMisses.increment();
+        return (T) singleFlight(localKey, () -> getOrLoad(key, localKey, valueLoader));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        redisCache.put(key, value);
+        String localKey = localKey(key);
+        if (value != null) {
+            localCache.put(localKey, value);
+        } else {
+            localCache.invalidate(localKey);
+        }
+        forgetLoad(localKey);
+        invalidationPublisher.publishEvict(name, localKey);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = redisCache.putIfAbsent(key, value);
+        if (existing == null) {
+            invalidationPublisher.publishEvict(name, localKey(key));
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        redisCache.evict(key);
+        String localKey = localKey(key);
+        localCache.invalidate(localKey);
+        forgetLoad(localKey);
+        invalidationPublisher.publishEvict(name, localKey);
+    }
+
+    @Override
+    public void clear() {
+        redisCache.clear();
+        localCache.invalidateAll();
+        if (loadStats != null) {
+            loadStats.invalidateAll();
+        }
+        invalidationPublisher.publishClear(name);
+    }
+
+    /**
+     * Runs the loader at most once per key at a time; callers arriving meanwhile wait for the same result
+     */
+    private Object singleFlight(String localKey, Supplier<Object> loader) {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(localKey, flight);
+        if (existing != null) {
+            coalescedLoads.increment();
+            return await(existing);
+        }
+        try {
+            Object value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (Throwable e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(localKey, flight);
+        }
+    }
+
+    private Object getOrLoad(Object key, String localKey, Callable<?> valueLoader) {
+        // A flight that finished just before this one started has already filled L1
+        Object local = localCache.getIfPresent(localKey);
+        if (local != null) {
+            return local;
+        }
+        Object cached = getFromRedis(key, localKey);
+        if (cached != null) {
+            return cached;
+        }
+        if (loadLock == null) {
+            return load(key, localKey, valueLoader);
+        }
+
+        String token = loadLock.tryAcquire(name, localKey);
+        if (token == null) {
+            Object loadedElsewhere = loadLock.awaitValue(() -> {
+                ValueWrapper wrapper = redisCache.get(key);
+                return wrapper != null ? wrapper.get() : null;
+            });
+            if (loadedElsewhere != null) {
+                remoteLoads.increment();
+                localCache.put(localKey, loadedElsewhere);
+                return loadedElsewhere;
+            }
+            // The holder is slow or gone; loading here beats failing the request
+            return load(key, localKey, valueLoader);
+        }
+        try {
+            cached = getFromRedis(key, localKey);
+            return cached != null ? cached : load(key, localKey, valueLoader);
+        } finally {
+            loadLock.release(name, localKey, token);
+        }
+    }
+
+    private Object getFromRedis(Object key, String localKey) {
+        ValueWrapper wrapper = redisCache.get(key);
+        if (wrapper == null || wrapper.get() == null) {
+            redisMisses.increment();
+            return null;
+        }
+        redisHits.increment();
+        localCache.put(localKey, wrapper.get());
+        return wrapper.get();
+    }
+
+    private Object load(Object key, String localKey, Callable<?> valueLoader) {
+        long start = System.nanoTime();
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        loaderCalls.increment();
+        // Nulls are not cached in Redis, the caller just gets the null back
+        if (value != null) {
+            redisCache.put(key, value);
+            localCache.put(localKey, value);
+            if (loadStats != null) {
+                long now = System.nanoTime();
+                loadStats.put(localKey, new LoadStats(now - start, now + timeToLiveNanos));
+            }
+        }
+        return value;
+    }
+
+    /**
+     * XFetch: the closer an entry is to its Redis expiry and the slower its loader, the likelier a caller refreshes it.
+     * Only entries this instance loaded are tracked; other instances keep serving them from Redis.
+     */
+    private boolean refreshDue(String localKey) {
+        if (loadStats == null) {
+            return false;
+        }
+        LoadStats stats = loadStats.getIfPresent(localKey);
+        if (stats == null) {
+            return false;
+        }
+        double headStart = stats.computeNanos() * earlyRefreshBeta
+                * -Math.log(1.0 - ThreadLocalRandom.current().nextDouble());
+        return System.nanoTime() + headStart >= stats.expiresAtNanos();
+    }
+
+    private Object refreshEarly(Object key, String localKey, Object current, Callable<?> valueLoader) {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(localKey, flight) != null) {
+            // Someone is already loading this key, the current value is still valid
+            return current;
+        }
+        try {
+            Object value = load(key, localKey, valueLoader);
+            earlyRefreshes.increment();
+            if (value == null) {
+                flight.complete(current);
+                return current;
+            }
+            invalidationPublisher.publishEvict(name, localKey);
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            logger.warn("Early refresh of {}::{} failed, serving the cached value: {}", name, localKey, e.getMessage());
+            flight.complete(current);
+            return current;
+        } finally {
+            inFlight.remove(localKey, flight);
+        }
+    }
+
+    /**
+     * The Redis entry was rewritten or removed outside the loader, so its recorded expiry no longer applies
+     */
+    private void forgetLoad(String localKey) {
+        if (loadStats != null) {
+            loadStats.invalidate(localKey);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    void evictLocal(String localKey) {
+        localCache.invalidate(localKey);
+    }
+
+    void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    /**
+     * Redis keys are strings, so L1 uses the same string form; this keeps 5 and "5" on one entry
+     * and lets invalidation messages name keys without type information
+     */
+    static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private Counter loadCounter(MeterRegistry meterRegistry, String source) {
+        return Counter.builder(LOADS_METRIC_NAME)
+                .description("Values produced for cache misses, by where they came from")
+                .tag("cache", name)
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String level, String result) {
+        return Counter.builder(METRIC_NAME)
+                .description("Cache lookups per cache level")
+                .tag("cache", name)
+                .tag("level", level)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record LoadStats(long computeNanos, long expiresAtNanos) {
+    }
+
+    /**
+     * Stats live exactly as long as the Redis entry they describe
+     */
+    private static class LoadStatsExpiry implements Expiry<String, LoadStats> {
+
+        @Override
+        public long expireAfterCreate(String key, LoadStats stats, long currentTime) {
+            return Math.max(0, stats.expiresAtNanos() - System.nanoTime());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, LoadStats stats, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, stats, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, LoadStats stats, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
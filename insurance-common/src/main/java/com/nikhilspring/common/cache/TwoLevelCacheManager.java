@@ -0,0 +1,106 @@
+package com.nikhilspring.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wraps the Redis cache manager so every region gets its own bounded local cache in front of Redis.
+ */
+public class TwoLevelCacheManager implements CacheManager {
+
+    private final CacheManager redisCacheManager;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final MeterRegistry meterRegistry;
+    private final long maximumSize;
+    private final Duration ttl;
+    private final double earlyRefreshBeta;
+    private final CacheLoadLock loadLock;
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager redisCacheManager,
+                                CacheInvalidationPublisher invalidationPublisher,
+                                MeterRegistry meterRegistry,
+                                long maximumSize,
+                                Duration ttl) {
+        this(redisCacheManager, invalidationPublisher, meterRegistry, maximumSize, ttl, 1.0, null);
+    }
+
+    public TwoLevelCacheManager(CacheManager redisCacheManager,
+                                CacheInvalidationPublisher invalidationPublisher,
+                                MeterRegistry meterRegistry,
+                                long maximumSize,
+                                Duration ttl,
+                                double earlyRefreshBeta,
+                                CacheLoadLock loadLock) {
+        this.redisCacheManager = redisCacheManager;
+        this.invalidationPublisher = invalidationPublisher;
+        this.meterRegistry = meterRegistry;
+        this.maximumSize = maximumSize;
+        this.ttl = ttl;
+        this.earlyRefreshBeta = earlyRefreshBeta;
+        this.loadLock = loadLock;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoLevelCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache redisCache = redisCacheManager.getCache(name);
+        if (redisCache == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName -> new TwoLevelCache(cacheName,
+                Caffeine.newBuilder()
+                        .maximumSize(maximumSize)
+                        .expireAfterWrite(ttl)
+                        .build(),
+                redisCache,
+                invalidationPublisher,
+                meterRegistry,
+                timeToLive(redisCache),
+                earlyRefreshBeta,
+                loadLock));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return redisCacheManager.getCacheNames();
+    }
+
+    private static Duration timeToLive(Cache redisCache) {
+        if (redisCache instanceof RedisCache cache) {
+            return cache.getCacheConfiguration().getTtlFunction().getTimeToLive(cache.getName(), null);
+        }
+        return null;
+    }
+
+    /**
+     * Drop a key from the local level only, in response to a write on another instance
+     */
+    public void evictLocal(String cacheName, String key) {
+        TwoLevelCache cache = caches.get(cacheName);
+        if (cache != null) {
+            cache.evictLocal(key);
+        }
+    }
+
+    /**
+     * Drop a whole region from the local level only, in response to a clear on another instance
+     */
+    public void clearLocal(String cacheName) {
+        TwoLevelCache cache = caches.get(cacheName);
+        if (cache != null) {
+            cache.clearLocal();
+        }
+    }
+}
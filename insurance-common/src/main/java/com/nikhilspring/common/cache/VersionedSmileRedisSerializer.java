@@ -0,0 +1,90 @@
+package com.nikhilspring.common.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.Arrays;
+
+/**
+ * Compact binary cache values: a two byte header (magic, format version) followed by Jackson Smile.
+ * The value type is fixed per cache region, so no class names are written into the payload.
+ *
+ * <p>Rolling deploys: binary regions live under their own key prefix ({@link #KEY_PREFIX}), so
+ * instances still on JSON never read binary values and vice versa. Unknown properties are ignored,
+ * so adding a field to a response class stays compatible within one format version. Bump
+ * {@link #FORMAT_VERSION} (and with it the key prefix) for changes old readers cannot handle.
+ * Values written by {@code GenericJackson2JsonRedisSerializer} are still readable.
+ */
+public class VersionedSmileRedisSerializer<T> implements RedisSerializer<T> {
+
+    public static final byte FORMAT_VERSION = 1;
+    public static final String KEY_PREFIX = "smile-v" + FORMAT_VERSION + ":";
+
+    private static final byte MAGIC = (byte) 0xB1;
+    private static final int HEADER_LENGTH = 2;
+
+    private final ObjectMapper smileMapper;
+    private final ObjectMapper jsonMapper;
+    private final JavaType valueType;
+
+    public VersionedSmileRedisSerializer(Class<T> valueType) {
+        this(TypeFactory.defaultInstance().constructType(valueType));
+    }
+
+    public VersionedSmileRedisSerializer(JavaType valueType) {
+        this.valueType = valueType;
+        this.smileMapper = configure(new ObjectMapper(new SmileFactory()));
+        this.jsonMapper = configure(new ObjectMapper());
+    }
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        try {
+            byte[] body = smileMapper.writerFor(valueType).writeValueAsBytes(value);
+            byte[] bytes = new byte[body.length + HEADER_LENGTH];
+            bytes[0] = MAGIC;
+            bytes[1] = FORMAT_VERSION;
+            System.arraycopy(body, 0, bytes, HEADER_LENGTH, body.length);
+            return bytes;
+        } catch (Exception e) {
+            throw new SerializationException("Could not write " + valueType + " as binary cache value", e);
+        }
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            if (bytes[0] != MAGIC) {
+                // Written by the JSON serializer before the region was switched; the @class hint is ignored
+                return jsonMapper.readValue(bytes, valueType);
+            }
+            if (bytes.length < HEADER_LENGTH || bytes[1] > FORMAT_VERSION) {
+                throw new SerializationException("Unsupported binary cache value version: "
+                        + (bytes.length < HEADER_LENGTH ? "truncated" : bytes[1]));
+            }
+            return smileMapper.readValue(Arrays.copyOfRange(bytes, HEADER_LENGTH, bytes.length), valueType);
+        } catch (SerializationException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new SerializationException("Could not read binary cache value as " + valueType, e);
+        }
+    }
+
+    private static ObjectMapper configure(ObjectMapper mapper) {
+        return mapper
+                .registerModule(new JavaTimeModule())
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+}
@@ -0,0 +1,75 @@
+package com.nikhilspring.common.feign;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Response;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads downstream error bodies for the Feign error decoders. At most {@code maxBodyBytes} of a body are read,
+ * and only its {@code errorMessage} and {@code errorCode} are picked out with a streaming parser from the
+ * application's shared ObjectMapper; other fields are skipped without being bound, so error bodies with extra
+ * fields (timestamp, path) decode the same as the bare ones.
+ */
+public class ErrorBodyReader {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final JsonFactory jsonFactory;
+    private final int maxBodyBytes;
+
+    public ErrorBodyReader(ObjectMapper objectMapper, int maxBodyBytes) {
+        this.jsonFactory = objectMapper.getFactory();
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    /**
+     * Up to {@code maxBodyBytes} of the body, empty when there is none. Feign closes the response after decoding.
+     */
+    public byte[] readBody(Response response) throws IOException {
+        if (response.body() == null) {
+            return EMPTY;
+        }
+        // A known length sizes the read to the body rather than to the cap
+        Integer length = response.body().length();
+        InputStream body = response.body().asInputStream();
+        return body.readNBytes(length == null ? maxBodyBytes : Math.min(length, maxBodyBytes));
+    }
+
+    /**
+     * The error fields of a body; a body cut off at the cap or otherwise malformed keeps the fields read before it
+     */
+    public ErrorFields parse(byte[] body) {
+        String errorMessage = null;
+        String errorCode = null;
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                while ((errorMessage == null || errorCode == null) && parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    JsonToken value = parser.nextToken();
+                    if (value == JsonToken.VALUE_STRING && "errorMessage".equals(field)) {
+                        errorMessage = parser.getText();
+                    } else if (value == JsonToken.VALUE_STRING && "errorCode".equals(field)) {
+                        errorCode = parser.getText();
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            }
+        } catch (IOException e) {
+            // Not JSON, or truncated at the cap
+        }
+        return new ErrorFields(errorMessage, errorCode);
+    }
+
+    public record ErrorFields(String errorMessage, String errorCode) {
+
+        public boolean isEmpty() {
+            return errorMessage == null && errorCode == null;
+        }
+    }
+}
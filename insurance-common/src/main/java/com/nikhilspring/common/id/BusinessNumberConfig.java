@@ -0,0 +1,43 @@
+package com.nikhilspring.common.id;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.netflix.eureka.EurekaInstanceConfigBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The {@link BusinessNumberGenerator} bean; services that hand out business numbers {@code @Import} it.
+ */
+@Configuration
+public class BusinessNumberConfig {
+
+    static final String NODE_ID_METADATA = "node-id";
+
+    private static final Logger logger = LoggerFactory.getLogger(BusinessNumberConfig.class);
+
+    /**
+     * The node ID is number-generator.node-id when set, else the node-id entry of this instance's Eureka
+     * metadata. Without either it is hashed from the Eureka instance ID, which two instances can share by chance.
+     */
+    @Bean
+    public BusinessNumberGenerator businessNumberGenerator(@Value("${number-generator.node-id:}") String configuredNodeId,
+                                                           ObjectProvider<EurekaInstanceConfigBean> eurekaInstance) {
+        EurekaInstanceConfigBean instance = eurekaInstance.getIfAvailable();
+        String nodeId = configuredNodeId;
+        if (nodeId.isBlank() && instance != null) {
+            nodeId = instance.getMetadataMap().getOrDefault(NODE_ID_METADATA, "");
+        }
+        if (!nodeId.isBlank()) {
+            logger.info("Business numbers use node ID {}", nodeId);
+            return new BusinessNumberGenerator(Integer.parseInt(nodeId.trim()));
+        }
+        String instanceId = instance != null ? instance.getInstanceId() : String.valueOf(ProcessHandle.current().pid());
+        int hashed = Math.floorMod(instanceId.hashCode(), BusinessNumberGenerator.MAX_NODE_ID + 1);
+        logger.warn("No node ID configured; using {} hashed from instance {}. Set NODE_ID per instance to rule out duplicates",
+                hashed, instanceId);
+        return new BusinessNumberGenerator(hashed);
+    }
+}
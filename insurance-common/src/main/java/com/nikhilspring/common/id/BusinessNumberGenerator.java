@@ -0,0 +1,58 @@
+package com.nikhilspring.common.id;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Snowflake-style business numbers: 41 bits of milliseconds since 2024-01-01, a 10-bit node ID and a 12-bit
+ * sequence, so instances with distinct node IDs never hand out the same number and need no shared state.
+ *
+ * Within a node the millisecond and sequence are one {@link AtomicLong}, advanced by compare-and-set to the
+ * larger of the current millisecond and one past the last number. More than 4096 numbers in a millisecond run
+ * on into the next one instead of waiting, and a clock stepped backwards carries on from the last number, so
+ * numbers stay unique and increasing either way.
+ */
+public class BusinessNumberGenerator {
+
+    public static final int NODE_BITS = 10;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+    private final long node;
+    private final LongSupplier clock;
+    private final AtomicLong last = new AtomicLong();
+
+    public BusinessNumberGenerator(int nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    BusinessNumberGenerator(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node ID must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.node = (long) nodeId << SEQUENCE_BITS;
+        this.clock = clock;
+    }
+
+    public long nextId() {
+        long now = (clock.getAsLong() - EPOCH_MILLIS) << SEQUENCE_BITS;
+        long previous;
+        long next;
+        do {
+            previous = last.get();
+            next = Math.max(now, previous + 1);
+        } while (!last.compareAndSet(previous, next));
+        long millis = next >>> SEQUENCE_BITS;
+        long sequence = next & ((1L << SEQUENCE_BITS) - 1);
+        return millis << (NODE_BITS + SEQUENCE_BITS) | node | sequence;
+    }
+
+    /**
+     * {@code prefix-<id>}, e.g. POL-2718281828459045
+     */
+    public String next(String prefix) {
+        return prefix + "-" + nextId();
+    }
+}
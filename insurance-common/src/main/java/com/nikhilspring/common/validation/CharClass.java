@@ -0,0 +1,66 @@
+package com.nikhilspring.common.validation;
+
+/**
+ * A set of ASCII characters held as a 128-bit mask, so checking a string against it is a loop over its chars
+ * with no regex, matcher or copy involved.
+ */
+public final class CharClass {
+
+    public static final CharClass UPPER_ALPHANUMERIC = ranges('A', 'Z', '0', '9');
+    public static final CharClass DIGITS = ranges('0', '9');
+
+    private final long low;
+    private final long high;
+
+    private CharClass(long low, long high) {
+        this.low = low;
+        this.high = high;
+    }
+
+    /**
+     * The characters in the inclusive ranges given as pairs, e.g. {@code ranges('A', 'Z', '0', '9')}
+     */
+    public static CharClass ranges(char... bounds) {
+        if (bounds.length % 2 != 0) {
+            throw new IllegalArgumentException("Ranges need a start and an end character");
+        }
+        long low = 0;
+        long high = 0;
+        for (int i = 0; i < bounds.length; i += 2) {
+            if (bounds[i] > bounds[i + 1] || bounds[i + 1] > 127) {
+                throw new IllegalArgumentException("Invalid ASCII range: " + bounds[i] + "-" + bounds[i + 1]);
+            }
+            for (char c = bounds[i]; c <= bounds[i + 1]; c++) {
+                if (c < 64) {
+                    low |= 1L << c;
+                } else {
+                    high |= 1L << (c - 64);
+                }
+            }
+        }
+        return new CharClass(low, high);
+    }
+
+    public boolean contains(char c) {
+        if (c < 64) {
+            return (low & (1L << c)) != 0;
+        }
+        return c < 128 && (high & (1L << (c - 64))) != 0;
+    }
+
+    /**
+     * True when the value is non-empty and every character is in this class, as {@code ^[...]+$} would match
+     */
+    public boolean matchesAll(CharSequence value) {
+        int length = value.length();
+        if (length == 0) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (!contains(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
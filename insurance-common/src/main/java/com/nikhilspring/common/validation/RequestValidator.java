@@ -0,0 +1,179 @@
+package com.nikhilspring.common.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * The validation rules for one request type, declared once through {@link #builder} and held as a fixed array
+ * of checks. A valid request runs the checks without allocating; an invalid one is checked in full in the same
+ * pass, and {@link #validate} reports every violation at once under the error code of the first, which is the
+ * code the request would have failed with when checks stopped at the first problem.
+ *
+ * Format rules ({@link Builder#chars}, {@link Builder#oneOfIgnoreCase}) pass on a blank value, so a missing
+ * field is reported once by its {@link Builder#notBlank} rule rather than twice.
+ *
+ * Violations are thrown as whatever exception the service's {@link ValidationExceptionFactory} builds.
+ */
+public final class RequestValidator<T> {
+
+    private final ValidationExceptionFactory exceptions;
+    private final Violation nullRequest;
+    private final Rule<T>[] rules;
+
+    private RequestValidator(ValidationExceptionFactory exceptions, Violation nullRequest, Rule<T>[] rules) {
+        this.exceptions = exceptions;
+        this.nullRequest = nullRequest;
+        this.rules = rules;
+    }
+
+    /**
+     * @param exceptions    builds the exception {@link #validate} throws
+     * @param nullErrorCode the error code for a null request, checked before any rule
+     * @param nullMessage   the message for a null request
+     */
+    public static <T> Builder<T> builder(ValidationExceptionFactory exceptions, String nullErrorCode,
+                                         String nullMessage) {
+        return new Builder<>(exceptions, new Violation(nullErrorCode, nullMessage));
+    }
+
+    /**
+     * Every violation in rule order, empty when the request is valid
+     */
+    public List<Violation> violations(T request) {
+        if (request == null) {
+            return List.of(nullRequest);
+        }
+        List<Violation> violations = null;
+        for (Rule<T> rule : rules) {
+            if (!rule.valid().test(request)) {
+                if (violations == null) {
+                    violations = new ArrayList<>(2);
+                }
+                violations.add(new Violation(rule.errorCode(), rule.message().apply(request)));
+            }
+        }
+        return violations == null ? List.of() : violations;
+    }
+
+    /**
+     * Throws with the first violation's error code and all violation messages, when there are any
+     */
+    public void validate(T request) {
+        List<Violation> violations = violations(request);
+        if (violations.isEmpty()) {
+            return;
+        }
+        String message = violations.size() == 1 ? violations.get(0).message()
+                : String.join("; ", violations.stream().map(Violation::message).toList());
+        throw exceptions.create(message, violations.get(0).errorCode());
+    }
+
+    /**
+     * Throws reading "Invalid {label}: {id}" unless the ID is positive
+     */
+    public static void checkPositiveId(long id, String errorCode, String label, ValidationExceptionFactory exceptions) {
+        if (id <= 0) {
+            throw exceptions.create("Invalid " + label + ": " + id, errorCode);
+        }
+    }
+
+    /**
+     * True for null or whitespace only, as {@code value.trim().isEmpty()} would be, without trimming a copy
+     */
+    public static boolean isBlank(String value) {
+        if (value == null) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public record Violation(String errorCode, String message) {
+    }
+
+    private record Rule<T>(Predicate<T> valid, String errorCode, Function<T, String> message) {
+    }
+
+    public static final class Builder<T> {
+
+        private final ValidationExceptionFactory exceptions;
+        private final Violation nullRequest;
+        private final List<Rule<T>> rules = new ArrayList<>();
+
+        private Builder(ValidationExceptionFactory exceptions, Violation nullRequest) {
+            this.exceptions = exceptions;
+            this.nullRequest = nullRequest;
+        }
+
+        public Builder<T> require(Predicate<T> valid, String errorCode, String message) {
+            return require(valid, errorCode, request -> message);
+        }
+
+        /**
+         * A rule whose message is built from the request, only when the rule fails
+         */
+        public Builder<T> require(Predicate<T> valid, String errorCode, Function<T, String> message) {
+            rules.add(new Rule<>(valid, errorCode, message));
+            return this;
+        }
+
+        public Builder<T> positive(ToLongFunction<T> value, String errorCode, String message) {
+            return require(request -> value.applyAsLong(request) > 0, errorCode, message);
+        }
+
+        public Builder<T> positive(ToLongFunction<T> value, String errorCode, Function<T, String> message) {
+            return require(request -> value.applyAsLong(request) > 0, errorCode, message);
+        }
+
+        public Builder<T> notNull(Function<T, ?> value, String errorCode, String message) {
+            return require(request -> value.apply(request) != null, errorCode, message);
+        }
+
+        public Builder<T> notBlank(Function<T, String> value, String errorCode, String message) {
+            return require(request -> !isBlank(value.apply(request)), errorCode, message);
+        }
+
+        /**
+         * Every character of a non-blank value is in {@code allowed}
+         */
+        public Builder<T> chars(Function<T, String> value, CharClass allowed, String errorCode,
+                                Function<T, String> message) {
+            return require(request -> {
+                String field = value.apply(request);
+                return isBlank(field) || allowed.matchesAll(field);
+            }, errorCode, message);
+        }
+
+        /**
+         * A non-blank value equals one of {@code allowed}, ignoring case
+         */
+        public Builder<T> oneOfIgnoreCase(Function<T, String> value, List<String> allowed, String errorCode,
+                                          Function<T, String> message) {
+            String[] values = allowed.toArray(String[]::new);
+            return require(request -> {
+                String field = value.apply(request);
+                if (isBlank(field)) {
+                    return true;
+                }
+                for (String candidate : values) {
+                    if (candidate.equalsIgnoreCase(field)) {
+                        return true;
+                    }
+                }
+                return false;
+            }, errorCode, message);
+        }
+
+        @SuppressWarnings("unchecked")
+        public RequestValidator<T> build() {
+            return new RequestValidator<>(exceptions, nullRequest, rules.toArray(new Rule[0]));
+        }
+    }
+}
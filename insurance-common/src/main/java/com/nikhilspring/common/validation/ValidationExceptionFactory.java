@@ -0,0 +1,11 @@
+package com.nikhilspring.common.validation;
+
+/**
+ * Builds the exception a service rejects an invalid request with, so each service keeps its own exception type
+ * and status mapping while sharing the rules engine.
+ */
+@FunctionalInterface
+public interface ValidationExceptionFactory {
+
+    RuntimeException create(String message, String errorCode);
+}
@@ -0,0 +1,27 @@
+package com.nikhilspring.common.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class CacheInvalidationPublisherTest {
+
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    private final CacheInvalidationPublisher publisher =
+            new CacheInvalidationPublisher(stringRedisTemplate, "POLICY-SERVICE");
+
+    @DisplayName("Publish - Invalidations go to the application's own channel")
+    @Test
+    void test_When_Published_Then_Sent_On_Application_Channel() {
+        publisher.publishEvict("policies", "1");
+        publisher.publishClear("policies");
+
+        verify(stringRedisTemplate).convertAndSend("cache-invalidation:POLICY-SERVICE",
+                "evict|" + publisher.getInstanceId() + "|policies|1");
+        verify(stringRedisTemplate).convertAndSend("cache-invalidation:POLICY-SERVICE",
+                "clear|" + publisher.getInstanceId() + "|policies");
+    }
+}
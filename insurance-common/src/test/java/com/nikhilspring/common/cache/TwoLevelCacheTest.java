@@ -0,0 +1,169 @@
+package com.nikhilspring.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TwoLevelCacheTest {
+
+    private final ConcurrentMapCacheManager redisCacheManager = new ConcurrentMapCacheManager("policies");
+    private final CacheInvalidationPublisher publisher = mock(CacheInvalidationPublisher.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TwoLevelCacheManager cacheManager =
+            new TwoLevelCacheManager(redisCacheManager, publisher, meterRegistry, 100, Duration.ofMinutes(1));
+
+    @DisplayName("Get - Second read is served from the local level")
+    @Test
+    void test_When_Read_Twice_Then_Local_Hit() {
+        redisCacheManager.getCache("policies").put(1L, "policy-1");
+        Cache cache = cacheManager.getCache("policies");
+
+        assertEquals("policy-1", cache.get(1L).get());
+        assertEquals("policy-1", cache.get(1L).get());
+
+        assertEquals(1, count("l1", "hit"));
+        assertEquals(1, count("l1", "miss"));
+        assertEquals(1, count("l2", "hit"));
+    }
+
+    @DisplayName("Put - Writes through to Redis and announces the key")
+    @Test
+    void test_When_Put_Then_Redis_Updated_And_Published() {
+        Cache cache = cacheManager.getCache("policies");
+
+        cache.put(1L, "policy-1");
+
+        assertEquals("policy-1", redisCacheManager.getCache("policies").get(1L).get());
+        verify(publisher).publishEvict("policies", "1");
+    }
+
+    @DisplayName("Invalidation - Another instance's write drops the local copy")
+    @Test
+    void test_When_Remote_Evict_Then_Local_Entry_Dropped() {
+        when(publisher.getInstanceId()).thenReturn("local-instance");
+        CacheInvalidationListener listener = new CacheInvalidationListener(cacheManager, publisher.getInstanceId());
+        Cache cache = cacheManager.getCache("policies");
+        cache.put(1L, "policy-1");
+
+        // Another instance updated Redis and published the key
+        redisCacheManager.getCache("policies").put(1L, "policy-1-updated");
+        listener.onMessage(message("evict|other-instance|policies|1"), null);
+
+        assertEquals("policy-1-updated", cache.get(1L).get());
+    }
+
+    @DisplayName("Invalidation - Own messages are ignored")
+    @Test
+    void test_When_Own_Message_Then_Local_Entry_Kept() {
+        CacheInvalidationListener listener = new CacheInvalidationListener(cacheManager, "local-instance");
+        Cache cache = cacheManager.getCache("policies");
+        cache.put(1L, "policy-1");
+
+        listener.onMessage(message("clear|local-instance|policies"), null);
+        cache.get(1L);
+
+        assertEquals(1, count("l1", "hit"));
+    }
+
+    @DisplayName("Stampede - Concurrent misses on one key run the loader once")
+    @Test
+    void test_When_Concurrent_Misses_Then_Single_Load() throws Exception {
+        Cache cache = cacheManager.getCache("policies");
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        int callers = 16;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> cache.get(1L, () -> {
+                    loads.incrementAndGet();
+                    release.await(5, TimeUnit.SECONDS);
+                    return "policy-1";
+                })));
+            }
+            // Let every caller reach the cache before the loader finishes
+            Thread.sleep(200);
+            release.countDown();
+            for (Future<String> result : results) {
+                assertEquals("policy-1", result.get(5, TimeUnit.SECONDS));
+            }
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals("policy-1", redisCacheManager.getCache("policies").get(1L).get());
+    }
+
+    @DisplayName("Stampede - Entries close to expiry are refreshed early")
+    @Test
+    void test_When_Near_Expiry_Then_Refreshed_Early() {
+        // A huge beta makes every read after the first load count as close to expiry
+        Cache cache = twoLevelCache(Duration.ofMinutes(30), 1e12, null);
+
+        assertEquals("policy-1", cache.get(1L, () -> "policy-1"));
+        assertEquals("policy-1-refreshed", cache.get(1L, () -> "policy-1-refreshed"));
+
+        assertEquals("policy-1-refreshed", redisCacheManager.getCache("policies").get(1L).get());
+        assertEquals(1, meterRegistry.get("cache.loads").tag("source", "early-refresh").counter().count());
+    }
+
+    @DisplayName("Stampede - Another instance holding the load lock supplies the value")
+    @Test
+    void test_When_Lock_Held_Elsewhere_Then_Wait_For_Value() {
+        CacheLoadLock loadLock = mock(CacheLoadLock.class);
+        when(loadLock.tryAcquire(anyString(), anyString())).thenReturn(null);
+        when(loadLock.awaitValue(any())).thenAnswer(invocation -> {
+            redisCacheManager.getCache("policies").put(1L, "policy-1-remote");
+            return "policy-1-remote";
+        });
+        Cache cache = twoLevelCache(null, 0, loadLock);
+
+        assertEquals("policy-1-remote", cache.get(1L, () -> "policy-1-local"));
+
+        verify(loadLock, never()).release(anyString(), anyString(), anyString());
+        assertEquals(1, meterRegistry.get("cache.loads").tag("source", "remote").counter().count());
+    }
+
+    private TwoLevelCache twoLevelCache(Duration timeToLive, double earlyRefreshBeta, CacheLoadLock loadLock) {
+        return new TwoLevelCache("policies", Caffeine.newBuilder().maximumSize(100).build(),
+                redisCacheManager.getCache("policies"), publisher, meterRegistry,
+                timeToLive, earlyRefreshBeta, loadLock);
+    }
+
+    private DefaultMessage message(String body) {
+        byte[] channel = (CacheInvalidationPublisher.CHANNEL_PREFIX + "POLICY-SERVICE").getBytes(StandardCharsets.UTF_8);
+        return new DefaultMessage(channel, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private double count(String level, String result) {
+        return meterRegistry.get("cache.level.gets")
+                .tag("cache", "policies")
+                .tag("level", level)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
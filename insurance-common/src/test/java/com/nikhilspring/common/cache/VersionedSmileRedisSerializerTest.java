@@ -0,0 +1,71 @@
+package com.nikhilspring.common.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class VersionedSmileRedisSerializerTest {
+
+    private final GenericJackson2JsonRedisSerializer jsonSerializer =
+            new GenericJackson2JsonRedisSerializer(new ObjectMapper().registerModule(new JavaTimeModule()));
+
+    @DisplayName("Serialize - Binary entries round-trip")
+    @Test
+    void test_When_Serialized_Then_Round_Trips() {
+        CachedPolicy policy = getMockCachedPolicy();
+        VersionedSmileRedisSerializer<CachedPolicy> serializer =
+                new VersionedSmileRedisSerializer<>(CachedPolicy.class);
+
+        byte[] bytes = serializer.serialize(policy);
+
+        assertEquals(VersionedSmileRedisSerializer.FORMAT_VERSION, bytes[1]);
+        assertEquals(policy, serializer.deserialize(bytes));
+    }
+
+    @DisplayName("Deserialize - Values written as JSON are still readable")
+    @Test
+    void test_When_Legacy_Json_Then_Readable() {
+        CachedPolicy policy = getMockCachedPolicy();
+        VersionedSmileRedisSerializer<CachedPolicy> serializer =
+                new VersionedSmileRedisSerializer<>(CachedPolicy.class);
+
+        assertEquals(policy, serializer.deserialize(jsonSerializer.serialize(policy)));
+    }
+
+    @DisplayName("Deserialize - Unknown format version is rejected")
+    @Test
+    void test_When_Newer_Version_Then_Rejected() {
+        VersionedSmileRedisSerializer<CachedPolicy> serializer =
+                new VersionedSmileRedisSerializer<>(CachedPolicy.class);
+        byte[] bytes = serializer.serialize(getMockCachedPolicy());
+        bytes[1] = VersionedSmileRedisSerializer.FORMAT_VERSION + 1;
+
+        assertThrows(SerializationException.class, () -> serializer.deserialize(bytes));
+    }
+
+    private CachedPolicy getMockCachedPolicy() {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        return new CachedPolicy(1, "POL-2024-000001", "ACTIVE", 1200, now, now.plus(365, ChronoUnit.DAYS),
+                List.of(new CachedPolicy.Product(1, "Health Plus", "Health")));
+    }
+
+    /**
+     * Stands in for a cached response: scalars, instants and a nested list
+     */
+    record CachedPolicy(long policyId, String policyNumber, String policyStatus, long premiumAmount,
+                        Instant policyStartDate, Instant policyEndDate, List<Product> products) {
+
+        record Product(long productId, String productName, String productType) {
+        }
+    }
+}
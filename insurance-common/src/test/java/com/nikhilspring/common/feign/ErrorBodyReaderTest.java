@@ -0,0 +1,54 @@
+package com.nikhilspring.common.feign;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Request;
+import feign.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ErrorBodyReaderTest {
+
+    private final ErrorBodyReader errorBodyReader = new ErrorBodyReader(new ObjectMapper(), 64);
+
+    @DisplayName("Parse - Error fields are picked out whatever else the body carries")
+    @Test
+    void test_When_Body_Has_Extra_Fields_Then_Error_Fields_Read() {
+        byte[] body = ("{\"timestamp\":\"2026-10-17T10:15:30Z\",\"details\":{\"path\":\"/policy/1\"},"
+                + "\"errorCode\":\"NOT_FOUND\",\"errorMessage\":\"Policy not found\"}").getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(new ErrorBodyReader.ErrorFields("Policy not found", "NOT_FOUND"), errorBodyReader.parse(body));
+    }
+
+    @DisplayName("Parse - Malformed or cut off bodies keep the fields read before the break")
+    @Test
+    void test_When_Body_Malformed_Then_Fields_Before_Break_Kept() {
+        assertEquals(new ErrorBodyReader.ErrorFields(null, "NOT_FOUND"),
+                errorBodyReader.parse("{\"errorCode\":\"NOT_FOUND\",\"errorMess".getBytes(StandardCharsets.UTF_8)));
+        assertTrue(errorBodyReader.parse("Service Unavailable".getBytes(StandardCharsets.UTF_8)).isEmpty());
+    }
+
+    @DisplayName("Read Body - Reads at most the cap")
+    @Test
+    void test_When_Body_Over_Cap_Then_Truncated() throws Exception {
+        byte[] body = new byte[100];
+
+        assertArrayEquals(new byte[64], errorBodyReader.readBody(getMockResponse(body)));
+        assertArrayEquals(new byte[0], errorBodyReader.readBody(getMockResponse(null)));
+    }
+
+    private Response getMockResponse(byte[] body) {
+        return Response.builder()
+                .status(500)
+                .request(Request.create(Request.HttpMethod.GET, "http://localhost/policy/1", Map.of(), null,
+                        StandardCharsets.UTF_8, null))
+                .body(body)
+                .build();
+    }
+}
@@ -0,0 +1,94 @@
+package com.nikhilspring.common.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BusinessNumberGeneratorTest {
+
+    private static final int THREADS = 8;
+    private static final int PER_THREAD = 100_000;
+
+    @DisplayName("Business Number - Unique across threads and nodes")
+    @Test
+    void test_When_Many_Threads_On_Two_Nodes_Then_All_Unique() throws Exception {
+        List<BusinessNumberGenerator> nodes = List.of(new BusinessNumberGenerator(1), new BusinessNumberGenerator(2));
+        Set<Long> ids = ConcurrentHashMap.newKeySet(THREADS * PER_THREAD);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> increasing = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (int t = 0; t < THREADS; t++) {
+                BusinessNumberGenerator generator = nodes.get(t % nodes.size());
+                increasing.add(executor.submit(() -> {
+                    start.await();
+                    long[] generated = new long[PER_THREAD];
+                    for (int i = 0; i < PER_THREAD; i++) {
+                        generated[i] = generator.nextId();
+                    }
+                    boolean ordered = true;
+                    for (int i = 0; i < PER_THREAD; i++) {
+                        ids.add(generated[i]);
+                        ordered &= i == 0 || generated[i] > generated[i - 1];
+                    }
+                    return ordered;
+                }));
+            }
+            start.countDown();
+            for (Future<Boolean> ordered : increasing) {
+                assertTrue(ordered.get());
+            }
+        }
+
+        assertEquals(THREADS * PER_THREAD, ids.size());
+    }
+
+    @DisplayName("Business Number - Past 4096 in a millisecond runs on without repeating")
+    @Test
+    void test_When_Sequence_Exhausted_Then_Still_Unique() {
+        long frozen = Instant.parse("2026-10-17T00:00:00Z").toEpochMilli();
+        BusinessNumberGenerator generator = new BusinessNumberGenerator(3, () -> frozen);
+
+        long previous = generator.nextId();
+        for (int i = 0; i < 10_000; i++) {
+            long next = generator.nextId();
+            assertTrue(next > previous);
+            previous = next;
+        }
+    }
+
+    @DisplayName("Business Number - Clock stepped back keeps numbers increasing")
+    @Test
+    void test_When_Clock_Goes_Back_Then_Still_Increasing() {
+        AtomicLong clock = new AtomicLong(Instant.parse("2026-10-17T00:00:00Z").toEpochMilli());
+        BusinessNumberGenerator generator = new BusinessNumberGenerator(4, clock::get);
+
+        long before = generator.nextId();
+        clock.addAndGet(-5_000);
+        long after = generator.nextId();
+
+        assertTrue(after > before);
+        assertTrue(generator.next("POL").startsWith("POL-"));
+    }
+
+    @DisplayName("Business Number - Node ID outside 10 bits is rejected")
+    @Test
+    void test_When_Node_Id_Out_Of_Range_Then_Rejected() {
+        assertThrows(IllegalArgumentException.class, () -> new BusinessNumberGenerator(1024));
+        assertThrows(IllegalArgumentException.class, () -> new BusinessNumberGenerator(-1));
+    }
+}
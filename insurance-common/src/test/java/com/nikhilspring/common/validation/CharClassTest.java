@@ -0,0 +1,23 @@
+package com.nikhilspring.common.validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CharClassTest {
+
+    @DisplayName("Char Class - Matches as the customer ID regex did")
+    @Test
+    void test_When_Char_Class_Then_Same_As_Regex() {
+        for (String value : List.of("CUST001", "A", "cust001", "CUST 001", "CUST-1", "", "ÄB1", "CUST٠")) {
+            assertEquals(value.matches("^[A-Z0-9]+$"), CharClass.UPPER_ALPHANUMERIC.matchesAll(value), value);
+        }
+        assertFalse(CharClass.DIGITS.contains('A'));
+        assertThrows(IllegalArgumentException.class, () -> CharClass.ranges('Z', 'A'));
+    }
+}
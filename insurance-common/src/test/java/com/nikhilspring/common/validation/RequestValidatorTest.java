@@ -0,0 +1,54 @@
+package com.nikhilspring.common.validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RequestValidatorTest {
+
+    private static final ValidationExceptionFactory EXCEPTIONS = TestValidationException::new;
+
+    private static final RequestValidator<String> CODE = RequestValidator
+            .<String>builder(EXCEPTIONS, "MISSING_CODE", "Code cannot be null")
+            .notBlank(Function.identity(), "MISSING_CODE", "Code cannot be empty")
+            .chars(Function.identity(), CharClass.DIGITS, "INVALID_CODE", code -> "Invalid code: " + code)
+            .require(code -> code == null || code.length() <= 3, "CODE_TOO_LONG", "Code must be at most 3 digits")
+            .build();
+
+    @DisplayName("Validate - Throws the service's exception with the first violation's code")
+    @Test
+    void test_When_Invalid_Then_Factory_Exception_Thrown() {
+        TestValidationException exception = assertThrows(TestValidationException.class, () -> CODE.validate("12AB"));
+
+        assertEquals("INVALID_CODE", exception.errorCode);
+        assertEquals("Invalid code: 12AB; Code must be at most 3 digits", exception.getMessage());
+        assertEquals("MISSING_CODE",
+                assertThrows(TestValidationException.class, () -> CODE.validate(null)).errorCode);
+    }
+
+    @DisplayName("Check Positive Id - Throws the service's exception unless the ID is positive")
+    @Test
+    void test_When_Id_Not_Positive_Then_Factory_Exception_Thrown() {
+        RequestValidator.checkPositiveId(1, "INVALID_POLICY_ID", "policy ID", EXCEPTIONS);
+
+        TestValidationException exception = assertThrows(TestValidationException.class,
+                () -> RequestValidator.checkPositiveId(0, "INVALID_POLICY_ID", "policy ID", EXCEPTIONS));
+
+        assertEquals("INVALID_POLICY_ID", exception.errorCode);
+        assertEquals("Invalid policy ID: 0", exception.getMessage());
+    }
+
+    private static class TestValidationException extends RuntimeException {
+
+        private final String errorCode;
+
+        TestValidationException(String message, String errorCode) {
+            super(message);
+            this.errorCode = errorCode;
+        }
+    }
+}